@@ -0,0 +1,82 @@
+/*
+ * Copyright © Magento, Inc. All rights reserved.
+ * See COPYING.txt for license details.
+ */
+package com.magento.idea.magento2plugin.benchmark;
+
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.testFramework.EdtTestUtil;
+import com.intellij.testFramework.LightProjectDescriptor;
+import com.intellij.testFramework.fixtures.CodeInsightTestFixture;
+import com.intellij.testFramework.fixtures.IdeaProjectTestFixture;
+import com.intellij.testFramework.fixtures.IdeaTestFixtureFactory;
+import com.intellij.testFramework.fixtures.TestFixtureBuilder;
+import com.intellij.testFramework.fixtures.impl.LightTempDirTestFixtureImpl;
+import com.magento.idea.magento2plugin.indexes.IndexManager;
+import com.magento.idea.magento2plugin.magento.packages.File;
+import com.magento.idea.magento2plugin.project.Settings;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Light project with the testData/project/magento2 fixtures, set up the same way as BaseProjectTestCase does.
+ *
+ * The benchmark only files of benchmarkData/magento2 are copied on top, so the fixture tests do not index them.
+ *
+ * The fixture requires the event dispatch thread, benchmark code calls it through EdtTestUtil.
+ */
+public class BenchmarkProject {
+    private static final String testDataProjectPath = "testData" + File.separator + "project";
+    private static final String testDataProjectDirectory = "magento2";
+    private static final String benchmarkDataPath = "benchmarkData";
+    private static final String benchmarkDataDirectory = "magento2";
+
+    private CodeInsightTestFixture fixture;
+
+    public void setUp() {
+        IdeaTestFixtureFactory factory = IdeaTestFixtureFactory.getFixtureFactory();
+        TestFixtureBuilder<IdeaProjectTestFixture> fixtureBuilder =
+                factory.createLightFixtureBuilder(LightProjectDescriptor.EMPTY_PROJECT_DESCRIPTOR);
+        fixture = factory.createCodeInsightFixture(fixtureBuilder.getFixture(), new LightTempDirTestFixtureImpl(true));
+
+        EdtTestUtil.runInEdtAndWait(() -> {
+            fixture.setUp();
+            fixture.setTestDataPath(testDataProjectPath);
+            fixture.copyDirectoryToProject(testDataProjectDirectory, "");
+            fixture.setTestDataPath(benchmarkDataPath);
+            fixture.copyDirectoryToProject(benchmarkDataDirectory, "");
+
+            Settings settings = Settings.getInstance(fixture.getProject());
+            settings.pluginEnabled = true;
+            settings.mftfSupportEnabled = true;
+            IndexManager.manualReindex();
+        });
+    }
+
+    public void tearDown() {
+        EdtTestUtil.runInEdtAndWait(() -> fixture.tearDown());
+    }
+
+    @NotNull
+    public CodeInsightTestFixture getFixture() {
+        return fixture;
+    }
+
+    @NotNull
+    public Project getProject() {
+        return fixture.getProject();
+    }
+
+    /**
+     * @param path path relative to testData/project/magento2 or benchmarkData/magento2
+     */
+    @NotNull
+    public VirtualFile findFile(@NotNull String path) {
+        VirtualFile file = fixture.findFileInTempDir(path);
+        if (file == null) {
+            throw new IllegalStateException("Fixture file " + path + " is not found");
+        }
+
+        return file;
+    }
+}
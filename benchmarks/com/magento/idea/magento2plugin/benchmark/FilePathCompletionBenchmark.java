@@ -0,0 +1,90 @@
+/*
+ * Copyright © Magento, Inc. All rights reserved.
+ * See COPYING.txt for license details.
+ */
+package com.magento.idea.magento2plugin.benchmark;
+
+import com.intellij.codeInsight.lookup.LookupElement;
+import com.intellij.codeInsight.lookup.LookupManager;
+import com.intellij.openapi.command.WriteCommandAction;
+import com.intellij.openapi.editor.Document;
+import com.intellij.psi.PsiDocumentManager;
+import com.intellij.psi.PsiFile;
+import com.intellij.testFramework.EdtTestUtil;
+import com.intellij.testFramework.fixtures.CodeInsightTestFixture;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Basic completion of template paths in a layout file, served by FilePathCompletionProvider.
+ *
+ * The whole completion run is measured, including the platform part, as CompletionParameters
+ * can only be created by the completion subsystem.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class FilePathCompletionBenchmark {
+    private static final String LAYOUT_PATH =
+            "vendor/magento/module-catalog/view/frontend/layout/catalog_category_view.xml";
+    private static final String CARET = "<caret>";
+
+    @Param({"Magento_Catalog::", "Magento_Catalog::product/", "Magento_Catalog/product/"})
+    public String prefix;
+
+    private final BenchmarkProject project = new BenchmarkProject();
+    private String layoutText;
+    private int caretOffset;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        project.setUp();
+        String text = "<?xml version=\"1.0\"?>\n"
+                + "<page>\n"
+                + "    <body>\n"
+                + "        <referenceContainer name=\"content\">\n"
+                + "            <block class=\"Magento\\Catalog\\Block\\Navigation\" name=\"category.navigation\""
+                + " template=\"" + prefix + CARET + "\"/>\n"
+                + "        </referenceContainer>\n"
+                + "    </body>\n"
+                + "</page>\n";
+        caretOffset = text.indexOf(CARET);
+        layoutText = text.replace(CARET, "");
+
+        EdtTestUtil.runInEdtAndWait(() -> {
+            CodeInsightTestFixture fixture = project.getFixture();
+            PsiFile layout = fixture.addFileToProject(LAYOUT_PATH, layoutText);
+            fixture.configureFromExistingVirtualFile(layout.getVirtualFile());
+        });
+    }
+
+    /**
+     * Restores the layout text, a single variant is inserted into the document by the completion.
+     */
+    @Setup(Level.Invocation)
+    public void resetEditor() {
+        EdtTestUtil.runInEdtAndWait(() -> {
+            CodeInsightTestFixture fixture = project.getFixture();
+            LookupManager.getInstance(project.getProject()).hideActiveLookup();
+            Document document = fixture.getEditor().getDocument();
+            if (!document.getText().equals(layoutText)) {
+                WriteCommandAction.runWriteCommandAction(project.getProject(), () -> document.setText(layoutText));
+                PsiDocumentManager.getInstance(project.getProject()).commitDocument(document);
+            }
+            fixture.getEditor().getCaretModel().moveToOffset(caretOffset);
+        });
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        project.tearDown();
+    }
+
+    @Benchmark
+    public LookupElement[] completeBasic() {
+        return EdtTestUtil.runInEdtAndGet(() -> project.getFixture().completeBasic());
+    }
+}
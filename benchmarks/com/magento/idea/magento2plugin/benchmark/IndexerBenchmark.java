@@ -0,0 +1,93 @@
+/*
+ * Copyright © Magento, Inc. All rights reserved.
+ * See COPYING.txt for license details.
+ */
+package com.magento.idea.magento2plugin.benchmark;
+
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.util.indexing.DataIndexer;
+import com.intellij.util.indexing.FileContent;
+import com.intellij.util.indexing.FileContentImpl;
+import com.intellij.util.indexing.IndexingDataKeys;
+import com.magento.idea.magento2plugin.stubs.indexes.BlockNameIndex;
+import com.magento.idea.magento2plugin.stubs.indexes.ContainerNameIndex;
+import com.magento.idea.magento2plugin.stubs.indexes.EventNameIndex;
+import com.magento.idea.magento2plugin.stubs.indexes.PluginIndex;
+import com.magento.idea.magento2plugin.stubs.indexes.xml.PhpClassNameIndex;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * DataIndexer.map() of the indexes on the fixture files.
+ *
+ * A new FileContent is created for every invocation, so the lexer and PSI caches of the content are not reused.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class IndexerBenchmark {
+    private static final String CATALOG_MODULE = "vendor/magento/module-catalog/";
+
+    public enum Case {
+        PLUGIN_DI_XML(() -> new PluginIndex().getIndexer(), CATALOG_MODULE + "etc/di.xml"),
+        EVENT_NAME_EVENTS_XML(() -> new EventNameIndex().getIndexer(), CATALOG_MODULE + "etc/events.xml"),
+        EVENT_NAME_PHP(() -> new EventNameIndex().getIndexer(), CATALOG_MODULE + "Block/Navigation.php"),
+        PHP_CLASS_NAME_DI_XML(() -> new PhpClassNameIndex().getIndexer(), CATALOG_MODULE + "etc/di.xml"),
+        PHP_CLASS_NAME_LAYOUT(
+                () -> new PhpClassNameIndex().getIndexer(),
+                CATALOG_MODULE + "view/frontend/layout/catalog_product_view.xml"
+        ),
+        BLOCK_NAME_LAYOUT(
+                () -> new BlockNameIndex().getIndexer(),
+                CATALOG_MODULE + "view/frontend/layout/catalog_product_view.xml"
+        ),
+        CONTAINER_NAME_LAYOUT(
+                () -> new ContainerNameIndex().getIndexer(),
+                CATALOG_MODULE + "view/frontend/layout/catalog_product_view.xml"
+        );
+
+        private final Supplier<DataIndexer<String, ?, FileContent>> indexer;
+        private final String path;
+
+        Case(Supplier<DataIndexer<String, ?, FileContent>> indexer, String path) {
+            this.indexer = indexer;
+            this.path = path;
+        }
+    }
+
+    @Param
+    public Case indexCase;
+
+    private final BenchmarkProject project = new BenchmarkProject();
+    private DataIndexer<String, ?, FileContent> indexer;
+    private VirtualFile file;
+    private byte[] content;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        project.setUp();
+        indexer = indexCase.indexer.get();
+        file = project.findFile(indexCase.path);
+        content = file.contentsToByteArray();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        project.tearDown();
+    }
+
+    @Benchmark
+    public Map<String, ?> map() {
+        FileContentImpl fileContent = new FileContentImpl(file, content);
+        fileContent.putUserData(IndexingDataKeys.PROJECT, project.getProject());
+
+        return ReadAction.compute(() -> indexer.map(fileContent));
+    }
+}
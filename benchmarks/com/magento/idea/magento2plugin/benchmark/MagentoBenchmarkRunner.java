@@ -0,0 +1,36 @@
+/*
+ * Copyright © Magento, Inc. All rights reserved.
+ * See COPYING.txt for license details.
+ */
+package com.magento.idea.magento2plugin.benchmark;
+
+import org.junit.Test;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.File;
+
+/**
+ * Entry point of the gradle jmh task.
+ *
+ * Benchmarks are not forked: the IDE test application is initialized in the test JVM only.
+ */
+public class MagentoBenchmarkRunner {
+    @Test
+    public void runBenchmarks() throws RunnerException {
+        String include = System.getProperty("jmh.include", "");
+        String result = System.getProperty("jmh.result", "build/reports/jmh/results.json");
+        new File(result).getParentFile().mkdirs();
+
+        ChainedOptionsBuilder options = new OptionsBuilder()
+                .include(include.isEmpty() ? MagentoBenchmarkRunner.class.getPackage().getName() + ".*" : include)
+                .forks(0)
+                .resultFormat(ResultFormatType.JSON)
+                .result(result);
+
+        new Runner(options.build()).run();
+    }
+}
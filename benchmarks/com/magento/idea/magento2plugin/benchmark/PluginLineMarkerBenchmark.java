@@ -0,0 +1,77 @@
+/*
+ * Copyright © Magento, Inc. All rights reserved.
+ * See COPYING.txt for license details.
+ */
+package com.magento.idea.magento2plugin.benchmark;
+
+import com.intellij.codeInsight.daemon.LineMarkerInfo;
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiManager;
+import com.intellij.psi.util.PsiTreeUtil;
+import com.magento.idea.magento2plugin.linemarker.php.PluginLineMarkerProvider;
+import com.magento.idea.magento2plugin.project.DiXmlModificationTracker;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Whole file pass of the plugin line markers, the same list of elements the daemon passes to the provider.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class PluginLineMarkerBenchmark {
+    @Param({
+            "vendor/magento/module-theme/Block/Html/Topmenu.php",
+            "vendor/magento/module-catalog/Block/Navigation.php"
+    })
+    public String path;
+
+    @Param({"warm", "cold"})
+    public String cache;
+
+    private final BenchmarkProject project = new BenchmarkProject();
+    private final PluginLineMarkerProvider provider = new PluginLineMarkerProvider();
+    private List<PsiElement> elements;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        project.setUp();
+        elements = ReadAction.compute(() -> {
+            PsiFile file = PsiManager.getInstance(project.getProject()).findFile(project.findFile(path));
+            if (file == null) {
+                throw new IllegalStateException("Fixture file " + path + " is not parsed");
+            }
+
+            return Arrays.asList(PsiTreeUtil.collectElements(file, element -> true));
+        });
+    }
+
+    @Setup(Level.Invocation)
+    public void dropCaches() {
+        if (cache.equals("cold")) {
+            DiXmlModificationTracker.getInstance(project.getProject()).incModificationCount();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        project.tearDown();
+    }
+
+    @Benchmark
+    public Collection<LineMarkerInfo> collectSlowLineMarkers() {
+        Collection<LineMarkerInfo> result = new ArrayList<>();
+        ReadAction.run(() -> provider.collectSlowLineMarkers(elements, result));
+
+        return result;
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright © Magento, Inc. All rights reserved.
+ * See COPYING.txt for license details.
+ */
+package com.magento.idea.magento2plugin.benchmark;
+
+import com.intellij.openapi.application.ReadAction;
+import com.magento.idea.magento2plugin.project.DiXmlModificationTracker;
+import com.magento.idea.magento2plugin.util.magento.di.VirtualTypeResolver;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Virtual type resolution used by DiIndex.getTopTypeOfVirtualType.
+ *
+ * The cold variant drops the di.xml caches before every invocation, the warm one measures the cached lookup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class VirtualTypeBenchmark {
+    @Param({
+            "Magento\\Catalog\\Model\\Session\\ProductStorage",
+            "Magento\\Catalog\\Model\\Session\\Storage",
+            "Magento\\Theme\\Block\\Html\\Topmenu"
+    })
+    public String typeName;
+
+    @Param({"warm", "cold"})
+    public String cache;
+
+    private final BenchmarkProject project = new BenchmarkProject();
+    private VirtualTypeResolver resolver;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        project.setUp();
+        resolver = VirtualTypeResolver.getInstance(project.getProject());
+    }
+
+    @Setup(Level.Invocation)
+    public void dropCaches() {
+        if (cache.equals("cold")) {
+            DiXmlModificationTracker.getInstance(project.getProject()).incModificationCount();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        project.tearDown();
+    }
+
+    @Benchmark
+    public String getTopType() {
+        return ReadAction.compute(() -> resolver.getTopType(typeName));
+    }
+}
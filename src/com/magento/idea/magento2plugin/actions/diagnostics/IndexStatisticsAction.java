@@ -0,0 +1,30 @@
+/*
+ * Copyright © Magento, Inc. All rights reserved.
+ * See COPYING.txt for license details.
+ */
+package com.magento.idea.magento2plugin.actions.diagnostics;
+
+import com.intellij.openapi.actionSystem.AnAction;
+import com.intellij.openapi.actionSystem.AnActionEvent;
+import com.intellij.openapi.project.DumbAware;
+import com.magento.idea.magento2plugin.indexes.statistics.IndexingStatistics;
+import org.jetbrains.annotations.NotNull;
+
+public class IndexStatisticsAction extends AnAction implements DumbAware {
+    public static final String ACTION_NAME = "Magento Index Statistics";
+    public static final String ACTION_DESCRIPTION = "Show time, keys and value sizes of the Magento indexes";
+
+    public IndexStatisticsAction() {
+        super(ACTION_NAME, ACTION_DESCRIPTION, null);
+    }
+
+    @Override
+    public void update(@NotNull AnActionEvent event) {
+        event.getPresentation().setEnabledAndVisible(IndexingStatistics.isEnabled());
+    }
+
+    @Override
+    public void actionPerformed(@NotNull AnActionEvent event) {
+        new IndexStatisticsDialog(event.getProject()).show();
+    }
+}
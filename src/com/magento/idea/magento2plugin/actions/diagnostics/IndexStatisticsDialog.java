@@ -0,0 +1,138 @@
+/*
+ * Copyright © Magento, Inc. All rights reserved.
+ * See COPYING.txt for license details.
+ */
+package com.magento.idea.magento2plugin.actions.diagnostics;
+
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.ui.DialogWrapper;
+import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.ui.JBSplitter;
+import com.intellij.ui.ScrollPaneFactory;
+import com.intellij.ui.table.JBTable;
+import com.intellij.util.ui.JBUI;
+import com.magento.idea.magento2plugin.indexes.statistics.IndexerStatistics;
+import com.magento.idea.magento2plugin.indexes.statistics.IndexingStatistics;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import javax.swing.*;
+import javax.swing.table.DefaultTableModel;
+import java.awt.event.ActionEvent;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Lists the indexing statistics collected since the IDE start, heaviest files are shown for the selected index.
+ */
+public class IndexStatisticsDialog extends DialogWrapper {
+    private static final String[] INDEX_COLUMNS = {
+            "Index", "Files", "Skipped", "Total, ms", "p99, ms", "Keys", "Value bytes"
+    };
+    private static final String[] FILE_COLUMNS = {"File", "Time, ms", "Keys", "Value bytes"};
+
+    private final DefaultTableModel indexModel = createModel(INDEX_COLUMNS);
+    private final DefaultTableModel fileModel = createModel(FILE_COLUMNS);
+    private final JBTable indexTable = new JBTable(indexModel);
+    private List<IndexerStatistics> statistics = Collections.emptyList();
+
+    public IndexStatisticsDialog(@Nullable Project project) {
+        super(project, false);
+        setTitle(IndexStatisticsAction.ACTION_NAME);
+        setModal(false);
+        indexTable.getSelectionModel().setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
+        indexTable.getSelectionModel().addListSelectionListener(event -> {
+            if (!event.getValueIsAdjusting()) {
+                updateFiles();
+            }
+        });
+        refresh();
+        init();
+    }
+
+    @Nullable
+    @Override
+    protected JComponent createCenterPanel() {
+        JBSplitter splitter = new JBSplitter(true, 0.5f);
+        splitter.setFirstComponent(ScrollPaneFactory.createScrollPane(indexTable));
+        splitter.setSecondComponent(ScrollPaneFactory.createScrollPane(new JBTable(fileModel)));
+        splitter.setPreferredSize(JBUI.size(900, 600));
+
+        return splitter;
+    }
+
+    @NotNull
+    @Override
+    protected Action[] createLeftSideActions() {
+        return new Action[] {
+                new DialogWrapperAction("Refresh") {
+                    @Override
+                    protected void doAction(ActionEvent event) {
+                        refresh();
+                    }
+                },
+                new DialogWrapperAction("Reset") {
+                    @Override
+                    protected void doAction(ActionEvent event) {
+                        IndexingStatistics.getInstance().reset();
+                        refresh();
+                    }
+                }
+        };
+    }
+
+    @NotNull
+    @Override
+    protected Action[] createActions() {
+        return new Action[] {getOKAction()};
+    }
+
+    private void refresh() {
+        statistics = IndexingStatistics.getInstance().getAllStatistics();
+        indexModel.setRowCount(0);
+        for (IndexerStatistics indexerStatistics : statistics) {
+            indexModel.addRow(new Object[] {
+                    indexerStatistics.getIndexName(),
+                    indexerStatistics.getInvocationCount(),
+                    indexerStatistics.getSkippedCount(),
+                    toMilliseconds(indexerStatistics.getTotalTime()),
+                    toMilliseconds(indexerStatistics.getPercentileTime(0.99)),
+                    indexerStatistics.getKeyCount(),
+                    StringUtil.formatFileSize(indexerStatistics.getValueBytes())
+            });
+        }
+        if (!statistics.isEmpty()) {
+            indexTable.getSelectionModel().setSelectionInterval(0, 0);
+        }
+        updateFiles();
+    }
+
+    private void updateFiles() {
+        fileModel.setRowCount(0);
+        int row = indexTable.getSelectedRow();
+        if (row < 0 || row >= statistics.size()) {
+            return;
+        }
+        for (IndexerStatistics.FileRecord file : statistics.get(row).getHeaviestFiles()) {
+            fileModel.addRow(new Object[] {
+                    file.getPath(),
+                    toMilliseconds(file.getTime()),
+                    file.getKeyCount(),
+                    StringUtil.formatFileSize(file.getValueBytes())
+            });
+        }
+    }
+
+    private static String toMilliseconds(long nanoseconds) {
+        return String.format("%.2f", nanoseconds / 1_000_000.0);
+    }
+
+    private static DefaultTableModel createModel(String[] columns) {
+        return new DefaultTableModel(columns, 0) {
+            @Override
+            public boolean isCellEditable(int row, int column) {
+                return false;
+            }
+        };
+    }
+}
@@ -10,6 +10,7 @@ import com.intellij.ide.fileTemplates.FileTemplateManager;
 import com.intellij.lang.Language;
 import com.intellij.openapi.application.ApplicationManager;
 import com.intellij.openapi.command.CommandProcessor;
+import com.intellij.openapi.components.ServiceManager;
 import com.intellij.openapi.project.Project;
 import com.intellij.openapi.ui.Messages;
 import com.intellij.openapi.util.Ref;
@@ -30,15 +31,14 @@ import java.util.List;
 import java.util.Properties;
 
 public class FileFromTemplateGenerator {
-    private static FileFromTemplateGenerator INSTANCE = null;
-    private Project project;
+    private final Project project;
 
-    public static FileFromTemplateGenerator getInstance(Project project) {
-        if (null == INSTANCE) {
-            INSTANCE = new FileFromTemplateGenerator();
-        }
-        INSTANCE.project = project;
-        return INSTANCE;
+    public FileFromTemplateGenerator(@NotNull Project project) {
+        this.project = project;
+    }
+
+    public static FileFromTemplateGenerator getInstance(@NotNull Project project) {
+        return ServiceManager.getService(project, FileFromTemplateGenerator.class);
     }
 
     @Nullable
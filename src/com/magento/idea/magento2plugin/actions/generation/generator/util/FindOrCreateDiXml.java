@@ -4,6 +4,7 @@
  */
 package com.magento.idea.magento2plugin.actions.generation.generator.util;
 
+import com.intellij.openapi.components.ServiceManager;
 import com.intellij.openapi.project.Project;
 import com.intellij.psi.PsiDirectory;
 import com.intellij.psi.PsiFile;
@@ -11,23 +12,19 @@ import com.magento.idea.magento2plugin.indexes.ModuleIndex;
 import com.magento.idea.magento2plugin.magento.files.ModuleDiXml;
 import com.magento.idea.magento2plugin.magento.packages.Package;
 import com.magento.idea.magento2plugin.util.magento.FileBasedIndexUtil;
+import org.jetbrains.annotations.NotNull;
 import java.util.ArrayList;
 import java.util.Properties;
 
 public class FindOrCreateDiXml {
-    private static FindOrCreateDiXml INSTANCE = null;
-    private Project project;
+    private final Project project;
 
-    public static FindOrCreateDiXml getInstance(Project project) {
-        if (null == INSTANCE) {
-            INSTANCE = new FindOrCreateDiXml(project);
-        }
-
-        return INSTANCE;
+    public FindOrCreateDiXml(@NotNull Project project) {
+        this.project = project;
     }
 
-    FindOrCreateDiXml(Project project) {
-        this.project = project;
+    public static FindOrCreateDiXml getInstance(@NotNull Project project) {
+        return ServiceManager.getService(project, FindOrCreateDiXml.class);
     }
 
     public PsiFile execute(String actionName, String moduleName, String area) {
@@ -4,6 +4,7 @@
  */
 package com.magento.idea.magento2plugin.actions.generation.generator.util;
 
+import com.intellij.openapi.components.ServiceManager;
 import com.intellij.openapi.project.Project;
 import com.intellij.psi.PsiDirectory;
 import com.intellij.psi.PsiFile;
@@ -12,24 +13,20 @@ import com.magento.idea.magento2plugin.magento.files.ModuleDiXml;
 import com.magento.idea.magento2plugin.magento.files.ModuleEventsXml;
 import com.magento.idea.magento2plugin.magento.packages.Package;
 import com.magento.idea.magento2plugin.util.magento.FileBasedIndexUtil;
+import org.jetbrains.annotations.NotNull;
 
 import java.util.ArrayList;
 import java.util.Properties;
 
 public class FindOrCreateEventsXml {
-    private static FindOrCreateEventsXml INSTANCE = null;
-    private Project project;
+    private final Project project;
 
-    public static FindOrCreateEventsXml getInstance(Project project) {
-        if (null == INSTANCE) {
-            INSTANCE = new FindOrCreateEventsXml(project);
-        }
-
-        return INSTANCE;
+    public FindOrCreateEventsXml(@NotNull Project project) {
+        this.project = project;
     }
 
-    FindOrCreateEventsXml(Project project) {
-        this.project = project;
+    public static FindOrCreateEventsXml getInstance(@NotNull Project project) {
+        return ServiceManager.getService(project, FindOrCreateEventsXml.class);
     }
 
     public PsiFile execute(String actionName, String moduleName, String area) {
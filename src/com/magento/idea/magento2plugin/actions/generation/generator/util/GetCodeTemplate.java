@@ -6,24 +6,21 @@ package com.magento.idea.magento2plugin.actions.generation.generator.util;
 
 import com.intellij.ide.fileTemplates.FileTemplate;
 import com.intellij.ide.fileTemplates.FileTemplateManager;
+import com.intellij.openapi.components.ServiceManager;
 import com.intellij.openapi.project.Project;
+import org.jetbrains.annotations.NotNull;
 import java.io.IOException;
 import java.util.Properties;
 
 public class GetCodeTemplate {
-    private static GetCodeTemplate INSTANCE = null;
-    private Project project;
+    private final Project project;
 
-    public static GetCodeTemplate getInstance(Project project) {
-        if (null == INSTANCE) {
-            INSTANCE = new GetCodeTemplate(project);
-        }
-
-        return INSTANCE;
+    public GetCodeTemplate(@NotNull Project project) {
+        this.project = project;
     }
 
-    GetCodeTemplate (Project project) {
-        this.project = project;
+    public static GetCodeTemplate getInstance(@NotNull Project project) {
+        return ServiceManager.getService(project, GetCodeTemplate.class);
     }
 
     public String execute(String templateName, Properties properties) throws IOException {
@@ -10,7 +10,7 @@ import com.intellij.codeInsight.completion.CompletionResultSet;
 import com.intellij.codeInsight.lookup.LookupElementBuilder;
 import com.intellij.psi.PsiElement;
 import com.intellij.util.ProcessingContext;
-import com.intellij.util.indexing.FileBasedIndex;
+import com.magento.idea.magento2plugin.indexes.IndexQueries;
 import com.magento.idea.magento2plugin.stubs.indexes.EventNameIndex;
 import org.jetbrains.annotations.NotNull;
 
@@ -24,7 +24,7 @@ public class EventNameCompletionContributor extends CompletionProvider<Completio
                                   @NotNull CompletionResultSet result) {
         PsiElement position = parameters.getPosition().getOriginalElement();
 
-        Collection<String> eventNames = FileBasedIndex.getInstance()
+        Collection<String> eventNames = IndexQueries
                 .getAllKeys(EventNameIndex.KEY, position.getProject());
 
         for (String eventName: eventNames) {
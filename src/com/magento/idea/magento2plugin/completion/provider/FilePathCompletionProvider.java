@@ -9,12 +9,14 @@ import com.intellij.codeInsight.completion.CompletionProvider;
 import com.intellij.codeInsight.completion.CompletionResultSet;
 import com.intellij.codeInsight.lookup.LookupElementBuilder;
 import com.intellij.icons.AllIcons;
+import com.intellij.openapi.project.Project;
 import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.psi.PsiElement;
 import com.intellij.util.ProcessingContext;
+import com.magento.idea.magento2plugin.stubs.indexes.ViewAssetIndex;
 import com.magento.idea.magento2plugin.util.RegExUtil;
-import com.magento.idea.magento2plugin.util.VfsUtil;
 import com.magento.idea.magento2plugin.util.magento.FileBasedIndexUtil;
+import com.magento.idea.magento2plugin.util.magento.ModuleRegistry;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.*;
@@ -22,6 +24,11 @@ import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 public class FilePathCompletionProvider extends CompletionProvider<CompletionParameters> {
+    private static final Pattern MODULE_FILE_PATH_PATTERN = Pattern.compile(
+            "(" + RegExUtil.Magento.MODULE_NAME + "(\\W+))(" + RegExUtil.FILE_PATH + ")?"
+    );
+    private static final Pattern FILE_PATH_PATTERN = Pattern.compile("(" + RegExUtil.FILE_PATH + ")+");
+    private static final Pattern MODULE_NAME_PATTERN = Pattern.compile(RegExUtil.Magento.MODULE_NAME);
 
     @Override
     protected void addCompletions(@NotNull CompletionParameters parameters,
@@ -36,46 +43,32 @@ public class FilePathCompletionProvider extends CompletionProvider<CompletionPar
 
         String filePath;
         String filePathPrefix;
-        boolean removeFileExtension = false;
+        boolean removeFileExtension;
 
-        Pattern pattern = Pattern.compile(
-                "(" + RegExUtil.Magento.MODULE_NAME + "(\\W+))(" + RegExUtil.FILE_PATH + ")?"
-        );
-        Matcher matcher = pattern.matcher(prefix);
+        Matcher matcher = MODULE_FILE_PATH_PATTERN.matcher(prefix);
         if (matcher.find()) {
             filePathPrefix = matcher.group(1);
             removeFileExtension = matcher.group(2).equals("/");
             filePath = matcher.group(3) != null ? matcher.group(3) : "";
         } else {
-            pattern = Pattern.compile("(" + RegExUtil.FILE_PATH + ")+");
-            matcher = pattern.matcher(prefix);
+            matcher = FILE_PATH_PATTERN.matcher(prefix);
             if (!matcher.find()) {
                 return;
             }
             filePathPrefix = "";
+            removeFileExtension = false;
             filePath = matcher.group(1);
         }
 
         // find all view virtual files
         Collection<VirtualFile> viewVfs = findViewVfs(parameters, result);
 
-        for (VirtualFile vf:viewVfs) {
-            for (VirtualFile file : VfsUtil.getAllSubFiles(vf)) {
-                String label = file.getPath().replace(vf.getPath(), "");
-
-                pattern = label.matches("(/[\\w-]+){2}/template/.*")
-                    //e.g. (adminhtml|frontend|base|*)/(web|layout|*)/template/{whatever client typed}
-                    ? Pattern.compile("^((/[\\w-]+){3}/)" + filePath)
-                    //e.g. (adminhtml|frontend|base|*)/(web|layout|*)/{whatever client typed}
-                    : Pattern.compile("^((/[\\w-]+){2}/)" + filePath);
-
-                matcher = pattern.matcher(label);
-                if (!matcher.find()) {
-                    continue;
-                }
-
+        Project project = position.getProject();
+        Set<String> labels = new HashSet<>();
+        for (VirtualFile vf : viewVfs) {
+            ViewAssetIndex.processAssets(project, vf, filePath, (assetPath, file) -> {
                 //remove prefix
-                label = label.replace(matcher.group(0), "");
+                String label = assetPath.substring(filePath.length());
                 boolean lastPathSegment = !(label.indexOf("/", 1) > 0);
                 label = lastPathSegment ? label : label.substring(0, label.indexOf("/", 1));
                 label = filePathPrefix + filePath + label;
@@ -84,37 +77,32 @@ public class FilePathCompletionProvider extends CompletionProvider<CompletionPar
                         : label
                 );
 
-                result.addElement(
-                        LookupElementBuilder
-                                .create(label)
-                                .withIcon(lastPathSegment ? file.getFileType().getIcon() : AllIcons.Nodes.Folder)
-                );
-            }
+                if (labels.add(label)) {
+                    result.addElement(
+                            LookupElementBuilder
+                                    .create(label)
+                                    .withIcon(lastPathSegment ? file.getFileType().getIcon() : AllIcons.Nodes.Folder)
+                    );
+                }
+                return true;
+            });
         }
     }
 
     private Collection<VirtualFile> findViewVfs(CompletionParameters parameters, CompletionResultSet result)
     {
         Collection<VirtualFile> viewVfs = new ArrayList<>();
+        Project project = parameters.getPosition().getProject();
 
-        Pattern pattern = Pattern.compile(RegExUtil.Magento.MODULE_NAME);
-        Matcher matcher = pattern.matcher(result.getPrefixMatcher().getPrefix());
+        Matcher matcher = MODULE_NAME_PATTERN.matcher(result.getPrefixMatcher().getPrefix());
 
         if (matcher.find()) {
-            viewVfs.addAll(
-                FileBasedIndexUtil.findViewVfsByModuleName(matcher.group(0), parameters.getPosition().getProject())
-            );
+            viewVfs.addAll(FileBasedIndexUtil.findViewVfsByModuleName(matcher.group(0), project));
         } else {
             VirtualFile tf = parameters.getOriginalFile().getVirtualFile();
-            if (tf != null) {
-                VirtualFile moduleVf =
-                        VfsUtil.findVfUp(tf, "registration.php");
-
-                if (moduleVf != null) {
-                    viewVfs.addAll(
-                            FileBasedIndexUtil.findViewVfsByModuleVf(moduleVf, parameters.getPosition().getProject())
-                    );
-                }
+            ModuleRegistry.Module module = tf != null ? ModuleRegistry.getInstance(project).getModuleByFile(tf) : null;
+            if (module != null) {
+                viewVfs.addAll(FileBasedIndexUtil.findViewVfsByModuleName(module.getName(), project));
             }
         }
 
@@ -9,13 +9,12 @@ import com.intellij.codeInsight.completion.CompletionProvider;
 import com.intellij.codeInsight.completion.CompletionResultSet;
 import com.intellij.codeInsight.lookup.LookupElementBuilder;
 import com.intellij.psi.PsiElement;
-import com.intellij.psi.xml.XmlFile;
 import com.intellij.util.ProcessingContext;
 import com.jetbrains.php.PhpIcons;
 import com.magento.idea.magento2plugin.indexes.LayoutIndex;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.List;
+import java.util.Collection;
 
 public class LayoutUpdateCompletionContributor extends CompletionProvider<CompletionParameters> {
 
@@ -28,15 +27,13 @@ public class LayoutUpdateCompletionContributor extends CompletionProvider<Comple
             return;
         }
 
-        List<XmlFile> targets = LayoutIndex.getLayoutFiles(position.getProject());
-        if (targets.size() > 0) {
-            for (XmlFile file : targets) {
-                result.addElement(
-                    LookupElementBuilder
-                            .create(file.getVirtualFile().getNameWithoutExtension())
-                            .withIcon(PhpIcons.XML_TAG_ICON)
-                );
-            }
+        Collection<String> handles = LayoutIndex.getLayoutHandles(position.getProject());
+        for (String handle : handles) {
+            result.addElement(
+                LookupElementBuilder
+                        .create(handle)
+                        .withIcon(PhpIcons.XML_TAG_ICON)
+            );
         }
     }
 }
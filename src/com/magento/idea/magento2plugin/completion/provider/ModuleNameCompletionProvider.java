@@ -10,8 +10,8 @@ import com.intellij.codeInsight.completion.CompletionResultSet;
 import com.intellij.codeInsight.lookup.LookupElementBuilder;
 import com.intellij.psi.PsiElement;
 import com.intellij.util.ProcessingContext;
-import com.intellij.util.indexing.FileBasedIndex;
 import com.magento.idea.magento2plugin.MagentoIcons;
+import com.magento.idea.magento2plugin.indexes.IndexQueries;
 import com.magento.idea.magento2plugin.stubs.indexes.ModuleNameIndex;
 import org.jetbrains.annotations.NotNull;
 import java.util.Collection;
@@ -29,7 +29,7 @@ public class ModuleNameCompletionProvider extends CompletionProvider<CompletionP
         String prefix = result.getPrefixMatcher().getPrefix();
 
         Collection<String> moduleNames
-                = FileBasedIndex.getInstance().getAllKeys(ModuleNameIndex.KEY, position.getProject());
+                = IndexQueries.getAllKeys(ModuleNameIndex.KEY, position.getProject());
 
         moduleNames.removeIf(m -> !m.startsWith(prefix));
         for (String moduleName : moduleNames) {
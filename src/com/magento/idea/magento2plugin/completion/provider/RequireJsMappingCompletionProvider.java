@@ -9,12 +9,15 @@ import com.intellij.codeInsight.completion.CompletionProvider;
 import com.intellij.codeInsight.completion.CompletionResultSet;
 import com.intellij.codeInsight.lookup.LookupElementBuilder;
 import com.intellij.lang.javascript.JavaScriptFileType;
+import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.psi.PsiElement;
 import com.intellij.util.ProcessingContext;
-import com.intellij.util.indexing.FileBasedIndex;
-import com.magento.idea.magento2plugin.stubs.indexes.js.RequireJsIndex;
+import com.magento.idea.magento2plugin.util.magento.js.RequireJsConfigCache;
 import org.jetbrains.annotations.NotNull;
-import java.util.Collection;
+
+import javax.swing.*;
+import java.util.HashSet;
+import java.util.Set;
 
 public class RequireJsMappingCompletionProvider extends CompletionProvider<CompletionParameters> {
 
@@ -28,17 +31,22 @@ public class RequireJsMappingCompletionProvider extends CompletionProvider<Compl
         }
         String prefix = result.getPrefixMatcher().getPrefix();
 
-        Collection<String> requireJsKeys
-                = FileBasedIndex.getInstance().getAllKeys(RequireJsIndex.KEY, position.getProject());
+        Set<String> aliases = new HashSet<>();
+        VirtualFile file = parameters.getOriginalFile().getVirtualFile();
+        for (RequireJsConfigCache.AreaConfig config
+                : RequireJsConfigCache.getInstance(position.getProject()).getConfigs(file)) {
+            aliases.addAll(config.getAliases());
+        }
 
-        requireJsKeys.removeIf(m -> !m.startsWith(prefix));
-        JavaScriptFileType jsFileType = new JavaScriptFileType();
-        for (String requireJsKey : requireJsKeys) {
-            result.addElement(
-                    LookupElementBuilder
-                            .create(requireJsKey)
-                            .withIcon(jsFileType.getIcon())
-            );
+        Icon icon = JavaScriptFileType.INSTANCE.getIcon();
+        for (String alias : aliases) {
+            if (alias.startsWith(prefix)) {
+                result.addElement(
+                        LookupElementBuilder
+                                .create(alias)
+                                .withIcon(icon)
+                );
+            }
         }
     }
 }
@@ -10,7 +10,7 @@ import com.intellij.codeInsight.completion.CompletionResultSet;
 import com.intellij.codeInsight.lookup.LookupElementBuilder;
 import com.intellij.psi.PsiElement;
 import com.intellij.util.ProcessingContext;
-import com.intellij.util.indexing.FileBasedIndex;
+import com.magento.idea.magento2plugin.indexes.IndexQueries;
 import com.magento.idea.magento2plugin.stubs.indexes.mftf.ActionGroupIndex;
 import org.jetbrains.annotations.NotNull;
 
@@ -30,7 +30,7 @@ public class ActionGroupCompletionProvider extends CompletionProvider<Completion
         }
 
         Collection<String> selectorNames
-            = FileBasedIndex.getInstance().getAllKeys(ActionGroupIndex.KEY, position.getProject());
+            = IndexQueries.getAllKeys(ActionGroupIndex.KEY, position.getProject());
 
         for (String selectorName: selectorNames) {
             result.addElement(LookupElementBuilder.create(selectorName));
@@ -10,7 +10,7 @@ import com.intellij.codeInsight.completion.CompletionResultSet;
 import com.intellij.codeInsight.lookup.LookupElementBuilder;
 import com.intellij.psi.PsiElement;
 import com.intellij.util.ProcessingContext;
-import com.intellij.util.indexing.FileBasedIndex;
+import com.magento.idea.magento2plugin.indexes.IndexQueries;
 import com.magento.idea.magento2plugin.stubs.indexes.mftf.DataIndex;
 import org.jetbrains.annotations.NotNull;
 import java.util.Collection;
@@ -29,7 +29,7 @@ public class DataCompletionProvider extends CompletionProvider<CompletionParamet
         }
 
         Collection<String> selectorNames
-            = FileBasedIndex.getInstance().getAllKeys(DataIndex.KEY, position.getProject());
+            = IndexQueries.getAllKeys(DataIndex.KEY, position.getProject());
 
         for (String selectorName: selectorNames) {
             result.addElement(LookupElementBuilder.create(selectorName));
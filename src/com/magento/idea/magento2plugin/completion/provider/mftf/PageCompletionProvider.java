@@ -10,7 +10,7 @@ import com.intellij.codeInsight.completion.CompletionResultSet;
 import com.intellij.codeInsight.lookup.LookupElementBuilder;
 import com.intellij.psi.PsiElement;
 import com.intellij.util.ProcessingContext;
-import com.intellij.util.indexing.FileBasedIndex;
+import com.magento.idea.magento2plugin.indexes.IndexQueries;
 import com.magento.idea.magento2plugin.magento.files.MftfPage;
 import com.magento.idea.magento2plugin.stubs.indexes.mftf.PageIndex;
 import org.jetbrains.annotations.NotNull;
@@ -30,7 +30,7 @@ public class PageCompletionProvider extends CompletionProvider<CompletionParamet
         }
 
         Collection<String> allKeys
-            = FileBasedIndex.getInstance().getAllKeys(PageIndex.KEY, position.getProject());
+            = IndexQueries.getAllKeys(PageIndex.KEY, position.getProject());
 
         for (String pageName: allKeys) {
             result.addElement(LookupElementBuilder.create(
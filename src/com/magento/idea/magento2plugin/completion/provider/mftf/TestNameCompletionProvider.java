@@ -14,7 +14,7 @@ import com.intellij.psi.xml.XmlAttribute;
 import com.intellij.psi.xml.XmlAttributeValue;
 import com.intellij.psi.xml.XmlTag;
 import com.intellij.util.ProcessingContext;
-import com.intellij.util.indexing.FileBasedIndex;
+import com.magento.idea.magento2plugin.indexes.IndexQueries;
 import com.magento.idea.magento2plugin.magento.files.MftfTest;
 import com.magento.idea.magento2plugin.stubs.indexes.mftf.TestNameIndex;
 import org.jetbrains.annotations.NotNull;
@@ -33,7 +33,7 @@ public class TestNameCompletionProvider extends CompletionProvider<CompletionPar
             return;
         }
 
-        Collection<String> allKeys = FileBasedIndex.getInstance().getAllKeys(TestNameIndex.KEY, position.getProject());
+        Collection<String> allKeys = IndexQueries.getAllKeys(TestNameIndex.KEY, position.getProject());
 
         String currentTestName = getCurrentTestName((XmlAttributeValue) parameters.getPosition().getParent());
         for (String testName: allKeys) {
@@ -11,6 +11,7 @@ import com.intellij.psi.xml.XmlTokenType;
 import com.magento.idea.magento2plugin.completion.provider.*;
 import com.magento.idea.magento2plugin.completion.provider.mftf.*;
 import com.magento.idea.magento2plugin.magento.files.*;
+import com.magento.idea.magento2plugin.util.telemetry.InstrumentedCompletionProvider;
 import static com.intellij.patterns.PlatformPatterns.psiElement;
 import static com.intellij.patterns.StandardPatterns.string;
 import static com.intellij.patterns.XmlPatterns.xmlFile;
@@ -25,20 +26,20 @@ public class XmlCompletionContributor extends CompletionContributor {
                                 XmlPatterns.xmlAttribute().withName(CommonXml.SCHEMA_VALIDATE_ATTRIBUTE)
                                         .withValue(string().oneOf(CommonXml.INIT_PARAMETER))))
                         ),
-                new PhpClassMemberCompletionProvider()
+                new InstrumentedCompletionProvider(new PhpClassMemberCompletionProvider())
         );
 
         /* Module Completion provider */
         extend(CompletionType.BASIC, psiElement(XmlTokenType.XML_ATTRIBUTE_VALUE_TOKEN)
                         .inside(XmlPatterns.xmlAttribute().withName(ModuleAclXml.XML_ATTR_ID))
                         .inFile(xmlFile().withName(string().endsWith(ModuleAclXml.FILE_NAME))),
-                new ModuleNameCompletionProvider()
+                new InstrumentedCompletionProvider(new ModuleNameCompletionProvider())
         );
 
         extend(CompletionType.BASIC, psiElement(XmlTokenType.XML_ATTRIBUTE_VALUE_TOKEN)
                         .inside(XmlPatterns.xmlAttribute().withName(ModuleXml.MODULE_ATTR_NAME))
                         .inFile(xmlFile().withName(string().endsWith(ModuleXml.FILE_NAME))),
-                new ModuleNameCompletionProvider()
+                new InstrumentedCompletionProvider(new ModuleNameCompletionProvider())
         );
 
         /* PHP Class completion provider */
@@ -48,48 +49,48 @@ public class XmlCompletionContributor extends CompletionContributor {
                         .withParent(XmlPatterns.xmlText().withParent(XmlPatterns.xmlTag().withChild(
                                 XmlPatterns.xmlAttribute().withName(CommonXml.SCHEMA_VALIDATE_ATTRIBUTE).withValue(string().oneOf(CommonXml.OBJECT))))
                         ),
-                new PhpClassCompletionProvider()
+                new InstrumentedCompletionProvider(new PhpClassCompletionProvider())
         );
 
         // <randomTag class="completion">
         extend(CompletionType.BASIC, psiElement(XmlTokenType.XML_ATTRIBUTE_VALUE_TOKEN)
                         .inside(XmlPatterns.xmlAttribute().withName(CommonXml.ATTR_CLASS)),
-                new PhpClassCompletionProvider()
+                new InstrumentedCompletionProvider(new PhpClassCompletionProvider())
         );
 
         // <preference for="completion">
         extend(CompletionType.BASIC, psiElement(XmlTokenType.XML_ATTRIBUTE_VALUE_TOKEN)
                         .inside(XmlPatterns.xmlAttribute().withName(ModuleDiXml.PREFERENCE_ATTR_FOR)),
-                new PhpClassCompletionProvider()
+                new InstrumentedCompletionProvider(new PhpClassCompletionProvider())
         );
 
         // <type name="completion">
         extend(CompletionType.BASIC, psiElement(XmlTokenType.XML_ATTRIBUTE_VALUE_TOKEN)
                         .inside(XmlPatterns.xmlAttribute().withName(ModuleDiXml.PLUGIN_TYPE_ATTR_NAME)
                                 .withParent(XmlPatterns.xmlTag().withName(ModuleDiXml.PLUGIN_TYPE_TAG))),
-                new PhpClassCompletionProvider()
+                new InstrumentedCompletionProvider(new PhpClassCompletionProvider())
         );
 
         /* File Path Completion provider */
         extend(CompletionType.BASIC, psiElement(XmlTokenType.XML_ATTRIBUTE_VALUE_TOKEN)
                         .inside(XmlPatterns.xmlAttribute().withName(LayoutXml.XML_ATTRIBUTE_TEMPLATE)),
-                new FilePathCompletionProvider()
+                new InstrumentedCompletionProvider(new FilePathCompletionProvider())
         );
 
         extend(CompletionType.BASIC, psiElement(XmlTokenType.XML_ATTRIBUTE_VALUE_TOKEN)
                 .inside(XmlPatterns.xmlAttribute().withName("type")),
-            new VirtualTypeCompletionProvider()
+            new InstrumentedCompletionProvider(new VirtualTypeCompletionProvider())
         );
         extend(CompletionType.BASIC, psiElement(XmlTokenType.XML_ATTRIBUTE_VALUE_TOKEN)
                 .inside(XmlPatterns.xmlAttribute().withName("name")
                     .withParent(XmlPatterns.xmlTag().withName("virtualType"))),
-            new VirtualTypeCompletionProvider()
+            new InstrumentedCompletionProvider(new VirtualTypeCompletionProvider())
         );
         extend(CompletionType.BASIC, psiElement(XmlTokenType.XML_DATA_CHARACTERS)
                 .withParent(XmlPatterns.xmlText().withParent(XmlPatterns.xmlTag().withChild(
                     XmlPatterns.xmlAttribute().withName("xsi:type").withValue(string().oneOf("object"))))
                 ),
-            new VirtualTypeCompletionProvider()
+            new InstrumentedCompletionProvider(new VirtualTypeCompletionProvider())
         );
 
         // <argument name="parameterName">
@@ -99,7 +100,7 @@ public class XmlCompletionContributor extends CompletionContributor {
                     .withParent(XmlPatterns.xmlTag().withName("arguments"))
                 )
             ).inFile(xmlFile().withName(string().endsWith("di.xml"))),
-            new PhpConstructorArgumentCompletionProvider()
+            new InstrumentedCompletionProvider(new PhpConstructorArgumentCompletionProvider())
         );
 
         // <observer instance="Class">
@@ -109,7 +110,7 @@ public class XmlCompletionContributor extends CompletionContributor {
                     .withParent(XmlPatterns.xmlTag().withName(ModuleEventsXml.EVENT_TAG))
                 )
             ).inFile(xmlFile().withName(string().matches(ModuleEventsXml.FILE_NAME))),
-            new PhpClassCompletionProvider()
+            new InstrumentedCompletionProvider(new PhpClassCompletionProvider())
         );
 
         // <source_model>php class completion</source_model> in system.xml files.
@@ -117,14 +118,14 @@ public class XmlCompletionContributor extends CompletionContributor {
             .inside(XmlPatterns.xmlTag().withName(ModuleSystemXml.XML_TAG_SOURCE_MODEL)
                 .withParent(XmlPatterns.xmlTag().withName(ModuleSystemXml.FIELD_ELEMENT_NAME))
             ).inFile(xmlFile().withName(string().matches(ModuleSystemXml.FILE_NAME))),
-            new PhpClassCompletionProvider()
+            new InstrumentedCompletionProvider(new PhpClassCompletionProvider())
         );
 
         // <frontend_model>completion</frontend_model>
         extend(CompletionType.BASIC,
                 psiElement(XmlTokenType.XML_DATA_CHARACTERS)
                         .inside(XmlPatterns.xmlTag().withName(ModuleSystemXml.XML_TAG_FRONTEND_MODEL)),
-                new PhpClassCompletionProvider()
+                new InstrumentedCompletionProvider(new PhpClassCompletionProvider())
         );
 
         // <backend_model>completion</backend_model> in system.xml
@@ -132,14 +133,14 @@ public class XmlCompletionContributor extends CompletionContributor {
             .inside(XmlPatterns.xmlTag().withName(ModuleSystemXml.XML_TAG_BACKEND_MODEL)
                     .withParent(XmlPatterns.xmlTag().withName(ModuleSystemXml.FIELD_ELEMENT_NAME))
             ).inFile(xmlFile().withName(string().matches(ModuleSystemXml.FILE_NAME))),
-            new PhpClassCompletionProvider()
+            new InstrumentedCompletionProvider(new PhpClassCompletionProvider())
         );
 
         // <randomTag backend_model="completion"> in config.xml
         extend(CompletionType.BASIC, psiElement(XmlTokenType.XML_ATTRIBUTE_VALUE_TOKEN)
             .inside(XmlPatterns.xmlAttribute().withName(ModuleConfigXml.XML_ATTRIBUTE_BACKEND_MODEL))
             .inFile(xmlFile().withName(string().matches(ModuleConfigXml.FILE_NAME))),
-            new PhpClassCompletionProvider()
+            new InstrumentedCompletionProvider(new PhpClassCompletionProvider())
         );
 
         // <parameter source_model="completion">...</parameter> in widget.xml files.
@@ -148,7 +149,7 @@ public class XmlCompletionContributor extends CompletionContributor {
                 .withParent(XmlPatterns.xmlTag().withName(ModuleWidgetXml.TAG_PARAMETER_NAME).
                     withParent(XmlPatterns.xmlTag().withName(ModuleWidgetXml.TAG_PARAMETERS_NAME)))
             ).inFile(xmlFile().withName(string().matches(ModuleWidgetXml.FILE_NAME))),
-                new PhpClassCompletionProvider()
+                new InstrumentedCompletionProvider(new PhpClassCompletionProvider())
         );
 
         // <service method="methodName"/>
@@ -156,14 +157,14 @@ public class XmlCompletionContributor extends CompletionContributor {
                 .inside(XmlPatterns.xmlAttribute().withName("method")
                     .withParent(XmlPatterns.xmlTag().withName("service"))
                 ).inFile(xmlFile().withName(string().endsWith("webapi.xml"))),
-            new PhpServiceMethodCompletionContributor()
+            new InstrumentedCompletionProvider(new PhpServiceMethodCompletionContributor())
         );
 
         extend(CompletionType.BASIC, psiElement(XmlTokenType.XML_ATTRIBUTE_VALUE_TOKEN)
             .inside(XmlPatterns.xmlAttribute().withName("name")
                 .withParent(XmlPatterns.xmlTag().withName("referenceContainer"))
             ),
-            new LayoutContainerCompletionContributor()
+            new InstrumentedCompletionProvider(new LayoutContainerCompletionContributor())
         );
 
         extend(CompletionType.BASIC, XmlPatterns.or(
@@ -178,14 +179,14 @@ public class XmlCompletionContributor extends CompletionContributor {
             psiElement(XmlTokenType.XML_ATTRIBUTE_VALUE_TOKEN).inside(XmlPatterns.xmlAttribute().withName("name")
                 .withParent(XmlPatterns.xmlTag().withName("remove")))
             ),
-            new LayoutBlockCompletionContributor()
+            new InstrumentedCompletionProvider(new LayoutBlockCompletionContributor())
         );
 
         extend(CompletionType.BASIC, psiElement(XmlTokenType.XML_ATTRIBUTE_VALUE_TOKEN)
             .inside(XmlPatterns.xmlAttribute().withName("handle")
                 .withParent(XmlPatterns.xmlTag().withName("update"))
             ),
-            new LayoutUpdateCompletionContributor()
+            new InstrumentedCompletionProvider(new LayoutUpdateCompletionContributor())
         );
 
         // event name completion contributor
@@ -193,14 +194,14 @@ public class XmlCompletionContributor extends CompletionContributor {
             .inside(XmlPatterns.xmlAttribute().withName("name")
                 .withParent(XmlPatterns.xmlTag().withName("event"))
             ).inFile(xmlFile().withName(string().endsWith("events.xml"))),
-            new EventNameCompletionContributor()
+            new InstrumentedCompletionProvider(new EventNameCompletionContributor())
         );
 
         extend(CompletionType.BASIC, psiElement(XmlTokenType.XML_ATTRIBUTE_VALUE_TOKEN)
             .inside(XmlPatterns.xmlAttributeValue().withParent(
                 XmlPatterns.xmlAttribute().withName("component")
             )),
-            new RequireJsMappingCompletionProvider()
+            new InstrumentedCompletionProvider(new RequireJsMappingCompletionProvider())
         );
 
         extend(CompletionType.BASIC, psiElement(XmlTokenType.XML_DATA_CHARACTERS)
@@ -212,7 +213,7 @@ public class XmlCompletionContributor extends CompletionContributor {
                     )
                 )
             ),
-            new RequireJsMappingCompletionProvider()
+            new InstrumentedCompletionProvider(new RequireJsMappingCompletionProvider())
         );
 
         // mftf action group completion contributor
@@ -224,7 +225,7 @@ public class XmlCompletionContributor extends CompletionContributor {
                         .withParent(XmlPatterns.xmlTag().withName("actionGroup")
                     )
                 ),
-            new ActionGroupCompletionProvider()
+            new InstrumentedCompletionProvider(new ActionGroupCompletionProvider())
         );
 
         // mftf data entity completion contributor
@@ -233,7 +234,7 @@ public class XmlCompletionContributor extends CompletionContributor {
             psiElement(XmlTokenType.XML_ATTRIBUTE_VALUE_TOKEN)
                 .inside(XmlPatterns.xmlAttribute().withName(string().oneOf("entity", "value", "userInput"))
             ),
-            new DataCompletionProvider()
+            new InstrumentedCompletionProvider(new DataCompletionProvider())
         );
 
         // Data entity/extends completion contributor
@@ -245,7 +246,7 @@ public class XmlCompletionContributor extends CompletionContributor {
                         .withParent(XmlPatterns.xmlTag().withName("entity")
                 )
             ),
-            new DataCompletionProvider()
+            new InstrumentedCompletionProvider(new DataCompletionProvider())
         );
 
         // MFTF Test extends completion contributor
@@ -259,7 +260,7 @@ public class XmlCompletionContributor extends CompletionContributor {
                         )
                     )
                 ),
-            new TestNameCompletionProvider()
+            new InstrumentedCompletionProvider(new TestNameCompletionProvider())
         );
 
         registerCompletionsForDifferentNesting();
@@ -281,7 +282,7 @@ public class XmlCompletionContributor extends CompletionContributor {
                                     string().oneOf(MftfActionGroup.ROOT_TAG, MftfTest.TEST_TAG)
                                 )))
                     ),
-                new SelectorCompletionProvider()
+                new InstrumentedCompletionProvider(new SelectorCompletionProvider())
             );
 
             // mftf page url completion contributor
@@ -295,7 +296,7 @@ public class XmlCompletionContributor extends CompletionContributor {
                                     string().oneOf(MftfActionGroup.ROOT_TAG, MftfTest.TEST_TAG)
                                 )))
                     ),
-                new PageCompletionProvider()
+                new InstrumentedCompletionProvider(new PageCompletionProvider())
             );
 
             i++;
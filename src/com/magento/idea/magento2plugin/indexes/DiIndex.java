@@ -5,41 +5,45 @@
 package com.magento.idea.magento2plugin.indexes;
 
 import com.intellij.codeInsight.completion.PrefixMatcher;
+import com.intellij.openapi.components.ServiceManager;
 import com.intellij.openapi.project.Project;
 import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.psi.PsiElement;
-import com.intellij.psi.PsiManager;
 import com.intellij.psi.PsiReference;
 import com.intellij.psi.search.GlobalSearchScope;
 import com.intellij.psi.util.PsiTreeUtil;
 import com.intellij.psi.xml.*;
-import com.intellij.util.indexing.FileBasedIndex;
 import com.jetbrains.php.PhpIndex;
+import com.jetbrains.php.lang.PhpLangUtil;
 import com.jetbrains.php.lang.psi.elements.PhpClass;
-import com.magento.idea.magento2plugin.stubs.indexes.VirtualTypeIndex;
+import com.magento.idea.magento2plugin.reference.xml.IndexedNavigationTarget;
+import com.magento.idea.magento2plugin.stubs.indexes.DiConfigurationIndex;
+import com.magento.idea.magento2plugin.stubs.indexes.data.DiArgumentData;
+import com.magento.idea.magento2plugin.stubs.indexes.data.DiConfigurationData;
+import com.magento.idea.magento2plugin.stubs.indexes.data.DiPreferenceData;
+import com.magento.idea.magento2plugin.stubs.indexes.data.VirtualTypeData;
+import com.magento.idea.magento2plugin.util.magento.di.VirtualTypeResolver;
 import com.magento.idea.magento2plugin.util.xml.XmlPsiTreeUtil;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 public class DiIndex {
+    private final Project project;
 
-    private static DiIndex INSTANCE;
-
-    private Project project;
-
-    private DiIndex() {
+    public DiIndex(@NotNull Project project) {
+        this.project = project;
     }
 
-    public static DiIndex getInstance(final Project project) {
-        if (null == INSTANCE) {
-            INSTANCE = new DiIndex();
-        }
-        INSTANCE.project = project;
-        return INSTANCE;
+    public static DiIndex getInstance(@NotNull Project project) {
+        return ServiceManager.getService(project, DiIndex.class);
     }
 
     @Nullable
@@ -96,25 +100,59 @@ public class DiIndex {
     }
 
     public Collection<PsiElement> getVirtualTypeElements(final String name, final GlobalSearchScope scope) {
-        Collection<PsiElement> result = new ArrayList<>();
+        Map<VirtualFile, List<Integer>> offsetsByFile = new LinkedHashMap<>();
 
-        Collection<VirtualFile> virtualFiles =
-                FileBasedIndex.getInstance().getContainingFiles(VirtualTypeIndex.KEY, name, scope);
+        String key = PhpLangUtil.toPresentableFQN(name);
+        IndexQueries.processValues(DiConfigurationIndex.KEY, key, null, (virtualFile, data) -> {
+            List<Integer> offsets = offsetsByFile.computeIfAbsent(virtualFile, file -> new ArrayList<>());
+            for (VirtualTypeData virtualTypeData : data.getVirtualTypes()) {
+                offsets.add(virtualTypeData.getOffset());
+            }
+            return true;
+        }, scope);
 
-        for (VirtualFile virtualFile : virtualFiles) {
-            XmlFile xmlFile = (XmlFile) PsiManager.getInstance(project).findFile(virtualFile);
-            if (xmlFile != null) {
-                Collection<XmlAttributeValue> valueElements = XmlPsiTreeUtil
-                        .findAttributeValueElements(xmlFile, "virtualType", "name", name);
-                result.addAll(valueElements);
+        return new ArrayList<>(IndexedNavigationTarget.findElements(project, offsetsByFile, XmlAttributeValue.class));
+    }
+
+    /**
+     * Preferences declared for the type in all areas.
+     */
+    @NotNull
+    public List<String> getPreferenceTypes(@NotNull String typeFqn) {
+        Set<String> result = new LinkedHashSet<>();
+        for (DiConfigurationData data : getConfiguration(typeFqn)) {
+            for (DiPreferenceData preference : data.getPreferences()) {
+                result.add(preference.getType());
             }
         }
+
+        return new ArrayList<>(result);
+    }
+
+    /**
+     * Constructor argument overrides of the type or virtual type in all areas.
+     */
+    @NotNull
+    public List<DiArgumentData> getArgumentOverrides(@NotNull String typeName) {
+        List<DiArgumentData> result = new ArrayList<>();
+        for (DiConfigurationData data : getConfiguration(typeName)) {
+            result.addAll(data.getArguments());
+        }
+
         return result;
     }
 
+    @NotNull
+    private List<DiConfigurationData> getConfiguration(@NotNull String typeName) {
+        return IndexQueries.getValues(
+                DiConfigurationIndex.KEY,
+                PhpLangUtil.toPresentableFQN(typeName),
+                GlobalSearchScope.allScope(project)
+        );
+    }
+
     public Collection<String> getAllVirtualTypeElementNames(PrefixMatcher prefixMatcher, final GlobalSearchScope scope) {
-        Collection<String> keys =
-                FileBasedIndex.getInstance().getAllKeys(VirtualTypeIndex.KEY, project);
+        Collection<String> keys = new ArrayList<>(VirtualTypeResolver.getInstance(project).getVirtualTypeNames());
 
         keys.removeIf(k -> !prefixMatcher.prefixMatches(k));
         return keys;
@@ -122,18 +160,6 @@ public class DiIndex {
 
     @NotNull
     private String getTopTypeOfVirtualType(@NotNull String name) {
-        List<String> values;
-        int parentNestingLevel = 0;
-        int maxNestingLevel = 5;
-
-        do {
-            values = FileBasedIndex.getInstance()
-                    .getValues(VirtualTypeIndex.KEY, name, GlobalSearchScope.allScope(project));
-            if (values.size() > 0 && values.get(0) != null) {
-                name = values.get(0);
-            }
-        } while (values.size() > 0 || maxNestingLevel > parentNestingLevel++);
-
-        return name;
+        return VirtualTypeResolver.getInstance(project).getTopType(name);
     }
 }
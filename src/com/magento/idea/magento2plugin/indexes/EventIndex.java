@@ -4,50 +4,41 @@
  */
 package com.magento.idea.magento2plugin.indexes;
 
+import com.intellij.openapi.components.ServiceManager;
 import com.intellij.openapi.project.Project;
 import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.psi.PsiElement;
-import com.intellij.psi.PsiManager;
 import com.intellij.psi.search.GlobalSearchScope;
 import com.intellij.psi.xml.XmlAttributeValue;
-import com.intellij.psi.xml.XmlFile;
-import com.intellij.util.indexing.FileBasedIndex;
+import com.magento.idea.magento2plugin.reference.xml.IndexedNavigationTarget;
 import com.magento.idea.magento2plugin.stubs.indexes.EventNameIndex;
-import com.magento.idea.magento2plugin.util.xml.XmlPsiTreeUtil;
+import org.jetbrains.annotations.NotNull;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 public class EventIndex {
+    private final Project project;
 
-    private static EventIndex INSTANCE;
-
-    private Project project;
-
-    private EventIndex() {
+    public EventIndex(@NotNull Project project) {
+        this.project = project;
     }
 
-    public static EventIndex getInstance(final Project project) {
-        if (null == INSTANCE) {
-            INSTANCE = new EventIndex();
-        }
-        INSTANCE.project = project;
-
-        return INSTANCE;
+    public static EventIndex getInstance(@NotNull Project project) {
+        return ServiceManager.getService(project, EventIndex.class);
     }
 
     public Collection<PsiElement> getEventElements(final String name, final GlobalSearchScope scope) {
-        Collection<PsiElement> result = new ArrayList<>();
-
-        Collection<VirtualFile> virtualFiles =
-                FileBasedIndex.getInstance().getContainingFiles(EventNameIndex.KEY, name, scope);
-
-        for (VirtualFile virtualFile : virtualFiles) {
-            XmlFile xmlFile = (XmlFile) PsiManager.getInstance(project).findFile(virtualFile);
-            Collection<XmlAttributeValue> valueElements = XmlPsiTreeUtil
-                    .findAttributeValueElements(xmlFile, "event", "name", name);
-            result.addAll(valueElements);
-        }
-        return result;
+        Map<VirtualFile, List<Integer>> offsetsByFile = new LinkedHashMap<>();
+
+        IndexQueries.processValues(EventNameIndex.KEY, name, null, (virtualFile, offsets) -> {
+            offsetsByFile.computeIfAbsent(virtualFile, file -> new ArrayList<>()).addAll(offsets);
+            return true;
+        }, scope);
+
+        return new ArrayList<>(IndexedNavigationTarget.findElements(project, offsetsByFile, XmlAttributeValue.class));
     }
 }
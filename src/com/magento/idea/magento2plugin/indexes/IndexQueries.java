@@ -0,0 +1,65 @@
+/*
+ * Copyright © Magento, Inc. All rights reserved.
+ * See COPYING.txt for license details.
+ */
+package com.magento.idea.magento2plugin.indexes;
+
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.util.indexing.FileBasedIndex;
+import com.intellij.util.indexing.ID;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * File based index queries of the plugin.
+ *
+ * Same methods as FileBasedIndex, every call is published to the {@link IndexQueryListener#TOPIC}.
+ */
+public class IndexQueries {
+    @NotNull
+    public static <K, V> List<V> getValues(
+            @NotNull ID<K, V> indexId,
+            @NotNull K dataKey,
+            @NotNull GlobalSearchScope filter
+    ) {
+        queried(indexId);
+        return FileBasedIndex.getInstance().getValues(indexId, dataKey, filter);
+    }
+
+    @NotNull
+    public static <K, V> Collection<VirtualFile> getContainingFiles(
+            @NotNull ID<K, V> indexId,
+            @NotNull K dataKey,
+            @NotNull GlobalSearchScope filter
+    ) {
+        queried(indexId);
+        return FileBasedIndex.getInstance().getContainingFiles(indexId, dataKey, filter);
+    }
+
+    public static <K, V> boolean processValues(
+            @NotNull ID<K, V> indexId,
+            @NotNull K dataKey,
+            @Nullable VirtualFile inFile,
+            @NotNull FileBasedIndex.ValueProcessor<V> processor,
+            @NotNull GlobalSearchScope filter
+    ) {
+        queried(indexId);
+        return FileBasedIndex.getInstance().processValues(indexId, dataKey, inFile, processor, filter);
+    }
+
+    @NotNull
+    public static <K> Collection<K> getAllKeys(@NotNull ID<K, ?> indexId, @NotNull Project project) {
+        queried(indexId);
+        return FileBasedIndex.getInstance().getAllKeys(indexId, project);
+    }
+
+    private static void queried(ID<?, ?> indexId) {
+        ApplicationManager.getApplication().getMessageBus().syncPublisher(IndexQueryListener.TOPIC).queried(indexId);
+    }
+}
@@ -0,0 +1,20 @@
+/*
+ * Copyright © Magento, Inc. All rights reserved.
+ * See COPYING.txt for license details.
+ */
+package com.magento.idea.magento2plugin.indexes;
+
+import com.intellij.util.indexing.ID;
+import com.intellij.util.messages.Topic;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Listener of the file based index queries made through {@link IndexQueries}.
+ *
+ * Subscribed on the application message bus, e.g. by tests counting the index work of an operation.
+ */
+public interface IndexQueryListener {
+    Topic<IndexQueryListener> TOPIC = Topic.create("Magento index queries", IndexQueryListener.class);
+
+    void queried(@NotNull ID<?, ?> indexId);
+}
@@ -7,22 +7,24 @@ package com.magento.idea.magento2plugin.indexes;
 import com.intellij.openapi.project.Project;
 import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiFile;
 import com.intellij.psi.PsiManager;
 import com.intellij.psi.PsiReference;
 import com.intellij.psi.search.GlobalSearchScope;
-import com.intellij.util.indexing.FileBasedIndex;
 import com.magento.idea.magento2plugin.reference.xml.PolyVariantReferenceBase;
-import com.magento.idea.magento2plugin.stubs.indexes.js.RequireJsIndex;
-import com.magento.idea.magento2plugin.reference.provider.util.GetAllSubFilesOfVirtualFileUtil;
-import com.magento.idea.magento2plugin.reference.provider.util.GetFilePathUtil;
-import com.magento.idea.magento2plugin.reference.provider.util.GetModuleNameUtil;
-import com.magento.idea.magento2plugin.reference.provider.util.GetModuleSourceFilesUtil;
+import com.magento.idea.magento2plugin.stubs.indexes.js.RequireJsModuleIndex;
+import com.magento.idea.magento2plugin.util.RegExUtil;
+import com.magento.idea.magento2plugin.util.magento.ModuleRegistry;
+import com.magento.idea.magento2plugin.util.magento.js.RequireJsConfigCache;
 import org.jetbrains.annotations.NotNull;
-import java.util.ArrayList;
-import java.util.Collection;
-import java.util.List;
+import java.util.*;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 public class JsIndex {
+    private static final Pattern MODULE_ID_PATTERN = Pattern.compile(
+            "^(" + RegExUtil.Magento.MODULE_NAME + ")/(.+)$"
+    );
 
     private static JsIndex INSTANCE;
 
@@ -36,30 +38,27 @@ public class JsIndex {
         return INSTANCE;
     }
 
-    public PsiReference[] getRequireJsPreferences(@NotNull PsiElement element, final GlobalSearchScope scope) {
+    public PsiReference[] getRequireJsPreferences(@NotNull PsiElement element, @NotNull GlobalSearchScope scope) {
         String originalValue = element.getText();
         String jsKey = originalValue
                 .replace("'", "")
                 .replace("\"", "");
+        Project project = element.getProject();
 
-        Collection<String> values =
-                FileBasedIndex.getInstance().getValues(RequireJsIndex.KEY, jsKey, scope);
-        PsiManager psiManager = PsiManager.getInstance(element.getProject());
+        Set<String> moduleIds = new LinkedHashSet<>();
+        PsiFile psiFile = element.getContainingFile();
+        VirtualFile file = psiFile != null ? psiFile.getOriginalFile().getVirtualFile() : null;
+        for (RequireJsConfigCache.AreaConfig config : RequireJsConfigCache.getInstance(project).getConfigs(file)) {
+            moduleIds.addAll(config.resolve(jsKey));
+        }
+        if (moduleIds.isEmpty()) {
+            moduleIds.add(jsKey);
+        }
 
+        PsiManager psiManager = PsiManager.getInstance(project);
         List<PsiElement> targets = new ArrayList<>();
-        if (values.isEmpty()) {
-            Collection<VirtualFile> files = LibJsIndex.getInstance().getLibJsFiles(jsKey, element.getProject());
-            convertVirtualFilesToPsiElements(psiManager, targets, jsKey, files);
-        } else {
-            for (String value : values) {
-                String filePath = GetFilePathUtil.getInstance().execute(value);
-                if (null == filePath) {
-                    continue;
-                }
-                Collection<VirtualFile> files = getJsFilesByPath(value, element.getProject());
-
-                convertVirtualFilesToPsiElements(psiManager, targets, filePath, files);
-            }
+        for (String moduleId : moduleIds) {
+            convertVirtualFilesToPsiElements(psiManager, targets, getJsFilesByModuleId(moduleId, project, scope));
         }
 
         if (targets.isEmpty()) {
@@ -71,48 +70,38 @@ public class JsIndex {
         };
     }
 
-    private void convertVirtualFilesToPsiElements(PsiManager psiManager, List<PsiElement> targets, String filePath, Collection<VirtualFile> files) {
-        for (VirtualFile file : files) {
-            String fileUrl = file.getUrl();
-            if (!fileUrl.contains(filePath)) {
-                return;
-            }
+    /**
+     * Files of a RequireJS module id within the scope: `Module_Name/js/file` or a library id like `mage/apply/main`.
+     */
+    @NotNull
+    public Collection<VirtualFile> getJsFilesByModuleId(
+            @NotNull String moduleId,
+            @NotNull Project project,
+            @NotNull GlobalSearchScope scope
+    ) {
+        Matcher matcher = MODULE_ID_PATTERN.matcher(moduleId);
+        if (!matcher.find()) {
+            return RequireJsModuleIndex.findLibFiles(project, moduleId, scope);
+        }
 
-            PsiElement psiElement = psiManager.findFile(file);
-            if (null != psiElement) {
-                targets.add(psiElement);
-            }
+        VirtualFile viewVf = ModuleRegistry.getInstance(project).getViewDirectory(matcher.group(1));
+        if (viewVf == null) {
+            return new ArrayList<>();
         }
-    }
 
-    private Collection<VirtualFile> getJsFilesByPath(@NotNull String filePath, @NotNull Project project)
-    {
-        Collection<VirtualFile> virtualFiles = new ArrayList<>();
-        Collection<VirtualFile> files = new ArrayList<>();
+        return RequireJsModuleIndex.findModuleFiles(project, viewVf, matcher.group(2), scope);
+    }
 
-        String fileName = filePath.substring(filePath.lastIndexOf("/") + 1).concat(".js").replace("'", "");
-        String moduleName = GetModuleNameUtil.getInstance().execute(filePath);
-        if (moduleName == null) {
-            virtualFiles.addAll(LibJsIndex.getInstance().getLibJsFiles(filePath, project));
-        } else {
-            virtualFiles.addAll(GetModuleSourceFilesUtil.getInstance().execute(filePath, project));
-        }
-        if (!virtualFiles.isEmpty()) {
-            for (VirtualFile virtualFile : virtualFiles) {
-                Collection<VirtualFile> vfChildren = GetAllSubFilesOfVirtualFileUtil.
-                        getInstance().execute(virtualFile);
-                if (null != vfChildren) {
-                    vfChildren.removeIf(file -> {
-                        if (!file.isDirectory()) {
-                            String name = file.getName();
-                            return !name.equals(fileName);
-                        }
-                        return true;
-                    });
-                    files.addAll(vfChildren);
-                }
+    private void convertVirtualFilesToPsiElements(
+            PsiManager psiManager,
+            List<PsiElement> targets,
+            Collection<VirtualFile> files
+    ) {
+        for (VirtualFile file : files) {
+            PsiElement psiElement = psiManager.findFile(file);
+            if (null != psiElement) {
+                targets.add(psiElement);
             }
         }
-        return files;
     }
 }
@@ -7,50 +7,37 @@ package com.magento.idea.magento2plugin.indexes;
 import com.intellij.ide.highlighter.XmlFileType;
 import com.intellij.openapi.project.Project;
 import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiFile;
 import com.intellij.psi.PsiManager;
-import com.intellij.psi.search.FilenameIndex;
 import com.intellij.psi.search.GlobalSearchScope;
 import com.intellij.psi.xml.XmlFile;
 import com.intellij.psi.xml.XmlTag;
-import com.intellij.util.indexing.FileBasedIndex;
 import com.intellij.util.indexing.ID;
+import com.magento.idea.magento2plugin.reference.xml.IndexedNavigationTarget;
 import com.magento.idea.magento2plugin.stubs.indexes.BlockNameIndex;
 import com.magento.idea.magento2plugin.stubs.indexes.ContainerNameIndex;
-import org.jetbrains.annotations.Nullable;
+import com.magento.idea.magento2plugin.stubs.indexes.LayoutHandleIndex;
+import org.jetbrains.annotations.NotNull;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Created by dkvashnin on 11/20/15.
  */
 public class LayoutIndex {
-    private static List<XmlTag> getComponentDeclarations(String componentValue, String componentType, ID<String, Void> id, Project project, ComponentMatcher componentMatcher) {
-        List<XmlTag> results = new ArrayList<XmlTag>();
-        Collection<VirtualFile> containingFiles = FileBasedIndex.getInstance()
-            .getContainingFiles(
-                id,
-                componentValue,
-                GlobalSearchScope.allScope(project)
-            );
-        PsiManager psiManager = PsiManager.getInstance(project);
-
-        for (VirtualFile virtualFile: containingFiles) {
-            XmlFile xmlFile = (XmlFile)psiManager.findFile(virtualFile);
-            if (xmlFile == null) {
-                continue;
-            }
-
-            XmlTag rootTag = xmlFile.getRootTag();
-            if (rootTag == null) {
-                continue;
-            }
-            collectComponentDeclarations(rootTag, results, componentValue, componentType, componentMatcher);
-        }
-
-        return results;
+    private static List<PsiElement> getComponentDeclarations(String componentValue, ID<String, List<Integer>> id, Project project) {
+        Map<VirtualFile, List<Integer>> offsetsByFile = new LinkedHashMap<>();
+        IndexQueries.processValues(id, componentValue, null, (virtualFile, offsets) -> {
+            offsetsByFile.computeIfAbsent(virtualFile, file -> new ArrayList<>()).addAll(offsets);
+            return true;
+        }, GlobalSearchScope.allScope(project));
+
+        return new ArrayList<>(IndexedNavigationTarget.findElements(project, offsetsByFile, XmlTag.class));
     }
 
     public static boolean isLayoutFile(VirtualFile virtualFile) {
@@ -64,61 +51,35 @@ public class LayoutIndex {
         return isLayoutFile(virtualFile);
     }
 
-    public static List<XmlFile> getLayoutFiles(Project project, @Nullable String fileName) {
+    public static List<XmlFile> getLayoutFiles(Project project, @NotNull String handle) {
         List<XmlFile> results = new ArrayList<XmlFile>();
-        Collection<VirtualFile> xmlFiles = FilenameIndex.getAllFilesByExt(project, "xml");
+        Collection<VirtualFile> layoutFiles = IndexQueries
+                .getContainingFiles(LayoutHandleIndex.KEY, handle, GlobalSearchScope.allScope(project));
 
         PsiManager psiManager = PsiManager.getInstance(project);
-        for (VirtualFile xmlFile: xmlFiles) {
-            if (isLayoutFile(xmlFile)) {
-                if (fileName != null && !xmlFile.getNameWithoutExtension().equals(fileName)) {
-                    continue;
-                }
-
-                PsiFile file = psiManager.findFile(xmlFile);
-                if (file != null) {
-                    results.add((XmlFile)file);
-                }
+        for (VirtualFile layoutFile: layoutFiles) {
+            PsiFile file = psiManager.findFile(layoutFile);
+            if (file instanceof XmlFile) {
+                results.add((XmlFile)file);
             }
         }
 
         return results;
     }
 
-    public static List<XmlFile> getLayoutFiles(Project project) {
-        return getLayoutFiles(project, null);
+    public static Collection<String> getLayoutHandles(Project project) {
+        return getAllKeys(LayoutHandleIndex.KEY, project);
     }
 
-    public static Collection<String> getAllKeys(ID<String, Void> id, Project project) {
-        return FileBasedIndex.getInstance().getAllKeys(id, project);
+    public static Collection<String> getAllKeys(ID<String, ?> id, Project project) {
+        return IndexQueries.getAllKeys(id, project);
     }
 
-    private static void collectComponentDeclarations(XmlTag parentTag, List<XmlTag> results, String componentName, String componentType, ComponentMatcher componentMatcher) {
-        for (XmlTag childTag: parentTag.getSubTags()) {
-            if (componentType.equals(childTag.getName()) && componentMatcher.matches(componentName, childTag)) {
-                results.add(childTag);
-            } else if(childTag.getSubTags().length > 0 ) {
-                collectComponentDeclarations(childTag, results, componentName, componentType, componentMatcher);
-            }
-        }
+    public static List<PsiElement> getBlockDeclarations(String componentName, Project project) {
+        return getComponentDeclarations(componentName, BlockNameIndex.KEY, project);
     }
 
-    public static List<XmlTag> getBlockDeclarations(String componentName, Project project) {
-        return getComponentDeclarations(componentName, "block", BlockNameIndex.KEY, project, new NameComponentMatcher());
-    }
-
-    public static List<XmlTag> getContainerDeclarations(String componentName, Project project) {
-        return getComponentDeclarations(componentName, "container", ContainerNameIndex.KEY, project, new NameComponentMatcher());
-    }
-
-    private interface ComponentMatcher {
-        boolean matches(String value, XmlTag tag);
-    }
-
-    private static class NameComponentMatcher implements ComponentMatcher {
-        @Override
-        public boolean matches(String value, XmlTag tag) {
-            return value.equals(tag.getAttributeValue("name"));
-        }
+    public static List<PsiElement> getContainerDeclarations(String componentName, Project project) {
+        return getComponentDeclarations(componentName, ContainerNameIndex.KEY, project);
     }
 }
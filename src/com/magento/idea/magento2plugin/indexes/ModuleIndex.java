@@ -4,41 +4,30 @@
  */
 package com.magento.idea.magento2plugin.indexes;
 
+import com.intellij.openapi.components.ServiceManager;
 import com.intellij.openapi.project.Project;
 import com.intellij.openapi.vfs.VfsUtilCore;
 import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.psi.PsiDirectory;
 import com.intellij.psi.PsiManager;
-import com.intellij.psi.search.GlobalSearchScope;
-import com.intellij.util.indexing.FileBasedIndex;
-import com.jetbrains.php.lang.PhpFileType;
 import com.magento.idea.magento2plugin.magento.packages.Package;
 import com.magento.idea.magento2plugin.project.util.GetProjectBasePath;
-import com.magento.idea.magento2plugin.stubs.indexes.ModuleNameIndex;
-import com.magento.idea.magento2plugin.util.RegExUtil;
+import com.magento.idea.magento2plugin.util.magento.ModuleRegistry;
+import org.jetbrains.annotations.NotNull;
 import java.util.ArrayList;
-import java.util.Collection;
-import java.util.Collections;
 import java.util.List;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 public class ModuleIndex {
+    private final Project project;
 
-    private static ModuleIndex INSTANCE;
-
-    private Project project;
-
-    private ModuleIndex() {
+    public ModuleIndex(@NotNull Project project) {
+        this.project = project;
     }
 
-    public static ModuleIndex getInstance(Project project) {
-        if (null == INSTANCE) {
-            INSTANCE = new ModuleIndex();
-        }
-        INSTANCE.project = project;
-
-        return INSTANCE;
+    public static ModuleIndex getInstance(@NotNull Project project) {
+        return ServiceManager.getService(project, ModuleIndex.class);
     }
 
     public List<String> getEditableModuleNames() {
@@ -50,25 +39,18 @@ public class ModuleIndex {
     }
 
     public List<String> getModuleNames(String filterPattern, boolean withinProject) {
-        FileBasedIndex index = FileBasedIndex
-                .getInstance();
+        ModuleRegistry moduleRegistry = ModuleRegistry.getInstance(project);
         List<String> allModulesList = new ArrayList<>();
-        Collection<String> allModules = index.getAllKeys(ModuleNameIndex.KEY, project);
         Pattern p = Pattern.compile(filterPattern);
-        for (String moduleName : allModules) {
-            if (!moduleName.matches(RegExUtil.Magento.MODULE_NAME)) {
+        VirtualFile projectBasePath = withinProject ? GetProjectBasePath.execute(project) : null;
+        for (String moduleName : moduleRegistry.getModuleNames()) {
+            ModuleRegistry.Module module = moduleRegistry.getModule(moduleName);
+            if (module == null) {
                 continue;
             }
-            Collection<VirtualFile> files = index.getContainingFiles(ModuleNameIndex.KEY, moduleName, GlobalSearchScope.getScopeRestrictedByFileTypes(
-                    GlobalSearchScope.allScope(project),
-                    PhpFileType.INSTANCE
-            ));
-            if (files.isEmpty()) {
-                continue;
-            }
-            VirtualFile virtualFile = files.iterator().next();
+            VirtualFile virtualFile = module.getRegistrationFile();
             if (withinProject) {
-                if (!VfsUtilCore.isAncestor(GetProjectBasePath.execute(project), virtualFile, false)) {
+                if (!VfsUtilCore.isAncestor(projectBasePath, virtualFile, false)) {
                     continue;
                 }
             }
@@ -78,19 +60,15 @@ public class ModuleIndex {
             }
             allModulesList.add(moduleName);
         }
-        Collections.sort(allModulesList);
         return allModulesList;
     }
 
     public PsiDirectory getModuleDirectoryByModuleName(String moduleName) {
-        FileBasedIndex index = FileBasedIndex
-                .getInstance();
-        Collection<VirtualFile> files = index.getContainingFiles(ModuleNameIndex.KEY, moduleName, GlobalSearchScope.getScopeRestrictedByFileTypes(
-                GlobalSearchScope.allScope(project),
-                PhpFileType.INSTANCE
-        ));
-        VirtualFile virtualFile = files.iterator().next();
+        VirtualFile moduleDirectory = ModuleRegistry.getInstance(project).getModuleDirectory(moduleName);
+        if (moduleDirectory == null) {
+            return null;
+        }
 
-        return PsiManager.getInstance(project).findDirectory(virtualFile.getParent());
+        return PsiManager.getInstance(project).findDirectory(moduleDirectory);
     }
 }
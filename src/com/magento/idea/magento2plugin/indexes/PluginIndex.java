@@ -4,54 +4,47 @@
  */
 package com.magento.idea.magento2plugin.indexes;
 
+import com.intellij.openapi.components.ServiceManager;
 import com.intellij.openapi.project.Project;
 import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.psi.PsiElement;
-import com.intellij.psi.PsiManager;
 import com.intellij.psi.search.GlobalSearchScope;
 import com.intellij.psi.xml.XmlAttributeValue;
-import com.intellij.psi.xml.XmlFile;
-import com.intellij.util.indexing.FileBasedIndex;
-import com.magento.idea.magento2plugin.magento.files.ModuleDiXml;
-import com.magento.idea.magento2plugin.util.xml.XmlPsiTreeUtil;
+import com.jetbrains.php.lang.PhpLangUtil;
+import com.magento.idea.magento2plugin.reference.xml.IndexedNavigationTarget;
+import org.jetbrains.annotations.NotNull;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 public class PluginIndex {
+    private final Project project;
 
-    private static PluginIndex INSTANCE;
-
-    private Project project;
-
-    private PluginIndex() {
+    public PluginIndex(@NotNull Project project) {
+        this.project = project;
     }
 
-    public static PluginIndex getInstance(final Project project) {
-        if (null == INSTANCE) {
-            INSTANCE = new PluginIndex();
-        }
-        INSTANCE.project = project;
-
-        return INSTANCE;
+    public static PluginIndex getInstance(@NotNull Project project) {
+        return ServiceManager.getService(project, PluginIndex.class);
     }
 
     public Collection<PsiElement> getPluginElements(final String name, final GlobalSearchScope scope) {
-        Collection<PsiElement> result = new ArrayList<>();
-
-        Collection<VirtualFile> virtualFiles =
-                FileBasedIndex.getInstance().getContainingFiles(
-                        com.magento.idea.magento2plugin.stubs.indexes.PluginIndex.KEY,
-                        name,
-                        scope
-                );
-
-        for (VirtualFile virtualFile : virtualFiles) {
-            XmlFile xmlFile = (XmlFile) PsiManager.getInstance(project).findFile(virtualFile);
-            Collection<XmlAttributeValue> valueElements = XmlPsiTreeUtil
-                    .findAttributeValueElements(xmlFile, ModuleDiXml.PLUGIN_TYPE_ATTRIBUTE, ModuleDiXml.PLUGIN_TYPE_ATTR_NAME, name);
-            result.addAll(valueElements);
-        }
-        return result;
+        Map<VirtualFile, List<Integer>> offsetsByFile = new LinkedHashMap<>();
+
+        IndexQueries.processValues(
+                com.magento.idea.magento2plugin.stubs.indexes.PluginIndex.KEY,
+                PhpLangUtil.toPresentableFQN(name),
+                null,
+                (virtualFile, typeData) -> {
+                    offsetsByFile.computeIfAbsent(virtualFile, file -> new ArrayList<>()).addAll(typeData.getOffsets());
+                    return true;
+                },
+                scope
+        );
+
+        return new ArrayList<>(IndexedNavigationTarget.findElements(project, offsetsByFile, XmlAttributeValue.class));
     }
 }
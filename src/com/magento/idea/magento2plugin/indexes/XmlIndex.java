@@ -4,89 +4,70 @@
  */
 package com.magento.idea.magento2plugin.indexes;
 
+import com.intellij.openapi.components.ServiceManager;
 import com.intellij.openapi.project.Project;
-import com.intellij.openapi.vfs.VirtualFile;
-import com.intellij.psi.PsiManager;
 import com.intellij.psi.search.GlobalSearchScope;
-import com.intellij.psi.util.PsiTreeUtil;
-import com.intellij.psi.xml.*;
-import com.intellij.util.indexing.FileBasedIndex;
+import com.intellij.psi.xml.XmlTag;
 import com.jetbrains.php.lang.psi.elements.PhpClass;
+import com.magento.idea.magento2plugin.linemarker.xml.XmlTagNavigationItem;
+import com.magento.idea.magento2plugin.reference.xml.IndexedNavigationTarget;
+import com.magento.idea.magento2plugin.stubs.indexes.data.PhpClassUsageData;
 import com.magento.idea.magento2plugin.stubs.indexes.xml.PhpClassNameIndex;
+import org.jetbrains.annotations.NotNull;
 
 import java.util.ArrayList;
-import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
 
 public class XmlIndex {
+    private final Project project;
 
-    private static XmlIndex INSTANCE;
-
-    private Project project;
-
-    private XmlIndex() {
+    public XmlIndex(@NotNull Project project) {
+        this.project = project;
     }
 
-    public static XmlIndex getInstance(final Project project) {
-        if (null == INSTANCE) {
-            INSTANCE = new XmlIndex();
-        }
-        INSTANCE.project = project;
-        return INSTANCE;
+    public static XmlIndex getInstance(@NotNull Project project) {
+        return ServiceManager.getService(project, XmlIndex.class);
     }
 
-    public static List<XmlTag> getPhpClassDeclarations(PhpClass phpClass) {
-
-        List<XmlTag> result = new ArrayList<>();
-
-        String fqn = phpClass.getPresentableFQN();
-
-        PsiManager psiManager = PsiManager.getInstance(phpClass.getProject());
-
-        Collection<VirtualFile> vfs = FileBasedIndex.getInstance()
-            .getContainingFiles(PhpClassNameIndex.KEY, fqn, GlobalSearchScope.allScope(phpClass.getProject()));
-
-        for (VirtualFile vf : vfs) {
-            XmlFile xmlFile = (XmlFile)psiManager.findFile(vf);
-            if (xmlFile == null) {
-                continue;
-            }
-
-            XmlTag xmlTags[] = PsiTreeUtil.getChildrenOfType(xmlFile.getFirstChild(), XmlTag.class);
-            if (xmlTags == null) {
-                continue;
-            }
-
-            for (XmlTag xmlTag: xmlTags) {
-                fillList(xmlTag, fqn, result);
-            }
-        }
-
-        return result;
-
+    /**
+     * Checks the index only, no xml file is parsed.
+     */
+    public boolean hasPhpClassDeclarations(PhpClass phpClass) {
+        return !IndexQueries.getContainingFiles(
+                PhpClassNameIndex.KEY,
+                phpClass.getPresentableFQN(),
+                GlobalSearchScope.allScope(project)
+        ).isEmpty();
     }
 
-    private static void fillList(XmlTag parentTag, String fqn, List<XmlTag> list) {
-        for (XmlTag childTag: parentTag.getSubTags()) {
-            for (XmlAttribute xmlAttribute: childTag.getAttributes()) {
-                String xmlAttributeValue = xmlAttribute.getValue();
-                if (xmlAttributeValue != null) {
-                    xmlAttributeValue = xmlAttributeValue.startsWith("\\")
-                            ? xmlAttributeValue.substring(1) : xmlAttributeValue;
-                    if (xmlAttributeValue.startsWith(fqn)) {
-                        list.add(childTag);
+    /**
+     * Xml tags referencing exactly the class, sorted by the tag name.
+     *
+     * Targets are built from the indexed offsets, a file is parsed only when its target is opened.
+     */
+    @NotNull
+    public List<IndexedNavigationTarget<XmlTag>> getPhpClassDeclarations(PhpClass phpClass) {
+        List<IndexedNavigationTarget<XmlTag>> result = new ArrayList<>();
+        IndexQueries.processValues(
+                PhpClassNameIndex.KEY,
+                phpClass.getPresentableFQN(),
+                null,
+                (file, usages) -> {
+                    for (PhpClassUsageData usage : usages) {
+                        result.add(new XmlTagNavigationItem(
+                                project,
+                                file,
+                                usage.getOffset(),
+                                usage.getTagName()
+                        ));
                     }
-                }
-            }
-            XmlTagValue childTagValue = childTag.getValue();
-            String tagValue = childTagValue.getTrimmedText();
-            tagValue = tagValue.startsWith("\\") ? tagValue.substring(1) : tagValue;
-            if (!tagValue.isEmpty() && tagValue.startsWith(fqn)) {
-                list.add(childTag);
-            }
-
+                    return true;
+                },
+                GlobalSearchScope.allScope(project)
+        );
+        result.sort(Comparator.comparing(IndexedNavigationTarget::getName));
 
-            fillList(childTag, fqn, list);
-        }
+        return result;
     }
 }
@@ -0,0 +1,150 @@
+/*
+ * Copyright © Magento, Inc. All rights reserved.
+ * See COPYING.txt for license details.
+ */
+package com.magento.idea.magento2plugin.indexes.statistics;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+
+/**
+ * Counters of a single file based index, filled by {@link InstrumentedDataIndexer}.
+ *
+ * Percentiles are computed from the last {@link #SAMPLE_SIZE} invocations only.
+ */
+public class IndexerStatistics {
+    public static final int SAMPLE_SIZE = 2048;
+    public static final int HEAVIEST_FILES_LIMIT = 20;
+
+    private final String indexName;
+    private final long[] samples = new long[SAMPLE_SIZE];
+    private final PriorityQueue<FileRecord> heaviestFiles = new PriorityQueue<>(
+            HEAVIEST_FILES_LIMIT + 1,
+            Comparator.comparingLong(FileRecord::getTime)
+    );
+    private int sampleCount;
+    private long invocationCount;
+    private long skippedCount;
+    private long totalTime;
+    private long keyCount;
+    private long valueBytes;
+
+    IndexerStatistics(@NotNull String indexName) {
+        this.indexName = indexName;
+    }
+
+    /**
+     * @param time indexing time in nanoseconds
+     * @param skipped the indexer produced nothing for the file, e.g. the plugin is disabled or the root tag differs
+     */
+    synchronized void record(@NotNull String filePath, long time, int keys, long bytes, boolean skipped) {
+        samples[(int) (invocationCount % SAMPLE_SIZE)] = time;
+        sampleCount = Math.min(sampleCount + 1, SAMPLE_SIZE);
+        invocationCount++;
+        totalTime += time;
+        keyCount += keys;
+        valueBytes += bytes;
+        if (skipped) {
+            skippedCount++;
+            return;
+        }
+
+        if (heaviestFiles.size() < HEAVIEST_FILES_LIMIT || heaviestFiles.peek().getTime() < time) {
+            heaviestFiles.add(new FileRecord(filePath, time, keys, bytes));
+            if (heaviestFiles.size() > HEAVIEST_FILES_LIMIT) {
+                heaviestFiles.poll();
+            }
+        }
+    }
+
+    @NotNull
+    public String getIndexName() {
+        return indexName;
+    }
+
+    public synchronized long getInvocationCount() {
+        return invocationCount;
+    }
+
+    public synchronized long getSkippedCount() {
+        return skippedCount;
+    }
+
+    /**
+     * Total indexing time in nanoseconds.
+     */
+    public synchronized long getTotalTime() {
+        return totalTime;
+    }
+
+    /**
+     * Indexing time in nanoseconds below which the given share of the sampled invocations fall, e.g. 0.99 for p99.
+     */
+    public synchronized long getPercentileTime(double percentile) {
+        if (sampleCount == 0) {
+            return 0;
+        }
+        long[] sorted = Arrays.copyOf(samples, sampleCount);
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(percentile * sampleCount) - 1;
+
+        return sorted[Math.max(0, Math.min(index, sampleCount - 1))];
+    }
+
+    public synchronized long getKeyCount() {
+        return keyCount;
+    }
+
+    /**
+     * Size of the values as written by the value externalizer of the index.
+     */
+    public synchronized long getValueBytes() {
+        return valueBytes;
+    }
+
+    /**
+     * Files with the longest indexing time, slowest first.
+     */
+    @NotNull
+    public synchronized List<FileRecord> getHeaviestFiles() {
+        List<FileRecord> files = new ArrayList<>(heaviestFiles);
+        files.sort(Comparator.comparingLong(FileRecord::getTime).reversed());
+
+        return files;
+    }
+
+    public static class FileRecord {
+        private final String path;
+        private final long time;
+        private final int keyCount;
+        private final long valueBytes;
+
+        FileRecord(@NotNull String path, long time, int keyCount, long valueBytes) {
+            this.path = path;
+            this.time = time;
+            this.keyCount = keyCount;
+            this.valueBytes = valueBytes;
+        }
+
+        @NotNull
+        public String getPath() {
+            return path;
+        }
+
+        /**
+         * Indexing time in nanoseconds.
+         */
+        public long getTime() {
+            return time;
+        }
+
+        public int getKeyCount() {
+            return keyCount;
+        }
+
+        public long getValueBytes() {
+            return valueBytes;
+        }
+    }
+}
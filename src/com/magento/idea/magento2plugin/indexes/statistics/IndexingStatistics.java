@@ -0,0 +1,62 @@
+/*
+ * Copyright © Magento, Inc. All rights reserved.
+ * See COPYING.txt for license details.
+ */
+package com.magento.idea.magento2plugin.indexes.statistics;
+
+import com.intellij.openapi.components.ServiceManager;
+import com.intellij.util.indexing.ID;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Application level statistics of the plugin indexers, file based indexes are shared by all projects.
+ *
+ * Collected only when the IDE runs with -Dmagento2plugin.index.statistics=true, indexers are not wrapped otherwise.
+ */
+public class IndexingStatistics {
+    public static final String ENABLED_PROPERTY = "magento2plugin.index.statistics";
+    private static final String INDEX_NAME_PREFIX = "com.magento.idea.magento2plugin.stubs.indexes.";
+
+    public static boolean isEnabled() {
+        return Boolean.getBoolean(ENABLED_PROPERTY);
+    }
+
+    private final ConcurrentMap<String, IndexerStatistics> statistics = new ConcurrentHashMap<>();
+
+    public static IndexingStatistics getInstance() {
+        return ServiceManager.getService(IndexingStatistics.class);
+    }
+
+    @NotNull
+    public IndexerStatistics getStatistics(@NotNull ID<?, ?> indexId) {
+        return statistics.computeIfAbsent(getIndexName(indexId), IndexerStatistics::new);
+    }
+
+    /**
+     * Statistics of all indexes which have indexed at least one file, the most expensive first.
+     */
+    @NotNull
+    public List<IndexerStatistics> getAllStatistics() {
+        List<IndexerStatistics> result = new ArrayList<>(statistics.values());
+        result.sort(Comparator.comparingLong(IndexerStatistics::getTotalTime).reversed());
+
+        return result;
+    }
+
+    public void reset() {
+        statistics.clear();
+    }
+
+    @NotNull
+    private static String getIndexName(@NotNull ID<?, ?> indexId) {
+        String name = indexId.getName();
+
+        return name.startsWith(INDEX_NAME_PREFIX) ? name.substring(INDEX_NAME_PREFIX.length()) : name;
+    }
+}
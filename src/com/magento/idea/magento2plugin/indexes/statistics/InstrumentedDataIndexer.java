@@ -0,0 +1,103 @@
+/*
+ * Copyright © Magento, Inc. All rights reserved.
+ * See COPYING.txt for license details.
+ */
+package com.magento.idea.magento2plugin.indexes.statistics;
+
+import com.intellij.openapi.diagnostic.Logger;
+import com.intellij.util.indexing.DataIndexer;
+import com.intellij.util.indexing.FileContent;
+import com.intellij.util.indexing.ID;
+import com.intellij.util.io.DataExternalizer;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Map;
+
+/**
+ * Records time, key count and value size of every map() call of the wrapped indexer.
+ *
+ * Only used when the statistics are enabled, see {@link IndexingStatistics#isEnabled()}.
+ */
+public class InstrumentedDataIndexer<K, V> implements DataIndexer<K, V, FileContent> {
+    private static final Logger LOG = Logger.getInstance(InstrumentedDataIndexer.class);
+
+    private final ID<K, V> indexId;
+    private final DataExternalizer<V> valueExternalizer;
+    private final DataIndexer<K, V, FileContent> delegate;
+
+    /**
+     * The indexer, wrapped when the statistics are enabled.
+     *
+     * @param valueExternalizer used to measure the serialized value size, null for scalar indexes
+     */
+    @NotNull
+    public static <K, V> DataIndexer<K, V, FileContent> wrap(
+            @NotNull ID<K, V> indexId,
+            @Nullable DataExternalizer<V> valueExternalizer,
+            @NotNull DataIndexer<K, V, FileContent> indexer
+    ) {
+        if (!IndexingStatistics.isEnabled()) {
+            return indexer;
+        }
+
+        return new InstrumentedDataIndexer<>(indexId, valueExternalizer, indexer);
+    }
+
+    private InstrumentedDataIndexer(
+            @NotNull ID<K, V> indexId,
+            @Nullable DataExternalizer<V> valueExternalizer,
+            @NotNull DataIndexer<K, V, FileContent> delegate
+    ) {
+        this.indexId = indexId;
+        this.valueExternalizer = valueExternalizer;
+        this.delegate = delegate;
+    }
+
+    @NotNull
+    @Override
+    public Map<K, V> map(@NotNull FileContent inputData) {
+        long start = System.nanoTime();
+        Map<K, V> result = delegate.map(inputData);
+        long time = System.nanoTime() - start;
+
+        IndexingStatistics.getInstance().getStatistics(indexId).record(
+                inputData.getFile().getPath(),
+                time,
+                result.size(),
+                getValueBytes(result),
+                result.isEmpty()
+        );
+
+        return result;
+    }
+
+    private long getValueBytes(Map<K, V> result) {
+        if (valueExternalizer == null || result.isEmpty()) {
+            return 0;
+        }
+        DataOutputStream output = new DataOutputStream(new OutputStream() {
+            @Override
+            public void write(int b) {
+            }
+
+            @Override
+            public void write(@NotNull byte[] b, int off, int len) {
+            }
+        });
+        try {
+            for (V value : result.values()) {
+                if (value != null) {
+                    valueExternalizer.save(output, value);
+                }
+            }
+        } catch (IOException exception) {
+            LOG.debug(exception);
+        }
+
+        return output.size();
+    }
+}
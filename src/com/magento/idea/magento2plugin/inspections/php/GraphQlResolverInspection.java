@@ -14,12 +14,10 @@ import com.jetbrains.php.lang.psi.elements.PhpClass;
 import com.jetbrains.php.lang.psi.visitors.PhpElementVisitor;
 import com.magento.idea.magento2plugin.bundles.InspectionBundle;
 import com.magento.idea.magento2plugin.inspections.php.fix.PhpImplementResolverClassQuickFix;
-import com.magento.idea.magento2plugin.util.magento.graphql.GraphQlUsagesCollector;
+import com.magento.idea.magento2plugin.util.magento.graphql.GraphQlResolverCache;
 import com.magento.idea.magento2plugin.util.magento.graphql.GraphQlUtil;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.List;
-
 public class GraphQlResolverInspection extends PhpInspection {
 
     private final InspectionBundle inspectionBundle = new InspectionBundle();
@@ -29,10 +27,8 @@ public class GraphQlResolverInspection extends PhpInspection {
     public PsiElementVisitor buildVisitor(@NotNull ProblemsHolder problemsHolder, boolean b) {
         return new PhpElementVisitor() {
             public void visitPhpClass(PhpClass resolverClass) {
-                List<? extends PsiElement> results;
-                GraphQlUsagesCollector collector = new GraphQlUsagesCollector();
-                results = collector.getGraphQLUsages(resolverClass);
-                if (results.size() > 0 ) {
+                GraphQlResolverCache resolverCache = GraphQlResolverCache.getInstance(resolverClass.getProject());
+                if (resolverCache.isUsedAsResolver(resolverClass.getFQN())) {
                     if (!GraphQlUtil.isResolver(resolverClass)) {
                         PsiElement currentClassNameIdentifier = resolverClass.getNameIdentifier();
                         assert currentClassNameIdentifier != null;
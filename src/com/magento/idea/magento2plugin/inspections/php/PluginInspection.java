@@ -22,7 +22,7 @@ import com.magento.idea.magento2plugin.inspections.php.util.PhpClassImplementsIn
 import com.magento.idea.magento2plugin.magento.files.Plugin;
 import com.magento.idea.magento2plugin.magento.packages.Package;
 import com.magento.idea.magento2plugin.util.GetPhpClassByFQN;
-import com.magento.idea.magento2plugin.util.magento.plugin.GetTargetClassNamesByPluginClassName;
+import com.magento.idea.magento2plugin.util.magento.plugin.PluginCache;
 import org.jetbrains.annotations.NotNull;
 import java.util.*;
 
@@ -69,8 +69,8 @@ public class PluginInspection extends PhpInspection {
                 }
                 PsiElement currentClassNameIdentifier = ((PhpClass) parentClass).getNameIdentifier();
                 String currentClass = ((PhpClass) parentClass).getFQN().substring(1);
-                GetTargetClassNamesByPluginClassName targetClassesService = GetTargetClassNamesByPluginClassName.getInstance(problemsHolder.getProject());
-                ArrayList<String> targetClassNames = targetClassesService.execute(currentClass);
+                List<String> targetClassNames = PluginCache.getInstance(problemsHolder.getProject())
+                        .getTargetClassNames(currentClass);
                 PhpIndex phpIndex = PhpIndex.getInstance(problemsHolder.getProject());
 
                 for (String targetClassName : targetClassNames) {
@@ -5,11 +5,11 @@
 package com.magento.idea.magento2plugin.linemarker.graphql;
 
 import com.intellij.codeInsight.daemon.LineMarkerInfo;
-import com.intellij.codeInsight.daemon.LineMarkerProvider;
 import com.intellij.codeInsight.navigation.NavigationGutterIconBuilder;
 import com.intellij.lang.jsgraphql.psi.GraphQLArgument;
 import com.intellij.lang.jsgraphql.psi.GraphQLStringValue;
 import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.NotNullLazyValue;
 import com.intellij.psi.PsiElement;
 import com.intellij.psi.util.PsiTreeUtil;
 import com.jetbrains.php.PhpIcons;
@@ -17,11 +17,12 @@ import com.jetbrains.php.PhpIndex;
 import com.jetbrains.php.lang.psi.elements.PhpClass;
 import com.magento.idea.magento2plugin.project.Settings;
 import com.magento.idea.magento2plugin.util.magento.graphql.GraphQlUtil;
+import com.magento.idea.magento2plugin.util.telemetry.InstrumentedLineMarkerProvider;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import java.util.*;
 
-public class GraphQlResolverClassLineMarkerProvider implements LineMarkerProvider {
+public class GraphQlResolverClassLineMarkerProvider extends InstrumentedLineMarkerProvider {
     @Nullable
     @Override
     public LineMarkerInfo getLineMarkerInfo(@NotNull PsiElement psiElement) {
@@ -29,64 +30,61 @@ public class GraphQlResolverClassLineMarkerProvider implements LineMarkerProvide
     }
 
     @Override
-    public void collectSlowLineMarkers(@NotNull List<PsiElement> psiElements, @NotNull Collection<LineMarkerInfo> collection) {
+    protected void doCollectSlowLineMarkers(
+            @NotNull List<PsiElement> psiElements,
+            @NotNull Collection<LineMarkerInfo> collection
+    ) {
         if (psiElements.size() > 0) {
             if (!Settings.isEnabled(psiElements.get(0).getProject())) {
                 return;
             }
         }
 
+        GraphQlResolverClassCollector collector = new GraphQlResolverClassCollector();
         for (PsiElement psiElement : psiElements) {
             if (psiElement instanceof GraphQLArgument) {
-                Collection<? extends PsiElement> results;
-
-                GraphQlResolverClassCollector collector = new GraphQlResolverClassCollector();
-                results = collector.getGraphQLResolverClasses((GraphQLArgument) psiElement);
                 GraphQLStringValue argumentStringValue = GraphQlUtil.fetchResolverQuotedStringFromArgument(psiElement);
                 if (argumentStringValue == null) {
                     continue;
                 }
 
-                if (results.size() > 0 ) {
-                    collection.add(NavigationGutterIconBuilder
-                            .create(PhpIcons.CLASS)
-                            .setTargets(results)
-                            .setTooltipText("Navigate to class")
-                            .createLineMarkerInfo(PsiTreeUtil.getDeepestLast(argumentStringValue))
-                    );
+                Project project = psiElement.getProject();
+                String phpClassFQN = GraphQlUtil.resolverStringToPhpFQN(argumentStringValue.getText());
+                if (!collector.hasClasses(phpClassFQN, project)) {
+                    continue;
                 }
+
+                NotNullLazyValue<Collection<? extends PsiElement>> targets = NotNullLazyValue.createValue(
+                        () -> GraphQlResolverClassCollector.extractClasses(phpClassFQN, project)
+                );
+                collection.add(NavigationGutterIconBuilder
+                        .create(PhpIcons.CLASS)
+                        .setTargets(targets)
+                        .setTooltipText("Navigate to class")
+                        .createLineMarkerInfo(PsiTreeUtil.getDeepestLast(argumentStringValue))
+                );
             }
         }
     }
 
     private static class GraphQlResolverClassCollector {
 
-        private HashMap<String, Collection<PhpClass>> routesCache = new HashMap<>();
-
-
-        Collection<PhpClass> getGraphQLResolverClasses(@NotNull GraphQLArgument graphQLArgument) {
-            List<PhpClass> graphQLResolverClasses = new ArrayList<>();
-            GraphQLStringValue argumentStringValue = GraphQlUtil.fetchResolverQuotedStringFromArgument(graphQLArgument);
-            if (argumentStringValue == null) {
-                return graphQLResolverClasses;
-            }
-
-            graphQLResolverClasses.addAll(getUsages(argumentStringValue));
+        private HashMap<String, Boolean> existenceCache = new HashMap<>();
 
-            return graphQLResolverClasses;
+        /**
+         * Checks whether the class is known to the php index, the result is kept for the highlighting pass.
+         */
+        boolean hasClasses(@NotNull String phpClassFQN, @NotNull Project project) {
+            return existenceCache.computeIfAbsent(
+                    phpClassFQN,
+                    classFQN -> !extractClasses(classFQN, project).isEmpty()
+            );
         }
 
-        Collection<PhpClass> getUsages(@NotNull GraphQLStringValue graphQLStringValue) {
-            String phpClassFQN = GraphQlUtil.resolverStringToPhpFQN(graphQLStringValue.getText());
-            if (!routesCache.containsKey(phpClassFQN)) {
-
-                Collection<PhpClass> phpClasses = extractClasses(phpClassFQN, graphQLStringValue.getProject());
-                routesCache.put(phpClassFQN, phpClasses);
+        static Collection<PhpClass> extractClasses(@NotNull String phpClassFQN, Project project) {
+            if (project.isDisposed()) {
+                return Collections.emptyList();
             }
-            return routesCache.get(phpClassFQN);
-        }
-
-        Collection<PhpClass> extractClasses(@NotNull String phpClassFQN, Project project) {
             PhpIndex phpIndex = PhpIndex.getInstance(project);
             return phpIndex.getClassesByFQN(phpClassFQN);
         }
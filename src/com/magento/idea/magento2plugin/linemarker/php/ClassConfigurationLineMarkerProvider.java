@@ -5,26 +5,25 @@
 package com.magento.idea.magento2plugin.linemarker.php;
 
 import com.intellij.codeInsight.daemon.LineMarkerInfo;
-import com.intellij.codeInsight.daemon.LineMarkerProvider;
 import com.intellij.codeInsight.navigation.NavigationGutterIconBuilder;
 import com.intellij.icons.AllIcons;
+import com.intellij.openapi.util.NotNullLazyValue;
 import com.intellij.psi.PsiElement;
-import com.intellij.psi.xml.XmlTag;
 import com.jetbrains.php.lang.psi.elements.PhpClass;
 import com.magento.idea.magento2plugin.indexes.XmlIndex;
 import com.magento.idea.magento2plugin.project.Settings;
+import com.magento.idea.magento2plugin.util.telemetry.InstrumentedLineMarkerProvider;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Comparator;
+import java.util.Collections;
 import java.util.List;
 
 /**
  * Created by dkvashnin on 11/15/15.
  */
-public class ClassConfigurationLineMarkerProvider implements LineMarkerProvider {
+public class ClassConfigurationLineMarkerProvider extends InstrumentedLineMarkerProvider {
     @Nullable
     @Override
     public LineMarkerInfo getLineMarkerInfo(@NotNull PsiElement psiElement) {
@@ -32,7 +31,10 @@ public class ClassConfigurationLineMarkerProvider implements LineMarkerProvider
     }
 
     @Override
-    public void collectSlowLineMarkers(@NotNull List<PsiElement> list, @NotNull Collection<LineMarkerInfo> collection) {
+    protected void doCollectSlowLineMarkers(
+            @NotNull List<PsiElement> list,
+            @NotNull Collection<LineMarkerInfo> collection
+    ) {
         if (list.size() > 0) {
             if (!Settings.isEnabled(list.get(0).getProject())) {
                 return;
@@ -40,26 +42,33 @@ public class ClassConfigurationLineMarkerProvider implements LineMarkerProvider
         }
         for (PsiElement psiElement: list) {
             if (psiElement instanceof PhpClass) {
-                List<XmlTag> results = new ArrayList<XmlTag>();
-
-                results.addAll(XmlIndex.getPhpClassDeclarations((PhpClass) psiElement));
-
-                if (!(results.size() > 0)) {
+                PhpClass phpClass = (PhpClass) psiElement;
+                if (!XmlIndex.getInstance(phpClass.getProject()).hasPhpClassDeclarations(phpClass)) {
                     continue;
                 }
-                results.sort(Comparator.comparing(XmlTag::getName));
 
                 String tooltipText = "Navigate to configuration";
                 NavigationGutterIconBuilder<PsiElement> builder = NavigationGutterIconBuilder
                         .create(AllIcons.FileTypes.Xml)
-                        .setTargets(results)
+                        .setTargets(NotNullLazyValue.createValue(() -> collectDeclarations(phpClass)))
                         .setTooltipText(tooltipText);
 
-                PsiElement className = ((PhpClass) psiElement).getNameIdentifier();
+                PsiElement className = phpClass.getNameIdentifier();
                 if (className != null) {
                     collection.add(builder.createLineMarkerInfo(className));
                 }
             }
         }
     }
+
+    /**
+     * Builds the targets from the indexed tags, called only when the gutter icon is clicked.
+     */
+    private static Collection<? extends PsiElement> collectDeclarations(@NotNull PhpClass phpClass) {
+        if (!phpClass.isValid()) {
+            return Collections.emptyList();
+        }
+
+        return XmlIndex.getInstance(phpClass.getProject()).getPhpClassDeclarations(phpClass);
+    }
 }
@@ -5,22 +5,23 @@
 package com.magento.idea.magento2plugin.linemarker.php;
 
 import com.intellij.codeInsight.daemon.LineMarkerInfo;
-import com.intellij.codeInsight.daemon.LineMarkerProvider;
 import com.intellij.codeInsight.navigation.NavigationGutterIconBuilder;
 import com.intellij.lang.jsgraphql.GraphQLIcons;
+import com.intellij.openapi.util.NotNullLazyValue;
 import com.intellij.psi.PsiElement;
 import com.intellij.psi.util.PsiTreeUtil;
 import com.jetbrains.php.lang.psi.elements.PhpClass;
 import com.magento.idea.magento2plugin.project.Settings;
-import com.magento.idea.magento2plugin.util.magento.graphql.GraphQlUsagesCollector;
+import com.magento.idea.magento2plugin.util.magento.graphql.GraphQlResolverCache;
 import com.magento.idea.magento2plugin.util.magento.graphql.GraphQlUtil;
+import com.magento.idea.magento2plugin.util.telemetry.InstrumentedLineMarkerProvider;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.Collection;
 import java.util.List;
 
-public class GraphQlResolverUsageLineMarkerProvider implements LineMarkerProvider {
+public class GraphQlResolverUsageLineMarkerProvider extends InstrumentedLineMarkerProvider {
     @Nullable
     @Override
     public LineMarkerInfo getLineMarkerInfo(@NotNull PsiElement psiElement) {
@@ -28,7 +29,10 @@ public class GraphQlResolverUsageLineMarkerProvider implements LineMarkerProvide
     }
 
     @Override
-    public void collectSlowLineMarkers(@NotNull List<PsiElement> psiElements, @NotNull Collection<LineMarkerInfo> collection) {
+    protected void doCollectSlowLineMarkers(
+            @NotNull List<PsiElement> psiElements,
+            @NotNull Collection<LineMarkerInfo> collection
+    ) {
         if (psiElements.size() > 0) {
             if (!Settings.isEnabled(psiElements.get(0).getProject())) {
                 return;
@@ -37,22 +41,24 @@ public class GraphQlResolverUsageLineMarkerProvider implements LineMarkerProvide
 
         for (PsiElement psiElement : psiElements) {
             if (psiElement instanceof PhpClass) {
-                List<? extends PsiElement> results;
-
                 if (!GraphQlUtil.isResolver((PhpClass) psiElement)) {
-                    return;
+                    continue;
                 }
-                GraphQlUsagesCollector collector = new GraphQlUsagesCollector();
-                results = collector.getGraphQLUsages((PhpClass) psiElement);
-
-                if (results.size() > 0 ) {
-                    collection.add(NavigationGutterIconBuilder
-                            .create(GraphQLIcons.FILE)
-                            .setTargets(results)
-                            .setTooltipText("Navigate to schema")
-                            .createLineMarkerInfo(PsiTreeUtil.getDeepestFirst(psiElement))
-                    );
+                GraphQlResolverCache resolverCache = GraphQlResolverCache.getInstance(psiElement.getProject());
+                String classFqn = ((PhpClass) psiElement).getFQN();
+                if (!resolverCache.isUsedAsResolver(classFqn)) {
+                    continue;
                 }
+
+                NotNullLazyValue<Collection<? extends PsiElement>> targets = NotNullLazyValue.createValue(
+                        () -> resolverCache.getTargets(classFqn)
+                );
+                collection.add(NavigationGutterIconBuilder
+                        .create(GraphQLIcons.FILE)
+                        .setTargets(targets)
+                        .setTooltipText("Navigate to schema")
+                        .createLineMarkerInfo(PsiTreeUtil.getDeepestFirst(psiElement))
+                );
             }
         }
     }
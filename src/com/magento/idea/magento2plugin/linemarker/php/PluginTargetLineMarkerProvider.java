@@ -5,23 +5,24 @@
 package com.magento.idea.magento2plugin.linemarker.php;
 
 import com.intellij.codeInsight.daemon.LineMarkerInfo;
-import com.intellij.codeInsight.daemon.LineMarkerProvider;
 import com.intellij.codeInsight.navigation.NavigationGutterIconBuilder;
 import com.intellij.icons.AllIcons;
+import com.intellij.openapi.util.NotNullLazyValue;
 import com.intellij.psi.PsiElement;
-import com.jetbrains.php.PhpIndex;
 import com.jetbrains.php.lang.psi.elements.Method;
 import com.jetbrains.php.lang.psi.elements.PhpClass;
 import com.magento.idea.magento2plugin.magento.files.Plugin;
 import com.magento.idea.magento2plugin.project.Settings;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
-import com.magento.idea.magento2plugin.util.magento.plugin.GetTargetClassNamesByPluginClassName;
+import com.magento.idea.magento2plugin.util.magento.plugin.PluginCache;
+import com.magento.idea.magento2plugin.util.magento.plugin.PluginLookup;
+import com.magento.idea.magento2plugin.util.telemetry.InstrumentedLineMarkerProvider;
 import com.intellij.psi.util.PsiTreeUtil;
 
 import java.util.*;
 
-public class PluginTargetLineMarkerProvider implements LineMarkerProvider {
+public class PluginTargetLineMarkerProvider extends InstrumentedLineMarkerProvider {
     @Nullable
     @Override
     public LineMarkerInfo getLineMarkerInfo(@NotNull PsiElement psiElement) {
@@ -29,143 +30,116 @@ public class PluginTargetLineMarkerProvider implements LineMarkerProvider {
     }
 
     @Override
-    public void collectSlowLineMarkers(@NotNull List<PsiElement> psiElements, @NotNull Collection<LineMarkerInfo> collection) {
-        if (psiElements.size() > 0) {
-            if (!Settings.isEnabled(psiElements.get(0).getProject())) {
-                return;
-            }
+    protected void doCollectSlowLineMarkers(
+            @NotNull List<PsiElement> psiElements,
+            @NotNull Collection<LineMarkerInfo> collection
+    ) {
+        if (psiElements.isEmpty() || !Settings.isEnabled(psiElements.get(0).getProject())) {
+            return;
         }
-        PluginClassCache pluginClassCache = new PluginClassCache();
-        TargetClassesCollector TargetClassesCollector = new TargetClassesCollector(pluginClassCache);
-        TargetMethodsCollector TargetMethodsCollector = new TargetMethodsCollector(pluginClassCache);
+        PluginLookup pluginLookup = new PluginLookup(psiElements.get(0).getProject());
 
         for (PsiElement psiElement : psiElements) {
-            if (psiElement instanceof PhpClass || psiElement instanceof Method) {
-                List<? extends PsiElement> results;
-
-                if (psiElement instanceof PhpClass) {
-                    results = TargetClassesCollector.collect((PhpClass) psiElement);
-                    if (results.size() > 0 ) {
-                        collection.add(NavigationGutterIconBuilder
-                                .create(AllIcons.Nodes.Class)
-                                .setTargets(results)
-                                .setTooltipText("Navigate to target class")
-                                .createLineMarkerInfo(PsiTreeUtil.getDeepestFirst(psiElement))
-                        );
-                    }
-                } else {
-                    results = TargetMethodsCollector.collect((Method) psiElement);
-                    if (results.size() > 0 ) {
-                        collection.add(NavigationGutterIconBuilder
-                                .create(AllIcons.Nodes.Method)
-                                .setTargets(results)
-                                .setTooltipText("Navigate to target method")
-                                .createLineMarkerInfo(PsiTreeUtil.getDeepestFirst(psiElement))
-                        );
-                    }
+            if (psiElement instanceof PhpClass) {
+                PhpClass pluginClass = (PhpClass) psiElement;
+                if (!pluginLookup.hasTargetClasses(pluginClass)) {
+                    continue;
                 }
-
+                NotNullLazyValue<Collection<? extends PsiElement>> targets = NotNullLazyValue.createValue(
+                        () -> TargetCollector.collectTargetClasses(pluginClass)
+                );
+                collection.add(NavigationGutterIconBuilder
+                        .create(AllIcons.Nodes.Class)
+                        .setTargets(targets)
+                        .setTooltipText("Navigate to target class")
+                        .createLineMarkerInfo(PsiTreeUtil.getDeepestFirst(psiElement))
+                );
+            } else if (psiElement instanceof Method) {
+                Method pluginMethod = (Method) psiElement;
+                PhpClass pluginClass = pluginMethod.getContainingClass();
+                if (pluginClass == null || TargetCollector.getTargetMethodName(pluginMethod) == null
+                        || !pluginLookup.hasTargetClasses(pluginClass)
+                        || TargetCollector.findTargetMethods(
+                                pluginMethod,
+                                pluginLookup.getTargetClasses(pluginClass),
+                                true
+                        ).isEmpty()) {
+                    continue;
+                }
+                NotNullLazyValue<Collection<? extends PsiElement>> targets = NotNullLazyValue.createValue(
+                        () -> TargetCollector.collectTargetMethods(pluginMethod)
+                );
+                collection.add(NavigationGutterIconBuilder
+                        .create(AllIcons.Nodes.Method)
+                        .setTargets(targets)
+                        .setTooltipText("Navigate to target method")
+                        .createLineMarkerInfo(PsiTreeUtil.getDeepestFirst(psiElement))
+                );
             }
         }
     }
 
-    private static class PluginClassCache {
-        private HashMap<String, List<PhpClass>> pluginClassesMap = new HashMap<String, List<PhpClass>>();
-
-        List<PhpClass> getTargetClassesForPlugin(@NotNull PhpClass phpClass, @NotNull String classFQN) {
-            List<PhpClass> results = new ArrayList<>();
-
-            if (pluginClassesMap.containsKey(classFQN)) {
-                return pluginClassesMap.get(classFQN);
-            }
-
-            GetTargetClassNamesByPluginClassName targetClassesService = GetTargetClassNamesByPluginClassName.getInstance(phpClass.getProject());
-            ArrayList<String> targetClassNames = targetClassesService.execute(classFQN);
-
-            if (targetClassNames.size() == 0) {
-                pluginClassesMap.put(classFQN, results);
-                return results;
+    /**
+     * Resolves the targets of the plugin, the complete lists are built only when the gutter icon is clicked.
+     */
+    private static class TargetCollector {
+        static List<PhpClass> collectTargetClasses(@NotNull PhpClass pluginClass) {
+            if (!pluginClass.isValid()) {
+                return Collections.emptyList();
             }
 
-            PhpIndex phpIndex = PhpIndex.getInstance(phpClass.getProject());
-
-            for (String targetClassName : targetClassNames) {
-                Collection<PhpClass> targets = phpIndex.getClassesByFQN(targetClassName);
-
-                results.addAll(targets);
-            }
-
-            return results;
+            return PluginCache.getInstance(pluginClass.getProject()).getTargetClasses(pluginClass);
         }
 
-        List<PhpClass> getTargetClassesForPlugin(@NotNull PhpClass phpClass) {
-            List<PhpClass> classesForPlugin = getTargetClassesForPlugin(phpClass, phpClass.getPresentableFQN());
-            for (PhpClass parent: phpClass.getSupers()) {
-                classesForPlugin.addAll(getTargetClassesForPlugin(parent));
+        static List<Method> collectTargetMethods(@NotNull Method pluginMethod) {
+            PhpClass pluginClass = pluginMethod.isValid() ? pluginMethod.getContainingClass() : null;
+            if (pluginClass == null) {
+                return Collections.emptyList();
             }
 
-            return classesForPlugin;
-        }
-    }
-
-    private static class TargetClassesCollector implements Collector<PhpClass, PhpClass> {
-        private PluginTargetLineMarkerProvider.PluginClassCache pluginClassCache;
-
-        TargetClassesCollector(PluginTargetLineMarkerProvider.PluginClassCache pluginClassCache) {
-            this.pluginClassCache = pluginClassCache;
-        }
-
-        @Override
-        public List<PhpClass> collect(@NotNull PhpClass psiElement) {
-            return pluginClassCache.getTargetClassesForPlugin(psiElement);
-        }
-    }
-
-    private static class TargetMethodsCollector implements Collector<Method, Method> {
-        private PluginTargetLineMarkerProvider.PluginClassCache pluginClassCache;
-
-        TargetMethodsCollector(PluginTargetLineMarkerProvider.PluginClassCache pluginClassCache) {
-            this.pluginClassCache = pluginClassCache;
+            return findTargetMethods(pluginMethod, collectTargetClasses(pluginClass), false);
         }
 
-        @Override
-        public List<Method> collect(@NotNull Method pluginMethod) {
+        static List<Method> findTargetMethods(
+                @NotNull Method pluginMethod,
+                @NotNull List<PhpClass> targetClasses,
+                boolean firstOnly
+        ) {
             List<Method> results = new ArrayList<>();
-
-            /* Check if the method is a plugin */
-            if (null == getPluginPrefix(pluginMethod)) {
-                return results;
-            }
-
-            PhpClass pluginClass = pluginMethod.getContainingClass();
-            if (pluginClass == null) {
-                return results;
-            }
-
-            List<PhpClass> targetClasses = pluginClassCache.getTargetClassesForPlugin(pluginClass);
-            if (targetClasses.size() == 0) {
+            String targetClassMethodName = getTargetMethodName(pluginMethod);
+            if (targetClassMethodName == null) {
                 return results;
             }
 
             for (PhpClass targetClass: targetClasses) {
-                String pluginPrefix = getPluginPrefix(pluginMethod);
-                String targetClassMethodName = getTargetMethodName(pluginMethod, pluginPrefix);
-                if (targetClassMethodName == null) {
-                    continue;
-                }
-
                 Method targetMethod = targetClass.findMethodByName(targetClassMethodName);
                 if (targetMethod == null) {
                     continue;
                 }
 
                 results.add(targetMethod);
+                if (firstOnly) {
+                    return results;
+                }
             }
 
             return results;
         }
 
-        private String getTargetMethodName(Method pluginMethod, String pluginPrefix) {
+        /**
+         * Name of the target method, null if the method is not a plugin method.
+         */
+        @Nullable
+        static String getTargetMethodName(@NotNull Method pluginMethod) {
+            String pluginPrefix = getPluginPrefix(pluginMethod);
+            if (pluginPrefix == null) {
+                return null;
+            }
+
+            return getTargetMethodName(pluginMethod, pluginPrefix);
+        }
+
+        private static String getTargetMethodName(Method pluginMethod, String pluginPrefix) {
             String pluginMethodName = pluginMethod.getName();
             String targetClassMethodName = pluginMethodName.
                     replace(pluginPrefix, "");
@@ -180,7 +154,7 @@ public class PluginTargetLineMarkerProvider implements LineMarkerProvider {
             return Character.toLowerCase(firstCharOfTargetName) + targetClassMethodName.substring(1);
         }
 
-        private String getPluginPrefix(Method pluginMethod) {
+        private static String getPluginPrefix(Method pluginMethod) {
             String pluginMethodName = pluginMethod.getName();
             if (pluginMethodName.startsWith(Plugin.PluginType.around.toString())) {
                 return Plugin.PluginType.around.toString();
@@ -195,8 +169,4 @@ public class PluginTargetLineMarkerProvider implements LineMarkerProvider {
             return null;
         }
     }
-
-    private interface Collector<T extends PsiElement, K> {
-        List<K> collect(@NotNull T psiElement);
-    }
 }
@@ -5,15 +5,18 @@
 package com.magento.idea.magento2plugin.linemarker.php;
 
 import com.intellij.codeInsight.daemon.LineMarkerInfo;
-import com.intellij.codeInsight.daemon.LineMarkerProvider;
 import com.intellij.codeInsight.navigation.NavigationGutterIconBuilder;
+import com.intellij.openapi.util.NotNullLazyValue;
 import com.intellij.psi.PsiElement;
-import com.intellij.psi.xml.XmlTag;
 import com.jetbrains.php.lang.psi.elements.Method;
 import com.jetbrains.php.lang.psi.elements.PhpClass;
 import com.magento.idea.magento2plugin.MagentoIcons;
+import com.magento.idea.magento2plugin.linemarker.xml.XmlTagNavigationItem;
 import com.magento.idea.magento2plugin.project.Settings;
-import com.magento.idea.magento2plugin.stubs.indexes.WebApiTypeIndex;
+import com.magento.idea.magento2plugin.stubs.indexes.WebApiRouteIndex;
+import com.magento.idea.magento2plugin.util.magento.webapi.WebApiRoutesCache;
+import com.magento.idea.magento2plugin.util.php.PhpClassHierarchyLookup;
+import com.magento.idea.magento2plugin.util.telemetry.InstrumentedLineMarkerProvider;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -25,7 +28,7 @@ import java.util.*;
  * Allows to open related web API config.
  * Tooltip displays a list of related REST routes.
  */
-public class WebApiLineMarkerProvider implements LineMarkerProvider {
+public class WebApiLineMarkerProvider extends InstrumentedLineMarkerProvider {
 
     @Nullable
     @Override
@@ -34,19 +37,24 @@ public class WebApiLineMarkerProvider implements LineMarkerProvider {
     }
 
     @Override
-    public void collectSlowLineMarkers(@NotNull List<PsiElement> psiElements, @NotNull Collection<LineMarkerInfo> collection) {
-        if (psiElements.size() > 0) {
-            if (!Settings.isEnabled(psiElements.get(0).getProject())) {
-                return;
-            }
+    protected void doCollectSlowLineMarkers(
+            @NotNull List<PsiElement> psiElements,
+            @NotNull Collection<LineMarkerInfo> collection
+    ) {
+        if (psiElements.isEmpty() || !Settings.isEnabled(psiElements.get(0).getProject())) {
+            return;
         }
+        WebApiRoutesCollector collector = new WebApiRoutesCollector(
+                WebApiRoutesCache.getInstance(psiElements.get(0).getProject())
+        );
         for (PsiElement psiElement: psiElements) {
-            WebApiRoutesCollector collector = new WebApiRoutesCollector();
-            List<XmlTag> results = new ArrayList<>();
+            List<WebApiRoutesCache.Route> results;
             if (psiElement instanceof Method) {
                 results = collector.getRoutes((Method) psiElement);
             } else if (psiElement instanceof PhpClass) {
                 results = collector.getRoutes((PhpClass) psiElement);
+            } else {
+                continue;
             }
 
             if (!(results.size() > 0)) {
@@ -54,37 +62,68 @@ public class WebApiLineMarkerProvider implements LineMarkerProvider {
             }
 
             StringBuilder tooltipText = new StringBuilder("Navigate to Web API configuration:<pre>");
-            for (XmlTag routeTag : results) {
-                tooltipText.append(routeTag.getName()).append("\n");
+            for (WebApiRoutesCache.Route route : results) {
+                tooltipText.append(route.getPresentableText()).append("\n");
             }
             tooltipText.append("</pre>");
             NavigationGutterIconBuilder<PsiElement> builder = NavigationGutterIconBuilder
                     .create(MagentoIcons.WEB_API)
-                    .setTargets(results)
+                    .setTargets(NotNullLazyValue.createValue(() -> createTargets(psiElement, results)))
                     .setTooltipText(tooltipText.toString());
             collection.add(builder.createLineMarkerInfo(psiElement));
         }
     }
 
     /**
-     * Web API config nodes collector for service methods and classes. Has built in caching.
+     * Navigation targets of the routes, built only when the gutter icon is clicked.
+     */
+    private static Collection<? extends PsiElement> createTargets(
+            @NotNull PsiElement psiElement,
+            @NotNull List<WebApiRoutesCache.Route> routes
+    ) {
+        List<PsiElement> targets = new ArrayList<>();
+        for (WebApiRoutesCache.Route route : routes) {
+            if (!route.getFile().isValid()) {
+                continue;
+            }
+            targets.add(new XmlTagNavigationItem(
+                    psiElement.getProject(),
+                    route.getFile(),
+                    route.getData().getOffset(),
+                    route.getPresentableText()
+            ));
+        }
+
+        return targets;
+    }
+
+    /**
+     * Web API routes collector for service methods and classes.
+     * Routes of a single method are cached per project by WebApiRoutesCache, the type hierarchies and the routes
+     * of the methods met in the file are collected once per pass by PhpClassHierarchyLookup.
      */
     private static class WebApiRoutesCollector {
 
-        private HashMap<String, List<XmlTag>> routesCache = new HashMap<>();
+        private final PhpClassHierarchyLookup<WebApiRoutesCache.Route> routesLookup;
+
+        private HashMap<String, List<WebApiRoutesCache.Route>> routesCache = new HashMap<>();
 
         private static final Map<String, Integer> HTTP_METHODS_SORT_ORDER = new HashMap<String, Integer>() {{
             put("GET", 1);
             put("PUT", 2);
-            put("POS", 3);
-            put("DEL", 4);
+            put("POST", 3);
+            put("DELETE", 4);
         }};
 
+        WebApiRoutesCollector(@NotNull WebApiRoutesCache webApiRoutesCache) {
+            this.routesLookup = new PhpClassHierarchyLookup<>(webApiRoutesCache::getRoutesByMethodKey);
+        }
+
         /**
          * Get sorted list of Web API routes related to the specified class.
          */
-        List<XmlTag> getRoutes(@NotNull PhpClass phpClass) {
-            List<XmlTag> routesForClass = new ArrayList<>();
+        List<WebApiRoutesCache.Route> getRoutes(@NotNull PhpClass phpClass) {
+            List<WebApiRoutesCache.Route> routesForClass = new ArrayList<>();
             for (Method method : phpClass.getMethods()) {
                 routesForClass.addAll(getRoutes(method));
             }
@@ -97,10 +136,10 @@ public class WebApiLineMarkerProvider implements LineMarkerProvider {
          * <p/>
          * Results are cached.
          */
-        List<XmlTag> getRoutes(@NotNull Method method) {
+        List<WebApiRoutesCache.Route> getRoutes(@NotNull Method method) {
             String methodFqn = method.getFQN();
             if (!routesCache.containsKey(methodFqn)) {
-                List<XmlTag> routesForMethod = extractRoutesForMethod(method);
+                List<WebApiRoutesCache.Route> routesForMethod = extractRoutesForMethod(method);
                 sortRoutes(routesForMethod);
                 routesCache.put(methodFqn, routesForMethod);
             }
@@ -110,40 +149,25 @@ public class WebApiLineMarkerProvider implements LineMarkerProvider {
         /**
          * Get list of Web API routes related to the specified method.
          * <p/>
-         * Web API declarations for parent classes are taken into account.
-         * Results are not cached.
+         * Web API declarations for the same method of parent classes and interfaces are taken into account.
          */
-        List<XmlTag> extractRoutesForMethod(@NotNull Method method) {
-            List<XmlTag> routesForMethod = WebApiTypeIndex.getWebApiRoutes(method);
+        List<WebApiRoutesCache.Route> extractRoutesForMethod(@NotNull Method method) {
             PhpClass phpClass = method.getContainingClass();
-            if (phpClass == null) {
-                return routesForMethod;
-            }
-            for (PhpClass parent : method.getContainingClass().getSupers()) {
-                for (Method parentMethod : parent.getMethods()) {
-                    if (parentMethod.getName().equals(method.getName())) {
-                        routesForMethod.addAll(extractRoutesForMethod(parentMethod));
-                    }
-                }
+            if (phpClass == null || !method.getAccess().isPublic()) {
+                return new ArrayList<>();
             }
-            return routesForMethod;
+            return routesLookup.getValues(phpClass, typeFqn -> WebApiRouteIndex.getKey(typeFqn, method.getName()));
         }
 
         /**
          * Make sure that routes are sorted as follows: GET, PUT, POST, DELETE. Then by path.
          */
-        private void sortRoutes(List<XmlTag> routes) {
+        private void sortRoutes(List<WebApiRoutesCache.Route> routes) {
             routes.sort(
-                (firstTag, secondTag) -> {
-                    String substring = firstTag.getName().substring(2, 5);
-                    Integer firstSortOrder = HTTP_METHODS_SORT_ORDER.get(substring);
-                    Integer secondSortOrder = HTTP_METHODS_SORT_ORDER.get(secondTag.getName().substring(2, 5));
-                    if (firstSortOrder.compareTo(secondSortOrder) == 0) {
-                        // Sort by route if HTTP methods are equal
-                        return firstTag.getName().compareTo(secondTag.getName());
-                    }
-                    return firstSortOrder.compareTo(secondSortOrder);
-                }
+                Comparator.comparing((WebApiRoutesCache.Route route) -> HTTP_METHODS_SORT_ORDER.getOrDefault(
+                        route.getData().getHttpMethod().toUpperCase(),
+                        HTTP_METHODS_SORT_ORDER.size() + 1
+                )).thenComparing(route -> route.getData().getUrl())
             );
         }
     }
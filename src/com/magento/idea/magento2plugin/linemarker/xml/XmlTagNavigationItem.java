@@ -0,0 +1,61 @@
+/*
+ * Copyright © Magento, Inc. All rights reserved.
+ * See COPYING.txt for license details.
+ */
+package com.magento.idea.magento2plugin.linemarker.xml;
+
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.xml.XmlTag;
+import com.magento.idea.magento2plugin.magento.packages.Package;
+import com.magento.idea.magento2plugin.reference.xml.IndexedNavigationTarget;
+import com.magento.idea.magento2plugin.util.magento.MagentoAreaUtil;
+import com.magento.idea.magento2plugin.util.magento.ModuleRegistry;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Line marker target for a configuration XML tag, shown with its module and area, e.g. "Magento_Catalog [adminhtml]".
+ *
+ * The presentation is computed once, when the item is created, from the file location only, no PSI is loaded.
+ */
+public class XmlTagNavigationItem extends IndexedNavigationTarget<XmlTag> {
+    private static final String GLOBAL_AREA = "global";
+
+    private final String locationString;
+
+    public XmlTagNavigationItem(
+            @NotNull Project project,
+            @NotNull VirtualFile file,
+            int offset,
+            @NotNull String description
+    ) {
+        super(project, file, offset, description, XmlTag.class);
+        this.locationString = String.format("%s [%s]", getModuleName(project, file), getAreaName(file));
+    }
+
+    @NotNull
+    @Override
+    public String getLocationString() {
+        return locationString;
+    }
+
+    /**
+     * Area of the configuration file, the module etc directory is shown as "global".
+     */
+    @NotNull
+    public static String getAreaName(@NotNull VirtualFile file) {
+        String area = MagentoAreaUtil.getAreaByConfigFile(file);
+
+        return area.equals(Package.Areas.base.toString()) ? GLOBAL_AREA : area;
+    }
+
+    /**
+     * Looked up in the module registry by directory, module.xml is not parsed.
+     */
+    @NotNull
+    private static String getModuleName(@NotNull Project project, @NotNull VirtualFile file) {
+        ModuleRegistry.Module module = ModuleRegistry.getInstance(project).getModuleByFile(file);
+
+        return module != null ? module.getName() : "";
+    }
+}
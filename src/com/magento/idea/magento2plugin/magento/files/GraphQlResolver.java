@@ -9,4 +9,6 @@ public class GraphQlResolver {
     public static final String BATCH_RESOLVER_INTERFACE = "\\Magento\\Framework\\GraphQl\\Query\\Resolver\\BatchResolverInterface";
     public static final String BATCH_SERVICE_CONTRACT_RESOLVER_INTERFACE = "\\Magento\\Framework\\GraphQl\\Query\\Resolver\\BatchServiceContractResolverInterface";
     public static final String CLASS_ARGUMENT = "class";
+    public static final String RESOLVER_DIRECTIVE = "resolver";
+    public static final String SCHEMA_FILE_NAME = "schema.graphqls";
 }
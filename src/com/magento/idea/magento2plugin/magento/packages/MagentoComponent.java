@@ -4,15 +4,24 @@
  */
 package com.magento.idea.magento2plugin.magento.packages;
 
+import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.psi.PsiDirectory;
 import com.intellij.psi.PsiFile;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 public interface MagentoComponent {
 
     ComposerPackageModel getComposerModel();
 
+    /**
+     * Directory of the composer.json, resolved to PSI on every call.
+     */
+    @Nullable
     PsiDirectory getDirectory();
 
+    @NotNull
+    VirtualFile getVirtualDirectory();
+
     boolean isFileInContext(@NotNull PsiFile psiFile);
 }
@@ -4,15 +4,26 @@
  */
 package com.magento.idea.magento2plugin.magento.packages;
 
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.vfs.VfsUtilCore;
+import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.psi.PsiDirectory;
 import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiManager;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 public class MagentoComponentImp implements MagentoComponent {
+    protected final Project project;
     protected final ComposerPackageModel composerPackageModel;
-    protected final PsiDirectory directory;
-
-    public MagentoComponentImp(@NotNull ComposerPackageModel composerPackageModel, @NotNull PsiDirectory directory) {
+    protected final VirtualFile directory;
+
+    public MagentoComponentImp(
+            @NotNull Project project,
+            @NotNull ComposerPackageModel composerPackageModel,
+            @NotNull VirtualFile directory
+    ) {
+        this.project = project;
         this.composerPackageModel = composerPackageModel;
         this.directory = directory;
     }
@@ -22,23 +33,23 @@ public class MagentoComponentImp implements MagentoComponent {
         return composerPackageModel;
     }
 
+    @Nullable
     @Override
     public PsiDirectory getDirectory() {
+        return directory.isValid() ? PsiManager.getInstance(project).findDirectory(directory) : null;
+    }
+
+    @NotNull
+    @Override
+    public VirtualFile getVirtualDirectory() {
         return directory;
     }
 
     @Override
     public boolean isFileInContext(@NotNull PsiFile psiFile) {
-        PsiDirectory containingDirectory = psiFile.getOriginalFile().getContainingDirectory();
-        while (containingDirectory != null) {
-            if (containingDirectory.getManager().areElementsEquivalent(containingDirectory, directory)) {
-                return true;
-            }
-
-            containingDirectory = containingDirectory.getParentDirectory();
-        }
+        VirtualFile file = psiFile.getOriginalFile().getVirtualFile();
 
-        return false;
+        return file != null && VfsUtilCore.isAncestor(directory, file, false);
     }
 
 }
@@ -6,147 +6,352 @@ package com.magento.idea.magento2plugin.magento.packages;
 
 import com.intellij.json.psi.JsonFile;
 import com.intellij.json.psi.JsonObject;
+import com.intellij.openapi.Disposable;
+import com.intellij.openapi.components.ServiceManager;
 import com.intellij.openapi.project.DumbService;
 import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.io.FileUtil;
 import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.openapi.vfs.VirtualFileManager;
+import com.intellij.openapi.vfs.VirtualFileSystem;
+import com.intellij.openapi.vfs.newvfs.BulkFileListener;
+import com.intellij.openapi.vfs.newvfs.events.VFileContentChangeEvent;
+import com.intellij.openapi.vfs.newvfs.events.VFileCreateEvent;
+import com.intellij.openapi.vfs.newvfs.events.VFileEvent;
+import com.intellij.openapi.vfs.newvfs.events.VFileMoveEvent;
+import com.intellij.openapi.vfs.newvfs.events.VFilePropertyChangeEvent;
 import com.intellij.psi.PsiDirectory;
 import com.intellij.psi.PsiFile;
 import com.intellij.psi.PsiManager;
+import com.intellij.psi.search.FilenameIndex;
 import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.search.GlobalSearchScopesCore;
 import com.intellij.psi.util.PsiTreeUtil;
 import com.intellij.psi.xml.XmlFile;
 import com.intellij.psi.xml.XmlTag;
-import com.intellij.util.indexing.FileBasedIndex;
+import com.intellij.util.PathUtil;
+import com.magento.idea.magento2plugin.indexes.IndexQueries;
 import com.magento.idea.magento2plugin.stubs.indexes.ModulePackageIndex;
+import com.magento.idea.magento2plugin.util.DirectoryPathTrie;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReference;
 
-public class MagentoComponentManager {
-    private Map<String, MagentoComponent> components = new HashMap<>();
-    private long cacheStartTime;
-    private static final int CACHE_LIFE_TIME = 20000;
-    private static MagentoComponentManager magentoComponentManager;
-    private Project project;
+/**
+ * Magento components (composer packages of magento2-* types) of the project.
+ *
+ * Readers get an immutable snapshot without locking. The snapshot is loaded from the ModulePackageIndex once
+ * and then updated only for the composer.json files and directories reported by VFS events. Components keep
+ * the directory as VirtualFile and the parsed composer.json values, no PSI.
+ */
+public class MagentoComponentManager implements Disposable {
+    private static final String COMPOSER_JSON = "composer.json";
+    private static final Snapshot EMPTY_SNAPSHOT = new Snapshot(Collections.emptyMap());
+
+    private final Project project;
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+    private final ConcurrentMap<String, VirtualFileSystem> changedComposerFiles = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, VirtualFileSystem> changedDirectories = new ConcurrentHashMap<>();
 
-    private MagentoComponentManager(Project project){
+    public MagentoComponentManager(@NotNull Project project) {
         this.project = project;
+
+        project.getMessageBus().connect(this).subscribe(VirtualFileManager.VFS_CHANGES, new BulkFileListener() {
+            @Override
+            public void after(@NotNull List<? extends VFileEvent> events) {
+                for (VFileEvent event : events) {
+                    processEvent(event);
+                }
+            }
+        });
     }
 
     public static MagentoComponentManager getInstance(@NotNull Project project) {
-        if (magentoComponentManager == null) {
-            magentoComponentManager = new MagentoComponentManager(project);
-        }
-        return magentoComponentManager;
+        return ServiceManager.getService(project, MagentoComponentManager.class);
     }
 
     public Collection<MagentoComponent> getAllComponents() {
-        return getComponents().values();
+        return getSnapshot().components.values();
     }
 
     @SuppressWarnings("unchecked")
     public <T extends MagentoComponent> Collection<T> getAllComponentsOfType(@NotNull Class<T> type) {
         Collection<T> result = new ArrayList<>();
-        Map<String, MagentoComponent> components = getComponents();
-        for (String key: components.keySet()) {
-            if (type.isInstance(components.get(key))) {
-                result.add((T)components.get(key));
+        for (MagentoComponent component : getAllComponents()) {
+            if (type.isInstance(component)) {
+                result.add((T) component);
             }
         }
 
         return result;
     }
 
-    synchronized private Map<String, MagentoComponent> getComponents() {
-        if (DumbService.getInstance(project).isDumb() || project.isDisposed()) {
-            return new HashMap<>();
-        }
-
-        if (cacheStartTime + CACHE_LIFE_TIME < System.currentTimeMillis()) {
-            flushModules();
-            loadModules();
-            cacheStartTime = System.currentTimeMillis();
+    @Nullable
+    public MagentoComponent getComponentForFile(@NotNull PsiFile psiFile) {
+        String path = getPath(psiFile);
+        if (path == null) {
+            return null;
         }
 
-        return components;
+        return getSnapshot().componentsByDirectory.findNearest(path);
     }
 
     @Nullable
-    public MagentoComponent getComponentForFile(@NotNull PsiFile psiFile) {
-        for (MagentoComponent magentoComponent: this.getAllComponents()) {
-            if (magentoComponent.isFileInContext(psiFile)) {
-                return magentoComponent;
-            }
+    @SuppressWarnings("unchecked")
+    public <T extends MagentoComponent> T getComponentOfTypeForFile(@NotNull PsiFile psiFile, @NotNull Class<T> type) {
+        String path = getPath(psiFile);
+        if (path == null) {
+            return null;
         }
 
-        return null;
+        return (T) getSnapshot().componentsByDirectory.findNearest(path, type::isInstance);
     }
 
     @Nullable
     @SuppressWarnings("unchecked")
-    public <T extends MagentoComponent> T getComponentOfTypeForFile(@NotNull PsiFile psiFile, @NotNull Class<T> type) {
-        for (MagentoComponent magentoComponent: this.getAllComponents()) {
-            if (type.isInstance(magentoComponent) && magentoComponent.isFileInContext(psiFile)) {
-                return (T)magentoComponent;
+    public <T extends MagentoComponent> T getComponentOfTypeForFile(@NotNull VirtualFile file, @NotNull Class<T> type) {
+        return (T) getSnapshot().componentsByDirectory.findNearest(file.getPath(), type::isInstance);
+    }
+
+    /**
+     * Component whose composer.json is located directly in the directory.
+     */
+    @Nullable
+    public MagentoComponent getComponentForDirectory(@NotNull VirtualFile directory) {
+        return getSnapshot().componentsByDirectory.get(directory.getPath());
+    }
+
+    public void flushModules() {
+        snapshot.set(null);
+    }
+
+    @Override
+    public void dispose() {
+    }
+
+    @Nullable
+    private static String getPath(@NotNull PsiFile psiFile) {
+        PsiFile originalFile = psiFile.getOriginalFile();
+        VirtualFile virtualFile = originalFile.getVirtualFile();
+        if (virtualFile != null) {
+            return virtualFile.getPath();
+        }
+        PsiDirectory directory = originalFile.getContainingDirectory();
+
+        return directory != null ? directory.getVirtualFile().getPath() : null;
+    }
+
+    private Snapshot getSnapshot() {
+        if (DumbService.getInstance(project).isDumb() || project.isDisposed()) {
+            return EMPTY_SNAPSHOT;
+        }
+
+        while (true) {
+            Snapshot current = snapshot.get();
+            if (current == null) {
+                Snapshot loaded = loadSnapshot();
+                if (snapshot.compareAndSet(null, loaded)) {
+                    return loaded;
+                }
+                continue;
+            }
+            if (changedComposerFiles.isEmpty() && changedDirectories.isEmpty()) {
+                return current;
+            }
+
+            Map<String, VirtualFileSystem> directoryChanges = drain(changedDirectories);
+            Map<String, VirtualFileSystem> composerFileChanges = drain(changedComposerFiles);
+            Snapshot updated = applyChanges(current, directoryChanges, composerFileChanges);
+            if (snapshot.compareAndSet(current, updated)) {
+                return updated;
             }
+            directoryChanges.forEach(changedDirectories::putIfAbsent);
+            composerFileChanges.forEach(changedComposerFiles::putIfAbsent);
         }
+    }
 
-        return null;
+    private static Map<String, VirtualFileSystem> drain(ConcurrentMap<String, VirtualFileSystem> changedPaths) {
+        Map<String, VirtualFileSystem> changes = new HashMap<>();
+        for (String path : new ArrayList<>(changedPaths.keySet())) {
+            VirtualFileSystem fileSystem = changedPaths.remove(path);
+            if (fileSystem != null) {
+                changes.put(path, fileSystem);
+            }
+        }
+
+        return changes;
     }
 
-    synchronized public void flushModules() {
-        components = new HashMap<>();
+    private Snapshot loadSnapshot() {
+        Map<String, MagentoComponent> components = new HashMap<>();
+        GlobalSearchScope scope = GlobalSearchScope.allScope(project);
+        for (String packageName : IndexQueries.getAllKeys(ModulePackageIndex.KEY, project)) {
+            Collection<VirtualFile> containingFiles = IndexQueries
+                    .getContainingFiles(ModulePackageIndex.KEY, packageName, scope);
+            if (!containingFiles.isEmpty()) {
+                addComponent(components, containingFiles.iterator().next());
+            }
+        }
+
+        return new Snapshot(components);
     }
 
-    private void loadModules() {
-        Collection<String> packages = FileBasedIndex.getInstance().getAllKeys(ModulePackageIndex.KEY, this.project);
-        PsiManager psiManager = PsiManager.getInstance(this.project);
-        for (String packageName: packages) {
-            if (components.containsKey(packageName)) {
+    /**
+     * Components of changed directories are reloaded from the composer.json files found below them,
+     * components of changed composer.json files from the file itself. Other components are kept as they are.
+     */
+    private Snapshot applyChanges(
+            Snapshot current,
+            Map<String, VirtualFileSystem> directoryChanges,
+            Map<String, VirtualFileSystem> composerFileChanges
+    ) {
+        Map<String, MagentoComponent> components = new HashMap<>(current.components);
+        components.values().removeIf(component -> !component.getVirtualDirectory().isValid());
+
+        for (Map.Entry<String, VirtualFileSystem> change : directoryChanges.entrySet()) {
+            String directoryPath = change.getKey();
+            components.keySet().removeIf(path -> FileUtil.isAncestor(directoryPath, path, false));
+
+            VirtualFile directory = change.getValue().findFileByPath(directoryPath);
+            if (directory == null || !directory.isDirectory()) {
                 continue;
             }
+            for (VirtualFile composerFile : FilenameIndex.getVirtualFilesByName(
+                    project,
+                    COMPOSER_JSON,
+                    GlobalSearchScopesCore.directoryScope(project, directory, true)
+            )) {
+                addComponent(components, composerFile);
+            }
+        }
+        for (Map.Entry<String, VirtualFileSystem> change : composerFileChanges.entrySet()) {
+            components.remove(PathUtil.getParentPath(change.getKey()));
+
+            VirtualFile composerFile = change.getValue().findFileByPath(change.getKey());
+            if (composerFile != null) {
+                addComponent(components, composerFile);
+            }
+        }
+
+        return new Snapshot(components);
+    }
 
-            Collection<VirtualFile> containingFiles = FileBasedIndex.getInstance()
-                .getContainingFiles(ModulePackageIndex.KEY, packageName, GlobalSearchScope.allScope(this.project));
+    private void addComponent(Map<String, MagentoComponent> components, VirtualFile composerFile) {
+        MagentoComponent component = createComponent(composerFile);
+        if (component != null && component.getComposerModel().getName() != null) {
+            components.put(component.getVirtualDirectory().getPath(), component);
+        }
+    }
 
-            if (containingFiles.size() > 0) {
-                VirtualFile configurationFile = containingFiles.iterator().next();
+    @Nullable
+    private MagentoComponent createComponent(@NotNull VirtualFile composerFile) {
+        VirtualFile directory = composerFile.getParent();
+        if (!composerFile.isValid() || directory == null) {
+            return null;
+        }
+        PsiFile psiFile = PsiManager.getInstance(project).findFile(composerFile);
+        if (!(psiFile instanceof JsonFile)) {
+            return null;
+        }
+        JsonObject jsonObject = PsiTreeUtil.getChildOfType(psiFile, JsonObject.class);
+        if (jsonObject == null) {
+            return null;
+        }
 
-                PsiFile psiFile = psiManager.findFile(configurationFile);
-                if (psiFile != null && psiFile instanceof JsonFile) {
-                    JsonObject jsonObject = PsiTreeUtil.getChildOfType((JsonFile) psiFile, JsonObject.class);
-                    if (jsonObject == null) {
-                        continue;
-                    }
+        ComposerPackageModel composerPackageModel = new ParsedComposerPackageModel(
+                new ComposerPackageModelImpl(jsonObject)
+        );
+        String type = composerPackageModel.getType();
+        if (type == null || !type.startsWith("magento2-")) {
+            return null;
+        }
+        if ("magento2-module".equals(type)) {
+            return new MagentoModuleImpl(project, composerPackageModel, directory);
+        }
 
-                    MagentoComponent magentoComponent;
-                    ComposerPackageModel composerPackageModel = new ComposerPackageModelImpl(jsonObject);
-                    if ("magento2-module".equals(composerPackageModel.getType())) {
-                        magentoComponent = new MagentoModuleImpl(new ComposerPackageModelImpl(jsonObject), psiFile.getContainingDirectory());
-                    } else {
-                        magentoComponent = new MagentoComponentImp(new ComposerPackageModelImpl(jsonObject), psiFile.getContainingDirectory());
-                    }
+        return new MagentoComponentImp(project, composerPackageModel, directory);
+    }
 
-                    components.put(
-                        packageName,
-                        magentoComponent
-                    );
-                }
+    private void processEvent(VFileEvent event) {
+        if (COMPOSER_JSON.equals(PathUtil.getFileName(event.getPath()))) {
+            changedComposerFiles.put(event.getPath(), event.getFileSystem());
+            if (event instanceof VFileMoveEvent) {
+                changedComposerFiles.put(((VFileMoveEvent) event).getOldPath(), event.getFileSystem());
+            }
+            return;
+        }
+        if (event instanceof VFileContentChangeEvent) {
+            return;
+        }
+        if (event instanceof VFileCreateEvent) {
+            // a created directory may already contain the composer.json of a component
+            if (((VFileCreateEvent) event).isDirectory()) {
+                changedDirectories.put(event.getPath(), event.getFileSystem());
+            }
+            return;
+        }
+        if (event instanceof VFilePropertyChangeEvent) {
+            VFilePropertyChangeEvent propertyEvent = (VFilePropertyChangeEvent) event;
+            if (!VirtualFile.PROP_NAME.equals(propertyEvent.getPropertyName())) {
+                return;
+            }
+            String parentPath = PathUtil.getParentPath(event.getPath());
+            if (COMPOSER_JSON.equals(propertyEvent.getOldValue())) {
+                changedComposerFiles.put(parentPath + "/" + COMPOSER_JSON, event.getFileSystem());
+                return;
+            }
+            if (propertyEvent.getFile().isDirectory()) {
+                changedDirectories.put(parentPath + "/" + propertyEvent.getOldValue(), event.getFileSystem());
+                changedDirectories.put(parentPath + "/" + propertyEvent.getNewValue(), event.getFileSystem());
             }
+            return;
+        }
+        VirtualFile file = event.getFile();
+        if (file == null || !file.isDirectory()) {
+            return;
+        }
+        // only the components inside a copied, moved or deleted directory are reloaded
+        if (event instanceof VFileMoveEvent) {
+            changedDirectories.put(((VFileMoveEvent) event).getOldPath(), event.getFileSystem());
+            changedDirectories.put(((VFileMoveEvent) event).getNewPath(), event.getFileSystem());
+            return;
+        }
+        changedDirectories.put(event.getPath(), event.getFileSystem());
+    }
+
+    private static class Snapshot {
+        private final Map<String, MagentoComponent> components;
+        private final DirectoryPathTrie<MagentoComponent> componentsByDirectory = new DirectoryPathTrie<>();
+
+        /**
+         * @param components components by the path of their directory
+         */
+        Snapshot(@NotNull Map<String, MagentoComponent> components) {
+            this.components = Collections.unmodifiableMap(components);
+            components.forEach(componentsByDirectory::put);
         }
     }
 }
 
 class MagentoModuleImpl extends MagentoComponentImp implements MagentoModule {
     private static final String DEFAULT_MODULE_NAME = "Undefined module";
-    private static final String CONFIGURATION_PATH = "etc";
+    private static final String CONFIGURATION_FILE = "etc/module.xml";
     private String moduleName;
 
-    public MagentoModuleImpl(@NotNull ComposerPackageModel composerPackageModel, @NotNull PsiDirectory directory) {
-        super(composerPackageModel, directory);
+    public MagentoModuleImpl(
+            @NotNull Project project,
+            @NotNull ComposerPackageModel composerPackageModel,
+            @NotNull VirtualFile directory
+    ) {
+        super(project, composerPackageModel, directory);
     }
 
     @Override
@@ -155,18 +360,17 @@ class MagentoModuleImpl extends MagentoComponentImp implements MagentoModule {
             return moduleName;
         }
 
-        PsiDirectory configurationDir = directory.findSubdirectory(CONFIGURATION_PATH);
-        if (configurationDir != null) {
-            PsiFile configurationFile = configurationDir.findFile("module.xml");
-
-            if (configurationFile != null && configurationFile instanceof XmlFile) {
-                XmlTag rootTag = ((XmlFile) configurationFile).getRootTag();
-                if (rootTag != null) {
-                    XmlTag module = rootTag.findFirstSubTag("module");
-                    if (module != null && module.getAttributeValue("name") != null) {
-                        moduleName = module.getAttributeValue("name");
-                        return moduleName;
-                    }
+        VirtualFile configurationFile = directory.isValid()
+                ? directory.findFileByRelativePath(CONFIGURATION_FILE)
+                : null;
+        PsiFile psiFile = configurationFile != null ? PsiManager.getInstance(project).findFile(configurationFile) : null;
+        if (psiFile instanceof XmlFile) {
+            XmlTag rootTag = ((XmlFile) psiFile).getRootTag();
+            if (rootTag != null) {
+                XmlTag module = rootTag.findFirstSubTag("module");
+                if (module != null && module.getAttributeValue("name") != null) {
+                    moduleName = module.getAttributeValue("name");
+                    return moduleName;
                 }
             }
         }
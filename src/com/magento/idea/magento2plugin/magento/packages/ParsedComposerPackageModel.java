@@ -0,0 +1,70 @@
+/**
+ * Copyright © Magento, Inc. All rights reserved.
+ * See COPYING.txt for license details.
+ */
+package com.magento.idea.magento2plugin.magento.packages;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Values of a composer.json read once, so that no PSI of the file is kept.
+ */
+class ParsedComposerPackageModel implements ComposerPackageModel {
+    private final String name;
+    private final String type;
+    private final String vendor;
+    private final String version;
+    private final String[] autoloadFiles;
+    private final Map<String, String> autoloadPsr4;
+
+    ParsedComposerPackageModel(@NotNull ComposerPackageModel composerPackageModel) {
+        this.name = composerPackageModel.getName();
+        this.type = composerPackageModel.getType();
+        this.vendor = composerPackageModel.getVendor();
+        this.version = composerPackageModel.getVersion();
+        this.autoloadFiles = composerPackageModel.getAutoloadFiles();
+        Map<String, String> autoloadPsr4 = composerPackageModel.getAutoloadPsr4();
+        this.autoloadPsr4 = autoloadPsr4 != null ? Collections.unmodifiableMap(new HashMap<>(autoloadPsr4)) : null;
+    }
+
+    @Nullable
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Nullable
+    @Override
+    public String getType() {
+        return type;
+    }
+
+    @Nullable
+    @Override
+    public String getVendor() {
+        return vendor;
+    }
+
+    @Nullable
+    @Override
+    public String getVersion() {
+        return version;
+    }
+
+    @Nullable
+    @Override
+    public String[] getAutoloadFiles() {
+        return autoloadFiles != null ? autoloadFiles.clone() : null;
+    }
+
+    @Nullable
+    @Override
+    public Map<String, String> getAutoloadPsr4() {
+        return autoloadPsr4;
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright © Magento, Inc. All rights reserved.
+ * See COPYING.txt for license details.
+ */
+package com.magento.idea.magento2plugin.project;
+
+import com.intellij.openapi.Disposable;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.SimpleModificationTracker;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.openapi.vfs.VirtualFileManager;
+import com.intellij.openapi.vfs.newvfs.BulkFileListener;
+import com.intellij.openapi.vfs.newvfs.events.VFileContentChangeEvent;
+import com.intellij.openapi.vfs.newvfs.events.VFileEvent;
+import com.intellij.openapi.vfs.newvfs.events.VFilePropertyChangeEvent;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiManager;
+import com.intellij.psi.PsiTreeChangeAdapter;
+import com.intellij.psi.PsiTreeChangeEvent;
+import com.intellij.util.PathUtil;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+
+/**
+ * Modification tracker which is incremented only when configuration files with the given name change,
+ * the name is compared case-insensitively.
+ *
+ * Caches depending on a single kind of Magento configuration use it instead of the global PSI modification count,
+ * so that editing php code doesn't drop them.
+ */
+public abstract class ConfigFileModificationTracker extends SimpleModificationTracker implements Disposable {
+    private final String fileName;
+
+    protected ConfigFileModificationTracker(@NotNull Project project, @NotNull String fileName) {
+        this.fileName = fileName;
+
+        project.getMessageBus().connect(this).subscribe(VirtualFileManager.VFS_CHANGES, new BulkFileListener() {
+            @Override
+            public void after(@NotNull List<? extends VFileEvent> events) {
+                for (VFileEvent event : events) {
+                    if (isConfigFileEvent(event)) {
+                        incModificationCount();
+                        return;
+                    }
+                }
+            }
+        });
+        PsiManager.getInstance(project).addPsiTreeChangeListener(new PsiTreeChangeAdapter() {
+            @Override
+            public void childAdded(@NotNull PsiTreeChangeEvent event) {
+                psiChanged(event);
+            }
+
+            @Override
+            public void childRemoved(@NotNull PsiTreeChangeEvent event) {
+                psiChanged(event);
+            }
+
+            @Override
+            public void childReplaced(@NotNull PsiTreeChangeEvent event) {
+                psiChanged(event);
+            }
+
+            @Override
+            public void childMoved(@NotNull PsiTreeChangeEvent event) {
+                psiChanged(event);
+            }
+
+            @Override
+            public void childrenChanged(@NotNull PsiTreeChangeEvent event) {
+                psiChanged(event);
+            }
+        }, this);
+    }
+
+    private void psiChanged(PsiTreeChangeEvent event) {
+        PsiFile file = event.getFile();
+        if (file != null && fileName.equalsIgnoreCase(file.getName())) {
+            incModificationCount();
+        }
+    }
+
+    private boolean isConfigFileEvent(VFileEvent event) {
+        if (fileName.equalsIgnoreCase(PathUtil.getFileName(event.getPath()))) {
+            return true;
+        }
+        if (event instanceof VFilePropertyChangeEvent
+                && VirtualFile.PROP_NAME.equals(((VFilePropertyChangeEvent) event).getPropertyName())) {
+            return fileName.equalsIgnoreCase(String.valueOf(((VFilePropertyChangeEvent) event).getOldValue()));
+        }
+        if (event instanceof VFileContentChangeEvent) {
+            return false;
+        }
+        // a moved or deleted directory may contain configuration files
+        VirtualFile file = event.getFile();
+        return file != null && file.isDirectory();
+    }
+
+    @Override
+    public void dispose() {
+    }
+}
@@ -0,0 +1,20 @@
+/*
+ * Copyright © Magento, Inc. All rights reserved.
+ * See COPYING.txt for license details.
+ */
+package com.magento.idea.magento2plugin.project;
+
+import com.intellij.openapi.components.ServiceManager;
+import com.intellij.openapi.project.Project;
+import com.magento.idea.magento2plugin.magento.files.ModuleDiXml;
+import org.jetbrains.annotations.NotNull;
+
+public class DiXmlModificationTracker extends ConfigFileModificationTracker {
+    public DiXmlModificationTracker(@NotNull Project project) {
+        super(project, ModuleDiXml.FILE_NAME);
+    }
+
+    public static DiXmlModificationTracker getInstance(@NotNull Project project) {
+        return ServiceManager.getService(project, DiXmlModificationTracker.class);
+    }
+}
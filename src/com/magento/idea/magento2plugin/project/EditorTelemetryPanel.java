@@ -0,0 +1,113 @@
+/*
+ * Copyright © Magento, Inc. All rights reserved.
+ * See COPYING.txt for license details.
+ */
+package com.magento.idea.magento2plugin.project;
+
+import com.intellij.ui.JBSplitter;
+import com.intellij.ui.ScrollPaneFactory;
+import com.intellij.ui.table.JBTable;
+import com.intellij.util.ui.JBUI;
+import com.magento.idea.magento2plugin.util.telemetry.EditorTelemetry;
+import com.magento.idea.magento2plugin.util.telemetry.ProviderStatistics;
+
+import javax.swing.*;
+import javax.swing.table.DefaultTableModel;
+import java.awt.*;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Lists the editor telemetry collected since the IDE start, the latency histogram is shown for the selected provider.
+ */
+public class EditorTelemetryPanel extends JPanel {
+    private static final String[] PROVIDER_COLUMNS = {
+            "Kind", "Provider", "Calls", "Total, ms", "p95", "Max, ms", "Slow", "Cache hits"
+    };
+    private static final String[] HISTOGRAM_COLUMNS = {"Latency", "Calls"};
+
+    private final DefaultTableModel providerModel = createModel(PROVIDER_COLUMNS);
+    private final DefaultTableModel histogramModel = createModel(HISTOGRAM_COLUMNS);
+    private final JBTable providerTable = new JBTable(providerModel);
+    private List<ProviderStatistics> statistics = Collections.emptyList();
+
+    public EditorTelemetryPanel() {
+        super(new BorderLayout());
+        providerTable.getSelectionModel().setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
+        providerTable.getSelectionModel().addListSelectionListener(event -> {
+            if (!event.getValueIsAdjusting()) {
+                updateHistogram();
+            }
+        });
+
+        JBSplitter splitter = new JBSplitter(false, 0.75f);
+        splitter.setFirstComponent(ScrollPaneFactory.createScrollPane(providerTable));
+        splitter.setSecondComponent(ScrollPaneFactory.createScrollPane(new JBTable(histogramModel)));
+        splitter.setPreferredSize(JBUI.size(560, 220));
+
+        JButton refreshButton = new JButton("Refresh");
+        refreshButton.addActionListener(event -> refresh());
+        JButton resetButton = new JButton("Reset");
+        resetButton.addActionListener(event -> {
+            EditorTelemetry.getInstance().reset();
+            refresh();
+        });
+        JPanel buttons = new JPanel(new FlowLayout(FlowLayout.LEFT, 0, 0));
+        buttons.add(refreshButton);
+        buttons.add(resetButton);
+
+        add(splitter, BorderLayout.CENTER);
+        add(buttons, BorderLayout.SOUTH);
+        refresh();
+    }
+
+    public void refresh() {
+        statistics = EditorTelemetry.getInstance().getAllStatistics();
+        providerModel.setRowCount(0);
+        for (ProviderStatistics providerStatistics : statistics) {
+            providerModel.addRow(new Object[] {
+                    providerStatistics.getKind().getPresentableName(),
+                    providerStatistics.getProviderName(),
+                    providerStatistics.getInvocationCount(),
+                    toMilliseconds(providerStatistics.getTotalTime()),
+                    ProviderStatistics.getBucketLabel(providerStatistics.getPercentileBucket(0.95)),
+                    toMilliseconds(providerStatistics.getMaxTime()),
+                    providerStatistics.getSlowCount(),
+                    toPercent(providerStatistics.getCacheHitRatio())
+            });
+        }
+        if (!statistics.isEmpty()) {
+            providerTable.getSelectionModel().setSelectionInterval(0, 0);
+        }
+        updateHistogram();
+    }
+
+    private void updateHistogram() {
+        histogramModel.setRowCount(0);
+        int row = providerTable.getSelectedRow();
+        if (row < 0 || row >= statistics.size()) {
+            return;
+        }
+        long[] histogram = statistics.get(row).getHistogram();
+        for (int bucket = 0; bucket < histogram.length; bucket++) {
+            histogramModel.addRow(new Object[] {ProviderStatistics.getBucketLabel(bucket), histogram[bucket]});
+        }
+    }
+
+    private static String toMilliseconds(long nanoseconds) {
+        return String.format("%.2f", nanoseconds / 1_000_000.0);
+    }
+
+    private static String toPercent(double ratio) {
+        return ratio < 0 ? "-" : String.format("%.0f%%", ratio * 100);
+    }
+
+    private static DefaultTableModel createModel(String[] columns) {
+        return new DefaultTableModel(columns, 0) {
+            @Override
+            public boolean isCellEditable(int row, int column) {
+                return false;
+            }
+        };
+    }
+}
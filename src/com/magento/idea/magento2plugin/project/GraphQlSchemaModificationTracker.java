@@ -0,0 +1,20 @@
+/*
+ * Copyright © Magento, Inc. All rights reserved.
+ * See COPYING.txt for license details.
+ */
+package com.magento.idea.magento2plugin.project;
+
+import com.intellij.openapi.components.ServiceManager;
+import com.intellij.openapi.project.Project;
+import com.magento.idea.magento2plugin.magento.files.GraphQlResolver;
+import org.jetbrains.annotations.NotNull;
+
+public class GraphQlSchemaModificationTracker extends ConfigFileModificationTracker {
+    public GraphQlSchemaModificationTracker(@NotNull Project project) {
+        super(project, GraphQlResolver.SCHEMA_FILE_NAME);
+    }
+
+    public static GraphQlSchemaModificationTracker getInstance(@NotNull Project project) {
+        return ServiceManager.getService(project, GraphQlSchemaModificationTracker.class);
+    }
+}
@@ -0,0 +1,20 @@
+/*
+ * Copyright © Magento, Inc. All rights reserved.
+ * See COPYING.txt for license details.
+ */
+package com.magento.idea.magento2plugin.project;
+
+import com.intellij.openapi.components.ServiceManager;
+import com.intellij.openapi.project.Project;
+import com.magento.idea.magento2plugin.magento.files.RegistrationPhp;
+import org.jetbrains.annotations.NotNull;
+
+public class RegistrationPhpModificationTracker extends ConfigFileModificationTracker {
+    public RegistrationPhpModificationTracker(@NotNull Project project) {
+        super(project, RegistrationPhp.FILE_NAME);
+    }
+
+    public static RegistrationPhpModificationTracker getInstance(@NotNull Project project) {
+        return ServiceManager.getService(project, RegistrationPhpModificationTracker.class);
+    }
+}
@@ -0,0 +1,20 @@
+/*
+ * Copyright © Magento, Inc. All rights reserved.
+ * See COPYING.txt for license details.
+ */
+package com.magento.idea.magento2plugin.project;
+
+import com.intellij.openapi.components.ServiceManager;
+import com.intellij.openapi.project.Project;
+import com.magento.idea.magento2plugin.stubs.indexes.js.RequireJsIndex;
+import org.jetbrains.annotations.NotNull;
+
+public class RequireJsConfigModificationTracker extends ConfigFileModificationTracker {
+    public RequireJsConfigModificationTracker(@NotNull Project project) {
+        super(project, RequireJsIndex.FILE_NAME);
+    }
+
+    public static RequireJsConfigModificationTracker getInstance(@NotNull Project project) {
+        return ServiceManager.getService(project, RequireJsConfigModificationTracker.class);
+    }
+}
@@ -31,10 +31,13 @@ public class Settings implements PersistentStateComponent<Settings.State> {
     public boolean mftfSupportEnabled = false;
     public boolean myDoNotAskContentConfigAgain = false;
     public String magentoVersion = null;
+    public static final int DEFAULT_SLOW_OPERATION_THRESHOLD = 300;
+    public boolean editorTelemetryEnabled = false;
+    public int slowOperationThreshold = DEFAULT_SLOW_OPERATION_THRESHOLD;
 
     @Nullable
     public Settings.State getState() {
-        return new Settings.State(
+        Settings.State state = new Settings.State(
                 this.pluginEnabled,
                 this.magentoPath,
                 DEFAULT_LICENSE,
@@ -42,6 +45,10 @@ public class Settings implements PersistentStateComponent<Settings.State> {
                 this.myDoNotAskContentConfigAgain,
                 this.magentoVersion
         );
+        state.setEditorTelemetryEnabled(this.editorTelemetryEnabled);
+        state.setSlowOperationThreshold(this.slowOperationThreshold);
+
+        return state;
     }
 
     public void setState(State state) {
@@ -57,6 +64,8 @@ public class Settings implements PersistentStateComponent<Settings.State> {
         this.mftfSupportEnabled = state.isMftfSupportEnabled();
         this.myDoNotAskContentConfigAgain = state.isDoNotAskContentConfigAgain();
         this.magentoVersion = state.getMagentoVersion();
+        this.editorTelemetryEnabled = state.isEditorTelemetryEnabled();
+        this.slowOperationThreshold = state.getSlowOperationThreshold();
     }
 
     public void addListener(MagentoModuleDataListener listener) {
@@ -126,6 +135,8 @@ public class Settings implements PersistentStateComponent<Settings.State> {
         public boolean mftfSupportEnabled;
         public boolean myDoNotAskContentConfigAgain;
         public String magentoVersion;
+        public boolean editorTelemetryEnabled;
+        public int slowOperationThreshold = DEFAULT_SLOW_OPERATION_THRESHOLD;
 
         public State() {
         }
@@ -200,6 +211,25 @@ public class Settings implements PersistentStateComponent<Settings.State> {
             this.mftfSupportEnabled = mftfSupportEnabled;
         }
 
+        public boolean isEditorTelemetryEnabled() {
+            return this.editorTelemetryEnabled;
+        }
+
+        public void setEditorTelemetryEnabled(boolean editorTelemetryEnabled) {
+            this.editorTelemetryEnabled = editorTelemetryEnabled;
+        }
+
+        /**
+         * Provider calls longer than this number of milliseconds are reported to the log.
+         */
+        public int getSlowOperationThreshold() {
+            return this.slowOperationThreshold;
+        }
+
+        public void setSlowOperationThreshold(int slowOperationThreshold) {
+            this.slowOperationThreshold = slowOperationThreshold;
+        }
+
         public boolean equals(Object objectToCompare) {
             if (this == objectToCompare) {
                 return true;
@@ -211,6 +241,10 @@ public class Settings implements PersistentStateComponent<Settings.State> {
                     return false;
                 } else if (this.isDoNotAskContentConfigAgain() != state.isDoNotAskContentConfigAgain()) {
                     return false;
+                } else if (this.isEditorTelemetryEnabled() != state.isEditorTelemetryEnabled()) {
+                    return false;
+                } else if (this.getSlowOperationThreshold() != state.getSlowOperationThreshold()) {
+                    return false;
                 } else {
                     if (this.magentoPath != null) {
                         return this.magentoPath.equals(state.magentoPath);
@@ -229,6 +263,8 @@ public class Settings implements PersistentStateComponent<Settings.State> {
             result = 31 * result + (this.magentoPath != null ? this.magentoPath.hashCode() : 0);
             result = 31 * result + (this.isMftfSupportEnabled() ? 1 : 0);
             result = 31 * result + (this.isDoNotAskContentConfigAgain() ? 1 : 0);
+            result = 31 * result + (this.isEditorTelemetryEnabled() ? 1 : 0);
+            result = 31 * result + this.getSlowOperationThreshold();
             result = 31 * result + (this.defaultLicenseName != null ? this.defaultLicenseName.hashCode() : 0);
             return result;
         }
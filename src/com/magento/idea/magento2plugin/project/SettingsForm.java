@@ -14,8 +14,9 @@ import com.intellij.openapi.project.Project;
 import com.intellij.openapi.ui.ComponentWithBrowseButton;
 import com.intellij.openapi.ui.TextComponentAccessor;
 import com.intellij.openapi.ui.TextFieldWithBrowseButton;
+import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.openapi.vfs.VfsUtilCore;
 import com.intellij.openapi.vfs.VirtualFile;
-import com.intellij.psi.PsiDirectory;
 import com.intellij.psi.PsiFile;
 import com.intellij.psi.PsiManager;
 import com.intellij.psi.search.FilenameIndex;
@@ -37,7 +38,6 @@ import javax.swing.event.DocumentListener;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
 import java.util.Collection;
-import java.util.Stack;
 
 public class SettingsForm implements PhpFrameworkConfigurable {
 
@@ -53,6 +53,10 @@ public class SettingsForm implements PhpFrameworkConfigurable {
     private JLabel magentoPathLabel;
     private TextFieldWithBrowseButton magentoPath;
     private JLabel magentoVersionLabel;
+    private JCheckBox editorTelemetryEnabled;
+    private JLabel slowOperationThresholdLabel;
+    private JTextField slowOperationThreshold;
+    private EditorTelemetryPanel editorTelemetryPanel;
     private MagentoVersion magentoVersionUtil = MagentoVersion.getInstance();
     private SettingsFormValidator validator = SettingsFormValidator.getInstance(this);
 
@@ -95,6 +99,8 @@ public class SettingsForm implements PhpFrameworkConfigurable {
         moduleDefaultLicenseName.setText(getSettings().DEFAULT_LICENSE);
         mftfSupportEnabled.setSelected(getSettings().mftfSupportEnabled);
         magentoPath.getTextField().setText(getSettings().magentoPath);
+        editorTelemetryEnabled.setSelected(getSettings().editorTelemetryEnabled);
+        slowOperationThreshold.setText(String.valueOf(getSettings().slowOperationThreshold));
         resolveMagentoVersion();
 
         addPathListener();
@@ -114,8 +120,10 @@ public class SettingsForm implements PhpFrameworkConfigurable {
         boolean statusChanged = !pluginEnabled.isSelected() == getSettings().pluginEnabled;
         boolean mftfSupportChanged = mftfSupportEnabled.isSelected() != getSettings().mftfSupportEnabled;
         boolean magentoPathChanged = isMagentoPathChanged();
+        boolean telemetryChanged = editorTelemetryEnabled.isSelected() != getSettings().editorTelemetryEnabled
+                || !getSlowOperationThreshold().equals(String.valueOf(getSettings().slowOperationThreshold));
 
-        return statusChanged || licenseChanged || mftfSupportChanged || magentoPathChanged;
+        return statusChanged || licenseChanged || mftfSupportChanged || magentoPathChanged || telemetryChanged;
     }
 
     private void resolveMagentoVersion() {
@@ -148,6 +156,12 @@ public class SettingsForm implements PhpFrameworkConfigurable {
         getSettings().mftfSupportEnabled = mftfSupportEnabled.isSelected();
         getSettings().magentoPath = getMagentoPath();
         getSettings().magentoVersion = getMagentoVersion();
+        getSettings().editorTelemetryEnabled = editorTelemetryEnabled.isSelected();
+        // the threshold is validated only with telemetry enabled, an invalid value keeps the saved one
+        int slowOperationThreshold = StringUtil.parseInt(getSlowOperationThreshold(), 0);
+        if (slowOperationThreshold > 0) {
+            getSettings().slowOperationThreshold = slowOperationThreshold;
+        }
         buttonReindex.setEnabled(getSettings().pluginEnabled);
         regenerateUrnMapButton.setEnabled(getSettings().pluginEnabled);
     }
@@ -162,9 +176,21 @@ public class SettingsForm implements PhpFrameworkConfigurable {
         return magentoPath.getTextField().getText().trim();
     }
 
+    public boolean isEditorTelemetryEnabled() {
+        return editorTelemetryEnabled.isSelected();
+    }
+
+    @NotNull
+    public String getSlowOperationThreshold() {
+        return slowOperationThreshold.getText().trim();
+    }
+
     @Override
     public void reset() {
         pluginEnabled.setSelected(getSettings().pluginEnabled);
+        editorTelemetryEnabled.setSelected(getSettings().editorTelemetryEnabled);
+        slowOperationThreshold.setText(String.valueOf(getSettings().slowOperationThreshold));
+        editorTelemetryPanel.refresh();
     }
 
     @Override
@@ -316,22 +342,14 @@ class RegenerateUrnMapListener extends MouseAdapter {
             return null;
         }
 
-        Stack<String> relativePath = new Stack<>();
-        relativePath.push(psiFile.getName());
-
-        PsiManager psiManager = magentoComponent.getDirectory().getManager();
-        PsiDirectory parentDir = psiFile.getParent();
-        while (parentDir != null && !psiManager.areElementsEquivalent(parentDir, magentoComponent.getDirectory())) {
-            relativePath.push("/");
-            relativePath.push(parentDir.getName());
-            parentDir = parentDir.getParentDirectory();
-        }
-
-        StringBuilder stringBuilder = new StringBuilder(prefix);
-        while (!relativePath.empty()) {
-            stringBuilder.append(relativePath.pop());
+        VirtualFile file = psiFile.getVirtualFile();
+        String relativePath = file != null
+                ? VfsUtilCore.getRelativePath(file, magentoComponent.getVirtualDirectory())
+                : null;
+        if (relativePath == null) {
+            return null;
         }
 
-        return stringBuilder.toString();
+        return prefix + relativePath;
     }
 }
@@ -0,0 +1,21 @@
+/*
+ * Copyright © Magento, Inc. All rights reserved.
+ * See COPYING.txt for license details.
+ */
+package com.magento.idea.magento2plugin.project;
+
+import com.intellij.openapi.components.ServiceManager;
+import com.intellij.openapi.project.Project;
+import org.jetbrains.annotations.NotNull;
+
+public class WebApiXmlModificationTracker extends ConfigFileModificationTracker {
+    public static final String FILE_NAME = "webapi.xml";
+
+    public WebApiXmlModificationTracker(@NotNull Project project) {
+        super(project, FILE_NAME);
+    }
+
+    public static WebApiXmlModificationTracker getInstance(@NotNull Project project) {
+        return ServiceManager.getService(project, WebApiXmlModificationTracker.class);
+    }
+}
@@ -5,6 +5,7 @@
 package com.magento.idea.magento2plugin.project.validator;
 
 import com.intellij.openapi.options.ConfigurationException;
+import com.intellij.openapi.util.text.StringUtil;
 import com.magento.idea.magento2plugin.util.magento.MagentoVersion;
 import com.magento.idea.magento2plugin.bundles.ValidatorBundle;
 import com.magento.idea.magento2plugin.project.SettingsForm;
@@ -29,6 +30,10 @@ public class SettingsFormValidator {
     }
 
     public void validate() throws ConfigurationException {
+        if (form.isEditorTelemetryEnabled()) {
+            validateSlowOperationThreshold();
+        }
+
         if (!form.getSettings().pluginEnabled) {
             return;
         }
@@ -46,4 +51,23 @@ public class SettingsFormValidator {
             throw new ConfigurationException(validatorBundle.message("validator.magentoVersionInvalid"));
         }
     }
-}
\ No newline at end of file
+
+    private void validateSlowOperationThreshold() throws ConfigurationException {
+        String slowOperationThreshold = form.getSlowOperationThreshold();
+        if (slowOperationThreshold.length() == 0) {
+            throw new ConfigurationException(validatorBundle.message("validator.notEmpty", "Slow Operation Threshold"));
+        }
+
+        if (!slowOperationThreshold.matches(RegExUtil.NUMERIC)) {
+            throw new ConfigurationException(
+                    validatorBundle.message("validator.onlyNumbers", "Slow Operation Threshold")
+            );
+        }
+
+        if (StringUtil.parseInt(slowOperationThreshold, 0) <= 0) {
+            throw new ConfigurationException(
+                    validatorBundle.message("validator.positiveNumber", "Slow Operation Threshold")
+            );
+        }
+    }
+}
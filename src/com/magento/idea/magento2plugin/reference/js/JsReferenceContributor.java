@@ -10,6 +10,7 @@ import com.magento.idea.magento2plugin.reference.provider.FilePathReferenceProvi
 import com.magento.idea.magento2plugin.reference.provider.ModuleNameReferenceProvider;
 import com.magento.idea.magento2plugin.reference.provider.RequireJsPreferenceReferenceProvider;
 import com.magento.idea.magento2plugin.util.RegExUtil;
+import com.magento.idea.magento2plugin.util.telemetry.InstrumentedReferenceProvider;
 import org.jetbrains.annotations.NotNull;
 
 import static com.intellij.patterns.StandardPatterns.string;
@@ -20,17 +21,17 @@ public class JsReferenceContributor extends PsiReferenceContributor {
         registrar.registerReferenceProvider(
                 JSPatterns.jsLiteralExpression()
                         .withText(string().matches(".*" + RegExUtil.Magento.MODULE_NAME + ".*")),
-                new ModuleNameReferenceProvider()
+                new InstrumentedReferenceProvider(new ModuleNameReferenceProvider())
         );
 
         registrar.registerReferenceProvider(
                 JSPatterns.jsLiteralExpression().withText(string().matches(".*\\W" + RegExUtil.FILE_PATH + ".*")),
-                new FilePathReferenceProvider()
+                new InstrumentedReferenceProvider(new FilePathReferenceProvider())
         );
 
         registrar.registerReferenceProvider(
                 JSPatterns.jsLiteralExpression().withText(string().matches(".*\\W" + RegExUtil.FILE_PATH + ".*")),
-                new RequireJsPreferenceReferenceProvider()
+                new InstrumentedReferenceProvider(new RequireJsPreferenceReferenceProvider())
         );
     }
 }
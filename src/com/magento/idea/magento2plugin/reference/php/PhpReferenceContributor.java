@@ -8,6 +8,7 @@ import com.intellij.psi.PsiReferenceContributor;
 import com.intellij.psi.PsiReferenceRegistrar;
 import com.magento.idea.magento2plugin.util.php.PhpPatternsHelper;
 import com.magento.idea.magento2plugin.reference.provider.EventDispatchReferenceProvider;
+import com.magento.idea.magento2plugin.util.telemetry.InstrumentedReferenceProvider;
 import org.jetbrains.annotations.NotNull;
 
 public class PhpReferenceContributor extends PsiReferenceContributor {
@@ -16,7 +17,7 @@ public class PhpReferenceContributor extends PsiReferenceContributor {
         // ->dispatch("event_name")
         registrar.registerReferenceProvider(
                 PhpPatternsHelper.STRING_METHOD_ARGUMENT,
-                new EventDispatchReferenceProvider()
+                new InstrumentedReferenceProvider(new EventDispatchReferenceProvider())
         );
     }
 }
@@ -4,17 +4,18 @@
  */
 package com.magento.idea.magento2plugin.reference.provider;
 
+import com.intellij.openapi.project.Project;
 import com.intellij.openapi.util.TextRange;
 import com.intellij.openapi.vfs.*;
 import com.intellij.psi.*;
 import com.intellij.psi.search.FilenameIndex;
 import com.intellij.psi.search.GlobalSearchScope;
 import com.intellij.util.ProcessingContext;
-import com.magento.idea.magento2plugin.reference.provider.util.GetAllSubFilesOfVirtualFileUtil;
 import com.magento.idea.magento2plugin.reference.provider.util.GetFilePathUtil;
 import com.magento.idea.magento2plugin.reference.provider.util.GetModuleNameUtil;
-import com.magento.idea.magento2plugin.reference.provider.util.GetModuleSourceFilesUtil;
 import com.magento.idea.magento2plugin.reference.xml.PolyVariantReferenceBase;
+import com.magento.idea.magento2plugin.stubs.indexes.ViewAssetIndex;
+import com.magento.idea.magento2plugin.util.magento.ModuleRegistry;
 import gnu.trove.THashMap;
 import org.jetbrains.annotations.NotNull;
 import java.util.*;
@@ -112,6 +113,25 @@ public class FilePathReferenceProvider extends PsiReferenceProvider {
             return files;
         }
 
+        String moduleName = GetModuleNameUtil.getInstance().execute(element.getText());
+        if (null != moduleName) {
+            // module asset, e.g. Magento_Catalog::product/view.phtml or Magento_Ui/js/form/form
+            Project project = element.getProject();
+            ModuleRegistry moduleRegistry = ModuleRegistry.getInstance(project);
+            VirtualFile viewVf = moduleRegistry.getViewDirectory(moduleName);
+            if (null != viewVf) {
+                files.addAll(ViewAssetIndex.findAssetFiles(project, viewVf, filePath));
+            }
+
+            ModuleRegistry.Module module = moduleRegistry.getModule(moduleName);
+            VirtualFile sourceVf = null != module ? module.getSourceDirectory() : null;
+            VirtualFile moduleFile = null != sourceVf ? sourceVf.findFileByRelativePath(filePath) : null;
+            if (null != moduleFile && !moduleFile.isDirectory() && !files.contains(moduleFile)) {
+                files.add(moduleFile);
+            }
+            return files;
+        }
+
         String fileName = filePath.substring(filePath.lastIndexOf("/") + 1);
 
         if (fileName.matches(".*\\.\\w+$")) {
@@ -122,47 +142,8 @@ public class FilePathReferenceProvider extends PsiReferenceProvider {
                     GlobalSearchScope.allScope(element.getProject())
             );
             files.removeIf(f -> !f.getPath().endsWith(filePath));
-
-            // filter by module
-            Collection<VirtualFile> vfs = GetModuleSourceFilesUtil.getInstance().execute(element.getText(), element.getProject());
-            if (null != vfs) {
-                files.removeIf(f -> {
-                    for (VirtualFile vf : vfs) {
-                        if (f.getPath().startsWith(vf.getPath().concat("/"))) {
-                            return false;
-                        }
-                    }
-                    return true;
-                });
-            }
-        } else if (isModuleNamePresent(element)) {
-            // extension absent
-            Collection<VirtualFile> vfs = GetModuleSourceFilesUtil.getInstance().execute(element.getText(), element.getProject());
-            if (null != vfs) {
-                for (VirtualFile vf : vfs) {
-                    Collection<VirtualFile> vfChildren = GetAllSubFilesOfVirtualFileUtil.
-                            getInstance().execute(vf);
-                    if (null != vfChildren) {
-                        vfChildren.removeIf(f -> {
-                            if (!f.isDirectory()) {
-                                String ext = f.getExtension();
-                                if (null != ext) {
-                                    return !f.getPath().endsWith(filePath.concat(".").concat(ext));
-                                }
-                            }
-                            return true;
-                        });
-                        files.addAll(vfChildren);
-                    }
-                }
-            }
         }
 
         return files;
     }
-
-    private boolean isModuleNamePresent(@NotNull PsiElement element)
-    {
-        return GetModuleNameUtil.getInstance().execute(element.getText()) != null;
-    }
 }
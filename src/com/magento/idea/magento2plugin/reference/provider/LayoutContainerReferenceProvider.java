@@ -8,7 +8,6 @@ import com.intellij.openapi.util.text.StringUtil;
 import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiReference;
 import com.intellij.psi.PsiReferenceProvider;
-import com.intellij.psi.xml.XmlTag;
 import com.intellij.util.ProcessingContext;
 import com.magento.idea.magento2plugin.indexes.LayoutIndex;
 import com.magento.idea.magento2plugin.reference.xml.PolyVariantReferenceBase;
@@ -25,7 +24,7 @@ public class LayoutContainerReferenceProvider extends PsiReferenceProvider {
     @Override
     public PsiReference[] getReferencesByElement(@NotNull PsiElement element, @NotNull ProcessingContext context) {
         String value = StringUtil.unquoteString(element.getText());
-        List<XmlTag> targets = LayoutIndex.getContainerDeclarations(value, element.getProject());
+        List<PsiElement> targets = LayoutIndex.getContainerDeclarations(value, element.getProject());
         if (targets.size() > 0) {
             return new PsiReference[] {new PolyVariantReferenceBase(element, targets)};
         }
@@ -9,8 +9,8 @@ import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.psi.*;
 import com.intellij.psi.search.GlobalSearchScope;
 import com.intellij.util.ProcessingContext;
-import com.intellij.util.indexing.FileBasedIndex;
 import com.jetbrains.php.lang.PhpFileType;
+import com.magento.idea.magento2plugin.indexes.IndexQueries;
 import com.magento.idea.magento2plugin.reference.xml.PolyVariantReferenceBase;
 import com.magento.idea.magento2plugin.stubs.indexes.ModuleNameIndex;
 import org.jetbrains.annotations.NotNull;
@@ -38,7 +38,7 @@ public class ModuleNameReferenceProvider extends PsiReferenceProvider {
 
         String moduleName = matcher.group(1);
 
-        Collection<VirtualFile> moduleFiles = FileBasedIndex.getInstance()
+        Collection<VirtualFile> moduleFiles = IndexQueries
                 .getContainingFiles(ModuleNameIndex.KEY, moduleName,
                         GlobalSearchScope.getScopeRestrictedByFileTypes(
                                 GlobalSearchScope.allScope(element.getProject()),
@@ -11,7 +11,7 @@ import com.intellij.psi.*;
 import com.intellij.psi.search.GlobalSearchScope;
 import com.intellij.psi.xml.*;
 import com.intellij.util.ProcessingContext;
-import com.intellij.util.indexing.FileBasedIndex;
+import com.magento.idea.magento2plugin.indexes.IndexQueries;
 import com.magento.idea.magento2plugin.reference.xml.PolyVariantReferenceBase;
 import com.magento.idea.magento2plugin.stubs.indexes.mftf.ActionGroupIndex;
 import com.magento.idea.magento2plugin.util.xml.XmlPsiTreeUtil;
@@ -29,8 +29,7 @@ public class ActionGroupReferenceProvider extends PsiReferenceProvider {
 
         String origValue = StringUtil.unquoteString(element.getText());
 
-        Collection<VirtualFile> containingFiles = FileBasedIndex.getInstance()
-            .getContainingFiles(
+        Collection<VirtualFile> containingFiles = IndexQueries.getContainingFiles(
                 ActionGroupIndex.KEY,
                 origValue,
                 GlobalSearchScope.getScopeRestrictedByFileTypes(
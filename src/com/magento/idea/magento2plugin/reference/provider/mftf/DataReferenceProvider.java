@@ -17,7 +17,7 @@ import com.intellij.psi.xml.XmlAttributeValue;
 import com.intellij.psi.xml.XmlFile;
 import com.intellij.psi.xml.XmlTag;
 import com.intellij.util.ProcessingContext;
-import com.intellij.util.indexing.FileBasedIndex;
+import com.magento.idea.magento2plugin.indexes.IndexQueries;
 import com.magento.idea.magento2plugin.reference.xml.PolyVariantReferenceBase;
 import com.magento.idea.magento2plugin.stubs.indexes.mftf.DataIndex;
 import com.magento.idea.magento2plugin.util.xml.XmlPsiTreeUtil;
@@ -36,8 +36,7 @@ public class DataReferenceProvider extends PsiReferenceProvider {
         String origValue = StringUtil.unquoteString(element.getText());
         String modifiedValue = origValue.replaceAll("\\{{2}([_A-Za-z0-9.]+)(\\([^}]+\\))?\\}{2}", "$1").toString();
 
-        Collection<VirtualFile> containingFiles = FileBasedIndex.getInstance()
-            .getContainingFiles(
+        Collection<VirtualFile> containingFiles = IndexQueries.getContainingFiles(
                 DataIndex.KEY,
                 modifiedValue,
                 GlobalSearchScope.getScopeRestrictedByFileTypes(
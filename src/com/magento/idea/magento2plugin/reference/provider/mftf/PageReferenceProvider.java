@@ -15,7 +15,7 @@ import com.intellij.psi.search.GlobalSearchScope;
 import com.intellij.psi.xml.XmlAttributeValue;
 import com.intellij.psi.xml.XmlFile;
 import com.intellij.util.ProcessingContext;
-import com.intellij.util.indexing.FileBasedIndex;
+import com.magento.idea.magento2plugin.indexes.IndexQueries;
 import com.magento.idea.magento2plugin.reference.xml.PolyVariantReferenceBase;
 import com.magento.idea.magento2plugin.stubs.indexes.mftf.PageIndex;
 import com.magento.idea.magento2plugin.util.xml.XmlPsiTreeUtil;
@@ -34,8 +34,7 @@ public class PageReferenceProvider extends PsiReferenceProvider {
         String origValue = StringUtil.unquoteString(element.getText());
         String modifiedValue = origValue.replaceAll("\\{{2}([_A-Za-z0-9]+)([^}]+)?\\}{2}", "$1").toString();
 
-        Collection<VirtualFile> containingFiles = FileBasedIndex.getInstance()
-            .getContainingFiles(
+        Collection<VirtualFile> containingFiles = IndexQueries.getContainingFiles(
                 PageIndex.KEY,
                 modifiedValue,
                 GlobalSearchScope.getScopeRestrictedByFileTypes(
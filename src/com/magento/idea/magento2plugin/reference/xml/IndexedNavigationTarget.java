@@ -0,0 +1,243 @@
+/*
+ * Copyright © Magento, Inc. All rights reserved.
+ * See COPYING.txt for license details.
+ */
+package com.magento.idea.magento2plugin.reference.xml;
+
+import com.intellij.openapi.fileEditor.OpenFileDescriptor;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.vfs.VfsUtilCore;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiManager;
+import com.intellij.psi.SmartPointerManager;
+import com.intellij.psi.SmartPsiElementPointer;
+import com.intellij.psi.impl.FakePsiElement;
+import com.intellij.psi.util.PsiTreeUtil;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import javax.swing.*;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Navigation target built from an indexed file offset.
+ *
+ * The target file is parsed only when the element is actually requested, e.g. when the user picks the target.
+ * The resolved element is kept behind a smart pointer, the target does not retain the PSI tree.
+ */
+public class IndexedNavigationTarget<T extends PsiElement> extends FakePsiElement {
+    private final Project project;
+    private final VirtualFile file;
+    private final int offset;
+    private final String name;
+    private final Class<T> targetClass;
+    private volatile SmartPsiElementPointer<T> elementPointer;
+
+    public IndexedNavigationTarget(
+            @NotNull Project project,
+            @NotNull VirtualFile file,
+            int offset,
+            @NotNull String name,
+            @NotNull Class<T> targetClass
+    ) {
+        this.project = project;
+        this.file = file;
+        this.offset = offset;
+        this.name = name;
+        this.targetClass = targetClass;
+    }
+
+    /**
+     * Resolves the declaration element, loading the PSI of the target file.
+     */
+    @Nullable
+    public T getElement() {
+        SmartPsiElementPointer<T> pointer = elementPointer;
+        if (pointer != null) {
+            T element = pointer.getElement();
+            if (element != null) {
+                return element;
+            }
+        }
+        PsiFile psiFile = getContainingFile();
+        if (psiFile == null) {
+            return null;
+        }
+
+        T element = findElement(psiFile, offset, targetClass);
+        if (element != null) {
+            elementPointer = SmartPointerManager.getInstance(project).createSmartPsiElementPointer(element);
+        }
+
+        return element;
+    }
+
+    /**
+     * Declaration elements at the indexed offsets of the files, each file is parsed once.
+     *
+     * Used by references, which resolve to the real declarations, unlike gutter icons and popups.
+     */
+    @NotNull
+    public static <T extends PsiElement> List<T> findElements(
+            @NotNull Project project,
+            @NotNull Map<VirtualFile, ? extends Collection<Integer>> offsetsByFile,
+            @NotNull Class<T> targetClass
+    ) {
+        List<T> elements = new ArrayList<>();
+        PsiManager psiManager = PsiManager.getInstance(project);
+        for (Map.Entry<VirtualFile, ? extends Collection<Integer>> entry : offsetsByFile.entrySet()) {
+            PsiFile psiFile = entry.getKey().isValid() ? psiManager.findFile(entry.getKey()) : null;
+            if (psiFile == null) {
+                continue;
+            }
+            for (Integer offset : entry.getValue()) {
+                T element = findElement(psiFile, offset, targetClass);
+                if (element != null && !elements.contains(element)) {
+                    elements.add(element);
+                }
+            }
+        }
+
+        return elements;
+    }
+
+    @Nullable
+    private static <T extends PsiElement> T findElement(
+            @NotNull PsiFile psiFile,
+            int offset,
+            @NotNull Class<T> targetClass
+    ) {
+        return PsiTreeUtil.getParentOfType(psiFile.findElementAt(offset), targetClass, false);
+    }
+
+    @NotNull
+    public VirtualFile getVirtualFile() {
+        return file;
+    }
+
+    public int getOffset() {
+        return offset;
+    }
+
+    @Override
+    public PsiElement getParent() {
+        return getContainingFile();
+    }
+
+    @Nullable
+    @Override
+    public PsiFile getContainingFile() {
+        if (!file.isValid()) {
+            return null;
+        }
+
+        return PsiManager.getInstance(project).findFile(file);
+    }
+
+    @NotNull
+    @Override
+    public Project getProject() {
+        return project;
+    }
+
+    @NotNull
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public String getPresentableText() {
+        return name;
+    }
+
+    @Nullable
+    @Override
+    public String getLocationString() {
+        VirtualFile baseDir = project.getBaseDir();
+        String relativePath = baseDir != null ? VfsUtilCore.getRelativePath(file, baseDir) : null;
+
+        return relativePath != null ? relativePath : file.getPresentableUrl();
+    }
+
+    @Nullable
+    @Override
+    public Icon getIcon(boolean open) {
+        return file.getFileType().getIcon();
+    }
+
+    @Override
+    public int getTextOffset() {
+        return offset;
+    }
+
+    @NotNull
+    @Override
+    public PsiElement getNavigationElement() {
+        T element = getElement();
+
+        return element != null ? element : this;
+    }
+
+    @Override
+    public void navigate(boolean requestFocus) {
+        new OpenFileDescriptor(project, file, offset).navigate(requestFocus);
+    }
+
+    @Override
+    public boolean canNavigate() {
+        return file.isValid();
+    }
+
+    @Override
+    public boolean canNavigateToSource() {
+        return canNavigate();
+    }
+
+    @Override
+    public boolean isValid() {
+        return file.isValid();
+    }
+
+    @Override
+    public boolean isEquivalentTo(PsiElement another) {
+        if (this == another || this.equals(another)) {
+            return true;
+        }
+        if (another == null || another instanceof IndexedNavigationTarget || !another.isValid()) {
+            return false;
+        }
+
+        PsiFile anotherFile = another.getContainingFile();
+        if (anotherFile == null || !file.equals(anotherFile.getVirtualFile())) {
+            return false;
+        }
+
+        return another.equals(getElement());
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        IndexedNavigationTarget<?> that = (IndexedNavigationTarget<?>) o;
+        return offset == that.offset
+                && file.equals(that.file)
+                && targetClass.equals(that.targetClass);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(file, offset, targetClass);
+    }
+}
@@ -13,6 +13,7 @@ import com.magento.idea.magento2plugin.magento.files.MftfTest;
 import com.magento.idea.magento2plugin.reference.provider.*;
 import com.magento.idea.magento2plugin.reference.provider.mftf.*;
 import com.magento.idea.magento2plugin.util.RegExUtil;
+import com.magento.idea.magento2plugin.util.telemetry.InstrumentedReferenceProvider;
 import org.jetbrains.annotations.NotNull;
 import static com.intellij.patterns.XmlPatterns.*;
 
@@ -25,8 +26,8 @@ public class XmlReferenceContributor extends PsiReferenceContributor {
         registrar.registerReferenceProvider(
             XmlPatterns.xmlAttributeValue().withValue(string().matches(RegExUtil.XmlRegex.CLASS_ELEMENT)),
             new CompositeReferenceProvider(
-                new PhpClassReferenceProvider(),
-                new PhpClassMemberReferenceProvider()
+                new InstrumentedReferenceProvider(new PhpClassReferenceProvider()),
+                new InstrumentedReferenceProvider(new PhpClassMemberReferenceProvider())
             )
         );
 
@@ -35,8 +36,8 @@ public class XmlReferenceContributor extends PsiReferenceContributor {
             XmlPatterns.psiElement(XmlTokenType.XML_DATA_CHARACTERS)
                 .withText(string().matches(RegExUtil.XmlRegex.CLASS_ELEMENT)),
             new CompositeReferenceProvider(
-                new PhpClassReferenceProvider(),
-                new PhpClassMemberReferenceProvider()
+                new InstrumentedReferenceProvider(new PhpClassReferenceProvider()),
+                new InstrumentedReferenceProvider(new PhpClassMemberReferenceProvider())
             )
         );
 
@@ -45,7 +46,7 @@ public class XmlReferenceContributor extends PsiReferenceContributor {
             XmlPatterns.xmlAttributeValue().withParent(
                 XmlPatterns.xmlAttribute().withName("type")).inFile(xmlFile().withName(string().endsWith("di.xml"))
             ),
-            new VirtualTypeReferenceProvider()
+            new InstrumentedReferenceProvider(new VirtualTypeReferenceProvider())
         );
         registrar.registerReferenceProvider(
             XmlPatterns.psiElement(XmlTokenType.XML_DATA_CHARACTERS).withParent(
@@ -55,7 +56,7 @@ public class XmlReferenceContributor extends PsiReferenceContributor {
                     )
                 )
             ).inFile(xmlFile().withName(string().endsWith("di.xml"))),
-            new VirtualTypeReferenceProvider()
+            new InstrumentedReferenceProvider(new VirtualTypeReferenceProvider())
         );
 
         // arguments
@@ -67,7 +68,7 @@ public class XmlReferenceContributor extends PsiReferenceContributor {
                     )
                 )
             ).inFile(xmlFile().withName(string().endsWith("di.xml"))),
-            new PhpConstructorArgumentReferenceProvider()
+            new InstrumentedReferenceProvider(new PhpConstructorArgumentReferenceProvider())
         );
 
         // <service method="methodName"/>
@@ -77,7 +78,7 @@ public class XmlReferenceContributor extends PsiReferenceContributor {
                     XmlPatterns.xmlTag().withName("service")
                 )
             ).inFile(xmlFile().withName(string().endsWith("webapi.xml"))),
-            new PhpServiceMethodReferenceProvider()
+            new InstrumentedReferenceProvider(new PhpServiceMethodReferenceProvider())
         );
 
         registrar.registerReferenceProvider(
@@ -86,7 +87,7 @@ public class XmlReferenceContributor extends PsiReferenceContributor {
                     XmlPatterns.xmlTag().withName("referenceContainer")
                 )
             ),
-            new LayoutContainerReferenceProvider()
+            new InstrumentedReferenceProvider(new LayoutContainerReferenceProvider())
         );
 
         registrar.registerReferenceProvider(
@@ -102,7 +103,7 @@ public class XmlReferenceContributor extends PsiReferenceContributor {
                 XmlPatterns.xmlAttributeValue().withParent(XmlPatterns.xmlAttribute().withName("name")
                     .withParent(XmlPatterns.xmlTag().withName("remove")))
             ),
-            new LayoutBlockReferenceProvider()
+            new InstrumentedReferenceProvider(new LayoutBlockReferenceProvider())
         );
 
         registrar.registerReferenceProvider(
@@ -111,7 +112,7 @@ public class XmlReferenceContributor extends PsiReferenceContributor {
                     XmlPatterns.xmlTag().withName("update")
                 )
             ),
-            new LayoutUpdateReferenceProvider()
+            new InstrumentedReferenceProvider(new LayoutUpdateReferenceProvider())
         );
 
         // <event name="reference" />
@@ -121,14 +122,14 @@ public class XmlReferenceContributor extends PsiReferenceContributor {
                     XmlPatterns.xmlTag().withName("event")
                 )
             ),
-            new EventNameReferenceProvider()
+            new InstrumentedReferenceProvider(new EventNameReferenceProvider())
         );
 
         // <someXmlTag someAttribute="Module_Name[.*]" />
         registrar.registerReferenceProvider(
             XmlPatterns.xmlAttributeValue().withValue(string().matches(".*[A-Z][a-zA-Z0-9]+_[A-Z][a-zA-Z0-9]+.*")),
             new CompositeReferenceProvider(
-                new ModuleNameReferenceProvider()
+                new InstrumentedReferenceProvider(new ModuleNameReferenceProvider())
             )
         );
 
@@ -137,7 +138,7 @@ public class XmlReferenceContributor extends PsiReferenceContributor {
             XmlPatterns.psiElement(XmlTokenType.XML_DATA_CHARACTERS)
                     .withText(string().matches(".*[A-Z][a-zA-Z0-9]+_[A-Z][a-zA-Z0-9]+.*")),
             new CompositeReferenceProvider(
-                new ModuleNameReferenceProvider()
+                new InstrumentedReferenceProvider(new ModuleNameReferenceProvider())
             )
         );
 
@@ -145,7 +146,7 @@ public class XmlReferenceContributor extends PsiReferenceContributor {
         registrar.registerReferenceProvider(
                 XmlPatterns.xmlAttributeValue().withValue(string().matches(".*\\W([\\w-]+/)*[\\w\\.-]+.*")),
                 new CompositeReferenceProvider(
-                        new FilePathReferenceProvider()
+                        new InstrumentedReferenceProvider(new FilePathReferenceProvider())
                 )
         );
 
@@ -154,7 +155,7 @@ public class XmlReferenceContributor extends PsiReferenceContributor {
                 XmlPatterns.psiElement(XmlTokenType.XML_DATA_CHARACTERS)
                         .withText(string().matches(".*\\W([\\w-]+/)*[\\w\\.-]+.*")),
                 new CompositeReferenceProvider(
-                        new FilePathReferenceProvider()
+                        new InstrumentedReferenceProvider(new FilePathReferenceProvider())
                 )
         );
 
@@ -166,7 +167,7 @@ public class XmlReferenceContributor extends PsiReferenceContributor {
                 MftfActionGroup.USER_INPUT_TAG
             )),
             new CompositeReferenceProvider(
-                new DataReferenceProvider()
+                new InstrumentedReferenceProvider(new DataReferenceProvider())
             )
         );
 
@@ -179,7 +180,7 @@ public class XmlReferenceContributor extends PsiReferenceContributor {
                     string().oneOf(MftfActionGroup.CREATE_DATA_TAG, MftfActionGroup.UPDATE_DATA_TAG)
             ))),
             new CompositeReferenceProvider(
-                new DataReferenceProvider()
+                new InstrumentedReferenceProvider(new DataReferenceProvider())
             )
         );
 
@@ -188,7 +189,7 @@ public class XmlReferenceContributor extends PsiReferenceContributor {
             XmlPatterns.xmlAttributeValue().withParent(XmlPatterns.xmlAttribute().withName("ref")
                 .withParent(XmlPatterns.xmlTag().withName("actionGroup"))),
             new CompositeReferenceProvider(
-                new ActionGroupReferenceProvider()
+                new InstrumentedReferenceProvider(new ActionGroupReferenceProvider())
             )
         );
 
@@ -197,7 +198,7 @@ public class XmlReferenceContributor extends PsiReferenceContributor {
             XmlPatterns.xmlAttributeValue().withParent(XmlPatterns.xmlAttribute().withName("extends")
                 .withParent(XmlPatterns.xmlTag().withName("actionGroup"))),
             new CompositeReferenceProvider(
-                new ActionGroupReferenceProvider()
+                new InstrumentedReferenceProvider(new ActionGroupReferenceProvider())
             )
         );
 
@@ -206,7 +207,7 @@ public class XmlReferenceContributor extends PsiReferenceContributor {
             XmlPatterns.xmlAttributeValue().withParent(XmlPatterns.xmlAttribute().withName("extends")
                 .withParent(XmlPatterns.xmlTag().withName("entity"))),
             new CompositeReferenceProvider(
-                new DataReferenceProvider()
+                new InstrumentedReferenceProvider(new DataReferenceProvider())
             )
         );
 
@@ -220,7 +221,7 @@ public class XmlReferenceContributor extends PsiReferenceContributor {
                 )
             ),
             new CompositeReferenceProvider(
-                new TestNameReferenceProvider()
+                new InstrumentedReferenceProvider(new TestNameReferenceProvider())
             )
         );
 
@@ -229,7 +230,7 @@ public class XmlReferenceContributor extends PsiReferenceContributor {
                 XmlPatterns.xmlAttributeValue().withParent(
                         XmlPatterns.xmlAttribute().withName("component")
                 ),
-                new RequireJsPreferenceReferenceProvider()
+                new InstrumentedReferenceProvider(new RequireJsPreferenceReferenceProvider())
         );
 
         // <item name="component">requireJsMappingKey</item>
@@ -243,7 +244,7 @@ public class XmlReferenceContributor extends PsiReferenceContributor {
                                 )
                         )
                 ),
-                new RequireJsPreferenceReferenceProvider()
+                new InstrumentedReferenceProvider(new RequireJsPreferenceReferenceProvider())
         );
 
         registerReferenceForDifferentNesting(registrar);
@@ -264,7 +265,7 @@ public class XmlReferenceContributor extends PsiReferenceContributor {
                     string().oneOf(MftfActionGroup.ROOT_TAG, MftfTest.TEST_TAG)
                 )))),
                 new CompositeReferenceProvider(
-                    new PageReferenceProvider()
+                    new InstrumentedReferenceProvider(new PageReferenceProvider())
                 )
             );
 
@@ -278,7 +279,7 @@ public class XmlReferenceContributor extends PsiReferenceContributor {
                     string().oneOf(MftfActionGroup.ROOT_TAG, MftfTest.TEST_TAG)
                 )))),
                 new CompositeReferenceProvider(
-                    new SectionReferenceProvider()
+                    new InstrumentedReferenceProvider(new SectionReferenceProvider())
                 )
             );
 
@@ -7,23 +7,26 @@ package com.magento.idea.magento2plugin.stubs.indexes;
 import com.intellij.util.indexing.DataIndexer;
 import com.intellij.util.indexing.FileContent;
 import com.intellij.util.indexing.ID;
+import com.magento.idea.magento2plugin.indexes.statistics.InstrumentedDataIndexer;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.List;
+
 /**
  * Created by dkvashnin on 11/18/15.
  */
 public class BlockNameIndex extends NamedComponentIndex {
-    public static final ID<String, Void> KEY = ID.create("com.magento.idea.magento2plugin.stubs.indexes.block_name");
+    public static final ID<String, List<Integer>> KEY = ID.create("com.magento.idea.magento2plugin.stubs.indexes.block_name");
 
     @NotNull
     @Override
-    public ID<String, Void> getName() {
+    public ID<String, List<Integer>> getName() {
         return KEY;
     }
 
     @NotNull
     @Override
-    public DataIndexer<String, Void, FileContent> getIndexer() {
-        return new LayoutDataIndexer("block", "name");
+    public DataIndexer<String, List<Integer>, FileContent> getIndexer() {
+        return InstrumentedDataIndexer.wrap(KEY, getValueExternalizer(), new LayoutDataIndexer("block", "name"));
     }
 }
@@ -0,0 +1,205 @@
+/*
+ * Copyright © Magento, Inc. All rights reserved.
+ * See COPYING.txt for license details.
+ */
+package com.magento.idea.magento2plugin.stubs.indexes;
+
+import com.intellij.ide.highlighter.XmlFileType;
+import com.intellij.openapi.util.Key;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.util.indexing.*;
+import com.intellij.util.io.DataExternalizer;
+import com.intellij.util.io.EnumeratorStringDescriptor;
+import com.intellij.util.io.KeyDescriptor;
+import com.jetbrains.php.lang.PhpLangUtil;
+import com.magento.idea.magento2plugin.indexes.statistics.InstrumentedDataIndexer;
+import com.magento.idea.magento2plugin.project.Settings;
+import com.magento.idea.magento2plugin.stubs.indexes.data.DiArgumentData;
+import com.magento.idea.magento2plugin.stubs.indexes.data.DiConfigurationData;
+import com.magento.idea.magento2plugin.stubs.indexes.data.DiConfigurationDataExternalizer;
+import com.magento.idea.magento2plugin.stubs.indexes.data.DiPluginData;
+import com.magento.idea.magento2plugin.stubs.indexes.data.DiPreferenceData;
+import com.magento.idea.magento2plugin.stubs.indexes.data.VirtualTypeData;
+import com.magento.idea.magento2plugin.util.magento.MagentoAreaUtil;
+import com.magento.idea.magento2plugin.util.xml.XmlStreamScanner;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Type name => plugins, preferences, virtual types and argument overrides declared for it in a di.xml.
+ *
+ * The file is read once per indexing pass, PluginIndex, PluginTargetIndex and VirtualTypeIndex
+ * take their values from the same parsed configuration.
+ */
+public class DiConfigurationIndex extends FileBasedIndexExtension<String, DiConfigurationData> {
+    public static final ID<String, DiConfigurationData> KEY
+            = ID.create("com.magento.idea.magento2plugin.stubs.indexes.di_configuration");
+    private static final Key<Map<String, DiConfigurationData>> CONFIGURATION
+            = Key.create("com.magento.idea.magento2plugin.di_configuration");
+    private final KeyDescriptor<String> myKeyDescriptor = new EnumeratorStringDescriptor();
+
+    @NotNull
+    @Override
+    public ID<String, DiConfigurationData> getName() {
+        return KEY;
+    }
+
+    @NotNull
+    @Override
+    public DataIndexer<String, DiConfigurationData, FileContent> getIndexer() {
+        return InstrumentedDataIndexer.wrap(KEY, getValueExternalizer(), DiConfigurationIndex::getConfiguration);
+    }
+
+    /**
+     * Parsed configuration of the di.xml, shared by all indexers of the file. The result must not be modified.
+     */
+    @NotNull
+    public static Map<String, DiConfigurationData> getConfiguration(@NotNull FileContent fileContent) {
+        Map<String, DiConfigurationData> configuration = fileContent.getUserData(CONFIGURATION);
+        if (configuration == null) {
+            configuration = Settings.isEnabled(fileContent.getProject())
+                    ? Collections.unmodifiableMap(parse(fileContent))
+                    : Collections.emptyMap();
+            fileContent.putUserData(CONFIGURATION, configuration);
+        }
+
+        return configuration;
+    }
+
+    private static Map<String, DiConfigurationData> parse(FileContent fileContent) {
+        Map<String, DiConfigurationData> map = new HashMap<>();
+        String area = MagentoAreaUtil.getAreaByConfigFile(fileContent.getFile());
+
+        XmlStreamScanner.scan(fileContent.getContentAsText(), new XmlStreamScanner.Handler() {
+            @Override
+            public void startTag(@NotNull XmlStreamScanner.Tag tag) {
+                if (tag.isPath("config", "type")) {
+                    XmlStreamScanner.Attribute nameAttribute = tag.getAttribute("name");
+                    if (nameAttribute != null && !nameAttribute.getValue().isEmpty()) {
+                        getData(nameAttribute.getValue()).getTypeOffsets().add(nameAttribute.getValueOffset());
+                    }
+                } else if (tag.isPath("config", "type", "plugin")) {
+                    addPlugin(tag);
+                } else if (tag.isPath("config", "preference")) {
+                    XmlStreamScanner.Attribute forAttribute = tag.getAttribute("for");
+                    String type = tag.getAttributeValue("type");
+                    if (forAttribute != null && !forAttribute.getValue().isEmpty()
+                            && type != null && !type.isEmpty()) {
+                        getData(forAttribute.getValue()).getPreferences().add(
+                                new DiPreferenceData(PhpLangUtil.toPresentableFQN(type), forAttribute.getValueOffset())
+                        );
+                    }
+                } else if (tag.isPath("config", "virtualType")) {
+                    XmlStreamScanner.Attribute nameAttribute = tag.getAttribute("name");
+                    String type = tag.getAttributeValue("type");
+                    if (nameAttribute != null && !nameAttribute.getValue().isEmpty()
+                            && type != null && !type.isEmpty()) {
+                        getData(nameAttribute.getValue()).getVirtualTypes().add(
+                                new VirtualTypeData(type, nameAttribute.getValueOffset())
+                        );
+                    }
+                }
+            }
+
+            @Override
+            public void endTag(@NotNull XmlStreamScanner.Tag tag) {
+                if (tag.isPath("config", "type", "arguments", "argument")
+                        || tag.isPath("config", "virtualType", "arguments", "argument")) {
+                    addArgument(tag);
+                }
+            }
+
+            private void addPlugin(XmlStreamScanner.Tag tag) {
+                String typeName = tag.getParent().getAttributeValue("name");
+                String pluginName = tag.getAttributeValue("name");
+                if (typeName == null || typeName.isEmpty() || pluginName == null) {
+                    return;
+                }
+                String pluginType = tag.getAttributeValue("type");
+                String disabled = tag.getAttributeValue("disabled");
+                getData(typeName).getPlugins().add(new DiPluginData(
+                        pluginName,
+                        pluginType != null ? PhpLangUtil.toPresentableFQN(pluginType) : "",
+                        parseSortOrder(tag.getAttributeValue("sortOrder")),
+                        "true".equals(disabled) || "1".equals(disabled),
+                        tag.getOffset()
+                ));
+            }
+
+            private void addArgument(XmlStreamScanner.Tag tag) {
+                String typeName = tag.getParent().getParent().getAttributeValue("name");
+                XmlStreamScanner.Attribute nameAttribute = tag.getAttribute("name");
+                if (typeName == null || typeName.isEmpty() || nameAttribute == null) {
+                    return;
+                }
+                String xsiType = tag.getAttributeValue("xsi:type");
+                getData(typeName).getArguments().add(new DiArgumentData(
+                        nameAttribute.getValue(),
+                        xsiType != null ? xsiType : "",
+                        "array".equals(xsiType) ? "" : tag.getTrimmedText(),
+                        nameAttribute.getValueOffset()
+                ));
+            }
+
+            private DiConfigurationData getData(String typeName) {
+                return map.computeIfAbsent(
+                        PhpLangUtil.toPresentableFQN(typeName),
+                        k -> new DiConfigurationData(area)
+                );
+            }
+        });
+
+        return map;
+    }
+
+    @Nullable
+    private static Integer parseSortOrder(@Nullable String sortOrder) {
+        if (sortOrder == null) {
+            return null;
+        }
+        try {
+            return Integer.parseInt(sortOrder.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    @NotNull
+    @Override
+    public KeyDescriptor<String> getKeyDescriptor() {
+        return myKeyDescriptor;
+    }
+
+    @NotNull
+    @Override
+    public DataExternalizer<DiConfigurationData> getValueExternalizer() {
+        return new DiConfigurationDataExternalizer();
+    }
+
+    @NotNull
+    @Override
+    public FileBasedIndex.InputFilter getInputFilter() {
+        return DiConfigurationIndex::isDiFile;
+    }
+
+    /**
+     * Input filter shared by all di.xml indexes, the file name is compared case-insensitively.
+     */
+    public static boolean isDiFile(@NotNull VirtualFile file) {
+        return file.getFileType() == XmlFileType.INSTANCE && file.getName().equalsIgnoreCase("di.xml");
+    }
+
+    @Override
+    public boolean dependsOnFileContent() {
+        return true;
+    }
+
+    @Override
+    public int getVersion() {
+        return 3;
+    }
+}
@@ -6,21 +6,16 @@ package com.magento.idea.magento2plugin.stubs.indexes;
 
 import com.intellij.ide.highlighter.XmlFileType;
 import com.intellij.openapi.util.text.StringUtil;
-import com.intellij.psi.PsiElement;
-import com.intellij.psi.PsiFile;
-import com.intellij.psi.util.PsiTreeUtil;
-import com.intellij.psi.xml.XmlDocument;
-import com.intellij.psi.xml.XmlFile;
-import com.intellij.psi.xml.XmlTag;
 import com.intellij.util.indexing.*;
+import com.intellij.util.io.DataExternalizer;
 import com.intellij.util.io.EnumeratorStringDescriptor;
 import com.intellij.util.io.KeyDescriptor;
 import com.jetbrains.php.lang.PhpFileType;
-import com.jetbrains.php.lang.psi.PhpFile;
-import com.jetbrains.php.lang.psi.elements.MethodReference;
-import com.jetbrains.php.lang.psi.elements.ParameterList;
+import com.magento.idea.magento2plugin.indexes.statistics.InstrumentedDataIndexer;
 import com.magento.idea.magento2plugin.project.Settings;
-import com.magento.idea.magento2plugin.util.php.PhpPatternsHelper;
+import com.magento.idea.magento2plugin.stubs.indexes.data.OffsetListExternalizer;
+import com.magento.idea.magento2plugin.util.php.PhpMethodCallScanner;
+import com.magento.idea.magento2plugin.util.xml.XmlStreamScanner;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.ArrayList;
@@ -31,83 +26,78 @@ import java.util.Map;
 /**
  * Created by dkvashnin on 11/5/15.
  */
-public class EventNameIndex extends ScalarIndexExtension<String> {
-    public static final ID<String, Void> KEY = ID.create("com.magento.idea.magento2plugin.stubs.indexes.event_name");
+public class EventNameIndex extends FileBasedIndexExtension<String, List<Integer>> {
+    public static final ID<String, List<Integer>> KEY = ID.create("com.magento.idea.magento2plugin.stubs.indexes.event_name");
+    private static final String DISPATCH_METHOD = "dispatch";
     private final KeyDescriptor<String> myKeyDescriptor = new EnumeratorStringDescriptor();
 
     @NotNull
     @Override
-    public ID<String, Void> getName() {
+    public ID<String, List<Integer>> getName() {
         return KEY;
     }
 
     @NotNull
     @Override
-    public DataIndexer<String, Void, FileContent> getIndexer() {
-        return inputData -> {
-            Map<String, Void> map = new HashMap<>();
-            PsiFile psiFile = inputData.getPsiFile();
+    public DataIndexer<String, List<Integer>, FileContent> getIndexer() {
+        return InstrumentedDataIndexer.wrap(KEY, getValueExternalizer(), inputData -> {
+            Map<String, List<Integer>> map = new HashMap<>();
 
-            if (!Settings.isEnabled(psiFile.getProject())) {
+            if (!Settings.isEnabled(inputData.getProject())) {
                 return map;
             }
 
-            if (psiFile instanceof PhpFile) {
-                grabEventNamesFromPhpFile((PhpFile) psiFile, map);
-            } else if (psiFile instanceof XmlFile) {
-                grabEventNamesFromXmlFile((XmlFile) psiFile, map);
+            if (inputData.getFileType() == PhpFileType.INSTANCE) {
+                grabEventNamesFromPhpFile(inputData, map);
+                return map;
             }
 
+            grabEventNamesFromXmlFile(inputData, map);
+
             return map;
-        };
+        });
     }
 
-    private void grabEventNamesFromPhpFile(PhpFile file, Map<String, Void> map) {
-        List<String> results = new ArrayList<>();
-        recursiveFill(results, file);
-        for (String result: results) {
-            map.put(result, null);
+    /**
+     * Event names are taken from the lexer tokens, php files without dispatch calls are skipped by a text search.
+     * Every argument of the call which is a single string literal is an event name.
+     */
+    private void grabEventNamesFromPhpFile(FileContent inputData, Map<String, List<Integer>> map) {
+        CharSequence text = inputData.getContentAsText();
+        if (!StringUtil.contains(text, DISPATCH_METHOD)) {
+            return;
         }
-    }
 
-    private void recursiveFill(List<String> results, PsiElement psiElement) {
-        if (PhpPatternsHelper.STRING_METHOD_ARGUMENT.accepts(psiElement) && isInContextOfDispatchMethod(psiElement)) {
-            String eventName= StringUtil.unquoteString(psiElement.getText());
-            if (eventName.length() > 0) {
-                results.add(eventName);
+        List<PhpMethodCallScanner.MethodCall> methodCalls = PhpMethodCallScanner
+                .findMethodCalls(inputData.getProject(), text, DISPATCH_METHOD);
+        for (PhpMethodCallScanner.MethodCall methodCall : methodCalls) {
+            for (int i = 0; i < methodCall.getArguments().size(); i++) {
+                PhpMethodCallScanner.Token eventNameToken = methodCall.getStringArgument(i);
+                if (eventNameToken == null) {
+                    continue;
+                }
+                String eventName = StringUtil.unquoteString(eventNameToken.getText());
+                if (eventName.length() > 0) {
+                    addOffset(map, eventName, eventNameToken.getOffset());
+                }
             }
-            return;
-        }
-        for(PsiElement child: psiElement.getChildren()) {
-            recursiveFill(results, child);
         }
     }
 
-    private boolean isInContextOfDispatchMethod(PsiElement psiElement) {
-        ParameterList parameterList = PsiTreeUtil.getParentOfType(psiElement, ParameterList.class);
-        if (parameterList == null) {
-            return false;
-        }
-        if (!(parameterList.getContext() instanceof MethodReference)) {
-            return false;
-        }
-        MethodReference methodReference = (MethodReference)parameterList.getContext();
-        return methodReference.getName() != null && methodReference.getName().equals("dispatch");
+    private void grabEventNamesFromXmlFile(FileContent inputData, Map<String, List<Integer>> map) {
+        XmlStreamScanner.scan(inputData.getContentAsText(), tag -> {
+            if (!tag.getName().equals("event") || tag.getParent() == null || !tag.getParent().isRoot()) {
+                return;
+            }
+            XmlStreamScanner.Attribute nameAttribute = tag.getAttribute("name");
+            if (nameAttribute != null && !nameAttribute.getValue().isEmpty()) {
+                addOffset(map, nameAttribute.getValue(), nameAttribute.getValueOffset());
+            }
+        });
     }
 
-    private void grabEventNamesFromXmlFile(XmlFile file, Map<String, Void> map) {
-        XmlDocument xmlDocument = file.getDocument();
-        if (xmlDocument != null) {
-            XmlTag xmlRootTag = xmlDocument.getRootTag();
-            if (xmlRootTag != null) {
-                for (XmlTag eventTag : xmlRootTag.findSubTags("event")) {
-                    String name = eventTag.getAttributeValue("name");
-                    if (name != null && !name.isEmpty()) {
-                        map.put(name, null);
-                    }
-                }
-            }
-        }
+    private void addOffset(Map<String, List<Integer>> map, String eventName, int offset) {
+        map.computeIfAbsent(eventName, k -> new ArrayList<>()).add(offset);
     }
 
     @NotNull
@@ -116,6 +106,12 @@ public class EventNameIndex extends ScalarIndexExtension<String> {
         return myKeyDescriptor;
     }
 
+    @NotNull
+    @Override
+    public DataExternalizer<List<Integer>> getValueExternalizer() {
+        return OffsetListExternalizer.INSTANCE;
+    }
+
     @NotNull
     @Override
     public FileBasedIndex.InputFilter getInputFilter() {
@@ -132,6 +128,6 @@ public class EventNameIndex extends ScalarIndexExtension<String> {
 
     @Override
     public int getVersion() {
-        return 1;
+        return 6;
     }
 }
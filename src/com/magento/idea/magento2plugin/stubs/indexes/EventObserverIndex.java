@@ -5,18 +5,15 @@
 package com.magento.idea.magento2plugin.stubs.indexes;
 
 import com.intellij.ide.highlighter.XmlFileType;
-import com.intellij.psi.PsiFile;
-import com.intellij.psi.util.PsiTreeUtil;
-import com.intellij.psi.xml.XmlDocument;
-import com.intellij.psi.xml.XmlFile;
-import com.intellij.psi.xml.XmlTag;
 import com.intellij.util.indexing.*;
 import com.intellij.util.io.DataExternalizer;
 import com.intellij.util.io.EnumeratorStringDescriptor;
 import com.intellij.util.io.KeyDescriptor;
 import com.jetbrains.php.lang.PhpLangUtil;
 import com.jetbrains.php.lang.psi.stubs.indexes.StringSetDataExternalizer;
+import com.magento.idea.magento2plugin.indexes.statistics.InstrumentedDataIndexer;
 import com.magento.idea.magento2plugin.project.Settings;
+import com.magento.idea.magento2plugin.util.xml.XmlStreamScanner;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.HashMap;
@@ -41,57 +38,30 @@ public class EventObserverIndex extends FileBasedIndexExtension<String,Set<Strin
     @NotNull
     @Override
     public DataIndexer<String, Set<String>, FileContent> getIndexer() {
-        return new DataIndexer<String, Set<String>, FileContent>() {
-            @NotNull
-            @Override
-            public Map<String, Set<String>> map(@NotNull FileContent fileContent) {
-                Map<String, Set<String>> map = new HashMap<>();
-
-                PsiFile psiFile = fileContent.getPsiFile();
-                if (!Settings.isEnabled(psiFile.getProject())) {
-                    return map;
-                }
-
-                if (!(psiFile instanceof XmlFile)) {
-                    return map;
-                }
-
-                XmlDocument document = ((XmlFile) psiFile).getDocument();
-                if (document == null) {
-                    return map;
-                }
-
-                XmlTag xmlTags[] = PsiTreeUtil.getChildrenOfType(psiFile.getFirstChild(), XmlTag.class);
-                if (xmlTags == null) {
-                    return map;
-                }
-
-                for (XmlTag xmlTag: xmlTags) {
-                    if (xmlTag.getName().equals("config")) {
-                        for (XmlTag eventNode: xmlTag.findSubTags("event")) {
-                            if (eventNode.getAttributeValue("name") != null) {
-                                map.put(eventNode.getAttributeValue("name"), getObserversForEvent(eventNode));
-                            }
-                        }
-                    }
-                }
-
+        return InstrumentedDataIndexer.wrap(KEY, getValueExternalizer(), fileContent -> {
+            Map<String, Set<String>> map = new HashMap<>();
+            if (!Settings.isEnabled(fileContent.getProject())) {
                 return map;
             }
 
-            private Set<String> getObserversForEvent(XmlTag eventNode) {
-                Set<String> observerNames = new HashSet<String>();
-
-                for (XmlTag observerTag: eventNode.findSubTags("observer")) {
-                    String name = observerTag.getAttributeValue("instance");
-                    if (name != null) {
-                        observerNames.add(PhpLangUtil.toPresentableFQN(name));
+            XmlStreamScanner.scan(fileContent.getContentAsText(), tag -> {
+                if (tag.isPath("config", "event")) {
+                    String eventName = tag.getAttributeValue("name");
+                    if (eventName != null) {
+                        map.computeIfAbsent(eventName, k -> new HashSet<>());
+                    }
+                } else if (tag.isPath("config", "event", "observer")) {
+                    String eventName = tag.getParent().getAttributeValue("name");
+                    String observerName = tag.getAttributeValue("instance");
+                    if (eventName != null && observerName != null) {
+                        map.computeIfAbsent(eventName, k -> new HashSet<>())
+                                .add(PhpLangUtil.toPresentableFQN(observerName));
                     }
                 }
+            });
 
-                return observerNames;
-            }
-        };
+            return map;
+        });
     }
 
     @NotNull
@@ -119,6 +89,6 @@ public class EventObserverIndex extends FileBasedIndexExtension<String,Set<Strin
 
     @Override
     public int getVersion() {
-        return 2;
+        return 4;
     }
 }
@@ -4,24 +4,22 @@
  */
 package com.magento.idea.magento2plugin.stubs.indexes;
 
-import com.intellij.psi.PsiFile;
-import com.intellij.psi.util.PsiTreeUtil;
-import com.intellij.psi.xml.XmlDocument;
-import com.intellij.psi.xml.XmlFile;
-import com.intellij.psi.xml.XmlTag;
 import com.intellij.util.indexing.DataIndexer;
 import com.intellij.util.indexing.FileContent;
 import com.magento.idea.magento2plugin.project.Settings;
+import com.magento.idea.magento2plugin.util.xml.XmlStreamScanner;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
 
 /**
  * Created by dkvashnin on 11/18/15.
  */
-public class LayoutDataIndexer implements DataIndexer<String, Void, FileContent> {
+public class LayoutDataIndexer implements DataIndexer<String, List<Integer>, FileContent> {
     private String indexTag;
 
     private String indexAttribute;
@@ -40,45 +38,26 @@ public class LayoutDataIndexer implements DataIndexer<String, Void, FileContent>
 
     @NotNull
     @Override
-    public Map<String, Void> map(@NotNull FileContent fileContent) {
-        Map<String, Void> map = new HashMap<>();
-
-        PsiFile psiFile = fileContent.getPsiFile();
-        if (!Settings.isEnabled(psiFile.getProject())) {
+    public Map<String, List<Integer>> map(@NotNull FileContent fileContent) {
+        Map<String, List<Integer>> map = new HashMap<>();
+        if (!Settings.isEnabled(fileContent.getProject())) {
             return map;
         }
 
-        if (!(psiFile instanceof XmlFile)) {
-            return map;
-        }
-
-        XmlDocument document = ((XmlFile) psiFile).getDocument();
-        if (document == null) {
-            return map;
-        }
-
-        XmlTag xmlTags[] = PsiTreeUtil.getChildrenOfType(psiFile.getFirstChild(), XmlTag.class);
-        if (xmlTags == null) {
-            return map;
-        }
-
-        for (XmlTag xmlTag: xmlTags) {
-            fillResultMap(xmlTag, map);
-        }
+        XmlStreamScanner.scan(fileContent.getContentAsText(), tag -> {
+            if (tag.isRoot() || !tag.getName().equals(indexTag)) {
+                return;
+            }
+            XmlStreamScanner.Attribute attribute = tag.getAttribute(indexAttribute);
+            if (attribute == null) {
+                return;
+            }
+            String attributeValue = valueProcessor != null
+                    ? valueProcessor.apply(attribute.getValue())
+                    : attribute.getValue();
+            map.computeIfAbsent(attributeValue, k -> new ArrayList<>()).add(attribute.getValueOffset());
+        });
 
         return map;
     }
-
-    private void fillResultMap(XmlTag parentTag, Map<String, Void> resultMap) {
-        for (XmlTag childTag: parentTag.getSubTags()) {
-            if (childTag.getName().equals(indexTag)) {
-                String attributeValue = childTag.getAttributeValue(indexAttribute);
-                if (attributeValue != null) {
-                    attributeValue = valueProcessor != null ? valueProcessor.apply(attributeValue) : attributeValue;
-                    resultMap.put(attributeValue, null);
-                }
-            }
-            fillResultMap(childTag, resultMap);
-        }
-    }
 }
@@ -0,0 +1,80 @@
+/**
+ * Copyright © Magento, Inc. All rights reserved.
+ * See COPYING.txt for license details.
+ */
+package com.magento.idea.magento2plugin.stubs.indexes;
+
+import com.intellij.ide.highlighter.XmlFileType;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.util.indexing.*;
+import com.intellij.util.io.EnumeratorStringDescriptor;
+import com.intellij.util.io.KeyDescriptor;
+import com.magento.idea.magento2plugin.indexes.statistics.InstrumentedDataIndexer;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collections;
+
+/**
+ * Layout handle name => layout and page layout files declaring it.
+ *
+ * The handle is the file name, so the index doesn't depend on the file content.
+ */
+public class LayoutHandleIndex extends ScalarIndexExtension<String> {
+    public static final ID<String, Void> KEY =
+            ID.create("com.magento.idea.magento2plugin.stubs.indexes.layout_handle");
+    private final KeyDescriptor<String> myKeyDescriptor = new EnumeratorStringDescriptor();
+
+    @NotNull
+    @Override
+    public ID<String, Void> getName() {
+        return KEY;
+    }
+
+    @NotNull
+    @Override
+    public DataIndexer<String, Void, FileContent> getIndexer() {
+        return InstrumentedDataIndexer.wrap(KEY, getValueExternalizer(), inputData -> {
+            String handle = inputData.getFile().getNameWithoutExtension();
+            if (handle.isEmpty()) {
+                return Collections.emptyMap();
+            }
+
+            return Collections.singletonMap(handle, null);
+        });
+    }
+
+    @NotNull
+    @Override
+    public KeyDescriptor<String> getKeyDescriptor() {
+        return myKeyDescriptor;
+    }
+
+    @NotNull
+    @Override
+    public FileBasedIndex.InputFilter getInputFilter() {
+        return LayoutHandleIndex::isLayoutHandleFile;
+    }
+
+    @Override
+    public boolean dependsOnFileContent() {
+        return false;
+    }
+
+    @Override
+    public int getVersion() {
+        return 1;
+    }
+
+    public static boolean isLayoutHandleFile(VirtualFile virtualFile) {
+        if (virtualFile.getFileType() != XmlFileType.INSTANCE) {
+            return false;
+        }
+        VirtualFile parent = virtualFile.getParent();
+        if (parent == null) {
+            return false;
+        }
+        String parentName = parent.getName();
+
+        return parentName.equals("layout") || parentName.equals("page_layout");
+    }
+}
@@ -5,21 +5,19 @@
 package com.magento.idea.magento2plugin.stubs.indexes;
 
 import com.intellij.openapi.util.text.StringUtil;
-import com.intellij.psi.PsiElement;
-import com.intellij.psi.PsiFile;
-import com.intellij.psi.util.PsiTreeUtil;
 import com.intellij.util.indexing.*;
 import com.intellij.util.io.DataExternalizer;
 import com.intellij.util.io.EnumeratorStringDescriptor;
 import com.intellij.util.io.KeyDescriptor;
 import com.jetbrains.php.lang.PhpFileType;
-import com.jetbrains.php.lang.psi.PhpFile;
-import com.jetbrains.php.lang.psi.elements.*;
+import com.jetbrains.php.lang.lexer.PhpTokenTypes;
+import com.magento.idea.magento2plugin.indexes.statistics.InstrumentedDataIndexer;
 import com.magento.idea.magento2plugin.project.Settings;
+import com.magento.idea.magento2plugin.util.php.PhpMethodCallScanner;
 import org.jetbrains.annotations.NotNull;
 
-
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -27,6 +25,10 @@ import java.util.regex.Pattern;
 public class ModuleNameIndex extends FileBasedIndexExtension<String, String> {
     public static final ID<String, String> KEY =
             ID.create("com.magento.idea.magento2plugin.stubs.indexes.module_name");
+    private static final String REGISTER_METHOD = "register";
+    private static final Pattern MODULE_PATH_PATTERN = Pattern.compile(
+            "__DIR__(\\s*[.,]\\s*[\\'\\\"]((/[\\w-]+)+)/?[\\'\\\"])?"
+    );
 
     @NotNull
     @Override
@@ -37,51 +39,60 @@ public class ModuleNameIndex extends FileBasedIndexExtension<String, String> {
     @NotNull
     @Override
     public DataIndexer<String, String, FileContent> getIndexer() {
-        return inputData -> {
+        return InstrumentedDataIndexer.wrap(KEY, getValueExternalizer(), inputData -> {
             Map<String, String> map = new HashMap<>();
-            PsiFile psiFile = inputData.getPsiFile();
 
-            if (!Settings.isEnabled(psiFile.getProject())) {
+            if (!Settings.isEnabled(inputData.getProject())) {
                 return map;
             }
 
-            if (psiFile instanceof PhpFile) {
-                MethodReference  method = PsiTreeUtil.findChildOfAnyType(psiFile, MethodReference.class);
-                if (method != null) {
-                    ParameterList parameterList = method.getParameterList();
-                    if (parameterList != null) {
-                        PsiElement firstParameter = parameterList.getFirstPsiChild();
-                        if (firstParameter != null && firstParameter instanceof ClassConstantReference) {
-                            String constantName = ((ClassConstantReference) firstParameter).getName();
-                            if (constantName != null) {
-                                PsiElement moduleNameEl = ((ClassConstantReference) firstParameter).getNextPsiSibling();
-                                if (moduleNameEl != null && moduleNameEl instanceof StringLiteralExpression) {
-                                    String moduleName = StringUtil.unquoteString(moduleNameEl.getText());
-
-                                    PsiElement modulePathEl =
-                                            ((StringLiteralExpression) moduleNameEl).getNextPsiSibling();
-                                    if (modulePathEl != null) {
-                                        Pattern pattern = Pattern.compile(
-                                                "__DIR__(\\s*[.,]\\s*[\\'\\\"]((/[\\w-]+)+)/?[\\'\\\"])?"
-                                        );
-                                        Matcher matcher = pattern.matcher(modulePathEl.getText());
-                                        if (matcher.find()) {
-                                            String modulePath = matcher.group(2);
-                                            map.put(
-                                                    moduleName,
-                                                    modulePath == null ? "" : modulePath
-                                            );
-                                        }
-                                    }
-                                }
-                            }
-                        }
-                    }
+            CharSequence text = inputData.getContentAsText();
+            if (!StringUtil.contains(text, REGISTER_METHOD)) {
+                return map;
+            }
+
+            List<PhpMethodCallScanner.MethodCall> methodCalls = PhpMethodCallScanner
+                    .findMethodCalls(inputData.getProject(), text, REGISTER_METHOD);
+            for (PhpMethodCallScanner.MethodCall methodCall : methodCalls) {
+                List<List<PhpMethodCallScanner.Token>> arguments = methodCall.getArguments();
+                if (arguments.size() < 3 || !isClassConstant(arguments.get(0))) {
+                    continue;
+                }
+                PhpMethodCallScanner.Token moduleNameToken = methodCall.getStringArgument(1);
+                if (moduleNameToken == null) {
+                    continue;
                 }
+                Matcher matcher = MODULE_PATH_PATTERN.matcher(getText(arguments.get(2)));
+                if (matcher.find()) {
+                    String modulePath = matcher.group(2);
+                    map.put(
+                            StringUtil.unquoteString(moduleNameToken.getText()),
+                            modulePath == null ? "" : modulePath
+                    );
+                }
+                break;
             }
 
             return map;
-        };
+        });
+    }
+
+    /**
+     * Matches `ComponentRegistrar::MODULE` with an imported, aliased or fully qualified class name.
+     */
+    private static boolean isClassConstant(List<PhpMethodCallScanner.Token> argument) {
+        int size = argument.size();
+        return size >= 3
+                && argument.get(size - 2).getText().equals("::")
+                && argument.get(size - 1).getType() == PhpTokenTypes.IDENTIFIER;
+    }
+
+    private static String getText(List<PhpMethodCallScanner.Token> argument) {
+        StringBuilder text = new StringBuilder();
+        for (PhpMethodCallScanner.Token token : argument) {
+            text.append(token.getText());
+        }
+        return text.toString();
     }
 
     @NotNull
@@ -111,6 +122,6 @@ public class ModuleNameIndex extends FileBasedIndexExtension<String, String> {
 
     @Override
     public int getVersion() {
-        return 1;
+        return 4;
     }
 }
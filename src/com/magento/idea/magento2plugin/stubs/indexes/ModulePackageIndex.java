@@ -11,6 +11,7 @@ import com.intellij.psi.util.PsiTreeUtil;
 import com.intellij.util.indexing.*;
 import com.intellij.util.io.EnumeratorStringDescriptor;
 import com.intellij.util.io.KeyDescriptor;
+import com.magento.idea.magento2plugin.indexes.statistics.InstrumentedDataIndexer;
 import com.magento.idea.magento2plugin.project.Settings;
 import com.magento.idea.magento2plugin.magento.packages.ComposerPackageModel;
 import com.magento.idea.magento2plugin.magento.packages.ComposerPackageModelImpl;
@@ -35,7 +36,7 @@ public class ModulePackageIndex extends ScalarIndexExtension<String> {
     @NotNull
     @Override
     public DataIndexer<String, Void, FileContent> getIndexer() {
-        return inputData -> {
+        return InstrumentedDataIndexer.wrap(KEY, getValueExternalizer(), inputData -> {
             Map<String, Void> map = new HashMap<>();
             JsonFile jsonFile = (JsonFile)inputData.getPsiFile();
             if (!Settings.isEnabled(jsonFile.getProject())) {
@@ -64,7 +65,7 @@ public class ModulePackageIndex extends ScalarIndexExtension<String> {
             }
 
             return map;
-        };
+        });
     }
 
     @NotNull
@@ -5,16 +5,20 @@
 package com.magento.idea.magento2plugin.stubs.indexes;
 
 import com.intellij.util.indexing.FileBasedIndex;
-import com.intellij.util.indexing.ScalarIndexExtension;
+import com.intellij.util.indexing.FileBasedIndexExtension;
+import com.intellij.util.io.DataExternalizer;
 import com.intellij.util.io.EnumeratorStringDescriptor;
 import com.intellij.util.io.KeyDescriptor;
 import com.magento.idea.magento2plugin.indexes.LayoutIndex;
+import com.magento.idea.magento2plugin.stubs.indexes.data.OffsetListExternalizer;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.List;
+
 /**
  * Created by dkvashnin on 11/18/15.
  */
-public abstract class NamedComponentIndex extends ScalarIndexExtension<String> {
+public abstract class NamedComponentIndex extends FileBasedIndexExtension<String, List<Integer>> {
     private EnumeratorStringDescriptor myKeyDescriptor = new EnumeratorStringDescriptor();
 
     @NotNull
@@ -23,6 +27,12 @@ public abstract class NamedComponentIndex extends ScalarIndexExtension<String> {
         return myKeyDescriptor;
     }
 
+    @NotNull
+    @Override
+    public DataExternalizer<List<Integer>> getValueExternalizer() {
+        return OffsetListExternalizer.INSTANCE;
+    }
+
     @NotNull
     @Override
     public FileBasedIndex.InputFilter getInputFilter() {
@@ -36,6 +46,6 @@ public abstract class NamedComponentIndex extends ScalarIndexExtension<String> {
 
     @Override
     public int getVersion() {
-        return 0;
+        return 3;
     }
 }
@@ -0,0 +1,86 @@
+/**
+ * Copyright © Magento, Inc. All rights reserved.
+ * See COPYING.txt for license details.
+ */
+package com.magento.idea.magento2plugin.stubs.indexes;
+
+import com.intellij.util.indexing.*;
+import com.intellij.util.io.DataExternalizer;
+import com.intellij.util.io.EnumeratorStringDescriptor;
+import com.intellij.util.io.KeyDescriptor;
+import com.magento.idea.magento2plugin.indexes.statistics.InstrumentedDataIndexer;
+import com.magento.idea.magento2plugin.stubs.indexes.data.DiConfigurationData;
+import com.magento.idea.magento2plugin.stubs.indexes.data.DiPluginData;
+import com.magento.idea.magento2plugin.stubs.indexes.data.PluginTargetData;
+import com.magento.idea.magento2plugin.stubs.indexes.data.PluginTargetDataExternalizer;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Reverse of the PluginIndex: plugin class => target types it is declared for.
+ */
+public class PluginTargetIndex extends FileBasedIndexExtension<String, Set<PluginTargetData>> {
+    public static final ID<String, Set<PluginTargetData>> KEY
+            = ID.create("com.magento.idea.magento2plugin.stubs.indexes.plugin_target");
+    private final KeyDescriptor<String> myKeyDescriptor = new EnumeratorStringDescriptor();
+
+    @NotNull
+    @Override
+    public ID<String, Set<PluginTargetData>> getName() {
+        return KEY;
+    }
+
+    @NotNull
+    @Override
+    public DataIndexer<String, Set<PluginTargetData>, FileContent> getIndexer() {
+        return InstrumentedDataIndexer.wrap(KEY, getValueExternalizer(), fileContent -> {
+            Map<String, Set<PluginTargetData>> map = new HashMap<>();
+
+            for (Map.Entry<String, DiConfigurationData> entry
+                    : DiConfigurationIndex.getConfiguration(fileContent).entrySet()) {
+                DiConfigurationData data = entry.getValue();
+                for (DiPluginData plugin : data.getPlugins()) {
+                    if (plugin.getType().isEmpty()) {
+                        continue;
+                    }
+                    map.computeIfAbsent(plugin.getType(), k -> new HashSet<>())
+                            .add(new PluginTargetData(entry.getKey(), data.getArea(), plugin.getName()));
+                }
+            }
+
+            return map;
+        });
+    }
+
+    @NotNull
+    @Override
+    public KeyDescriptor<String> getKeyDescriptor() {
+        return myKeyDescriptor;
+    }
+
+    @NotNull
+    @Override
+    public DataExternalizer<Set<PluginTargetData>> getValueExternalizer() {
+        return new PluginTargetDataExternalizer();
+    }
+
+    @NotNull
+    @Override
+    public FileBasedIndex.InputFilter getInputFilter() {
+        return DiConfigurationIndex::isDiFile;
+    }
+
+    @Override
+    public boolean dependsOnFileContent() {
+        return true;
+    }
+
+    @Override
+    public int getVersion() {
+        return 4;
+    }
+}
@@ -0,0 +1,196 @@
+/*
+ * Copyright © Magento, Inc. All rights reserved.
+ * See COPYING.txt for license details.
+ */
+package com.magento.idea.magento2plugin.stubs.indexes;
+
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.util.PairProcessor;
+import com.intellij.util.indexing.*;
+import com.intellij.util.io.DataExternalizer;
+import com.intellij.util.io.EnumeratorStringDescriptor;
+import com.intellij.util.io.KeyDescriptor;
+import com.magento.idea.magento2plugin.indexes.IndexQueries;
+import com.magento.idea.magento2plugin.indexes.statistics.InstrumentedDataIndexer;
+import com.magento.idea.magento2plugin.stubs.indexes.data.ViewAssetData;
+import com.magento.idea.magento2plugin.stubs.indexes.data.ViewAssetDataExternalizer;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+
+/**
+ * View directory of a module => its asset files, e.g. .../module-catalog/view => templates/product/view.phtml.
+ *
+ * The key is the path of the `view` directory: the module name is known only from the registration.php,
+ * which is not available while indexing a view file, while lookups start from the view directory of a known
+ * module. All assets of a module are read with one query, see {@link #findAssetFiles} and {@link #processAssets}.
+ * Only templates and web assets of an area are indexed. The index doesn't depend on the file content.
+ */
+public class ViewAssetIndex extends FileBasedIndexExtension<String, ViewAssetData> {
+    public static final ID<String, ViewAssetData> KEY =
+            ID.create("com.magento.idea.magento2plugin.stubs.indexes.view_asset");
+    private static final String VIEW_DIR = "view";
+    private static final String WEB_KIND = "web";
+    private static final String KNOCKOUT_TEMPLATE_DIR = "template/";
+    private static final Set<String> AREAS = new HashSet<>(Arrays.asList("frontend", "adminhtml", "base"));
+    private static final Set<String> KINDS = new HashSet<>(Arrays.asList("templates", WEB_KIND));
+    private final KeyDescriptor<String> myKeyDescriptor = new EnumeratorStringDescriptor();
+
+    @NotNull
+    @Override
+    public ID<String, ViewAssetData> getName() {
+        return KEY;
+    }
+
+    @NotNull
+    @Override
+    public DataIndexer<String, ViewAssetData, FileContent> getIndexer() {
+        return InstrumentedDataIndexer.wrap(KEY, getValueExternalizer(), inputData -> {
+            Map<String, ViewAssetData> map = new HashMap<>();
+            String path = inputData.getFile().getPath();
+            int viewEnd = findViewDirectoryEnd(path);
+            if (viewEnd < 0) {
+                return map;
+            }
+            String[] segments = path.substring(viewEnd + 1).split("/", 3);
+            map.put(path.substring(0, viewEnd), new ViewAssetData(segments[0], segments[1], segments[2]));
+
+            return map;
+        });
+    }
+
+    /**
+     * Finds the files of the asset path in the view directory of a module, the extension of the path is optional.
+     */
+    @NotNull
+    public static List<VirtualFile> findAssetFiles(
+            @NotNull Project project,
+            @NotNull VirtualFile viewDirectory,
+            @NotNull String assetPath
+    ) {
+        List<VirtualFile> files = new ArrayList<>();
+        processViewDirectory(project, viewDirectory, (file, data) -> {
+            if (isAssetPath(data, assetPath) && !files.contains(file)) {
+                files.add(file);
+            }
+            return true;
+        });
+
+        return files;
+    }
+
+    /**
+     * Processes assets of the view directory with a path starting with the prefix.
+     *
+     * Only complete paths are reported, i.e. with the file extension and knockout templates
+     * without the `template/` directory.
+     */
+    public static void processAssets(
+            @NotNull Project project,
+            @NotNull VirtualFile viewDirectory,
+            @NotNull String pathPrefix,
+            @NotNull PairProcessor<String, VirtualFile> processor
+    ) {
+        processViewDirectory(project, viewDirectory, (file, data) -> {
+            String assetPath = getAssetPath(data);
+            return !assetPath.startsWith(pathPrefix) || processor.process(assetPath, file);
+        });
+    }
+
+    /**
+     * Path of the asset as used in ids, e.g. `Magento_Ui/grid/filters` for web/template/grid/filters.html.
+     */
+    @NotNull
+    public static String getAssetPath(@NotNull ViewAssetData data) {
+        if (data.getKind().equals(WEB_KIND) && data.getPath().startsWith(KNOCKOUT_TEMPLATE_DIR)) {
+            return data.getPath().substring(KNOCKOUT_TEMPLATE_DIR.length());
+        }
+
+        return data.getPath();
+    }
+
+    /**
+     * Whether the asset is referenced by the path: as written in its kind directory or as a knockout template id,
+     * with or without the file extension.
+     */
+    private static boolean isAssetPath(ViewAssetData data, String assetPath) {
+        for (String path : new String[] {data.getPath(), getAssetPath(data)}) {
+            if (path.equals(assetPath) || removeExtension(path).equals(assetPath)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private static String removeExtension(String assetPath) {
+        int extensionStart = assetPath.lastIndexOf('.');
+        if (extensionStart <= assetPath.lastIndexOf('/') + 1) {
+            return assetPath;
+        }
+
+        return assetPath.substring(0, extensionStart);
+    }
+
+    private static void processViewDirectory(
+            Project project,
+            VirtualFile viewDirectory,
+            FileBasedIndex.ValueProcessor<ViewAssetData> processor
+    ) {
+        IndexQueries.processValues(
+                KEY,
+                viewDirectory.getPath(),
+                null,
+                processor,
+                GlobalSearchScope.allScope(project)
+        );
+    }
+
+    /**
+     * End of the view directory in the path of a template or web asset, i.e. of `view` in
+     * `view/<area>/<templates|web>/<path>`, -1 for other files.
+     */
+    private static int findViewDirectoryEnd(String path) {
+        int viewEnd = path.lastIndexOf("/" + VIEW_DIR + "/");
+        while (viewEnd >= 0) {
+            String[] segments = path.substring(viewEnd + VIEW_DIR.length() + 2).split("/", 3);
+            if (segments.length == 3 && AREAS.contains(segments[0]) && KINDS.contains(segments[1])
+                    && !segments[2].isEmpty()) {
+                return viewEnd + VIEW_DIR.length() + 1;
+            }
+            viewEnd = viewEnd > 0 ? path.lastIndexOf("/" + VIEW_DIR + "/", viewEnd - 1) : -1;
+        }
+
+        return -1;
+    }
+
+    @NotNull
+    @Override
+    public KeyDescriptor<String> getKeyDescriptor() {
+        return myKeyDescriptor;
+    }
+
+    @NotNull
+    @Override
+    public DataExternalizer<ViewAssetData> getValueExternalizer() {
+        return new ViewAssetDataExternalizer();
+    }
+
+    @NotNull
+    @Override
+    public FileBasedIndex.InputFilter getInputFilter() {
+        return virtualFile -> !virtualFile.isDirectory() && findViewDirectoryEnd(virtualFile.getPath()) >= 0;
+    }
+
+    @Override
+    public boolean dependsOnFileContent() {
+        return false;
+    }
+
+    @Override
+    public int getVersion() {
+        return 2;
+    }
+}
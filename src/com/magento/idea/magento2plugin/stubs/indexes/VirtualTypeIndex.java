@@ -4,60 +4,50 @@
  */
 package com.magento.idea.magento2plugin.stubs.indexes;
 
-import com.intellij.ide.highlighter.XmlFileType;
-import com.intellij.psi.PsiFile;
-import com.intellij.psi.xml.XmlDocument;
-import com.intellij.psi.xml.XmlFile;
-import com.intellij.psi.xml.XmlTag;
 import com.intellij.util.indexing.*;
 import com.intellij.util.io.DataExternalizer;
 import com.intellij.util.io.EnumeratorStringDescriptor;
 import com.intellij.util.io.KeyDescriptor;
 import com.intellij.util.xml.impl.DomApplicationComponent;
-import com.magento.idea.magento2plugin.project.Settings;
+import com.magento.idea.magento2plugin.indexes.statistics.InstrumentedDataIndexer;
+import com.magento.idea.magento2plugin.stubs.indexes.data.DiConfigurationData;
+import com.magento.idea.magento2plugin.stubs.indexes.data.VirtualTypeData;
+import com.magento.idea.magento2plugin.stubs.indexes.data.VirtualTypeDataExternalizer;
 import gnu.trove.THashMap;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.List;
 import java.util.Map;
 
-public class VirtualTypeIndex extends FileBasedIndexExtension<String, String> {
-    public static final ID<String, String> KEY = ID.create(
+/**
+ * Virtual type name => every declaration of it in a di.xml, in document order.
+ */
+public class VirtualTypeIndex extends FileBasedIndexExtension<String, List<VirtualTypeData>> {
+    public static final ID<String, List<VirtualTypeData>> KEY = ID.create(
             "com.magento.idea.magento2plugin.stubs.indexes.virtual_type");
     private final KeyDescriptor<String> myKeyDescriptor = new EnumeratorStringDescriptor();
 
     @NotNull
     @Override
-    public DataIndexer<String, String, FileContent> getIndexer() {
-        return inputData -> {
-            Map<String, String> map = new THashMap<>();
-            PsiFile psiFile = inputData.getPsiFile();
-            if (!Settings.isEnabled(psiFile.getProject())) {
-                return map;
-            }
+    public DataIndexer<String, List<VirtualTypeData>, FileContent> getIndexer() {
+        return InstrumentedDataIndexer.wrap(KEY, getValueExternalizer(), inputData -> {
+            Map<String, List<VirtualTypeData>> map = new THashMap<>();
 
-            if (psiFile instanceof XmlFile) {
-                XmlDocument xmlDocument = ((XmlFile) psiFile).getDocument();
-                if (xmlDocument != null) {
-                    XmlTag xmlRootTag = xmlDocument.getRootTag();
-                    if (xmlRootTag != null) {
-                        for (XmlTag virtualTypeTag : xmlRootTag.findSubTags("virtualType")) {
-                            String name = virtualTypeTag.getAttributeValue("name");
-                            String type = virtualTypeTag.getAttributeValue("type");
-
-                            if (name != null && type != null && !name.isEmpty() && !type.isEmpty()) {
-                                map.put(name, type);
-                            }
-                        }
-                    }
+            for (Map.Entry<String, DiConfigurationData> entry
+                    : DiConfigurationIndex.getConfiguration(inputData).entrySet()) {
+                List<VirtualTypeData> virtualTypes = entry.getValue().getVirtualTypes();
+                if (!virtualTypes.isEmpty()) {
+                    map.put(entry.getKey(), virtualTypes);
                 }
             }
+
             return map;
-        };
+        });
     }
 
     @NotNull
     @Override
-    public ID<String, String> getName() {
+    public ID<String, List<VirtualTypeData>> getName() {
         return KEY;
     }
 
@@ -68,15 +58,14 @@ public class VirtualTypeIndex extends FileBasedIndexExtension<String, String> {
     }
 
     @NotNull
-    public DataExternalizer<String> getValueExternalizer() {
-        return EnumeratorStringDescriptor.INSTANCE;
+    public DataExternalizer<List<VirtualTypeData>> getValueExternalizer() {
+        return VirtualTypeDataExternalizer.INSTANCE;
     }
 
     @NotNull
     @Override
     public FileBasedIndex.InputFilter getInputFilter() {
-        return file ->
-                file.getFileType() == XmlFileType.INSTANCE && file.getName().equalsIgnoreCase("di.xml");
+        return DiConfigurationIndex::isDiFile;
     }
 
     @Override
@@ -86,6 +75,6 @@ public class VirtualTypeIndex extends FileBasedIndexExtension<String, String> {
 
     @Override
     public int getVersion() {
-        return DomApplicationComponent.getInstance().getCumulativeVersion(false);
+        return DomApplicationComponent.getInstance().getCumulativeVersion(false) + 5;
     }
 }
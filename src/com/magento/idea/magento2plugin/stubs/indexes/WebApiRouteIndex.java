@@ -0,0 +1,127 @@
+/**
+ * Copyright © Magento, Inc. All rights reserved.
+ * See COPYING.txt for license details.
+ */
+package com.magento.idea.magento2plugin.stubs.indexes;
+
+import com.intellij.ide.highlighter.XmlFileType;
+import com.intellij.util.indexing.*;
+import com.intellij.util.io.DataExternalizer;
+import com.intellij.util.io.EnumeratorStringDescriptor;
+import com.intellij.util.io.KeyDescriptor;
+import com.jetbrains.php.lang.PhpLangUtil;
+import com.magento.idea.magento2plugin.indexes.statistics.InstrumentedDataIndexer;
+import com.magento.idea.magento2plugin.project.Settings;
+import com.magento.idea.magento2plugin.stubs.indexes.data.WebApiRouteData;
+import com.magento.idea.magento2plugin.stubs.indexes.data.WebApiRouteDataExternalizer;
+import com.magento.idea.magento2plugin.util.xml.XmlStreamScanner;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+
+/**
+ * Indexer for methods exposed via Web API: Class::method => routes.
+ */
+public class WebApiRouteIndex extends FileBasedIndexExtension<String, List<WebApiRouteData>> {
+
+    public static final ID<String, List<WebApiRouteData>> KEY =
+            ID.create("com.magento.idea.magento2plugin.stubs.indexes.webapi_route");
+
+    private final KeyDescriptor<String> keyDescriptor = new EnumeratorStringDescriptor();
+
+    @NotNull
+    @Override
+    public ID<String, List<WebApiRouteData>> getName() {
+        return KEY;
+    }
+
+    @NotNull
+    @Override
+    public DataIndexer<String, List<WebApiRouteData>, FileContent> getIndexer() {
+        return InstrumentedDataIndexer.wrap(KEY, getValueExternalizer(), inputData -> {
+            Map<String, List<WebApiRouteData>> map = new HashMap<>();
+            if (!Settings.isEnabled(inputData.getProject())) {
+                return map;
+            }
+
+            XmlStreamScanner.scan(inputData.getContentAsText(), new XmlStreamScanner.Handler() {
+                private String serviceMethod;
+                private List<String> resources = new ArrayList<>();
+
+                @Override
+                public void startTag(@NotNull XmlStreamScanner.Tag tag) {
+                    if (tag.isPath("routes", "route")) {
+                        serviceMethod = null;
+                        resources = new ArrayList<>();
+                    } else if (tag.isPath("routes", "route", "service")) {
+                        String typeName = tag.getAttributeValue("class");
+                        String methodName = tag.getAttributeValue("method");
+                        if (typeName != null && methodName != null) {
+                            serviceMethod = getKey(PhpLangUtil.toPresentableFQN(typeName), methodName);
+                        }
+                    } else if (tag.isPath("routes", "route", "resources", "resource")) {
+                        String resource = tag.getAttributeValue("ref");
+                        if (resource != null) {
+                            resources.add(resource);
+                        }
+                    }
+                }
+
+                @Override
+                public void endTag(@NotNull XmlStreamScanner.Tag tag) {
+                    if (!tag.isPath("routes", "route") || serviceMethod == null) {
+                        return;
+                    }
+                    String httpMethod = tag.getAttributeValue("method");
+                    String url = tag.getAttributeValue("url");
+                    if (httpMethod == null || url == null) {
+                        return;
+                    }
+                    map.computeIfAbsent(serviceMethod, key -> new ArrayList<>())
+                            .add(new WebApiRouteData(httpMethod, url, resources, tag.getOffset()));
+                }
+            });
+
+            return map;
+        });
+    }
+
+    /**
+     * Index key of a service method, e.g. Magento\Catalog\Api\ProductRepositoryInterface::get.
+     */
+    @NotNull
+    public static String getKey(@NotNull String classFqn, @NotNull String methodName) {
+        return classFqn + "::" + methodName;
+    }
+
+    @NotNull
+    @Override
+    public KeyDescriptor<String> getKeyDescriptor() {
+        return keyDescriptor;
+    }
+
+    @NotNull
+    @Override
+    public DataExternalizer<List<WebApiRouteData>> getValueExternalizer() {
+        return new WebApiRouteDataExternalizer();
+    }
+
+    @NotNull
+    @Override
+    public FileBasedIndex.InputFilter getInputFilter() {
+        return file -> (
+             file.getFileType() == XmlFileType.INSTANCE && file.getNameWithoutExtension().equals("webapi")
+                && !file.getPath().contains("testsuite") && !file.getPath().contains("_files")
+        );
+    }
+
+    @Override
+    public boolean dependsOnFileContent() {
+        return true;
+    }
+
+    @Override
+    public int getVersion() {
+        return 2;
+    }
+}
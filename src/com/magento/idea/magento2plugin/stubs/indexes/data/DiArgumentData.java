@@ -0,0 +1,74 @@
+/*
+ * Copyright © Magento, Inc. All rights reserved.
+ * See COPYING.txt for license details.
+ */
+package com.magento.idea.magento2plugin.stubs.indexes.data;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+
+/**
+ * Constructor argument override of a type or virtual type.
+ */
+public class DiArgumentData {
+    private final String name;
+    private final String xsiType;
+    private final String value;
+    private final int offset;
+
+    public DiArgumentData(@NotNull String name, @NotNull String xsiType, @NotNull String value, int offset) {
+        this.name = name;
+        this.xsiType = xsiType;
+        this.value = value;
+        this.offset = offset;
+    }
+
+    @NotNull
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Value of the xsi:type attribute, e.g. "object", "string" or "array".
+     */
+    @NotNull
+    public String getXsiType() {
+        return xsiType;
+    }
+
+    /**
+     * Trimmed text of the argument, empty for arrays.
+     */
+    @NotNull
+    public String getValue() {
+        return value;
+    }
+
+    /**
+     * Offset of the name attribute value.
+     */
+    public int getOffset() {
+        return offset;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        DiArgumentData that = (DiArgumentData) o;
+        return offset == that.offset
+                && name.equals(that.name)
+                && xsiType.equals(that.xsiType)
+                && value.equals(that.value);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(name, xsiType, value, offset);
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright © Magento, Inc. All rights reserved.
+ * See COPYING.txt for license details.
+ */
+package com.magento.idea.magento2plugin.stubs.indexes.data;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Everything a single di.xml declares for one type name.
+ */
+public class DiConfigurationData {
+    private final String area;
+    private final List<Integer> typeOffsets;
+    private final List<DiPluginData> plugins;
+    private final List<DiPreferenceData> preferences;
+    private final List<VirtualTypeData> virtualTypes;
+    private final List<DiArgumentData> arguments;
+
+    public DiConfigurationData(@NotNull String area) {
+        this(area, new ArrayList<>(), new ArrayList<>(), new ArrayList<>(), new ArrayList<>(), new ArrayList<>());
+    }
+
+    public DiConfigurationData(
+            @NotNull String area,
+            @NotNull List<Integer> typeOffsets,
+            @NotNull List<DiPluginData> plugins,
+            @NotNull List<DiPreferenceData> preferences,
+            @NotNull List<VirtualTypeData> virtualTypes,
+            @NotNull List<DiArgumentData> arguments
+    ) {
+        this.area = area;
+        this.typeOffsets = typeOffsets;
+        this.plugins = plugins;
+        this.preferences = preferences;
+        this.virtualTypes = virtualTypes;
+        this.arguments = arguments;
+    }
+
+    /**
+     * Area of the di.xml, see MagentoAreaUtil.
+     */
+    @NotNull
+    public String getArea() {
+        return area;
+    }
+
+    /**
+     * Offsets of the name attribute values of the type tags.
+     */
+    @NotNull
+    public List<Integer> getTypeOffsets() {
+        return typeOffsets;
+    }
+
+    @NotNull
+    public List<DiPluginData> getPlugins() {
+        return plugins;
+    }
+
+    @NotNull
+    public List<DiPreferenceData> getPreferences() {
+        return preferences;
+    }
+
+    @NotNull
+    public List<VirtualTypeData> getVirtualTypes() {
+        return virtualTypes;
+    }
+
+    @NotNull
+    public List<DiArgumentData> getArguments() {
+        return arguments;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        DiConfigurationData that = (DiConfigurationData) o;
+        return area.equals(that.area)
+                && typeOffsets.equals(that.typeOffsets)
+                && plugins.equals(that.plugins)
+                && preferences.equals(that.preferences)
+                && virtualTypes.equals(that.virtualTypes)
+                && arguments.equals(that.arguments);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(area, typeOffsets, plugins, preferences, virtualTypes, arguments);
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright © Magento, Inc. All rights reserved.
+ * See COPYING.txt for license details.
+ */
+package com.magento.idea.magento2plugin.stubs.indexes.data;
+
+import com.intellij.util.io.DataExternalizer;
+import com.intellij.util.io.DataInputOutputUtil;
+import com.intellij.util.io.IOUtil;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+public class DiConfigurationDataExternalizer implements DataExternalizer<DiConfigurationData> {
+    @Override
+    public void save(@NotNull DataOutput out, DiConfigurationData value) throws IOException {
+        IOUtil.writeUTF(out, value.getArea());
+        OffsetListExternalizer.INSTANCE.save(out, value.getTypeOffsets());
+
+        DataInputOutputUtil.writeINT(out, value.getPlugins().size());
+        for (DiPluginData plugin : value.getPlugins()) {
+            IOUtil.writeUTF(out, plugin.getName());
+            IOUtil.writeUTF(out, plugin.getType());
+            out.writeBoolean(plugin.getSortOrder() != null);
+            if (plugin.getSortOrder() != null) {
+                out.writeInt(plugin.getSortOrder());
+            }
+            out.writeBoolean(plugin.isDisabled());
+            DataInputOutputUtil.writeINT(out, plugin.getOffset());
+        }
+
+        DataInputOutputUtil.writeINT(out, value.getPreferences().size());
+        for (DiPreferenceData preference : value.getPreferences()) {
+            IOUtil.writeUTF(out, preference.getType());
+            DataInputOutputUtil.writeINT(out, preference.getOffset());
+        }
+
+        VirtualTypeDataExternalizer.INSTANCE.save(out, value.getVirtualTypes());
+
+        DataInputOutputUtil.writeINT(out, value.getArguments().size());
+        for (DiArgumentData argument : value.getArguments()) {
+            IOUtil.writeUTF(out, argument.getName());
+            IOUtil.writeUTF(out, argument.getXsiType());
+            IOUtil.writeUTF(out, argument.getValue());
+            DataInputOutputUtil.writeINT(out, argument.getOffset());
+        }
+    }
+
+    @Override
+    public DiConfigurationData read(@NotNull DataInput in) throws IOException {
+        String area = IOUtil.readUTF(in);
+        List<Integer> typeOffsets = OffsetListExternalizer.INSTANCE.read(in);
+
+        int size = DataInputOutputUtil.readINT(in);
+        List<DiPluginData> plugins = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            String name = IOUtil.readUTF(in);
+            String type = IOUtil.readUTF(in);
+            Integer sortOrder = in.readBoolean() ? in.readInt() : null;
+            boolean disabled = in.readBoolean();
+            plugins.add(new DiPluginData(name, type, sortOrder, disabled, DataInputOutputUtil.readINT(in)));
+        }
+
+        size = DataInputOutputUtil.readINT(in);
+        List<DiPreferenceData> preferences = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            preferences.add(new DiPreferenceData(IOUtil.readUTF(in), DataInputOutputUtil.readINT(in)));
+        }
+
+        List<VirtualTypeData> virtualTypes = VirtualTypeDataExternalizer.INSTANCE.read(in);
+
+        size = DataInputOutputUtil.readINT(in);
+        List<DiArgumentData> arguments = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            String name = IOUtil.readUTF(in);
+            String xsiType = IOUtil.readUTF(in);
+            String value = IOUtil.readUTF(in);
+            arguments.add(new DiArgumentData(name, xsiType, value, DataInputOutputUtil.readINT(in)));
+        }
+
+        return new DiConfigurationData(area, typeOffsets, plugins, preferences, virtualTypes, arguments);
+    }
+}
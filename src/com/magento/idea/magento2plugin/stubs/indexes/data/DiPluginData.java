@@ -0,0 +1,85 @@
+/*
+ * Copyright © Magento, Inc. All rights reserved.
+ * See COPYING.txt for license details.
+ */
+package com.magento.idea.magento2plugin.stubs.indexes.data;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Objects;
+
+/**
+ * Plugin declared in di.xml for a type.
+ */
+public class DiPluginData {
+    private final String name;
+    private final String type;
+    private final Integer sortOrder;
+    private final boolean disabled;
+    private final int offset;
+
+    public DiPluginData(
+            @NotNull String name,
+            @NotNull String type,
+            @Nullable Integer sortOrder,
+            boolean disabled,
+            int offset
+    ) {
+        this.name = name;
+        this.type = type;
+        this.sortOrder = sortOrder;
+        this.disabled = disabled;
+        this.offset = offset;
+    }
+
+    @NotNull
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Plugin class, empty when the declaration only disables or reorders an existing plugin.
+     */
+    @NotNull
+    public String getType() {
+        return type;
+    }
+
+    @Nullable
+    public Integer getSortOrder() {
+        return sortOrder;
+    }
+
+    public boolean isDisabled() {
+        return disabled;
+    }
+
+    /**
+     * Offset of the plugin tag.
+     */
+    public int getOffset() {
+        return offset;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        DiPluginData that = (DiPluginData) o;
+        return disabled == that.disabled
+                && offset == that.offset
+                && name.equals(that.name)
+                && type.equals(that.type)
+                && Objects.equals(sortOrder, that.sortOrder);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(name, type, sortOrder, disabled, offset);
+    }
+}
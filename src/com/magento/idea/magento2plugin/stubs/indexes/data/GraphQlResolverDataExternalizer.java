@@ -0,0 +1,43 @@
+/*
+ * Copyright © Magento, Inc. All rights reserved.
+ * See COPYING.txt for license details.
+ */
+package com.magento.idea.magento2plugin.stubs.indexes.data;
+
+import com.intellij.util.io.DataExternalizer;
+import com.intellij.util.io.DataInputOutputUtil;
+import com.intellij.util.io.IOUtil;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+public class GraphQlResolverDataExternalizer implements DataExternalizer<List<GraphQlResolverData>> {
+    @Override
+    public void save(@NotNull DataOutput out, List<GraphQlResolverData> value) throws IOException {
+        DataInputOutputUtil.writeINT(out, value.size());
+        for (GraphQlResolverData resolver : value) {
+            IOUtil.writeUTF(out, resolver.getTypeName());
+            IOUtil.writeUTF(out, resolver.getFieldName());
+            DataInputOutputUtil.writeINT(out, resolver.getOffset());
+        }
+    }
+
+    @Override
+    public List<GraphQlResolverData> read(@NotNull DataInput in) throws IOException {
+        int size = DataInputOutputUtil.readINT(in);
+        List<GraphQlResolverData> resolvers = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            resolvers.add(new GraphQlResolverData(
+                    IOUtil.readUTF(in),
+                    IOUtil.readUTF(in),
+                    DataInputOutputUtil.readINT(in)
+            ));
+        }
+
+        return resolvers;
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright © Magento, Inc. All rights reserved.
+ * See COPYING.txt for license details.
+ */
+package com.magento.idea.magento2plugin.stubs.indexes.data;
+
+import com.intellij.util.io.DataExternalizer;
+import com.intellij.util.io.DataInputOutputUtil;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Stores text offsets of the declarations of an index key within a file.
+ */
+public class OffsetListExternalizer implements DataExternalizer<List<Integer>> {
+    public static final OffsetListExternalizer INSTANCE = new OffsetListExternalizer();
+
+    @Override
+    public void save(@NotNull DataOutput out, List<Integer> value) throws IOException {
+        DataInputOutputUtil.writeINT(out, value.size());
+        for (Integer offset : value) {
+            DataInputOutputUtil.writeINT(out, offset);
+        }
+    }
+
+    @Override
+    public List<Integer> read(@NotNull DataInput in) throws IOException {
+        int size = DataInputOutputUtil.readINT(in);
+        List<Integer> value = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            value.add(DataInputOutputUtil.readINT(in));
+        }
+        return value;
+    }
+}
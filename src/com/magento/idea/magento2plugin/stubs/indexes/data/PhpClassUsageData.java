@@ -0,0 +1,48 @@
+/*
+ * Copyright © Magento, Inc. All rights reserved.
+ * See COPYING.txt for license details.
+ */
+package com.magento.idea.magento2plugin.stubs.indexes.data;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+
+/**
+ * Tag referencing a php class in an attribute value or in its text: tag name and offset of the tag start.
+ */
+public class PhpClassUsageData {
+    private final String tagName;
+    private final int offset;
+
+    public PhpClassUsageData(@NotNull String tagName, int offset) {
+        this.tagName = tagName;
+        this.offset = offset;
+    }
+
+    @NotNull
+    public String getTagName() {
+        return tagName;
+    }
+
+    public int getOffset() {
+        return offset;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        PhpClassUsageData that = (PhpClassUsageData) o;
+        return offset == that.offset && tagName.equals(that.tagName);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(tagName, offset);
+    }
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright © Magento, Inc. All rights reserved.
+ * See COPYING.txt for license details.
+ */
+package com.magento.idea.magento2plugin.stubs.indexes.data;
+
+import com.intellij.util.io.DataExternalizer;
+import com.intellij.util.io.DataInputOutputUtil;
+import com.intellij.util.io.IOUtil;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+public class PhpClassUsageDataExternalizer implements DataExternalizer<List<PhpClassUsageData>> {
+    @Override
+    public void save(@NotNull DataOutput out, List<PhpClassUsageData> value) throws IOException {
+        DataInputOutputUtil.writeINT(out, value.size());
+        for (PhpClassUsageData usage : value) {
+            IOUtil.writeUTF(out, usage.getTagName());
+            DataInputOutputUtil.writeINT(out, usage.getOffset());
+        }
+    }
+
+    @Override
+    public List<PhpClassUsageData> read(@NotNull DataInput in) throws IOException {
+        int size = DataInputOutputUtil.readINT(in);
+        List<PhpClassUsageData> usages = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            usages.add(new PhpClassUsageData(IOUtil.readUTF(in), DataInputOutputUtil.readINT(in)));
+        }
+
+        return usages;
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright © Magento, Inc. All rights reserved.
+ * See COPYING.txt for license details.
+ */
+package com.magento.idea.magento2plugin.stubs.indexes.data;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+
+/**
+ * Target type of a plugin declaration, stored by the plugin class index.
+ */
+public class PluginTargetData {
+    private final String targetClass;
+    private final String area;
+    private final String pluginName;
+
+    public PluginTargetData(@NotNull String targetClass, @NotNull String area, @NotNull String pluginName) {
+        this.targetClass = targetClass;
+        this.area = area;
+        this.pluginName = pluginName;
+    }
+
+    @NotNull
+    public String getTargetClass() {
+        return targetClass;
+    }
+
+    @NotNull
+    public String getArea() {
+        return area;
+    }
+
+    @NotNull
+    public String getPluginName() {
+        return pluginName;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        PluginTargetData that = (PluginTargetData) o;
+        return targetClass.equals(that.targetClass)
+                && area.equals(that.area)
+                && pluginName.equals(that.pluginName);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(targetClass, area, pluginName);
+    }
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright © Magento, Inc. All rights reserved.
+ * See COPYING.txt for license details.
+ */
+package com.magento.idea.magento2plugin.stubs.indexes.data;
+
+import com.intellij.util.io.DataExternalizer;
+import com.intellij.util.io.DataInputOutputUtil;
+import com.intellij.util.io.IOUtil;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.Set;
+
+public class PluginTargetDataExternalizer implements DataExternalizer<Set<PluginTargetData>> {
+    @Override
+    public void save(@NotNull DataOutput out, Set<PluginTargetData> value) throws IOException {
+        DataInputOutputUtil.writeINT(out, value.size());
+        for (PluginTargetData data : value) {
+            IOUtil.writeUTF(out, data.getTargetClass());
+            IOUtil.writeUTF(out, data.getArea());
+            IOUtil.writeUTF(out, data.getPluginName());
+        }
+    }
+
+    @Override
+    public Set<PluginTargetData> read(@NotNull DataInput in) throws IOException {
+        int size = DataInputOutputUtil.readINT(in);
+        Set<PluginTargetData> value = new HashSet<>(size);
+        for (int i = 0; i < size; i++) {
+            value.add(new PluginTargetData(IOUtil.readUTF(in), IOUtil.readUTF(in), IOUtil.readUTF(in)));
+        }
+        return value;
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright © Magento, Inc. All rights reserved.
+ * See COPYING.txt for license details.
+ */
+package com.magento.idea.magento2plugin.stubs.indexes.data;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Plugins declared for a type within a single di.xml file,
+ * together with the offsets of the type name attribute values.
+ */
+public class PluginTypeData {
+    private final Set<String> pluginTypes;
+    private final List<Integer> offsets;
+
+    public PluginTypeData(@NotNull Set<String> pluginTypes, @NotNull List<Integer> offsets) {
+        this.pluginTypes = pluginTypes;
+        this.offsets = offsets;
+    }
+
+    @NotNull
+    public Set<String> getPluginTypes() {
+        return pluginTypes;
+    }
+
+    @NotNull
+    public List<Integer> getOffsets() {
+        return offsets;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        PluginTypeData that = (PluginTypeData) o;
+        return pluginTypes.equals(that.pluginTypes) && offsets.equals(that.offsets);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(pluginTypes, offsets);
+    }
+}
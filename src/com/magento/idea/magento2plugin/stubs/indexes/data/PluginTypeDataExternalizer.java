@@ -0,0 +1,28 @@
+/*
+ * Copyright © Magento, Inc. All rights reserved.
+ * See COPYING.txt for license details.
+ */
+package com.magento.idea.magento2plugin.stubs.indexes.data;
+
+import com.intellij.util.io.DataExternalizer;
+import com.jetbrains.php.lang.psi.stubs.indexes.StringSetDataExternalizer;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+public class PluginTypeDataExternalizer implements DataExternalizer<PluginTypeData> {
+    private final StringSetDataExternalizer pluginTypesExternalizer = new StringSetDataExternalizer();
+
+    @Override
+    public void save(@NotNull DataOutput out, PluginTypeData value) throws IOException {
+        pluginTypesExternalizer.save(out, value.getPluginTypes());
+        OffsetListExternalizer.INSTANCE.save(out, value.getOffsets());
+    }
+
+    @Override
+    public PluginTypeData read(@NotNull DataInput in) throws IOException {
+        return new PluginTypeData(pluginTypesExternalizer.read(in), OffsetListExternalizer.INSTANCE.read(in));
+    }
+}
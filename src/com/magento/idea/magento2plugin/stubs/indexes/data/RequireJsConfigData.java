@@ -0,0 +1,102 @@
+/*
+ * Copyright © Magento, Inc. All rights reserved.
+ * See COPYING.txt for license details.
+ */
+package com.magento.idea.magento2plugin.stubs.indexes.data;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+
+/**
+ * Entry of a requirejs-config.js file.
+ *
+ * The alias is the module id the entry is about:
+ *  map:   scope => {alias: target}
+ *  paths: {alias: target}
+ *  shim:  {alias: [target, ...]}, one entry per dependency
+ *  deps:  [alias, ...], the target is the alias
+ *  config.mixins: {alias: {target: true|false}}
+ */
+public class RequireJsConfigData {
+    public enum Kind {
+        MAP,
+        PATHS,
+        SHIM,
+        DEPS,
+        MIXIN,
+        MIXIN_DISABLED
+    }
+
+    private final Kind kind;
+    private final String scope;
+    private final String alias;
+    private final String target;
+    private final String area;
+
+    public RequireJsConfigData(
+            @NotNull Kind kind,
+            @NotNull String scope,
+            @NotNull String alias,
+            @NotNull String target,
+            @NotNull String area
+    ) {
+        this.kind = kind;
+        this.scope = scope;
+        this.alias = alias;
+        this.target = target;
+        this.area = area;
+    }
+
+    @NotNull
+    public Kind getKind() {
+        return kind;
+    }
+
+    /**
+     * Map scope, e.g. `*` or a module id. Empty for the other kinds.
+     */
+    @NotNull
+    public String getScope() {
+        return scope;
+    }
+
+    @NotNull
+    public String getAlias() {
+        return alias;
+    }
+
+    @NotNull
+    public String getTarget() {
+        return target;
+    }
+
+    /**
+     * Area of the requirejs-config.js file, from its location.
+     */
+    @NotNull
+    public String getArea() {
+        return area;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        RequireJsConfigData that = (RequireJsConfigData) o;
+        return kind == that.kind
+                && scope.equals(that.scope)
+                && alias.equals(that.alias)
+                && target.equals(that.target)
+                && area.equals(that.area);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(kind, scope, alias, target, area);
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright © Magento, Inc. All rights reserved.
+ * See COPYING.txt for license details.
+ */
+package com.magento.idea.magento2plugin.stubs.indexes.data;
+
+import com.intellij.util.io.DataExternalizer;
+import com.intellij.util.io.DataInputOutputUtil;
+import com.intellij.util.io.IOUtil;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+public class RequireJsConfigDataExternalizer implements DataExternalizer<List<RequireJsConfigData>> {
+    private static final RequireJsConfigData.Kind[] KINDS = RequireJsConfigData.Kind.values();
+
+    @Override
+    public void save(@NotNull DataOutput out, List<RequireJsConfigData> value) throws IOException {
+        DataInputOutputUtil.writeINT(out, value.size());
+        for (RequireJsConfigData entry : value) {
+            DataInputOutputUtil.writeINT(out, entry.getKind().ordinal());
+            IOUtil.writeUTF(out, entry.getScope());
+            IOUtil.writeUTF(out, entry.getAlias());
+            IOUtil.writeUTF(out, entry.getTarget());
+            IOUtil.writeUTF(out, entry.getArea());
+        }
+    }
+
+    @Override
+    public List<RequireJsConfigData> read(@NotNull DataInput in) throws IOException {
+        int size = DataInputOutputUtil.readINT(in);
+        List<RequireJsConfigData> entries = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            RequireJsConfigData.Kind kind = KINDS[DataInputOutputUtil.readINT(in)];
+            entries.add(new RequireJsConfigData(
+                    kind,
+                    IOUtil.readUTF(in),
+                    IOUtil.readUTF(in),
+                    IOUtil.readUTF(in),
+                    IOUtil.readUTF(in)
+            ));
+        }
+
+        return entries;
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright © Magento, Inc. All rights reserved.
+ * See COPYING.txt for license details.
+ */
+package com.magento.idea.magento2plugin.stubs.indexes.data;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+
+/**
+ * View asset of a module: area and kind directories, and the file path inside the kind directory.
+ *
+ * E.g. view/frontend/templates/product/view.phtml => (frontend, templates, product/view.phtml).
+ */
+public class ViewAssetData {
+    private final String area;
+    private final String kind;
+    private final String path;
+
+    public ViewAssetData(@NotNull String area, @NotNull String kind, @NotNull String path) {
+        this.area = area;
+        this.kind = kind;
+        this.path = path;
+    }
+
+    /**
+     * frontend, adminhtml or base.
+     */
+    @NotNull
+    public String getArea() {
+        return area;
+    }
+
+    /**
+     * templates or web.
+     */
+    @NotNull
+    public String getKind() {
+        return kind;
+    }
+
+    @NotNull
+    public String getPath() {
+        return path;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        ViewAssetData that = (ViewAssetData) o;
+        return area.equals(that.area) && kind.equals(that.kind) && path.equals(that.path);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(area, kind, path);
+    }
+}
@@ -0,0 +1,27 @@
+/*
+ * Copyright © Magento, Inc. All rights reserved.
+ * See COPYING.txt for license details.
+ */
+package com.magento.idea.magento2plugin.stubs.indexes.data;
+
+import com.intellij.util.io.DataExternalizer;
+import com.intellij.util.io.IOUtil;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+public class ViewAssetDataExternalizer implements DataExternalizer<ViewAssetData> {
+    @Override
+    public void save(@NotNull DataOutput out, ViewAssetData value) throws IOException {
+        IOUtil.writeUTF(out, value.getArea());
+        IOUtil.writeUTF(out, value.getKind());
+        IOUtil.writeUTF(out, value.getPath());
+    }
+
+    @Override
+    public ViewAssetData read(@NotNull DataInput in) throws IOException {
+        return new ViewAssetData(IOUtil.readUTF(in), IOUtil.readUTF(in), IOUtil.readUTF(in));
+    }
+}
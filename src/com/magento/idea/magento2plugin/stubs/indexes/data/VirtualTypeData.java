@@ -0,0 +1,48 @@
+/*
+ * Copyright © Magento, Inc. All rights reserved.
+ * See COPYING.txt for license details.
+ */
+package com.magento.idea.magento2plugin.stubs.indexes.data;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+
+/**
+ * Virtual type declaration: parent type and offset of the name attribute value.
+ */
+public class VirtualTypeData {
+    private final String type;
+    private final int offset;
+
+    public VirtualTypeData(@NotNull String type, int offset) {
+        this.type = type;
+        this.offset = offset;
+    }
+
+    @NotNull
+    public String getType() {
+        return type;
+    }
+
+    public int getOffset() {
+        return offset;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        VirtualTypeData that = (VirtualTypeData) o;
+        return offset == that.offset && type.equals(that.type);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(type, offset);
+    }
+}
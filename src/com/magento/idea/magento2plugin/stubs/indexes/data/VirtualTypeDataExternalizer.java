@@ -0,0 +1,40 @@
+/*
+ * Copyright © Magento, Inc. All rights reserved.
+ * See COPYING.txt for license details.
+ */
+package com.magento.idea.magento2plugin.stubs.indexes.data;
+
+import com.intellij.util.io.DataExternalizer;
+import com.intellij.util.io.DataInputOutputUtil;
+import com.intellij.util.io.IOUtil;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+public class VirtualTypeDataExternalizer implements DataExternalizer<List<VirtualTypeData>> {
+    public static final VirtualTypeDataExternalizer INSTANCE = new VirtualTypeDataExternalizer();
+
+    @Override
+    public void save(@NotNull DataOutput out, List<VirtualTypeData> value) throws IOException {
+        DataInputOutputUtil.writeINT(out, value.size());
+        for (VirtualTypeData virtualType : value) {
+            IOUtil.writeUTF(out, virtualType.getType());
+            DataInputOutputUtil.writeINT(out, virtualType.getOffset());
+        }
+    }
+
+    @Override
+    public List<VirtualTypeData> read(@NotNull DataInput in) throws IOException {
+        int size = DataInputOutputUtil.readINT(in);
+        List<VirtualTypeData> virtualTypes = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            virtualTypes.add(new VirtualTypeData(IOUtil.readUTF(in), DataInputOutputUtil.readINT(in)));
+        }
+
+        return virtualTypes;
+    }
+}
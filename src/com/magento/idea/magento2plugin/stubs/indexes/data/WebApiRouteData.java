@@ -0,0 +1,66 @@
+/*
+ * Copyright © Magento, Inc. All rights reserved.
+ * See COPYING.txt for license details.
+ */
+package com.magento.idea.magento2plugin.stubs.indexes.data;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Web API route of a service method: HTTP method, URL, ACL resources and offset of the route tag.
+ */
+public class WebApiRouteData {
+    private final String httpMethod;
+    private final String url;
+    private final List<String> resources;
+    private final int offset;
+
+    public WebApiRouteData(@NotNull String httpMethod, @NotNull String url, @NotNull List<String> resources, int offset) {
+        this.httpMethod = httpMethod;
+        this.url = url;
+        this.resources = resources;
+        this.offset = offset;
+    }
+
+    @NotNull
+    public String getHttpMethod() {
+        return httpMethod;
+    }
+
+    @NotNull
+    public String getUrl() {
+        return url;
+    }
+
+    @NotNull
+    public List<String> getResources() {
+        return resources;
+    }
+
+    public int getOffset() {
+        return offset;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        WebApiRouteData that = (WebApiRouteData) o;
+        return offset == that.offset
+                && httpMethod.equals(that.httpMethod)
+                && url.equals(that.url)
+                && resources.equals(that.resources);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(httpMethod, url, resources, offset);
+    }
+}
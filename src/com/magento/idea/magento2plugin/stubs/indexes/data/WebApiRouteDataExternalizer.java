@@ -0,0 +1,50 @@
+/*
+ * Copyright © Magento, Inc. All rights reserved.
+ * See COPYING.txt for license details.
+ */
+package com.magento.idea.magento2plugin.stubs.indexes.data;
+
+import com.intellij.util.io.DataExternalizer;
+import com.intellij.util.io.DataInputOutputUtil;
+import com.intellij.util.io.IOUtil;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+public class WebApiRouteDataExternalizer implements DataExternalizer<List<WebApiRouteData>> {
+    @Override
+    public void save(@NotNull DataOutput out, List<WebApiRouteData> value) throws IOException {
+        DataInputOutputUtil.writeINT(out, value.size());
+        for (WebApiRouteData route : value) {
+            IOUtil.writeUTF(out, route.getHttpMethod());
+            IOUtil.writeUTF(out, route.getUrl());
+            DataInputOutputUtil.writeINT(out, route.getResources().size());
+            for (String resource : route.getResources()) {
+                IOUtil.writeUTF(out, resource);
+            }
+            DataInputOutputUtil.writeINT(out, route.getOffset());
+        }
+    }
+
+    @Override
+    public List<WebApiRouteData> read(@NotNull DataInput in) throws IOException {
+        int size = DataInputOutputUtil.readINT(in);
+        List<WebApiRouteData> routes = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            String httpMethod = IOUtil.readUTF(in);
+            String url = IOUtil.readUTF(in);
+            int resourceCount = DataInputOutputUtil.readINT(in);
+            List<String> resources = new ArrayList<>(resourceCount);
+            for (int j = 0; j < resourceCount; j++) {
+                resources.add(IOUtil.readUTF(in));
+            }
+            routes.add(new WebApiRouteData(httpMethod, url, resources, DataInputOutputUtil.readINT(in)));
+        }
+
+        return routes;
+    }
+}
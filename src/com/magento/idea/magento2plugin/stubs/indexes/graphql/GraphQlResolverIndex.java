@@ -6,92 +6,91 @@ package com.magento.idea.magento2plugin.stubs.indexes.graphql;
 
 import com.intellij.lang.jsgraphql.GraphQLFileType;
 import com.intellij.lang.jsgraphql.psi.*;
-import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.psi.PsiElement;
-import com.intellij.psi.PsiManager;
-import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.util.PsiTreeUtil;
 import com.intellij.util.indexing.*;
+import com.intellij.util.io.DataExternalizer;
 import com.intellij.util.io.EnumeratorStringDescriptor;
 import com.intellij.util.io.KeyDescriptor;
-import com.jetbrains.php.lang.psi.elements.PhpClass;
+import com.magento.idea.magento2plugin.indexes.statistics.InstrumentedDataIndexer;
+import com.magento.idea.magento2plugin.magento.files.GraphQlResolver;
+import com.magento.idea.magento2plugin.project.Settings;
+import com.magento.idea.magento2plugin.stubs.indexes.data.GraphQlResolverData;
+import com.magento.idea.magento2plugin.stubs.indexes.data.GraphQlResolverDataExternalizer;
 import com.magento.idea.magento2plugin.util.magento.graphql.GraphQlUtil;
 import org.jetbrains.annotations.NotNull;
+
 import java.util.*;
 
-public class GraphQlResolverIndex extends ScalarIndexExtension<String> {
-    public static final ID<String, Void> KEY
+/**
+ * Resolver class => fields of object types and interfaces resolved by it.
+ */
+public class GraphQlResolverIndex extends FileBasedIndexExtension<String, List<GraphQlResolverData>> {
+    public static final ID<String, List<GraphQlResolverData>> KEY
             = ID.create("com.magento.idea.magento2plugin.stubs.indexes.resolver_usages");
 
     @NotNull
     @Override
-    public ID<String, Void> getName() {
+    public ID<String, List<GraphQlResolverData>> getName() {
         return KEY;
     }
 
     @NotNull
     @Override
-    public DataIndexer<String, Void, FileContent> getIndexer() {
-        return inputData -> {
-            Map<String, Void> map = new HashMap<>();
-
-            GraphQLFile graphQLFile = (GraphQLFile) inputData.getPsiFile();
-            PsiElement[] children = graphQLFile.getChildren();
-            for (PsiElement child : children) {
-                if (!(child instanceof GraphQLObjectTypeDefinition) && !(child instanceof GraphQLInterfaceTypeDefinition)) {
+    public DataIndexer<String, List<GraphQlResolverData>, FileContent> getIndexer() {
+        return InstrumentedDataIndexer.wrap(KEY, getValueExternalizer(), inputData -> {
+            Map<String, List<GraphQlResolverData>> map = new HashMap<>();
+            if (!Settings.isEnabled(inputData.getProject())) {
+                return map;
+            }
+
+            for (GraphQLDirective directive
+                    : PsiTreeUtil.findChildrenOfType(inputData.getPsiFile(), GraphQLDirective.class)) {
+                if (!isResolverDirective(directive)) {
                     continue;
                 }
-                PsiElement[] objectChildren = child.getChildren();
-                for (PsiElement objectChild : objectChildren) {
-                    if (!(objectChild instanceof GraphQLFieldsDefinition)) {
+                GraphQLFieldDefinition field = PsiTreeUtil.getParentOfType(directive, GraphQLFieldDefinition.class);
+                PsiElement type = PsiTreeUtil.getParentOfType(
+                        field,
+                        GraphQLObjectTypeDefinition.class,
+                        GraphQLInterfaceTypeDefinition.class
+                );
+                if (field == null || type == null) {
+                    continue;
+                }
+                String fieldName = getName(field);
+                String typeName = getName(type);
+                if (fieldName == null || typeName == null) {
+                    continue;
+                }
+
+                for (GraphQLArgument argument : PsiTreeUtil.findChildrenOfType(directive, GraphQLArgument.class)) {
+                    GraphQLStringValue classValue = GraphQlUtil.fetchResolverQuotedStringFromArgument(argument);
+                    if (classValue == null) {
                         continue;
                     }
-                    PsiElement[] fieldsChildren = objectChild.getChildren();
-                    for (PsiElement fieldsChild : fieldsChildren) {
-                        if (!(fieldsChild instanceof GraphQLFieldDefinition)) {
-                            continue;
-                        }
-                        PsiElement[] fieldChildren = fieldsChild.getChildren();
-                        for (PsiElement fieldChild : fieldChildren) {
-                            if (!(fieldChild instanceof GraphQLDirective)) {
-                                continue;
-                            }
-                            if (!fieldChild.getText().startsWith("@resolver")) {
-                                continue;
-                            }
-
-                            PsiElement[] directiveChildren = fieldChild.getChildren();
-
-                            for (PsiElement directiveChild : directiveChildren) {
-                                if (!(directiveChild instanceof GraphQLArguments)) {
-                                    continue;
-                                }
-
-                                PsiElement[] argumentsChildren = directiveChild.getChildren();
-                                for (PsiElement argumentsChild : argumentsChildren) {
-                                    if (!(argumentsChild instanceof GraphQLArgument)) {
-                                        continue;
-                                    }
-
-                                    PsiElement argumentStringValue = GraphQlUtil.fetchResolverQuotedStringFromArgument(argumentsChild);
-                                    if (argumentStringValue == null) continue;
-
-                                    String resolverFQN = argumentStringValue.getText();
-                                    if (resolverFQN == null) {
-                                        return null;
-                                    }
-
-                                    resolverFQN = GraphQlUtil.resolverStringToPhpFQN(resolverFQN);
-
-                                    map.put(resolverFQN, null);
-                                }
-                            }
-                        }
-                    }
+                    map.computeIfAbsent(
+                            GraphQlUtil.resolverStringToPhpFQN(classValue.getText()),
+                            key -> new ArrayList<>()
+                    ).add(new GraphQlResolverData(typeName, fieldName, classValue.getTextOffset()));
                 }
             }
 
             return map;
-        };
+        });
+    }
+
+    private static boolean isResolverDirective(GraphQLDirective directive) {
+        return directive.getText().startsWith("@" + GraphQlResolver.RESOLVER_DIRECTIVE);
+    }
+
+    /**
+     * The name is the first identifier of a type or field definition.
+     */
+    private static String getName(PsiElement definition) {
+        GraphQLIdentifier identifier = PsiTreeUtil.findChildOfType(definition, GraphQLIdentifier.class);
+
+        return identifier != null ? identifier.getText() : null;
     }
 
     @NotNull
@@ -100,11 +99,17 @@ public class GraphQlResolverIndex extends ScalarIndexExtension<String> {
         return new EnumeratorStringDescriptor();
     }
 
+    @NotNull
+    @Override
+    public DataExternalizer<List<GraphQlResolverData>> getValueExternalizer() {
+        return new GraphQlResolverDataExternalizer();
+    }
+
     @NotNull
     @Override
     public FileBasedIndex.InputFilter getInputFilter() {
         return virtualFile -> (virtualFile.getFileType() == GraphQLFileType.INSTANCE
-                && virtualFile.getName().equals("schema.graphqls"));
+                && virtualFile.getName().equals(GraphQlResolver.SCHEMA_FILE_NAME));
     }
 
     @Override
@@ -114,55 +119,6 @@ public class GraphQlResolverIndex extends ScalarIndexExtension<String> {
 
     @Override
     public int getVersion() {
-        return 1;
-    }
-
-
-    public static List<GraphQLQuotedString> getGraphQLUsages(@NotNull PhpClass phpClass) {
-        List<GraphQLQuotedString> quotedStrings = new ArrayList<>();
-
-        String classFqn = phpClass.getFQN();
-        Collection<VirtualFile> containingFiles = FileBasedIndex
-                .getInstance().getContainingFiles(KEY, classFqn, GlobalSearchScope.allScope(phpClass.getProject()));
-
-        PsiManager psiManager = PsiManager.getInstance(phpClass.getProject());
-        for (VirtualFile virtualFile : containingFiles) {
-            GraphQLFile file = (GraphQLFile) psiManager.findFile(virtualFile);
-            if (file == null) {
-                continue;
-            }
-            PsiElement[] children = file.getChildren();
-            findMatchingQuotedString(children, classFqn, quotedStrings);
-        }
-        return quotedStrings;
-    }
-
-    private static PsiElement findMatchingQuotedString(PsiElement[] psiElements, String classFqn, List<GraphQLQuotedString> quotedStrings) {
-        for (PsiElement element: psiElements) {
-            if (!(element instanceof GraphQLArgument) && element.getChildren().length == 0) {
-                continue;
-            }
-            if (!(element instanceof GraphQLArgument) && element.getChildren().length != 0) {
-                findMatchingQuotedString(element.getChildren(), classFqn, quotedStrings);
-                continue;
-            }
-
-            PsiElement argumentStringValue = GraphQlUtil.fetchResolverQuotedStringFromArgument(element);
-            if (argumentStringValue == null) continue;
-
-            String resolverFQN = argumentStringValue.getText();
-            if (resolverFQN == null) {
-                return null;
-            }
-            
-            resolverFQN = GraphQlUtil.resolverStringToPhpFQN(resolverFQN);
-            
-            if (!resolverFQN.equals(classFqn)) {
-                continue;
-            }
-
-            quotedStrings.add((GraphQLQuotedString) argumentStringValue.getFirstChild());
-        }
-        return null;
+        return 2;
     }
 }
@@ -6,98 +6,218 @@ package com.magento.idea.magento2plugin.stubs.indexes.js;
 
 import com.intellij.lang.javascript.JavaScriptFileType;
 import com.intellij.lang.javascript.psi.*;
-import com.intellij.psi.PsiElement;
+import com.intellij.openapi.util.text.StringUtil;
 import com.intellij.psi.util.PsiTreeUtil;
 import com.intellij.util.indexing.*;
 import com.intellij.util.io.DataExternalizer;
 import com.intellij.util.io.EnumeratorStringDescriptor;
 import com.intellij.util.io.KeyDescriptor;
+import com.magento.idea.magento2plugin.indexes.statistics.InstrumentedDataIndexer;
+import com.magento.idea.magento2plugin.project.Settings;
+import com.magento.idea.magento2plugin.stubs.indexes.data.RequireJsConfigData;
+import com.magento.idea.magento2plugin.stubs.indexes.data.RequireJsConfigDataExternalizer;
+import com.magento.idea.magento2plugin.util.magento.MagentoAreaUtil;
 import org.jetbrains.annotations.NotNull;
-import java.util.HashMap;
-import java.util.Map;
+import org.jetbrains.annotations.Nullable;
 
-public class RequireJsIndex extends FileBasedIndexExtension<String, String> {
-    public static final ID<String, String> KEY =
+import java.util.*;
+
+/**
+ * Module id => entries of requirejs-config.js files about it: map and paths aliases, shim dependencies,
+ * deps and mixins, see {@link RequireJsConfigData}.
+ */
+public class RequireJsIndex extends FileBasedIndexExtension<String, List<RequireJsConfigData>> {
+    public static final ID<String, List<RequireJsConfigData>> KEY =
             ID.create("com.magento.idea.magento2plugin.stubs.indexes.require_js");
+    public static final String FILE_NAME = "requirejs-config.js";
+    private static final String CONFIG_VARIABLE = "config";
+    private static final String NO_SCOPE = "";
 
     @NotNull
     @Override
-    public ID<String, String> getName() {
+    public ID<String, List<RequireJsConfigData>> getName() {
         return KEY;
     }
 
     @NotNull
     @Override
-    public DataIndexer<String, String, FileContent> getIndexer() {
-        return inputData -> {
-            Map<String, String> map = new HashMap<>();
-            JSFile jsFile = (JSFile)inputData.getPsiFile();
-
-            JSVarStatement jsVarStatement = PsiTreeUtil.getChildOfType(jsFile, JSVarStatement.class);
-            if (jsVarStatement == null) {
+    public DataIndexer<String, List<RequireJsConfigData>, FileContent> getIndexer() {
+        return InstrumentedDataIndexer.wrap(KEY, getValueExternalizer(), inputData -> {
+            Map<String, List<RequireJsConfigData>> map = new HashMap<>();
+            if (!Settings.isEnabled(inputData.getProject())) {
                 return map;
             }
-            JSVariable[] jsVariableList = jsVarStatement.getVariables();
-            for (JSVariable jsVariable : jsVariableList) {
-                String name = jsVariable.getName();
-                if (name.equals("config")) {
-                    JSObjectLiteralExpression config = PsiTreeUtil.getChildOfType(jsVariable, JSObjectLiteralExpression.class);
-                    if (config == null) {
-                        return map;
-                    }
-                    parseConfigMap(map, config);
-
-                    JSProperty pathsMap = config.findProperty("paths");
-                    if (pathsMap == null) {
-                        return map;
-                    }
-                    JSObjectLiteralExpression[] pathGroupsWrappers = PsiTreeUtil.getChildrenOfType(pathsMap, JSObjectLiteralExpression.class);
-                    for (JSObjectLiteralExpression pathGroupsWrapper : pathGroupsWrappers) {
-                        JSProperty[] allConfigs = pathGroupsWrapper.getProperties();
-                        for (JSProperty mapping : allConfigs) {
-                            String nameConfig = mapping.getName();
-                            JSExpression value = mapping.getValue();
-                            if (value == null) {
-                                continue;
-                            }
-                            String valueConfig = value.getText();
-                            map.put(nameConfig, valueConfig);
-                        }
-                    }
+
+            String area = MagentoAreaUtil.getAreaByViewFile(inputData.getFile());
+            for (JSVariable variable : PsiTreeUtil.findChildrenOfType(inputData.getPsiFile(), JSVariable.class)) {
+                if (!CONFIG_VARIABLE.equals(variable.getName())
+                        || !(variable.getInitializer() instanceof JSObjectLiteralExpression)) {
+                    continue;
                 }
+                JSObjectLiteralExpression config = (JSObjectLiteralExpression) variable.getInitializer();
+                parseMap(map, config, area);
+                parsePaths(map, config, area);
+                parseShim(map, config, area);
+                parseDeps(map, config, area);
+                parseMixins(map, config, area);
+                break;
             }
 
             return map;
-        };
+        });
+    }
+
+    private static void parseMap(
+            Map<String, List<RequireJsConfigData>> map,
+            JSObjectLiteralExpression config,
+            String area
+    ) {
+        for (JSProperty scope : getObjectProperties(config, "map")) {
+            JSExpression scopeValue = scope.getValue();
+            if (!(scopeValue instanceof JSObjectLiteralExpression)) {
+                continue;
+            }
+            for (JSProperty mapping : ((JSObjectLiteralExpression) scopeValue).getProperties()) {
+                String target = getStringValue(mapping.getValue());
+                if (mapping.getName() != null && target != null) {
+                    addEntry(map, RequireJsConfigData.Kind.MAP, scope.getName(), mapping.getName(), target, area);
+                }
+            }
+        }
+    }
+
+    private static void parsePaths(
+            Map<String, List<RequireJsConfigData>> map,
+            JSObjectLiteralExpression config,
+            String area
+    ) {
+        for (JSProperty path : getObjectProperties(config, "paths")) {
+            JSExpression value = path.getValue();
+            // an array is a list of fallback locations, the first one is used
+            if (value instanceof JSArrayLiteralExpression) {
+                JSExpression[] locations = ((JSArrayLiteralExpression) value).getExpressions();
+                value = locations.length > 0 ? locations[0] : null;
+            }
+            String target = getStringValue(value);
+            if (path.getName() != null && target != null) {
+                addEntry(map, RequireJsConfigData.Kind.PATHS, NO_SCOPE, path.getName(), target, area);
+            }
+        }
+    }
+
+    private static void parseShim(
+            Map<String, List<RequireJsConfigData>> map,
+            JSObjectLiteralExpression config,
+            String area
+    ) {
+        for (JSProperty shim : getObjectProperties(config, "shim")) {
+            JSExpression value = shim.getValue();
+            if (value instanceof JSObjectLiteralExpression) {
+                JSProperty deps = ((JSObjectLiteralExpression) value).findProperty("deps");
+                value = deps != null ? deps.getValue() : null;
+            }
+            if (shim.getName() == null) {
+                continue;
+            }
+            for (String dependency : getStringValues(value)) {
+                addEntry(map, RequireJsConfigData.Kind.SHIM, NO_SCOPE, shim.getName(), dependency, area);
+            }
+        }
     }
 
-    private void parseConfigMap(Map<String, String> map, JSObjectLiteralExpression config) {
-        JSProperty configMap = config.findProperty("map");
-        if (configMap == null) {
+    private static void parseDeps(
+            Map<String, List<RequireJsConfigData>> map,
+            JSObjectLiteralExpression config,
+            String area
+    ) {
+        JSProperty deps = config.findProperty("deps");
+        if (deps == null) {
             return;
         }
+        for (String dependency : getStringValues(deps.getValue())) {
+            addEntry(map, RequireJsConfigData.Kind.DEPS, NO_SCOPE, dependency, dependency, area);
+        }
+    }
 
-        JSObjectLiteralExpression[] configGroupsWrappers = PsiTreeUtil.getChildrenOfType(configMap, JSObjectLiteralExpression.class);
-        for (JSObjectLiteralExpression configGroupsWrapper : configGroupsWrappers) {
-            PsiElement[] configGroups = configGroupsWrapper.getChildren();
-
-            for (PsiElement configGroup : configGroups) {
-                JSObjectLiteralExpression mappingWrapper = PsiTreeUtil.getChildOfType(configGroup, JSObjectLiteralExpression.class);
-                JSProperty[] allConfigs = mappingWrapper.getProperties();
-
-                for (JSProperty mapping : allConfigs) {
-                    String nameConfig = mapping.getName();
-                    JSExpression value = mapping.getValue();
-                    if (value == null) {
-                        continue;
-                    }
-                    String valueConfig = value.getText();
-                    map.put(nameConfig, valueConfig);
+    private static void parseMixins(
+            Map<String, List<RequireJsConfigData>> map,
+            JSObjectLiteralExpression config,
+            String area
+    ) {
+        JSProperty moduleConfig = config.findProperty("config");
+        if (moduleConfig == null || !(moduleConfig.getValue() instanceof JSObjectLiteralExpression)) {
+            return;
+        }
+        JSObjectLiteralExpression moduleConfigValue = (JSObjectLiteralExpression) moduleConfig.getValue();
+        for (JSProperty mixinTarget : getObjectProperties(moduleConfigValue, "mixins")) {
+            JSExpression value = mixinTarget.getValue();
+            if (mixinTarget.getName() == null || !(value instanceof JSObjectLiteralExpression)) {
+                continue;
+            }
+            for (JSProperty mixin : ((JSObjectLiteralExpression) value).getProperties()) {
+                JSExpression enabled = mixin.getValue();
+                if (mixin.getName() == null || enabled == null) {
+                    continue;
                 }
+                addEntry(
+                        map,
+                        enabled.getText().equals("false")
+                                ? RequireJsConfigData.Kind.MIXIN_DISABLED
+                                : RequireJsConfigData.Kind.MIXIN,
+                        NO_SCOPE,
+                        mixinTarget.getName(),
+                        mixin.getName(),
+                        area
+                );
             }
         }
     }
 
+    private static JSProperty[] getObjectProperties(JSObjectLiteralExpression object, String name) {
+        JSProperty property = object.findProperty(name);
+        if (property == null || !(property.getValue() instanceof JSObjectLiteralExpression)) {
+            return new JSProperty[0];
+        }
+
+        return ((JSObjectLiteralExpression) property.getValue()).getProperties();
+    }
+
+    @Nullable
+    private static String getStringValue(@Nullable JSExpression expression) {
+        if (!(expression instanceof JSLiteralExpression) || !((JSLiteralExpression) expression).isQuotedLiteral()) {
+            return null;
+        }
+
+        return StringUtil.unquoteString(expression.getText());
+    }
+
+    private static List<String> getStringValues(@Nullable JSExpression expression) {
+        List<String> values = new ArrayList<>();
+        if (!(expression instanceof JSArrayLiteralExpression)) {
+            return values;
+        }
+        for (JSExpression item : ((JSArrayLiteralExpression) expression).getExpressions()) {
+            String value = getStringValue(item);
+            if (value != null) {
+                values.add(value);
+            }
+        }
+
+        return values;
+    }
+
+    private static void addEntry(
+            Map<String, List<RequireJsConfigData>> map,
+            RequireJsConfigData.Kind kind,
+            String scope,
+            String alias,
+            String target,
+            String area
+    ) {
+        map.computeIfAbsent(alias, key -> new ArrayList<>())
+                .add(new RequireJsConfigData(kind, scope, alias, target, area));
+    }
+
     @NotNull
     @Override
     public KeyDescriptor<String> getKeyDescriptor() {
@@ -108,7 +228,7 @@ public class RequireJsIndex extends FileBasedIndexExtension<String, String> {
     @Override
     public FileBasedIndex.InputFilter getInputFilter() {
         return virtualFile -> (
-                virtualFile.getFileType().equals(JavaScriptFileType.INSTANCE) && virtualFile.getName().equals("requirejs-config.js")
+                virtualFile.getFileType().equals(JavaScriptFileType.INSTANCE) && virtualFile.getName().equals(FILE_NAME)
         );
     }
 
@@ -119,11 +239,11 @@ public class RequireJsIndex extends FileBasedIndexExtension<String, String> {
 
     @Override
     public int getVersion() {
-        return 1;
+        return 2;
     }
 
     @NotNull
-    public DataExternalizer<String> getValueExternalizer() {
-        return EnumeratorStringDescriptor.INSTANCE;
+    public DataExternalizer<List<RequireJsConfigData>> getValueExternalizer() {
+        return new RequireJsConfigDataExternalizer();
     }
 }
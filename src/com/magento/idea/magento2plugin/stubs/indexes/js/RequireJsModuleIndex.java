@@ -0,0 +1,153 @@
+/*
+ * Copyright © Magento, Inc. All rights reserved.
+ * See COPYING.txt for license details.
+ */
+package com.magento.idea.magento2plugin.stubs.indexes.js;
+
+import com.intellij.lang.javascript.JavaScriptFileType;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.search.GlobalSearchScopesCore;
+import com.intellij.util.indexing.*;
+import com.intellij.util.io.DataExternalizer;
+import com.intellij.util.io.EnumeratorStringDescriptor;
+import com.intellij.util.io.KeyDescriptor;
+import com.magento.idea.magento2plugin.indexes.IndexQueries;
+import com.magento.idea.magento2plugin.indexes.statistics.InstrumentedDataIndexer;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+
+/**
+ * RequireJS module id => js files, built from the file path only.
+ *
+ * Library files are indexed by their full id, e.g. lib/web/mage/apply/main.js => mage/apply/main
+ * with an empty value. Module files are indexed by the id without the module name,
+ * e.g. view/frontend/web/js/view/minicart.js => js/view/minicart with the area as the value:
+ * the module name is known only from the registration.php, so lookups are restricted to the view
+ * directory of the module instead.
+ */
+public class RequireJsModuleIndex extends FileBasedIndexExtension<String, String> {
+    public static final ID<String, String> KEY =
+            ID.create("com.magento.idea.magento2plugin.stubs.indexes.require_js_module");
+    private static final String LIB_WEB_PATH = "/lib/web/";
+    private static final String VIEW_DIR = "view";
+    private static final String WEB_DIR = "web";
+    private static final String JS_EXTENSION = ".js";
+    private static final String LIB = "";
+    private final KeyDescriptor<String> myKeyDescriptor = new EnumeratorStringDescriptor();
+
+    @NotNull
+    @Override
+    public ID<String, String> getName() {
+        return KEY;
+    }
+
+    @NotNull
+    @Override
+    public DataIndexer<String, String, FileContent> getIndexer() {
+        return InstrumentedDataIndexer.wrap(KEY, getValueExternalizer(), inputData -> {
+            Map<String, String> map = new HashMap<>();
+            String path = inputData.getFile().getPath();
+            if (!path.endsWith(JS_EXTENSION)) {
+                return map;
+            }
+            path = path.substring(0, path.length() - JS_EXTENSION.length());
+
+            int libWebIndex = path.lastIndexOf(LIB_WEB_PATH);
+            if (libWebIndex >= 0) {
+                map.put(path.substring(libWebIndex + LIB_WEB_PATH.length()), LIB);
+            }
+
+            // the view directory of the module is not known, so every `view` directory of the path is a candidate
+            String[] segments = path.split("/");
+            for (int i = 0; i < segments.length - 3; i++) {
+                if (segments[i].equals(VIEW_DIR) && segments[i + 2].equals(WEB_DIR)) {
+                    map.put(
+                            String.join("/", Arrays.asList(segments).subList(i + 3, segments.length)),
+                            segments[i + 1]
+                    );
+                }
+            }
+
+            return map;
+        });
+    }
+
+    /**
+     * Library files of the module id within the scope, e.g. mage/apply/main or jquery/ui.
+     */
+    @NotNull
+    public static List<VirtualFile> findLibFiles(
+            @NotNull Project project,
+            @NotNull String moduleId,
+            @NotNull GlobalSearchScope scope
+    ) {
+        List<VirtualFile> files = new ArrayList<>();
+        String libPath = LIB_WEB_PATH + moduleId + JS_EXTENSION;
+        IndexQueries.processValues(KEY, moduleId, null, (file, area) -> {
+            if (area.equals(LIB) && file.getPath().endsWith(libPath)) {
+                files.add(file);
+            }
+            return true;
+        }, scope);
+
+        return files;
+    }
+
+    /**
+     * Files of the module id in the view directory of a module within the scope,
+     * e.g. js/view/minicart for Magento_Checkout.
+     */
+    @NotNull
+    public static List<VirtualFile> findModuleFiles(
+            @NotNull Project project,
+            @NotNull VirtualFile viewDirectory,
+            @NotNull String moduleId,
+            @NotNull GlobalSearchScope scope
+    ) {
+        List<VirtualFile> files = new ArrayList<>();
+        String viewPath = viewDirectory.getPath() + "/";
+        String webPath = "/" + WEB_DIR + "/" + moduleId + JS_EXTENSION;
+        IndexQueries.processValues(KEY, moduleId, null, (file, area) -> {
+            if (!area.equals(LIB) && file.getPath().equals(viewPath + area + webPath)) {
+                files.add(file);
+            }
+            return true;
+        }, GlobalSearchScopesCore.directoryScope(project, viewDirectory, true).intersectWith(scope));
+
+        return files;
+    }
+
+    @NotNull
+    @Override
+    public KeyDescriptor<String> getKeyDescriptor() {
+        return myKeyDescriptor;
+    }
+
+    @NotNull
+    @Override
+    public DataExternalizer<String> getValueExternalizer() {
+        return EnumeratorStringDescriptor.INSTANCE;
+    }
+
+    @NotNull
+    @Override
+    public FileBasedIndex.InputFilter getInputFilter() {
+        return virtualFile -> (
+                virtualFile.getFileType().equals(JavaScriptFileType.INSTANCE)
+                        && virtualFile.getPath().contains("/" + WEB_DIR + "/")
+        );
+    }
+
+    @Override
+    public boolean dependsOnFileContent() {
+        return false;
+    }
+
+    @Override
+    public int getVersion() {
+        return 1;
+    }
+}
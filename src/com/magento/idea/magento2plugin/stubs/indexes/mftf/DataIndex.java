@@ -11,6 +11,7 @@ import com.intellij.util.indexing.*;
 import com.intellij.util.io.DataExternalizer;
 import com.intellij.util.io.EnumeratorStringDescriptor;
 import com.intellij.util.io.KeyDescriptor;
+import com.magento.idea.magento2plugin.indexes.statistics.InstrumentedDataIndexer;
 import com.magento.idea.magento2plugin.project.Settings;
 import gnu.trove.THashMap;
 import org.jetbrains.annotations.NotNull;
@@ -27,7 +28,7 @@ public class DataIndex extends FileBasedIndexExtension<String, String> {
     @NotNull
     @Override
     public DataIndexer<String, String, FileContent> getIndexer() {
-        return inputData -> {
+        return InstrumentedDataIndexer.wrap(KEY, getValueExternalizer(), inputData -> {
             Map<String, String> map = new THashMap<>();
             PsiFile psiFile = inputData.getPsiFile();
             Project project = psiFile.getProject();
@@ -80,7 +81,7 @@ public class DataIndex extends FileBasedIndexExtension<String, String> {
             }
 
             return map;
-        };
+        });
     }
 
     @NotNull
@@ -5,81 +5,90 @@
 package com.magento.idea.magento2plugin.stubs.indexes.xml;
 
 import com.intellij.ide.highlighter.XmlFileType;
-import com.intellij.psi.PsiFile;
-import com.intellij.psi.util.PsiTreeUtil;
-import com.intellij.psi.xml.XmlAttribute;
-import com.intellij.psi.xml.XmlFile;
-import com.intellij.psi.xml.XmlTag;
-import com.intellij.psi.xml.XmlTagValue;
 import com.intellij.util.indexing.*;
+import com.intellij.util.io.DataExternalizer;
 import com.intellij.util.io.EnumeratorStringDescriptor;
 import com.intellij.util.io.KeyDescriptor;
 import com.jetbrains.php.lang.PhpLangUtil;
+import com.magento.idea.magento2plugin.indexes.statistics.InstrumentedDataIndexer;
 import com.magento.idea.magento2plugin.project.Settings;
+import com.magento.idea.magento2plugin.stubs.indexes.data.PhpClassUsageData;
+import com.magento.idea.magento2plugin.stubs.indexes.data.PhpClassUsageDataExternalizer;
 import com.magento.idea.magento2plugin.util.RegExUtil;
+import com.magento.idea.magento2plugin.util.xml.XmlStreamScanner;
 import gnu.trove.THashMap;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.regex.Pattern;
 
-public class PhpClassNameIndex extends ScalarIndexExtension<String> {
+/**
+ * Php classes referenced in xml files: class name => tags with the class name as an attribute value or as the text.
+ */
+public class PhpClassNameIndex extends FileBasedIndexExtension<String, List<PhpClassUsageData>> {
     private static final String CLASS_NAME_PATTERN =
             "\\\\?" + RegExUtil.PhpRegex.CLASS_NAME + "(\\\\" + RegExUtil.PhpRegex.CLASS_NAME + ")+";
+    private static final Pattern CLASS_NAME_REGEX = Pattern.compile(CLASS_NAME_PATTERN);
 
-    public static final ID<String, Void> KEY = ID.create(
+    public static final ID<String, List<PhpClassUsageData>> KEY = ID.create(
             "com.magento.idea.magento2plugin.stubs.indexes.xml.php_class_name");
 
     @NotNull
     @Override
-    public DataIndexer<String, Void, FileContent> getIndexer() {
-        return inputData -> {
-            Map<String, Void> map = new THashMap<>();
-            PsiFile psiFile = inputData.getPsiFile();
-            if (!Settings.isEnabled(psiFile.getProject())) {
-                return map;
-            }
-
-            if (!(psiFile instanceof XmlFile)) {
+    public DataIndexer<String, List<PhpClassUsageData>, FileContent> getIndexer() {
+        return InstrumentedDataIndexer.wrap(KEY, getValueExternalizer(), inputData -> {
+            Map<String, List<PhpClassUsageData>> map = new THashMap<>();
+            if (!Settings.isEnabled(inputData.getProject())) {
                 return map;
             }
 
-            XmlTag xmlTags[] = PsiTreeUtil.getChildrenOfType(psiFile.getFirstChild(), XmlTag.class);
-            if (xmlTags == null) {
-                return map;
-            }
+            XmlStreamScanner.scan(inputData.getContentAsText(), new XmlStreamScanner.Handler() {
+                @Override
+                public void startTag(@NotNull XmlStreamScanner.Tag tag) {
+                    if (tag.isRoot()) {
+                        return;
+                    }
+                    for (XmlStreamScanner.Attribute attribute : tag.getAttributes().values()) {
+                        addClassName(attribute.getValue(), tag, map);
+                    }
+                }
 
-            for (XmlTag xmlTag: xmlTags) {
-                fillMap(xmlTag, map);
-            }
+                @Override
+                public void endTag(@NotNull XmlStreamScanner.Tag tag) {
+                    if (!tag.isRoot()) {
+                        addClassName(tag.getTrimmedText(), tag, map);
+                    }
+                }
+            });
 
             return map;
-        };
+        });
     }
 
-    private void fillMap(XmlTag parentTag, Map<String, Void> resultMap) {
-        for (XmlTag childTag: parentTag.getSubTags()) {
-            for (XmlAttribute xmlAttribute: childTag.getAttributes()) {
-                String xmlAttributeValue = xmlAttribute.getValue();
-                if (xmlAttributeValue != null
-                        && !xmlAttributeValue.isEmpty()
-                        && xmlAttributeValue.matches(CLASS_NAME_PATTERN)
-                ) {
-                    resultMap.put(PhpLangUtil.toPresentableFQN(xmlAttributeValue), null);
-                }
-            }
-            XmlTagValue childTagValue = childTag.getValue();
-            String tagValue = childTagValue.getTrimmedText();
-            if (!tagValue.isEmpty() && tagValue.matches(CLASS_NAME_PATTERN)) {
-                resultMap.put(PhpLangUtil.toPresentableFQN(tagValue), null);
-            }
-
-            fillMap(childTag, resultMap);
+    private void addClassName(
+            String value,
+            XmlStreamScanner.Tag tag,
+            Map<String, List<PhpClassUsageData>> resultMap
+    ) {
+        // the pattern needs at least one namespace separator, most values are rejected before the regex
+        if (value.indexOf('\\') < 0 || !CLASS_NAME_REGEX.matcher(value).matches()) {
+            return;
+        }
+        List<PhpClassUsageData> usages = resultMap.computeIfAbsent(
+                PhpLangUtil.toPresentableFQN(value),
+                key -> new ArrayList<>()
+        );
+        PhpClassUsageData usage = new PhpClassUsageData(tag.getName(), tag.getOffset());
+        if (!usages.contains(usage)) {
+            usages.add(usage);
         }
     }
 
     @NotNull
     @Override
-    public ID<String, Void> getName() {
+    public ID<String, List<PhpClassUsageData>> getName() {
         return KEY;
     }
 
@@ -89,6 +98,12 @@ public class PhpClassNameIndex extends ScalarIndexExtension<String> {
         return new EnumeratorStringDescriptor();
     }
 
+    @NotNull
+    @Override
+    public DataExternalizer<List<PhpClassUsageData>> getValueExternalizer() {
+        return new PhpClassUsageDataExternalizer();
+    }
+
     @NotNull
     @Override
     public FileBasedIndex.InputFilter getInputFilter() {
@@ -103,6 +118,6 @@ public class PhpClassNameIndex extends ScalarIndexExtension<String> {
 
     @Override
     public int getVersion() {
-        return 1;
+        return 4;
     }
 }
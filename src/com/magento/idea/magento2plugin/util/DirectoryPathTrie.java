@@ -0,0 +1,117 @@
+/*
+ * Copyright © Magento, Inc. All rights reserved.
+ * See COPYING.txt for license details.
+ */
+package com.magento.idea.magento2plugin.util;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * Values bound to directory paths, looked up by the path of a file inside the directory.
+ *
+ * Lookup cost depends on the depth of the path only, not on the number of stored directories.
+ * Not thread safe, callers publish fully built tries.
+ */
+public class DirectoryPathTrie<T> {
+    private final Node<T> root = new Node<>();
+
+    public void put(@NotNull String directoryPath, @NotNull T value) {
+        Node<T> node = root;
+        for (String segment : split(directoryPath)) {
+            node = node.children.computeIfAbsent(segment, k -> new Node<>());
+        }
+        node.value = value;
+    }
+
+    @Nullable
+    public T get(@NotNull String directoryPath) {
+        Node<T> node = root;
+        for (String segment : split(directoryPath)) {
+            node = node.children.get(segment);
+            if (node == null) {
+                return null;
+            }
+        }
+
+        return node.value;
+    }
+
+    /**
+     * Value of the deepest directory containing the path, the path itself included.
+     */
+    @Nullable
+    public T findNearest(@NotNull String path) {
+        return findNearest(path, value -> true);
+    }
+
+    @Nullable
+    public T findNearest(@NotNull String path, @NotNull Predicate<? super T> filter) {
+        T result = root.value != null && filter.test(root.value) ? root.value : null;
+        Node<T> node = root;
+        for (String segment : split(path)) {
+            node = node.children.get(segment);
+            if (node == null) {
+                break;
+            }
+            if (node.value != null && filter.test(node.value)) {
+                result = node.value;
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Values of the directory and of all its subdirectories.
+     */
+    @NotNull
+    public List<T> findAllUnder(@NotNull String directoryPath) {
+        List<T> result = new ArrayList<>();
+        Node<T> node = root;
+        for (String segment : split(directoryPath)) {
+            node = node.children.get(segment);
+            if (node == null) {
+                return result;
+            }
+        }
+        collect(node, result);
+
+        return result;
+    }
+
+    private static <T> void collect(Node<T> node, List<T> result) {
+        if (node.value != null) {
+            result.add(node.value);
+        }
+        for (Node<T> child : node.children.values()) {
+            collect(child, result);
+        }
+    }
+
+    private static List<String> split(String path) {
+        List<String> segments = new ArrayList<>();
+        int start = 0;
+        for (int i = 0; i <= path.length(); i++) {
+            if (i == path.length() || path.charAt(i) == '/') {
+                if (i > start) {
+                    segments.add(path.substring(start, i));
+                }
+                start = i + 1;
+            }
+        }
+
+        return segments;
+    }
+
+    private static class Node<T> {
+        private final Map<String, Node<T>> children = new HashMap<>(4);
+        private T value;
+    }
+}
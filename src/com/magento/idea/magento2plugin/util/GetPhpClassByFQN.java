@@ -4,22 +4,23 @@
  */
 package com.magento.idea.magento2plugin.util;
 
+import com.intellij.openapi.components.ServiceManager;
 import com.intellij.openapi.project.Project;
 import com.jetbrains.php.PhpIndex;
 import com.jetbrains.php.lang.psi.elements.PhpClass;
+import org.jetbrains.annotations.NotNull;
 
 import java.util.Collection;
 
 public class GetPhpClassByFQN {
-    private static GetPhpClassByFQN INSTANCE = null;
-    private Project project;
+    private final Project project;
 
-    public static GetPhpClassByFQN getInstance(Project project) {
-        if (null == INSTANCE) {
-            INSTANCE = new GetPhpClassByFQN();
-        }
-        INSTANCE.project = project;
-        return INSTANCE;
+    public GetPhpClassByFQN(@NotNull Project project) {
+        this.project = project;
+    }
+
+    public static GetPhpClassByFQN getInstance(@NotNull Project project) {
+        return ServiceManager.getService(project, GetPhpClassByFQN.class);
     }
 
     public PhpClass execute(String targetClassName) {
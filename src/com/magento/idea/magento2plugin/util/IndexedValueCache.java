@@ -0,0 +1,74 @@
+/*
+ * Copyright © Magento, Inc. All rights reserved.
+ * See COPYING.txt for license details.
+ */
+package com.magento.idea.magento2plugin.util;
+
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.ModificationTracker;
+import com.intellij.psi.util.CachedValue;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import com.intellij.util.indexing.ID;
+import com.magento.idea.magento2plugin.indexes.IndexQueries;
+import com.magento.idea.magento2plugin.util.telemetry.EditorTelemetry;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+/**
+ * Values computed per key of a file based index, dropped only when the modification tracker changes.
+ *
+ * Keys missing in the index are told apart by the cached set of index keys, they cost no index lookup.
+ * A null value is not cached, so a stale index key is looked up again on the next call.
+ */
+public class IndexedValueCache<V> {
+    private final CachedValue<Set<String>> keys;
+    private final CachedValue<ConcurrentMap<String, V>> values;
+    private final Function<String, V> compute;
+
+    public IndexedValueCache(
+            @NotNull Project project,
+            @NotNull ID<String, ?> indexId,
+            @NotNull ModificationTracker modificationTracker,
+            @NotNull Function<String, V> compute
+    ) {
+        CachedValuesManager cachedValuesManager = CachedValuesManager.getManager(project);
+        this.keys = cachedValuesManager.createCachedValue(
+                () -> CachedValueProvider.Result.create(
+                        Collections.unmodifiableSet(
+                                new HashSet<>(IndexQueries.getAllKeys(indexId, project))
+                        ),
+                        modificationTracker
+                ),
+                false
+        );
+        this.values = cachedValuesManager.createCachedValue(
+                () -> CachedValueProvider.Result.create(new ConcurrentHashMap<>(), modificationTracker),
+                false
+        );
+        this.compute = compute;
+    }
+
+    /**
+     * Answered from the index keys only.
+     */
+    public boolean containsKey(@NotNull String key) {
+        return keys.getValue().contains(key);
+    }
+
+    @Nullable
+    public V get(@NotNull String key) {
+        if (!containsKey(key)) {
+            return null;
+        }
+
+        return EditorTelemetry.getCached(values.getValue(), key, compute);
+    }
+}
@@ -8,18 +8,10 @@ import com.intellij.openapi.project.Project;
 import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.psi.PsiFile;
 import com.intellij.psi.PsiManager;
-import com.intellij.psi.search.GlobalSearchScope;
-import com.intellij.util.indexing.FileBasedIndex;
-import com.jetbrains.php.lang.PhpFileType;
 import com.magento.idea.magento2plugin.magento.packages.Package;
-import com.magento.idea.magento2plugin.stubs.indexes.ModuleNameIndex;
-import com.magento.idea.magento2plugin.util.RegExUtil;
 
-import com.magento.idea.magento2plugin.magento.packages.File;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 public class FileBasedIndexUtil {
 
@@ -27,54 +19,21 @@ public class FileBasedIndexUtil {
     {
         Collection<VirtualFile> viewVfs = new ArrayList<>();
 
-        Pattern pattern = Pattern.compile(RegExUtil.Magento.MODULE_NAME);
-        Matcher matcher = pattern.matcher(moduleName);
-        if (!matcher.find()) {
-            return viewVfs;
-        }
-
-        Collection<VirtualFile> moduleVfs =
-                FileBasedIndex.getInstance().getContainingFiles(ModuleNameIndex.KEY, moduleName,
-                    GlobalSearchScope.getScopeRestrictedByFileTypes(
-                        GlobalSearchScope.allScope(project),
-                        PhpFileType.INSTANCE
-                )
-        );
-
-        for (VirtualFile moduleVf : moduleVfs) {
-            viewVfs.addAll(getValues(moduleName, moduleVf, project));
+        VirtualFile viewVf = ModuleRegistry.getInstance(project).getViewDirectory(moduleName);
+        if (viewVf != null) {
+            viewVfs.add(viewVf);
         }
         return viewVfs;
     }
 
     public static PsiFile findModuleConfigFile(String virtualFieName, Package.Areas area, String moduleName, Project project)
     {
-        Pattern pattern = Pattern.compile(RegExUtil.Magento.MODULE_NAME);
-        Matcher matcher = pattern.matcher(moduleName);
-        if (!matcher.find()) {
+        VirtualFile configDirectory = ModuleRegistry.getInstance(project).getConfigDirectory(moduleName, area);
+        if (configDirectory == null) {
             return null;
         }
 
-        Collection<VirtualFile> moduleVfs =
-                FileBasedIndex.getInstance().getContainingFiles(ModuleNameIndex.KEY, moduleName,
-                        GlobalSearchScope.getScopeRestrictedByFileTypes(
-                                GlobalSearchScope.allScope(project),
-                                PhpFileType.INSTANCE
-                        )
-                );
-        if (moduleVfs.isEmpty()) {
-            return null;
-        }
-
-        VirtualFile moduleVf = moduleVfs.iterator().next();
-
-        String relativePath = File.separator.concat(Package.MODULE_BASE_AREA_DIR).concat(File.separator);
-        if (!area.equals(Package.Areas.base)) {
-            relativePath = relativePath.concat(area.toString()).concat(File.separator);
-        }
-        relativePath = relativePath.concat(virtualFieName);
-
-        VirtualFile configFile = moduleVf.getParent().findFileByRelativePath(relativePath);
+        VirtualFile configFile = configDirectory.findChild(virtualFieName);
         if (configFile == null) {
             return null;
         }
@@ -85,27 +44,11 @@ public class FileBasedIndexUtil {
     {
         Collection<VirtualFile> viewVfs = new ArrayList<>();
 
-        for (String moduleName : FileBasedIndex.getInstance().getAllKeys(ModuleNameIndex.KEY, project)) {
-            viewVfs.addAll(getValues(moduleName, moduleVf, project));
+        ModuleRegistry moduleRegistry = ModuleRegistry.getInstance(project);
+        ModuleRegistry.Module module = moduleRegistry.getModuleByFile(moduleVf);
+        if (module == null || !module.getRegistrationFile().equals(moduleVf)) {
+            return viewVfs;
         }
-        return viewVfs;
-    }
-
-    private static Collection<VirtualFile> getValues(String moduleName, VirtualFile moduleVf, Project project)
-    {
-        Collection<VirtualFile> viewVfs = new ArrayList<>();
-        FileBasedIndex.getInstance()
-                .processValues(
-                        ModuleNameIndex.KEY, moduleName, moduleVf,
-                        (file, value) -> {
-                            VirtualFile viewVf = file.getParent().findFileByRelativePath(value.concat("/view"));
-                            if (viewVf != null) {
-                                viewVfs.add(viewVf);
-                            }
-                            return false;
-                        },
-                        GlobalSearchScope.fileScope(project, moduleVf)
-                );
-        return viewVfs;
+        return findViewVfsByModuleName(module.getName(), project);
     }
 }
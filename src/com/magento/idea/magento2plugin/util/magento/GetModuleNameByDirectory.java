@@ -4,6 +4,7 @@
  */
 package com.magento.idea.magento2plugin.util.magento;
 
+import com.intellij.openapi.components.ServiceManager;
 import com.intellij.openapi.project.Project;
 import com.intellij.psi.PsiDirectory;
 import com.intellij.psi.PsiElement;
@@ -13,21 +14,28 @@ import com.jetbrains.php.lang.psi.elements.MethodReference;
 import com.jetbrains.php.lang.psi.elements.StringLiteralExpression;
 import com.magento.idea.magento2plugin.magento.files.RegistrationPhp;
 import com.magento.idea.magento2plugin.util.RegExUtil;
+import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 public class GetModuleNameByDirectory {
-    private static GetModuleNameByDirectory INSTANCE = null;
-    private Project project;
+    private final Project project;
 
-    public static GetModuleNameByDirectory getInstance(Project project) {
-        if (null == INSTANCE) {
-            INSTANCE = new GetModuleNameByDirectory();
-        }
-        INSTANCE.project = project;
-        return INSTANCE;
+    public GetModuleNameByDirectory(@NotNull Project project) {
+        this.project = project;
+    }
+
+    public static GetModuleNameByDirectory getInstance(@NotNull Project project) {
+        return ServiceManager.getService(project, GetModuleNameByDirectory.class);
     }
 
     public String execute(PsiDirectory psiDirectory) {
+        ModuleRegistry.Module module = ModuleRegistry.getInstance(project)
+                .getModuleByFile(psiDirectory.getVirtualFile());
+        if (module != null) {
+            return module.getName();
+        }
+
+        // modules which are not indexed yet, e.g. just generated ones
         PhpFile registrationPhp = getRegistrationPhpRecursively(psiDirectory, project);
         if (registrationPhp == null) {
             return null;
@@ -39,7 +47,6 @@ public class GetModuleNameByDirectory {
         return getModuleName(childElements);
     }
 
-
     private PhpFile getRegistrationPhpRecursively(PsiDirectory psiDirectory, Project project) {
         PsiElement[] containingFiles = psiDirectory.getChildren();
         PhpFile containingFile = getModuleRegistrationPhpFile(containingFiles);
@@ -0,0 +1,64 @@
+/*
+ * Copyright © Magento, Inc. All rights reserved.
+ * See COPYING.txt for license details.
+ */
+package com.magento.idea.magento2plugin.util.magento;
+
+import com.intellij.openapi.vfs.VirtualFile;
+import com.magento.idea.magento2plugin.magento.packages.Package;
+import org.jetbrains.annotations.NotNull;
+
+public class MagentoAreaUtil {
+    public static final String PRIMARY_AREA = "primary";
+    private static final String VIEW_DIR = "view";
+    private static final String DESIGN_DIR = "design";
+
+    /**
+     * Resolves the area of a configuration file by its location.
+     *
+     * app/etc/*.xml is primary, <module>/etc/*.xml is base, <module>/etc/<area>/*.xml is <area>.
+     */
+    @NotNull
+    public static String getAreaByConfigFile(@NotNull VirtualFile file) {
+        VirtualFile directory = file.getParent();
+        if (directory == null) {
+            return Package.Areas.base.toString();
+        }
+        String directoryName = directory.getName();
+        if (directoryName.equals(Package.MODULE_BASE_AREA_DIR)) {
+            VirtualFile parent = directory.getParent();
+            if (parent != null && parent.getName().equals(Package.APP)) {
+                return PRIMARY_AREA;
+            }
+            return Package.Areas.base.toString();
+        }
+
+        return directoryName;
+    }
+
+    /**
+     * Resolves the area of a view file by its location.
+     *
+     * <module>/view/<area>/... and app/design/<area>/<Vendor>/<theme>/... are <area>, anything else is base.
+     */
+    @NotNull
+    public static String getAreaByViewFile(@NotNull VirtualFile file) {
+        VirtualFile directory = file.getParent();
+        while (directory != null && directory.getParent() != null) {
+            String parentName = directory.getParent().getName();
+            if (parentName.equals(VIEW_DIR) || parentName.equals(DESIGN_DIR)) {
+                return directory.getName();
+            }
+            directory = directory.getParent();
+        }
+
+        return Package.Areas.base.toString();
+    }
+
+    /**
+     * Checks whether the file belongs to a theme, i.e. is located under app/design.
+     */
+    public static boolean isThemeFile(@NotNull VirtualFile file) {
+        return file.getPath().contains("/" + Package.APP + "/" + DESIGN_DIR + "/");
+    }
+}
@@ -0,0 +1,196 @@
+/*
+ * Copyright © Magento, Inc. All rights reserved.
+ * See COPYING.txt for license details.
+ */
+package com.magento.idea.magento2plugin.util.magento;
+
+import com.intellij.openapi.components.ServiceManager;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.util.CachedValue;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import com.jetbrains.php.lang.PhpFileType;
+import com.magento.idea.magento2plugin.indexes.IndexQueries;
+import com.magento.idea.magento2plugin.magento.packages.MagentoComponent;
+import com.magento.idea.magento2plugin.magento.packages.MagentoComponentManager;
+import com.magento.idea.magento2plugin.magento.packages.Package;
+import com.magento.idea.magento2plugin.project.RegistrationPhpModificationTracker;
+import com.magento.idea.magento2plugin.stubs.indexes.ModuleNameIndex;
+import com.magento.idea.magento2plugin.util.DirectoryPathTrie;
+import com.magento.idea.magento2plugin.util.RegExUtil;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.regex.Pattern;
+
+/**
+ * Project level snapshot of the registered Magento modules, rebuilt only when a registration.php changes.
+ *
+ * Module name => registration directory and source directory, directory => module name through a path trie.
+ */
+public class ModuleRegistry {
+    private static final Pattern MODULE_NAME_PATTERN = Pattern.compile(RegExUtil.Magento.MODULE_NAME);
+    private static final String VIEW_DIR = "view";
+
+    private final Project project;
+    private final CachedValue<Snapshot> snapshot;
+
+    public ModuleRegistry(@NotNull Project project) {
+        this.project = project;
+        this.snapshot = CachedValuesManager.getManager(project).createCachedValue(
+                () -> CachedValueProvider.Result.create(
+                        loadSnapshot(),
+                        RegistrationPhpModificationTracker.getInstance(project)
+                ),
+                false
+        );
+    }
+
+    public static ModuleRegistry getInstance(@NotNull Project project) {
+        return ServiceManager.getService(project, ModuleRegistry.class);
+    }
+
+    /**
+     * Registered module names, sorted.
+     */
+    @NotNull
+    public List<String> getModuleNames() {
+        return snapshot.getValue().moduleNames;
+    }
+
+    @Nullable
+    public Module getModule(@NotNull String moduleName) {
+        return snapshot.getValue().modules.get(moduleName);
+    }
+
+    /**
+     * Module the file or directory belongs to, the nearest registration.php up the tree wins.
+     */
+    @Nullable
+    public Module getModuleByFile(@NotNull VirtualFile file) {
+        return snapshot.getValue().modulesByDirectory.findNearest(file.getPath());
+    }
+
+    @Nullable
+    public VirtualFile getModuleDirectory(@NotNull String moduleName) {
+        Module module = getModule(moduleName);
+
+        return module != null ? module.getRegistrationFile().getParent() : null;
+    }
+
+    /**
+     * Directory of the module configuration files of the area: etc or etc/{area}.
+     */
+    @Nullable
+    public VirtualFile getConfigDirectory(@NotNull String moduleName, @NotNull Package.Areas area) {
+        VirtualFile moduleDirectory = getModuleDirectory(moduleName);
+        if (moduleDirectory == null) {
+            return null;
+        }
+        String relativePath = Package.MODULE_BASE_AREA_DIR;
+        if (!area.equals(Package.Areas.base)) {
+            relativePath = relativePath + "/" + area.toString();
+        }
+
+        return moduleDirectory.findFileByRelativePath(relativePath);
+    }
+
+    @Nullable
+    public VirtualFile getViewDirectory(@NotNull String moduleName) {
+        Module module = getModule(moduleName);
+        VirtualFile sourceDirectory = module != null ? module.getSourceDirectory() : null;
+
+        return sourceDirectory != null ? sourceDirectory.findChild(VIEW_DIR) : null;
+    }
+
+    /**
+     * Composer package declared next to the registration.php of the module.
+     */
+    @Nullable
+    public String getComposerPackageName(@NotNull String moduleName) {
+        VirtualFile moduleDirectory = getModuleDirectory(moduleName);
+        if (moduleDirectory == null) {
+            return null;
+        }
+        MagentoComponent component = MagentoComponentManager.getInstance(project)
+                .getComponentForDirectory(moduleDirectory);
+
+        return component != null ? component.getComposerModel().getName() : null;
+    }
+
+    private Snapshot loadSnapshot() {
+        GlobalSearchScope scope = GlobalSearchScope.getScopeRestrictedByFileTypes(
+                GlobalSearchScope.allScope(project),
+                PhpFileType.INSTANCE
+        );
+        Map<String, Module> modules = new HashMap<>();
+        for (String moduleName : IndexQueries.getAllKeys(ModuleNameIndex.KEY, project)) {
+            if (!MODULE_NAME_PATTERN.matcher(moduleName).matches()) {
+                continue;
+            }
+            IndexQueries.processValues(ModuleNameIndex.KEY, moduleName, null, (file, relativePath) -> {
+                modules.put(moduleName, new Module(moduleName, file, relativePath));
+                return false;
+            }, scope);
+        }
+
+        return new Snapshot(modules);
+    }
+
+    public static class Module {
+        private final String name;
+        private final VirtualFile registrationFile;
+        private final String relativeSourcePath;
+
+        Module(@NotNull String name, @NotNull VirtualFile registrationFile, @NotNull String relativeSourcePath) {
+            this.name = name;
+            this.registrationFile = registrationFile;
+            this.relativeSourcePath = relativeSourcePath;
+        }
+
+        @NotNull
+        public String getName() {
+            return name;
+        }
+
+        @NotNull
+        public VirtualFile getRegistrationFile() {
+            return registrationFile;
+        }
+
+        /**
+         * Directory the module is registered with, registration.php directory unless a subdirectory is given.
+         */
+        @Nullable
+        public VirtualFile getSourceDirectory() {
+            VirtualFile registrationDirectory = registrationFile.getParent();
+            if (registrationDirectory == null || relativeSourcePath.isEmpty()) {
+                return registrationDirectory;
+            }
+
+            return registrationDirectory.findFileByRelativePath(relativeSourcePath);
+        }
+    }
+
+    private static class Snapshot {
+        private final Map<String, Module> modules;
+        private final List<String> moduleNames;
+        private final DirectoryPathTrie<Module> modulesByDirectory = new DirectoryPathTrie<>();
+
+        Snapshot(@NotNull Map<String, Module> modules) {
+            this.modules = Collections.unmodifiableMap(modules);
+            List<String> moduleNames = new ArrayList<>(modules.keySet());
+            Collections.sort(moduleNames);
+            this.moduleNames = Collections.unmodifiableList(moduleNames);
+            for (Module module : modules.values()) {
+                VirtualFile registrationDirectory = module.getRegistrationFile().getParent();
+                if (registrationDirectory != null) {
+                    modulesByDirectory.put(registrationDirectory.getPath(), module);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright © Magento, Inc. All rights reserved.
+ * See COPYING.txt for license details.
+ */
+package com.magento.idea.magento2plugin.util.magento.di;
+
+import com.intellij.openapi.components.ServiceManager;
+import com.intellij.openapi.project.Project;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.util.CachedValue;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import com.jetbrains.php.lang.PhpLangUtil;
+import com.magento.idea.magento2plugin.indexes.IndexQueries;
+import com.magento.idea.magento2plugin.project.DiXmlModificationTracker;
+import com.magento.idea.magento2plugin.stubs.indexes.VirtualTypeIndex;
+import com.magento.idea.magento2plugin.stubs.indexes.data.VirtualTypeData;
+import com.magento.idea.magento2plugin.util.telemetry.EditorTelemetry;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Project level cache of virtual type => concrete type, dropped when a di.xml file changes.
+ *
+ * Names are resolved lazily, one index lookup per link of the chain, so an edit of a di.xml only costs
+ * the lookups of the names requested afterwards. A cycle stops at the last virtual type before it repeats.
+ */
+public class VirtualTypeResolver {
+    private final Project project;
+    private final CachedValue<ConcurrentMap<String, String>> topTypes;
+
+    public VirtualTypeResolver(@NotNull Project project) {
+        this.project = project;
+        this.topTypes = CachedValuesManager.getManager(project).createCachedValue(
+                () -> CachedValueProvider.Result.create(
+                        new ConcurrentHashMap<>(),
+                        DiXmlModificationTracker.getInstance(project)
+                ),
+                false
+        );
+    }
+
+    public static VirtualTypeResolver getInstance(@NotNull Project project) {
+        return ServiceManager.getService(project, VirtualTypeResolver.class);
+    }
+
+    /**
+     * Concrete type of the virtual type, the name itself if it is not a virtual type.
+     */
+    @NotNull
+    public String getTopType(@NotNull String name) {
+        String fqn = PhpLangUtil.toPresentableFQN(name);
+        String topType = EditorTelemetry.getCached(topTypes.getValue(), fqn, this::resolve);
+
+        return topType.equals(fqn) ? name : topType;
+    }
+
+    public boolean isVirtualType(@NotNull String name) {
+        return getParentType(PhpLangUtil.toPresentableFQN(name)) != null;
+    }
+
+    /**
+     * Names of all virtual types, read from the index keys on every call.
+     */
+    @NotNull
+    public Set<String> getVirtualTypeNames() {
+        return new HashSet<>(IndexQueries.getAllKeys(VirtualTypeIndex.KEY, project));
+    }
+
+    @NotNull
+    private String resolve(@NotNull String name) {
+        Set<String> visited = new HashSet<>();
+        String current = name;
+        String last = name;
+        while (visited.add(current)) {
+            String parentType = getParentType(current);
+            if (parentType == null) {
+                return current;
+            }
+            last = current;
+            current = parentType;
+        }
+
+        return last;
+    }
+
+    @Nullable
+    private String getParentType(@NotNull String name) {
+        for (List<VirtualTypeData> values : IndexQueries.getValues(
+                VirtualTypeIndex.KEY,
+                name,
+                GlobalSearchScope.allScope(project)
+        )) {
+            if (!values.isEmpty()) {
+                return PhpLangUtil.toPresentableFQN(values.get(0).getType());
+            }
+        }
+
+        return null;
+    }
+}
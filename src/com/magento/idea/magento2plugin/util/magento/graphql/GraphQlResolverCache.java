@@ -0,0 +1,114 @@
+/*
+ * Copyright © Magento, Inc. All rights reserved.
+ * See COPYING.txt for license details.
+ */
+package com.magento.idea.magento2plugin.util.magento.graphql;
+
+import com.intellij.lang.jsgraphql.psi.GraphQLQuotedString;
+import com.intellij.openapi.components.ServiceManager;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.magento.idea.magento2plugin.indexes.IndexQueries;
+import com.magento.idea.magento2plugin.project.GraphQlSchemaModificationTracker;
+import com.magento.idea.magento2plugin.reference.xml.IndexedNavigationTarget;
+import com.magento.idea.magento2plugin.stubs.indexes.data.GraphQlResolverData;
+import com.magento.idea.magento2plugin.stubs.indexes.graphql.GraphQlResolverIndex;
+import com.magento.idea.magento2plugin.util.IndexedValueCache;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Project level cache of the schema fields resolved by a class, dropped only when a schema.graphqls file changes.
+ */
+public class GraphQlResolverCache {
+    private final Project project;
+    private final IndexedValueCache<List<Usage>> usagesByClass;
+
+    public GraphQlResolverCache(@NotNull Project project) {
+        this.project = project;
+        this.usagesByClass = new IndexedValueCache<>(
+                project,
+                GraphQlResolverIndex.KEY,
+                GraphQlSchemaModificationTracker.getInstance(project),
+                this::findUsages
+        );
+    }
+
+    public static GraphQlResolverCache getInstance(@NotNull Project project) {
+        return ServiceManager.getService(project, GraphQlResolverCache.class);
+    }
+
+    /**
+     * Fields resolved by the class, the class name is a fully qualified name with the leading backslash.
+     */
+    @NotNull
+    public List<Usage> getUsages(@NotNull String classFqn) {
+        List<Usage> usages = usagesByClass.get(classFqn);
+
+        return usages != null ? usages : Collections.emptyList();
+    }
+
+    public boolean isUsedAsResolver(@NotNull String classFqn) {
+        return !getUsages(classFqn).isEmpty();
+    }
+
+    /**
+     * Class argument values of the @resolver directives of the class, parsed only on navigation.
+     */
+    @NotNull
+    public List<IndexedNavigationTarget<GraphQLQuotedString>> getTargets(@NotNull String classFqn) {
+        List<IndexedNavigationTarget<GraphQLQuotedString>> targets = new ArrayList<>();
+        for (Usage usage : getUsages(classFqn)) {
+            targets.add(new IndexedNavigationTarget<>(
+                    project,
+                    usage.getFile(),
+                    usage.getData().getOffset(),
+                    usage.getData().getCoordinates(),
+                    GraphQLQuotedString.class
+            ));
+        }
+
+        return targets;
+    }
+
+    /**
+     * Usages of the class, null for a stale index key so that it is not cached.
+     */
+    @Nullable
+    private List<Usage> findUsages(String classFqn) {
+        List<Usage> usages = new ArrayList<>();
+        IndexQueries.processValues(GraphQlResolverIndex.KEY, classFqn, null, (file, resolvers) -> {
+            for (GraphQlResolverData resolver : resolvers) {
+                usages.add(new Usage(file, resolver));
+            }
+            return true;
+        }, GlobalSearchScope.allScope(project));
+
+        return usages.isEmpty() ? null : Collections.unmodifiableList(usages);
+    }
+
+    public static class Usage {
+        private final VirtualFile file;
+        private final GraphQlResolverData data;
+
+        Usage(@NotNull VirtualFile file, @NotNull GraphQlResolverData data) {
+            this.file = file;
+            this.data = data;
+        }
+
+        @NotNull
+        public VirtualFile getFile() {
+            return file;
+        }
+
+        @NotNull
+        public GraphQlResolverData getData() {
+            return data;
+        }
+    }
+}
@@ -0,0 +1,256 @@
+/*
+ * Copyright © Magento, Inc. All rights reserved.
+ * See COPYING.txt for license details.
+ */
+package com.magento.idea.magento2plugin.util.magento.js;
+
+import com.intellij.openapi.components.ServiceManager;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.util.CachedValue;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import com.magento.idea.magento2plugin.indexes.IndexQueries;
+import com.magento.idea.magento2plugin.magento.packages.Package;
+import com.magento.idea.magento2plugin.project.RequireJsConfigModificationTracker;
+import com.magento.idea.magento2plugin.stubs.indexes.data.RequireJsConfigData;
+import com.magento.idea.magento2plugin.stubs.indexes.js.RequireJsIndex;
+import com.magento.idea.magento2plugin.util.magento.MagentoAreaUtil;
+import com.magento.idea.magento2plugin.util.telemetry.EditorTelemetry;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Effective requirejs-config per area, rebuilt only when a requirejs-config.js file changes.
+ *
+ * Files are merged the way the static content deploy concatenates them: base area files of modules,
+ * area files of modules, then theme files, a later file overriding an earlier one. Modules are ordered
+ * by path, the module sequence is not taken into account.
+ */
+public class RequireJsConfigCache {
+    private static final String ALL_MODULES_SCOPE = "*";
+
+    private final Project project;
+    private final CachedValue<ConcurrentMap<String, AreaConfig>> areaConfigs;
+
+    public RequireJsConfigCache(@NotNull Project project) {
+        this.project = project;
+        this.areaConfigs = CachedValuesManager.getManager(project).createCachedValue(
+                () -> CachedValueProvider.Result.create(
+                        new ConcurrentHashMap<>(),
+                        RequireJsConfigModificationTracker.getInstance(project)
+                ),
+                false
+        );
+    }
+
+    public static RequireJsConfigCache getInstance(@NotNull Project project) {
+        return ServiceManager.getService(project, RequireJsConfigCache.class);
+    }
+
+    @NotNull
+    public AreaConfig getConfig(@NotNull String area) {
+        return EditorTelemetry.getCached(areaConfigs.getValue(), area, this::mergeConfig);
+    }
+
+    /**
+     * Configs of the storefront and the admin panel, for files which don't belong to an area.
+     */
+    @NotNull
+    public List<AreaConfig> getConfigs() {
+        return Arrays.asList(
+                getConfig(Package.Areas.frontend.toString()),
+                getConfig(Package.Areas.adminhtml.toString())
+        );
+    }
+
+    /**
+     * Configs which apply to the file: the config of its area, or all configs if the area is unknown.
+     */
+    @NotNull
+    public List<AreaConfig> getConfigs(@Nullable VirtualFile file) {
+        String area = file != null ? MagentoAreaUtil.getAreaByViewFile(file) : null;
+        if (Package.Areas.frontend.toString().equals(area) || Package.Areas.adminhtml.toString().equals(area)) {
+            return Collections.singletonList(getConfig(area));
+        }
+
+        return getConfigs();
+    }
+
+    private AreaConfig mergeConfig(String area) {
+        String baseArea = Package.Areas.base.toString();
+        Map<VirtualFile, List<RequireJsConfigData>> entriesByFile = collectEntries();
+        List<VirtualFile> files = new ArrayList<>();
+        for (Map.Entry<VirtualFile, List<RequireJsConfigData>> fileEntries : entriesByFile.entrySet()) {
+            String fileArea = fileEntries.getValue().get(0).getArea();
+            if (fileArea.equals(baseArea) || fileArea.equals(area)) {
+                files.add(fileEntries.getKey());
+            }
+        }
+        files.sort(Comparator
+                .comparing(MagentoAreaUtil::isThemeFile)
+                .thenComparing(file -> !entriesByFile.get(file).get(0).getArea().equals(baseArea))
+                .thenComparing(VirtualFile::getPath));
+
+        AreaConfig config = new AreaConfig(area);
+        for (VirtualFile file : files) {
+            config.apply(entriesByFile.get(file));
+        }
+
+        return config;
+    }
+
+    private Map<VirtualFile, List<RequireJsConfigData>> collectEntries() {
+        GlobalSearchScope scope = GlobalSearchScope.allScope(project);
+        Map<VirtualFile, List<RequireJsConfigData>> entriesByFile = new HashMap<>();
+        for (String alias : IndexQueries.getAllKeys(RequireJsIndex.KEY, project)) {
+            IndexQueries.processValues(RequireJsIndex.KEY, alias, null, (file, entries) -> {
+                entriesByFile.computeIfAbsent(file, key -> new ArrayList<>()).addAll(entries);
+                return true;
+            }, scope);
+        }
+        entriesByFile.values().removeIf(List::isEmpty);
+
+        return entriesByFile;
+    }
+
+    /**
+     * Merged map, paths, shim, deps and mixins of an area.
+     */
+    public static class AreaConfig {
+        private final String area;
+        private final Map<String, Map<String, String>> map = new HashMap<>();
+        private final Map<String, String> paths = new HashMap<>();
+        private final Map<String, List<String>> shim = new HashMap<>();
+        private final Set<String> deps = new LinkedHashSet<>();
+        private final Map<String, Map<String, Boolean>> mixins = new HashMap<>();
+
+        AreaConfig(@NotNull String area) {
+            this.area = area;
+        }
+
+        @NotNull
+        public String getArea() {
+            return area;
+        }
+
+        /**
+         * Module ids the alias resolves to through `map` and `paths`, empty if it is not configured.
+         *
+         * The map of all modules comes first, then the maps of single modules: the module requiring the alias
+         * is not known, so the mapping of any scope may apply.
+         */
+        @NotNull
+        public List<String> resolve(@NotNull String alias) {
+            Set<String> moduleIds = new LinkedHashSet<>();
+            for (String scope : getMapScopes()) {
+                String mapped = map.get(scope).get(alias);
+                if (mapped != null) {
+                    String path = paths.get(mapped);
+                    moduleIds.add(path != null ? path : mapped);
+                }
+            }
+            String path = paths.get(alias);
+            if (moduleIds.isEmpty() && path != null) {
+                moduleIds.add(path);
+            }
+
+            return new ArrayList<>(moduleIds);
+        }
+
+        /**
+         * Aliases of `map` of all scopes and of `paths`.
+         */
+        @NotNull
+        public Set<String> getAliases() {
+            Set<String> aliases = new HashSet<>(paths.keySet());
+            for (Map<String, String> scopeMap : map.values()) {
+                aliases.addAll(scopeMap.keySet());
+            }
+
+            return aliases;
+        }
+
+        private List<String> getMapScopes() {
+            List<String> scopes = new ArrayList<>(map.keySet());
+            scopes.sort(Comparator
+                    .comparing((String scope) -> !scope.equals(ALL_MODULES_SCOPE))
+                    .thenComparing(Comparator.naturalOrder()));
+
+            return scopes;
+        }
+
+        @NotNull
+        public Map<String, String> getMap(@NotNull String scope) {
+            Map<String, String> scopeMap = map.get(scope);
+
+            return scopeMap != null ? Collections.unmodifiableMap(scopeMap) : Collections.emptyMap();
+        }
+
+        @NotNull
+        public List<String> getShimDependencies(@NotNull String moduleId) {
+            List<String> dependencies = shim.get(moduleId);
+
+            return dependencies != null ? Collections.unmodifiableList(dependencies) : Collections.emptyList();
+        }
+
+        @NotNull
+        public Set<String> getDeps() {
+            return Collections.unmodifiableSet(deps);
+        }
+
+        /**
+         * Enabled mixins of the module, in the order of declaration.
+         */
+        @NotNull
+        public List<String> getMixins(@NotNull String moduleId) {
+            List<String> enabledMixins = new ArrayList<>();
+            Map<String, Boolean> moduleMixins = mixins.get(moduleId);
+            if (moduleMixins != null) {
+                moduleMixins.forEach((mixin, enabled) -> {
+                    if (enabled) {
+                        enabledMixins.add(mixin);
+                    }
+                });
+            }
+
+            return enabledMixins;
+        }
+
+        private void apply(List<RequireJsConfigData> entries) {
+            Map<String, List<String>> fileShim = new HashMap<>();
+            for (RequireJsConfigData entry : entries) {
+                switch (entry.getKind()) {
+                    case MAP:
+                        map.computeIfAbsent(entry.getScope(), scope -> new HashMap<>())
+                                .put(entry.getAlias(), entry.getTarget());
+                        break;
+                    case PATHS:
+                        paths.put(entry.getAlias(), entry.getTarget());
+                        break;
+                    case SHIM:
+                        fileShim.computeIfAbsent(entry.getAlias(), moduleId -> new ArrayList<>())
+                                .add(entry.getTarget());
+                        break;
+                    case DEPS:
+                        deps.add(entry.getAlias());
+                        break;
+                    case MIXIN:
+                    case MIXIN_DISABLED:
+                        mixins.computeIfAbsent(entry.getAlias(), moduleId -> new LinkedHashMap<>())
+                                .put(entry.getTarget(), entry.getKind() == RequireJsConfigData.Kind.MIXIN);
+                        break;
+                    default:
+                        break;
+                }
+            }
+            // a shim is replaced as a whole by a later config
+            shim.putAll(fileShim);
+        }
+    }
+}
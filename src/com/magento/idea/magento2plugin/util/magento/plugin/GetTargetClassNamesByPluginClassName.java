@@ -4,13 +4,15 @@
  */
 package com.magento.idea.magento2plugin.util.magento.plugin;
 
+import com.intellij.openapi.components.ServiceManager;
 import com.intellij.openapi.project.Project;
 import com.intellij.psi.search.GlobalSearchScope;
-import com.intellij.util.indexing.FileBasedIndex;
-import com.magento.idea.magento2plugin.stubs.indexes.PluginIndex;
+import com.magento.idea.magento2plugin.indexes.IndexQueries;
+import com.magento.idea.magento2plugin.stubs.indexes.PluginTargetIndex;
+import com.magento.idea.magento2plugin.stubs.indexes.data.PluginTargetData;
+import org.jetbrains.annotations.NotNull;
 
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.List;
 import java.util.Set;
 
@@ -18,38 +20,37 @@ import java.util.Set;
  * Returns all targets class names for the plugin
  */
 public class GetTargetClassNamesByPluginClassName {
-    private static GetTargetClassNamesByPluginClassName INSTANCE = null;
-    private Project project;
+    private final Project project;
 
-    public static GetTargetClassNamesByPluginClassName getInstance(Project project) {
-        if (null == INSTANCE) {
-            INSTANCE = new GetTargetClassNamesByPluginClassName();
-        }
-        INSTANCE.project = project;
-        return INSTANCE;
+    public GetTargetClassNamesByPluginClassName(@NotNull Project project) {
+        this.project = project;
+    }
+
+    public static GetTargetClassNamesByPluginClassName getInstance(@NotNull Project project) {
+        return ServiceManager.getService(project, GetTargetClassNamesByPluginClassName.class);
     }
 
     public ArrayList<String> execute(String currentClassName) {
         ArrayList<String> targetClassNames = new ArrayList<>();
-        Collection<String> allKeys = FileBasedIndex.getInstance()
-                .getAllKeys(PluginIndex.KEY, project);
-
-        for (String targetClassName : allKeys) {
-            List<Set<String>> pluginsList = FileBasedIndex.getInstance()
-                    .getValues(com.magento.idea.magento2plugin.stubs.indexes.PluginIndex.KEY, targetClassName, GlobalSearchScope.allScope(project));
-            if (pluginsList.isEmpty()) {
-                continue;
-            }
-            for (Set<String> plugins : pluginsList) {
-                for (String plugin : plugins) {
-                    if (!plugin.equals(currentClassName)) {
-                        continue;
-                    }
-                    targetClassNames.add(targetClassName);
-                }
+
+        for (PluginTargetData target : getTargets(currentClassName)) {
+            if (!targetClassNames.contains(target.getTargetClass())) {
+                targetClassNames.add(target.getTargetClass());
             }
         }
 
         return targetClassNames;
     }
+
+    public List<PluginTargetData> getTargets(String currentClassName) {
+        List<PluginTargetData> targets = new ArrayList<>();
+        List<Set<PluginTargetData>> targetsList = IndexQueries
+                .getValues(PluginTargetIndex.KEY, currentClassName, GlobalSearchScope.allScope(project));
+
+        for (Set<PluginTargetData> fileTargets : targetsList) {
+            targets.addAll(fileTargets);
+        }
+
+        return targets;
+    }
 }
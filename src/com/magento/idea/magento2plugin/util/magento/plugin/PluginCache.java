@@ -0,0 +1,142 @@
+/*
+ * Copyright © Magento, Inc. All rights reserved.
+ * See COPYING.txt for license details.
+ */
+package com.magento.idea.magento2plugin.util.magento.plugin;
+
+import com.intellij.openapi.components.ServiceManager;
+import com.intellij.openapi.project.Project;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.jetbrains.php.PhpIndex;
+import com.jetbrains.php.lang.psi.elements.PhpClass;
+import com.magento.idea.magento2plugin.indexes.IndexQueries;
+import com.magento.idea.magento2plugin.project.DiXmlModificationTracker;
+import com.magento.idea.magento2plugin.stubs.indexes.PluginIndex;
+import com.magento.idea.magento2plugin.stubs.indexes.PluginTargetIndex;
+import com.magento.idea.magento2plugin.stubs.indexes.data.PluginTargetData;
+import com.magento.idea.magento2plugin.stubs.indexes.data.PluginTypeData;
+import com.magento.idea.magento2plugin.util.IndexedValueCache;
+import com.magento.idea.magento2plugin.util.php.PhpClassHierarchyLookup;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+
+/**
+ * Project level cache of plugin declarations, dropped only when a di.xml file changes.
+ *
+ * Only class names are cached. Class hierarchy is walked on every call, so php changes are picked up immediately.
+ */
+public class PluginCache {
+    private final Project project;
+    private final IndexedValueCache<List<String>> pluginsByType;
+    private final IndexedValueCache<List<PluginTargetData>> targetsByPlugin;
+
+    public PluginCache(@NotNull Project project) {
+        this.project = project;
+        this.pluginsByType = new IndexedValueCache<>(
+                project,
+                PluginIndex.KEY,
+                DiXmlModificationTracker.getInstance(project),
+                this::findPluginClassNames
+        );
+        this.targetsByPlugin = new IndexedValueCache<>(
+                project,
+                PluginTargetIndex.KEY,
+                DiXmlModificationTracker.getInstance(project),
+                pluginFqn -> Collections.unmodifiableList(
+                        GetTargetClassNamesByPluginClassName.getInstance(project).getTargets(pluginFqn)
+                )
+        );
+    }
+
+    public static PluginCache getInstance(@NotNull Project project) {
+        return ServiceManager.getService(project, PluginCache.class);
+    }
+
+    /**
+     * Whether plugins may be declared for the type itself, answered from the index keys only.
+     */
+    public boolean hasPluginDeclarations(@NotNull String typeFqn) {
+        return pluginsByType.containsKey(typeFqn);
+    }
+
+    /**
+     * Plugin class names declared for the type itself.
+     */
+    @NotNull
+    public List<String> getPluginClassNames(@NotNull String typeFqn) {
+        List<String> pluginClassNames = pluginsByType.get(typeFqn);
+
+        return pluginClassNames != null ? pluginClassNames : Collections.emptyList();
+    }
+
+    /**
+     * Plugin class names declared for the class, its parent classes and interfaces.
+     */
+    @NotNull
+    public List<String> getPluginClassNames(@NotNull PhpClass phpClass) {
+        return new PhpClassHierarchyLookup<String>(this::getPluginClassNames).getValues(phpClass);
+    }
+
+    @NotNull
+    public List<PhpClass> getPlugins(@NotNull PhpClass phpClass) {
+        return getClassesByFqn(getPluginClassNames(phpClass));
+    }
+
+    /**
+     * Target types of plugins declared with the given plugin class.
+     */
+    @NotNull
+    public List<PluginTargetData> getTargets(@NotNull String pluginFqn) {
+        List<PluginTargetData> targets = targetsByPlugin.get(pluginFqn);
+
+        return targets != null ? targets : Collections.emptyList();
+    }
+
+    @NotNull
+    public List<String> getTargetClassNames(@NotNull String pluginFqn) {
+        Set<String> targetClassNames = new LinkedHashSet<>();
+        for (PluginTargetData target : getTargets(pluginFqn)) {
+            targetClassNames.add(target.getTargetClass());
+        }
+
+        return new ArrayList<>(targetClassNames);
+    }
+
+    /**
+     * Target class names of the plugin class, its parent classes and interfaces, no class is resolved by name.
+     */
+    @NotNull
+    public List<String> getTargetClassNames(@NotNull PhpClass pluginClass) {
+        return new PhpClassHierarchyLookup<String>(this::getTargetClassNames).getValues(pluginClass);
+    }
+
+    /**
+     * Target classes of the plugin class, its parent classes and interfaces.
+     */
+    @NotNull
+    public List<PhpClass> getTargetClasses(@NotNull PhpClass pluginClass) {
+        return getClassesByFqn(getTargetClassNames(pluginClass));
+    }
+
+    private List<String> findPluginClassNames(String typeFqn) {
+        Set<String> pluginClassNames = new LinkedHashSet<>();
+        List<PluginTypeData> values = IndexQueries
+                .getValues(PluginIndex.KEY, typeFqn, GlobalSearchScope.allScope(project));
+        for (PluginTypeData typeData : values) {
+            pluginClassNames.addAll(typeData.getPluginTypes());
+        }
+
+        return Collections.unmodifiableList(new ArrayList<>(pluginClassNames));
+    }
+
+    private List<PhpClass> getClassesByFqn(Collection<String> classNames) {
+        List<PhpClass> classes = new ArrayList<>();
+        PhpIndex phpIndex = PhpIndex.getInstance(project);
+        for (String className : classNames) {
+            classes.addAll(phpIndex.getClassesByFQN(className));
+        }
+
+        return classes;
+    }
+}
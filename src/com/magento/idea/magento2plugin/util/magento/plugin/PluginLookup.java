@@ -0,0 +1,122 @@
+/*
+ * Copyright © Magento, Inc. All rights reserved.
+ * See COPYING.txt for license details.
+ */
+package com.magento.idea.magento2plugin.util.magento.plugin;
+
+import com.intellij.openapi.project.Project;
+import com.jetbrains.php.PhpIndex;
+import com.jetbrains.php.lang.psi.elements.Method;
+import com.jetbrains.php.lang.psi.elements.PhpClass;
+import com.magento.idea.magento2plugin.magento.files.Plugin;
+import com.magento.idea.magento2plugin.util.php.PhpClassHierarchyLookup;
+import org.apache.commons.lang.WordUtils;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+
+/**
+ * Plugin lookups of a single line markers pass over a file.
+ *
+ * Plugin declarations are read from {@link PluginCache} through {@link PhpClassHierarchyLookup}, once per type
+ * of the pass. Classes are resolved in the PhpIndex once per name and plugin methods are looked up once per class
+ * and method name. Not thread safe, create one per pass.
+ */
+public class PluginLookup {
+    private final PhpIndex phpIndex;
+    private final PhpClassHierarchyLookup<String> pluginClassNames;
+    private final PhpClassHierarchyLookup<String> targetClassNames;
+    private final Map<String, Collection<PhpClass>> classesByFqn = new HashMap<>();
+    private final Map<String, Boolean> interceptedMethods = new HashMap<>();
+
+    public PluginLookup(@NotNull Project project) {
+        PluginCache pluginCache = PluginCache.getInstance(project);
+        this.phpIndex = PhpIndex.getInstance(project);
+        this.pluginClassNames = new PhpClassHierarchyLookup<>(pluginCache::getPluginClassNames);
+        this.targetClassNames = new PhpClassHierarchyLookup<>(pluginCache::getTargetClassNames);
+    }
+
+    /**
+     * Plugin class names declared for the class, its parent classes and interfaces.
+     */
+    @NotNull
+    public List<String> getPluginClassNames(@NotNull PhpClass phpClass) {
+        return pluginClassNames.getValues(phpClass);
+    }
+
+    public boolean hasPlugins(@NotNull PhpClass phpClass) {
+        return !getPluginClassNames(phpClass).isEmpty();
+    }
+
+    @NotNull
+    public List<PhpClass> getPlugins(@NotNull PhpClass phpClass) {
+        return getClassesByFqn(getPluginClassNames(phpClass));
+    }
+
+    /**
+     * Target class names of the plugin class, its parent classes and interfaces.
+     */
+    @NotNull
+    public List<String> getTargetClassNames(@NotNull PhpClass pluginClass) {
+        return targetClassNames.getValues(pluginClass);
+    }
+
+    public boolean hasTargetClasses(@NotNull PhpClass pluginClass) {
+        return !getTargetClassNames(pluginClass).isEmpty();
+    }
+
+    @NotNull
+    public List<PhpClass> getTargetClasses(@NotNull PhpClass pluginClass) {
+        return getClassesByFqn(getTargetClassNames(pluginClass));
+    }
+
+    /**
+     * Whether a public before, around or after method of a plugin of the class intercepts the method.
+     */
+    public boolean hasPluginMethods(@NotNull PhpClass phpClass, @NotNull Method method) {
+        if (!hasPlugins(phpClass)) {
+            return false;
+        }
+
+        return interceptedMethods.computeIfAbsent(
+                phpClass.getPresentableFQN() + "::" + method.getName().toLowerCase(),
+                key -> !findPluginMethods(method.getName(), getPlugins(phpClass), true).isEmpty()
+        );
+    }
+
+    /**
+     * Public before, around and after methods of the plugins for the method, looked up by name.
+     */
+    @NotNull
+    public static List<Method> findPluginMethods(
+            @NotNull String methodName,
+            @NotNull List<PhpClass> plugins,
+            boolean firstOnly
+    ) {
+        List<Method> results = new ArrayList<>();
+        String classMethodName = WordUtils.capitalize(methodName);
+        for (PhpClass plugin : plugins) {
+            for (Plugin.PluginType pluginType : Plugin.PluginType.values()) {
+                Method pluginMethod = plugin.findMethodByName(pluginType.toString() + classMethodName);
+                if (pluginMethod == null || !pluginMethod.getAccess().isPublic()) {
+                    continue;
+                }
+                results.add(pluginMethod);
+                if (firstOnly) {
+                    return results;
+                }
+            }
+        }
+
+        return results;
+    }
+
+    private List<PhpClass> getClassesByFqn(@NotNull List<String> classNames) {
+        List<PhpClass> classes = new ArrayList<>();
+        for (String className : classNames) {
+            classes.addAll(classesByFqn.computeIfAbsent(className, phpIndex::getClassesByFQN));
+        }
+
+        return classes;
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright © Magento, Inc. All rights reserved.
+ * See COPYING.txt for license details.
+ */
+package com.magento.idea.magento2plugin.util.magento.webapi;
+
+import com.intellij.openapi.components.ServiceManager;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.jetbrains.php.lang.psi.elements.Method;
+import com.jetbrains.php.lang.psi.elements.PhpClass;
+import com.magento.idea.magento2plugin.indexes.IndexQueries;
+import com.magento.idea.magento2plugin.project.WebApiXmlModificationTracker;
+import com.magento.idea.magento2plugin.stubs.indexes.WebApiRouteIndex;
+import com.magento.idea.magento2plugin.stubs.indexes.data.WebApiRouteData;
+import com.magento.idea.magento2plugin.util.IndexedValueCache;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Project level cache of Web API routes per service method, dropped only when a webapi.xml file changes.
+ */
+public class WebApiRoutesCache {
+    private final Project project;
+    private final IndexedValueCache<List<Route>> routesByMethod;
+
+    public WebApiRoutesCache(@NotNull Project project) {
+        this.project = project;
+        this.routesByMethod = new IndexedValueCache<>(
+                project,
+                WebApiRouteIndex.KEY,
+                WebApiXmlModificationTracker.getInstance(project),
+                this::findRoutes
+        );
+    }
+
+    public static WebApiRoutesCache getInstance(@NotNull Project project) {
+        return ServiceManager.getService(project, WebApiRoutesCache.class);
+    }
+
+    /**
+     * Get list of Web API routes declared for the method itself.
+     *
+     * Parent classes are not taken into account.
+     */
+    @NotNull
+    public List<Route> getRoutes(@NotNull Method method) {
+        PhpClass phpClass = method.getContainingClass();
+        if (phpClass == null || !method.getAccess().isPublic()) {
+            return Collections.emptyList();
+        }
+
+        return getRoutes(phpClass.getPresentableFQN(), method.getName());
+    }
+
+    @NotNull
+    public List<Route> getRoutes(@NotNull String classFqn, @NotNull String methodName) {
+        return getRoutesByMethodKey(WebApiRouteIndex.getKey(classFqn, methodName));
+    }
+
+    /**
+     * Routes of the service method key, see {@link WebApiRouteIndex#getKey(String, String)}.
+     */
+    @NotNull
+    public List<Route> getRoutesByMethodKey(@NotNull String methodKey) {
+        List<Route> routes = routesByMethod.get(methodKey);
+
+        return routes != null ? routes : Collections.emptyList();
+    }
+
+    private List<Route> findRoutes(String methodKey) {
+        List<Route> routes = new ArrayList<>();
+        IndexQueries.processValues(WebApiRouteIndex.KEY, methodKey, null, (file, values) -> {
+            for (WebApiRouteData value : values) {
+                routes.add(new Route(file, value));
+            }
+            return true;
+        }, GlobalSearchScope.allScope(project));
+
+        return Collections.unmodifiableList(routes);
+    }
+
+    /**
+     * Route declared in a webapi.xml file.
+     */
+    public static class Route {
+        private final VirtualFile file;
+        private final WebApiRouteData data;
+
+        Route(@NotNull VirtualFile file, @NotNull WebApiRouteData data) {
+            this.file = file;
+            this.data = data;
+        }
+
+        @NotNull
+        public VirtualFile getFile() {
+            return file;
+        }
+
+        @NotNull
+        public WebApiRouteData getData() {
+            return data;
+        }
+
+        /**
+         * E.g. `  GET     /V1/products/:sku`
+         */
+        @NotNull
+        public String getPresentableText() {
+            return String.format("  %-7s %s", data.getHttpMethod(), data.getUrl());
+        }
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright © Magento, Inc. All rights reserved.
+ * See COPYING.txt for license details.
+ */
+package com.magento.idea.magento2plugin.util.php;
+
+import com.jetbrains.php.lang.psi.elements.PhpClass;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * Values declared for a class, its parent classes and interfaces, looked up during a single line markers pass.
+ *
+ * The hierarchy of a class is walked once per pass and shared by its subclasses. The values of a key are read
+ * once per pass, however many classes of the file inherit the type. Not thread safe, create one per pass.
+ */
+public class PhpClassHierarchyLookup<V> {
+    private final Function<String, List<V>> lookup;
+    private final Map<String, Set<String>> hierarchies = new HashMap<>();
+    private final Map<String, List<V>> valuesByKey = new HashMap<>();
+
+    /**
+     * @param lookup values of a key, e.g. a project level cache backed by an index
+     */
+    public PhpClassHierarchyLookup(@NotNull Function<String, List<V>> lookup) {
+        this.lookup = lookup;
+    }
+
+    /**
+     * Values keyed by the type names of the hierarchy.
+     */
+    @NotNull
+    public List<V> getValues(@NotNull PhpClass phpClass) {
+        return getValues(phpClass, Function.identity());
+    }
+
+    /**
+     * Values keyed by a key built from each type name of the hierarchy, e.g. a method of the type.
+     */
+    @NotNull
+    public List<V> getValues(@NotNull PhpClass phpClass, @NotNull Function<String, String> keyOfType) {
+        Set<V> values = new LinkedHashSet<>();
+        for (String typeFqn : getHierarchy(phpClass)) {
+            values.addAll(valuesByKey.computeIfAbsent(keyOfType.apply(typeFqn), lookup));
+        }
+
+        return new ArrayList<>(values);
+    }
+
+    /**
+     * Names of the class, its parent classes and interfaces.
+     */
+    @NotNull
+    public Set<String> getHierarchy(@NotNull PhpClass phpClass) {
+        String classFqn = phpClass.getPresentableFQN();
+        Set<String> hierarchy = hierarchies.get(classFqn);
+        if (hierarchy != null) {
+            return hierarchy;
+        }
+        hierarchy = new LinkedHashSet<>();
+        hierarchy.add(classFqn);
+        // registered before the parents are walked, a cyclic hierarchy ends here
+        hierarchies.put(classFqn, hierarchy);
+        for (PhpClass parent : getParents(phpClass)) {
+            hierarchy.addAll(getHierarchy(parent));
+        }
+
+        return hierarchy;
+    }
+
+    /**
+     * Parent class, implemented interfaces and, for an interface, the extended interfaces.
+     */
+    @NotNull
+    public static List<PhpClass> getParents(@NotNull PhpClass phpClass) {
+        List<PhpClass> parents = new ArrayList<>();
+        PhpClass superClass = phpClass.getSuperClass();
+        if (superClass != null) {
+            parents.add(superClass);
+        }
+        Collections.addAll(parents, phpClass.getImplementedInterfaces());
+        if (phpClass.isInterface()) {
+            Collections.addAll(parents, phpClass.getSupers());
+        }
+
+        return parents;
+    }
+}
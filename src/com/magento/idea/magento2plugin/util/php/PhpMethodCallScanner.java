@@ -0,0 +1,187 @@
+/*
+ * Copyright © Magento, Inc. All rights reserved.
+ * See COPYING.txt for license details.
+ */
+package com.magento.idea.magento2plugin.util.php;
+
+import com.intellij.lang.LanguageParserDefinitions;
+import com.intellij.lang.ParserDefinition;
+import com.intellij.lexer.Lexer;
+import com.intellij.lexer.LexerPosition;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.psi.TokenType;
+import com.intellij.psi.tree.IElementType;
+import com.intellij.psi.tree.TokenSet;
+import com.jetbrains.php.lang.PhpLanguage;
+import com.jetbrains.php.lang.lexer.PhpTokenTypes;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Finds method calls in php code using the lexer only, without building PSI.
+ *
+ * Intended for indexers which look for a few well known calls in a large number of files.
+ */
+public class PhpMethodCallScanner {
+    private static final TokenSet STRING_LITERALS = TokenSet.create(
+            PhpTokenTypes.STRING_LITERAL,
+            PhpTokenTypes.STRING_LITERAL_SINGLE_QUOTE
+    );
+
+    /**
+     * Returns all `->methodName(...)` and `::methodName(...)` calls of the text.
+     *
+     * The text is scanned in place, only the argument tokens of matching calls are copied.
+     * Calls nested in arguments of another call are found as well.
+     */
+    @NotNull
+    public static List<MethodCall> findMethodCalls(
+            @Nullable Project project,
+            @NotNull CharSequence text,
+            @NotNull String methodName
+    ) {
+        List<MethodCall> methodCalls = new ArrayList<>();
+        ParserDefinition parserDefinition = LanguageParserDefinitions.INSTANCE.forLanguage(PhpLanguage.INSTANCE);
+        if (parserDefinition == null) {
+            return methodCalls;
+        }
+        TokenSet skippedTokens = TokenSet.orSet(
+                parserDefinition.getWhitespaceTokens(),
+                parserDefinition.getCommentTokens(),
+                TokenSet.create(TokenType.WHITE_SPACE)
+        );
+
+        Lexer lexer = parserDefinition.createLexer(project);
+        lexer.start(text);
+        boolean afterMemberAccess = false;
+        while (lexer.getTokenType() != null) {
+            if (skippedTokens.contains(lexer.getTokenType())) {
+                lexer.advance();
+                continue;
+            }
+            boolean memberAccess = isMemberAccess(lexer.getTokenSequence());
+            if (afterMemberAccess && StringUtil.equals(lexer.getTokenSequence(), methodName)) {
+                advance(lexer, skippedTokens);
+                if (lexer.getTokenType() != null && StringUtil.equals(lexer.getTokenSequence(), "(")) {
+                    lexer.advance();
+                    LexerPosition argumentsStart = lexer.getCurrentPosition();
+                    MethodCall methodCall = readArguments(lexer, text, skippedTokens);
+                    if (methodCall != null) {
+                        methodCalls.add(methodCall);
+                    }
+                    lexer.restore(argumentsStart);
+                }
+                afterMemberAccess = false;
+                continue;
+            }
+            afterMemberAccess = memberAccess;
+            lexer.advance();
+        }
+
+        return methodCalls;
+    }
+
+    private static void advance(Lexer lexer, TokenSet skippedTokens) {
+        lexer.advance();
+        while (lexer.getTokenType() != null && skippedTokens.contains(lexer.getTokenType())) {
+            lexer.advance();
+        }
+    }
+
+    private static boolean isMemberAccess(CharSequence text) {
+        return StringUtil.equals(text, "->") || StringUtil.equals(text, "::") || StringUtil.equals(text, "?->");
+    }
+
+    /**
+     * Reads the arguments up to the closing parenthesis, the lexer must be positioned after the opening one.
+     */
+    @Nullable
+    private static MethodCall readArguments(Lexer lexer, CharSequence text, TokenSet skippedTokens) {
+        List<List<Token>> arguments = new ArrayList<>();
+        List<Token> argument = new ArrayList<>();
+        int depth = 0;
+        for (; lexer.getTokenType() != null; lexer.advance()) {
+            if (skippedTokens.contains(lexer.getTokenType())) {
+                continue;
+            }
+            String tokenText = text.subSequence(lexer.getTokenStart(), lexer.getTokenEnd()).toString();
+            if (depth == 0 && (tokenText.equals(")") || tokenText.equals(","))) {
+                if (!argument.isEmpty()) {
+                    arguments.add(argument);
+                }
+                if (tokenText.equals(")")) {
+                    return new MethodCall(arguments);
+                }
+                argument = new ArrayList<>();
+                continue;
+            }
+            if (tokenText.equals("(") || tokenText.equals("[") || tokenText.equals("{")) {
+                depth++;
+            } else if (tokenText.equals(")") || tokenText.equals("]") || tokenText.equals("}")) {
+                depth--;
+            }
+            argument.add(new Token(lexer.getTokenType(), tokenText, lexer.getTokenStart()));
+        }
+
+        return null;
+    }
+
+    public static class MethodCall {
+        private final List<List<Token>> arguments;
+
+        MethodCall(@NotNull List<List<Token>> arguments) {
+            this.arguments = arguments;
+        }
+
+        @NotNull
+        public List<List<Token>> getArguments() {
+            return arguments;
+        }
+
+        /**
+         * Returns the argument if it is a single string literal.
+         */
+        @Nullable
+        public Token getStringArgument(int index) {
+            if (arguments.size() <= index) {
+                return null;
+            }
+            List<Token> argument = arguments.get(index);
+            if (argument.size() != 1 || !STRING_LITERALS.contains(argument.get(0).getType())) {
+                return null;
+            }
+
+            return argument.get(0);
+        }
+    }
+
+    public static class Token {
+        private final IElementType type;
+        private final String text;
+        private final int offset;
+
+        Token(@NotNull IElementType type, @NotNull String text, int offset) {
+            this.type = type;
+            this.text = text;
+            this.offset = offset;
+        }
+
+        @NotNull
+        public IElementType getType() {
+            return type;
+        }
+
+        @NotNull
+        public String getText() {
+            return text;
+        }
+
+        public int getOffset() {
+            return offset;
+        }
+    }
+}
@@ -0,0 +1,209 @@
+/*
+ * Copyright © Magento, Inc. All rights reserved.
+ * See COPYING.txt for license details.
+ */
+package com.magento.idea.magento2plugin.util.telemetry;
+
+import com.intellij.openapi.components.ServiceManager;
+import com.intellij.openapi.diagnostic.Logger;
+import com.intellij.openapi.project.Project;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.util.CachedValue;
+import com.magento.idea.magento2plugin.project.Settings;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Opt-in timing of the line marker, reference and completion providers of the plugin.
+ *
+ * Statistics are application level, the providers are shared by all projects. Whether a call is measured
+ * and what is slow is decided by the settings of the project the call is made for.
+ */
+public class EditorTelemetry {
+    private static final Logger LOG = Logger.getInstance(EditorTelemetry.class);
+    private static final ThreadLocal<Operation> CURRENT_OPERATION = new ThreadLocal<>();
+
+    private final ConcurrentMap<String, ProviderStatistics> statistics = new ConcurrentHashMap<>();
+
+    public enum Kind {
+        LINE_MARKER("Line marker"),
+        REFERENCE("Reference"),
+        COMPLETION("Completion");
+
+        private final String presentableName;
+
+        Kind(@NotNull String presentableName) {
+            this.presentableName = presentableName;
+        }
+
+        @NotNull
+        public String getPresentableName() {
+            return presentableName;
+        }
+    }
+
+    public static EditorTelemetry getInstance() {
+        return ServiceManager.getService(EditorTelemetry.class);
+    }
+
+    /**
+     * Starts measuring a provider call, returns null if the telemetry is not enabled for the project.
+     *
+     * The operation must be finished on the same thread, see {@link #finish(Operation, PsiElement)}.
+     */
+    @Nullable
+    public static Operation start(@NotNull Project project, @NotNull Kind kind, @NotNull Object provider) {
+        if (project.isDisposed()) {
+            return null;
+        }
+        Settings settings = Settings.getInstance(project);
+        if (settings == null || !settings.editorTelemetryEnabled) {
+            return null;
+        }
+        Operation operation = new Operation(
+                getInstance().getStatistics(kind, provider.getClass()),
+                TimeUnit.MILLISECONDS.toNanos(settings.slowOperationThreshold),
+                CURRENT_OPERATION.get()
+        );
+        CURRENT_OPERATION.set(operation);
+
+        return operation;
+    }
+
+    /**
+     * Records the call and writes a warning to the log if it was slow, the context element is used in the warning.
+     */
+    public static void finish(@Nullable Operation operation, @Nullable PsiElement context) {
+        if (operation == null) {
+            return;
+        }
+        long time = System.nanoTime() - operation.startTime;
+        CURRENT_OPERATION.set(operation.parent);
+
+        ProviderStatistics providerStatistics = operation.statistics;
+        boolean slow = time > operation.slowThreshold;
+        providerStatistics.record(time, operation.cacheHits, operation.cacheMisses, slow);
+        if (slow) {
+            LOG.warn(String.format(
+                    "%s provider %s took %d ms%s",
+                    providerStatistics.getKind().getPresentableName(),
+                    providerStatistics.getProviderName(),
+                    TimeUnit.NANOSECONDS.toMillis(time),
+                    getContextDescription(context)
+            ));
+        }
+    }
+
+    /**
+     * Counts a lookup of a plugin cache for the provider call running on this thread, if any.
+     */
+    public static void recordCacheAccess(boolean hit) {
+        Operation operation = CURRENT_OPERATION.get();
+        if (operation == null) {
+            return;
+        }
+        if (hit) {
+            operation.cacheHits++;
+        } else {
+            operation.cacheMisses++;
+        }
+    }
+
+    /**
+     * Counts a lookup of the cached value, it is a hit if the value does not have to be recomputed.
+     */
+    public static void recordCacheAccess(@NotNull CachedValue<?> cachedValue) {
+        if (CURRENT_OPERATION.get() != null) {
+            recordCacheAccess(cachedValue.hasUpToDateValue());
+        }
+    }
+
+    /**
+     * Cached value of the key, counting the lookup as a cache hit or miss.
+     *
+     * A missing value is computed outside of the map, as the computation queries indexes and may read other
+     * cached values, then stored with putIfAbsent. A value computed concurrently for the same key is dropped.
+     */
+    public static <K, V> V getCached(
+            @NotNull ConcurrentMap<K, V> cache,
+            @NotNull K key,
+            @NotNull Function<? super K, ? extends V> compute
+    ) {
+        V value = cache.get(key);
+        recordCacheAccess(value != null);
+
+        if (value != null) {
+            return value;
+        }
+        value = compute.apply(key);
+        if (value == null) {
+            return null;
+        }
+        V previous = cache.putIfAbsent(key, value);
+
+        return previous != null ? previous : value;
+    }
+
+    @NotNull
+    public ProviderStatistics getStatistics(@NotNull Kind kind, @NotNull Class<?> providerClass) {
+        return statistics.computeIfAbsent(
+                kind.name() + ":" + providerClass.getName(),
+                key -> new ProviderStatistics(kind, providerClass.getSimpleName())
+        );
+    }
+
+    /**
+     * Statistics of all providers which have been called at least once, the most expensive first.
+     */
+    @NotNull
+    public List<ProviderStatistics> getAllStatistics() {
+        List<ProviderStatistics> result = new ArrayList<>(statistics.values());
+        result.sort(Comparator.comparingLong(ProviderStatistics::getTotalTime).reversed());
+
+        return result;
+    }
+
+    public void reset() {
+        statistics.clear();
+    }
+
+    @NotNull
+    private static String getContextDescription(@Nullable PsiElement context) {
+        if (context == null || !context.isValid()) {
+            return "";
+        }
+        PsiFile file = context.getContainingFile();
+        if (file == null) {
+            return "";
+        }
+
+        return " in " + (file.getVirtualFile() != null ? file.getVirtualFile().getPath() : file.getName());
+    }
+
+    /**
+     * Provider call in progress, confined to the thread which started it.
+     */
+    public static class Operation {
+        private final ProviderStatistics statistics;
+        private final long slowThreshold;
+        private final Operation parent;
+        private final long startTime = System.nanoTime();
+        private int cacheHits;
+        private int cacheMisses;
+
+        Operation(@NotNull ProviderStatistics statistics, long slowThreshold, @Nullable Operation parent) {
+            this.statistics = statistics;
+            this.slowThreshold = slowThreshold;
+            this.parent = parent;
+        }
+    }
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright © Magento, Inc. All rights reserved.
+ * See COPYING.txt for license details.
+ */
+package com.magento.idea.magento2plugin.util.telemetry;
+
+import com.intellij.codeInsight.completion.CompletionParameters;
+import com.intellij.codeInsight.completion.CompletionProvider;
+import com.intellij.codeInsight.completion.CompletionResultSet;
+import com.intellij.util.ProcessingContext;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Completion provider measuring the wrapped provider with {@link EditorTelemetry}.
+ */
+public class InstrumentedCompletionProvider extends CompletionProvider<CompletionParameters> {
+    private final CompletionProvider<CompletionParameters> delegate;
+
+    public InstrumentedCompletionProvider(@NotNull CompletionProvider<CompletionParameters> delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    protected void addCompletions(@NotNull CompletionParameters parameters,
+                                  ProcessingContext context,
+                                  @NotNull CompletionResultSet result) {
+        EditorTelemetry.Operation operation = EditorTelemetry.start(
+                parameters.getPosition().getProject(),
+                EditorTelemetry.Kind.COMPLETION,
+                delegate
+        );
+        try {
+            delegate.addCompletionVariants(parameters, context, result);
+        } finally {
+            EditorTelemetry.finish(operation, parameters.getOriginalFile());
+        }
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright © Magento, Inc. All rights reserved.
+ * See COPYING.txt for license details.
+ */
+package com.magento.idea.magento2plugin.util.telemetry;
+
+import com.intellij.codeInsight.daemon.LineMarkerInfo;
+import com.intellij.codeInsight.daemon.LineMarkerProvider;
+import com.intellij.psi.PsiElement;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Line marker provider whose slow markers pass is measured with {@link EditorTelemetry}.
+ */
+public abstract class InstrumentedLineMarkerProvider implements LineMarkerProvider {
+    @Override
+    public final void collectSlowLineMarkers(
+            @NotNull List<PsiElement> psiElements,
+            @NotNull Collection<LineMarkerInfo> collection
+    ) {
+        if (psiElements.isEmpty()) {
+            return;
+        }
+        PsiElement context = psiElements.get(0);
+        EditorTelemetry.Operation operation = EditorTelemetry.start(
+                context.getProject(),
+                EditorTelemetry.Kind.LINE_MARKER,
+                this
+        );
+        try {
+            doCollectSlowLineMarkers(psiElements, collection);
+        } finally {
+            EditorTelemetry.finish(operation, context);
+        }
+    }
+
+    protected abstract void doCollectSlowLineMarkers(
+            @NotNull List<PsiElement> psiElements,
+            @NotNull Collection<LineMarkerInfo> collection
+    );
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright © Magento, Inc. All rights reserved.
+ * See COPYING.txt for license details.
+ */
+package com.magento.idea.magento2plugin.util.telemetry;
+
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiReference;
+import com.intellij.psi.PsiReferenceProvider;
+import com.intellij.util.ProcessingContext;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Reference provider measuring the wrapped provider with {@link EditorTelemetry}.
+ */
+public class InstrumentedReferenceProvider extends PsiReferenceProvider {
+    private final PsiReferenceProvider delegate;
+
+    public InstrumentedReferenceProvider(@NotNull PsiReferenceProvider delegate) {
+        this.delegate = delegate;
+    }
+
+    @NotNull
+    @Override
+    public PsiReference[] getReferencesByElement(@NotNull PsiElement element, @NotNull ProcessingContext context) {
+        EditorTelemetry.Operation operation = EditorTelemetry.start(
+                element.getProject(),
+                EditorTelemetry.Kind.REFERENCE,
+                delegate
+        );
+        try {
+            return delegate.getReferencesByElement(element, context);
+        } finally {
+            EditorTelemetry.finish(operation, element);
+        }
+    }
+
+    @Override
+    public boolean acceptsTarget(@NotNull PsiElement target) {
+        return delegate.acceptsTarget(target);
+    }
+}
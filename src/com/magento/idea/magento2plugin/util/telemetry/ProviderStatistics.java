@@ -0,0 +1,149 @@
+/*
+ * Copyright © Magento, Inc. All rights reserved.
+ * See COPYING.txt for license details.
+ */
+package com.magento.idea.magento2plugin.util.telemetry;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Counters of a single line marker, reference or completion provider, filled by {@link EditorTelemetry}.
+ *
+ * Latencies are kept as a histogram with fixed buckets, so percentiles are known up to the bucket bound only.
+ */
+public class ProviderStatistics {
+    private static final long[] BUCKET_BOUNDS = {1, 2, 5, 10, 20, 50, 100, 200, 500, 1000};
+
+    private final EditorTelemetry.Kind kind;
+    private final String providerName;
+    private final long[] histogram = new long[BUCKET_BOUNDS.length + 1];
+    private long invocationCount;
+    private long totalTime;
+    private long maxTime;
+    private long slowCount;
+    private long cacheHits;
+    private long cacheMisses;
+
+    ProviderStatistics(@NotNull EditorTelemetry.Kind kind, @NotNull String providerName) {
+        this.kind = kind;
+        this.providerName = providerName;
+    }
+
+    /**
+     * @param time provider time in nanoseconds
+     */
+    synchronized void record(long time, int hits, int misses, boolean slow) {
+        histogram[getBucket(time)]++;
+        invocationCount++;
+        totalTime += time;
+        maxTime = Math.max(maxTime, time);
+        cacheHits += hits;
+        cacheMisses += misses;
+        if (slow) {
+            slowCount++;
+        }
+    }
+
+    @NotNull
+    public EditorTelemetry.Kind getKind() {
+        return kind;
+    }
+
+    @NotNull
+    public String getProviderName() {
+        return providerName;
+    }
+
+    public synchronized long getInvocationCount() {
+        return invocationCount;
+    }
+
+    /**
+     * Total provider time in nanoseconds.
+     */
+    public synchronized long getTotalTime() {
+        return totalTime;
+    }
+
+    /**
+     * Longest provider call in nanoseconds.
+     */
+    public synchronized long getMaxTime() {
+        return maxTime;
+    }
+
+    /**
+     * Number of calls which took longer than the slow operation threshold of the project.
+     */
+    public synchronized long getSlowCount() {
+        return slowCount;
+    }
+
+    public synchronized long getCacheHits() {
+        return cacheHits;
+    }
+
+    public synchronized long getCacheMisses() {
+        return cacheMisses;
+    }
+
+    /**
+     * Share of the plugin cache lookups answered without recomputation, -1 if the provider did not use the caches.
+     */
+    public synchronized double getCacheHitRatio() {
+        long lookups = cacheHits + cacheMisses;
+
+        return lookups == 0 ? -1 : (double) cacheHits / lookups;
+    }
+
+    /**
+     * Number of calls per histogram bucket, see {@link #getBucketLabel(int)}.
+     */
+    @NotNull
+    public synchronized long[] getHistogram() {
+        return Arrays.copyOf(histogram, histogram.length);
+    }
+
+    /**
+     * Bucket below which the given share of the calls fall, e.g. 0.95 for p95.
+     */
+    public synchronized int getPercentileBucket(double percentile) {
+        long threshold = (long) Math.ceil(percentile * invocationCount);
+        long count = 0;
+        for (int bucket = 0; bucket < histogram.length; bucket++) {
+            count += histogram[bucket];
+            if (count >= threshold && count > 0) {
+                return bucket;
+            }
+        }
+
+        return 0;
+    }
+
+    public static int getBucketCount() {
+        return BUCKET_BOUNDS.length + 1;
+    }
+
+    @NotNull
+    public static String getBucketLabel(int bucket) {
+        if (bucket < BUCKET_BOUNDS.length) {
+            return "< " + BUCKET_BOUNDS[bucket] + " ms";
+        }
+
+        return ">= " + BUCKET_BOUNDS[BUCKET_BOUNDS.length - 1] + " ms";
+    }
+
+    private static int getBucket(long time) {
+        long milliseconds = TimeUnit.NANOSECONDS.toMillis(time);
+        for (int bucket = 0; bucket < BUCKET_BOUNDS.length; bucket++) {
+            if (milliseconds < BUCKET_BOUNDS[bucket]) {
+                return bucket;
+            }
+        }
+
+        return BUCKET_BOUNDS.length;
+    }
+}
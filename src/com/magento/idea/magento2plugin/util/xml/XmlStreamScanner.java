@@ -0,0 +1,347 @@
+/*
+ * Copyright © Magento, Inc. All rights reserved.
+ * See COPYING.txt for license details.
+ */
+package com.magento.idea.magento2plugin.util.xml;
+
+import com.intellij.lexer.Lexer;
+import com.intellij.lexer.XmlLexer;
+import com.intellij.psi.TokenType;
+import com.intellij.psi.tree.IElementType;
+import com.intellij.psi.tree.TokenSet;
+import com.intellij.psi.xml.XmlTokenType;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Streaming XML reader on top of the platform XML lexer.
+ *
+ * Used by indexers instead of the XML PSI: tags are reported with their attributes and text offsets,
+ * no tree is kept apart from the stack of currently open tags. Values match the XML PSI ones: entity
+ * references are decoded and CDATA sections are part of the tag text.
+ */
+public class XmlStreamScanner {
+    private static final TokenSet NAME_TOKENS = TokenSet.create(
+            XmlTokenType.XML_NAME,
+            XmlTokenType.XML_TAG_NAME
+    );
+    private static final TokenSet ATTRIBUTE_VALUE_TOKENS = TokenSet.create(
+            XmlTokenType.XML_ATTRIBUTE_VALUE_TOKEN,
+            XmlTokenType.XML_CHAR_ENTITY_REF,
+            XmlTokenType.XML_ENTITY_REF_TOKEN
+    );
+    private static final TokenSet ENTITY_REF_TOKENS = TokenSet.create(
+            XmlTokenType.XML_CHAR_ENTITY_REF,
+            XmlTokenType.XML_ENTITY_REF_TOKEN
+    );
+    private static final Map<String, String> PREDEFINED_ENTITIES = new HashMap<>();
+    static {
+        PREDEFINED_ENTITIES.put("lt", "<");
+        PREDEFINED_ENTITIES.put("gt", ">");
+        PREDEFINED_ENTITIES.put("amp", "&");
+        PREDEFINED_ENTITIES.put("apos", "'");
+        PREDEFINED_ENTITIES.put("quot", "\"");
+    }
+    private static final TokenSet TEXT_TOKENS = TokenSet.create(
+            XmlTokenType.XML_DATA_CHARACTERS,
+            XmlTokenType.XML_REAL_WHITE_SPACE,
+            XmlTokenType.XML_WHITE_SPACE,
+            TokenType.WHITE_SPACE,
+            XmlTokenType.XML_CHAR_ENTITY_REF,
+            XmlTokenType.XML_ENTITY_REF_TOKEN
+    );
+
+    private enum State {
+        CONTENT,
+        START_TAG_NAME,
+        START_TAG,
+        END_TAG
+    }
+
+    /**
+     * Receives the tags of the scanned document.
+     */
+    public interface Handler {
+        /**
+         * Called when the start tag with all its attributes has been read.
+         */
+        void startTag(@NotNull Tag tag);
+
+        /**
+         * Called when the tag is closed, the text of the tag is available at this point.
+         */
+        default void endTag(@NotNull Tag tag) {
+        }
+    }
+
+    public static void scan(@NotNull CharSequence text, @NotNull Handler handler) {
+        Lexer lexer = new XmlLexer();
+        lexer.start(text);
+
+        Deque<Tag> openTags = new ArrayDeque<>();
+        State state = State.CONTENT;
+        Tag currentTag = null;
+        String attributeName = null;
+        int attributeValueOffset = -1;
+        StringBuilder attributeValue = null;
+        String endTagName = null;
+        boolean isCdata = false;
+
+        IElementType tokenType;
+        while ((tokenType = lexer.getTokenType()) != null) {
+            int tokenStart = lexer.getTokenStart();
+            int tokenEnd = lexer.getTokenEnd();
+
+            if (tokenType == XmlTokenType.XML_CDATA_START) {
+                isCdata = true;
+            } else if (tokenType == XmlTokenType.XML_CDATA_END) {
+                isCdata = false;
+            } else if (isCdata) {
+                // CDATA content is taken as written, whatever tokens the lexer reports inside it
+                Tag openTag = openTags.peek();
+                if (state == State.CONTENT && openTag != null) {
+                    openTag.appendText(text.subSequence(tokenStart, tokenEnd));
+                }
+            } else if (tokenType == XmlTokenType.XML_START_TAG_START) {
+                currentTag = new Tag(openTags.peek(), tokenStart);
+                attributeName = null;
+                attributeValue = null;
+                state = State.START_TAG_NAME;
+            } else if (tokenType == XmlTokenType.XML_END_TAG_START) {
+                endTagName = null;
+                state = State.END_TAG;
+            } else if (NAME_TOKENS.contains(tokenType)) {
+                String name = text.subSequence(tokenStart, tokenEnd).toString();
+                if (state == State.START_TAG_NAME) {
+                    currentTag.name = name;
+                    state = State.START_TAG;
+                } else if (state == State.START_TAG) {
+                    attributeName = name;
+                } else if (state == State.END_TAG) {
+                    endTagName = name;
+                }
+            } else if (state == State.START_TAG && tokenType == XmlTokenType.XML_ATTRIBUTE_VALUE_START_DELIMITER) {
+                attributeValueOffset = tokenStart;
+                attributeValue = new StringBuilder();
+            } else if (state == State.START_TAG && attributeValue != null
+                    && ATTRIBUTE_VALUE_TOKENS.contains(tokenType)) {
+                attributeValue.append(decodeToken(text, tokenStart, tokenEnd, tokenType));
+            } else if (state == State.START_TAG && tokenType == XmlTokenType.XML_ATTRIBUTE_VALUE_END_DELIMITER) {
+                if (attributeName != null && attributeValue != null) {
+                    currentTag.attributes.put(
+                            attributeName,
+                            new Attribute(attributeName, attributeValue.toString(), attributeValueOffset)
+                    );
+                }
+                attributeName = null;
+                attributeValue = null;
+            } else if (tokenType == XmlTokenType.XML_EMPTY_ELEMENT_END) {
+                if (state == State.START_TAG) {
+                    handler.startTag(currentTag);
+                    handler.endTag(currentTag);
+                }
+                currentTag = null;
+                state = State.CONTENT;
+            } else if (tokenType == XmlTokenType.XML_TAG_END) {
+                if (state == State.START_TAG) {
+                    openTags.push(currentTag);
+                    handler.startTag(currentTag);
+                } else if (state == State.END_TAG) {
+                    closeTags(openTags, endTagName, handler);
+                }
+                currentTag = null;
+                state = State.CONTENT;
+            } else if (state == State.CONTENT && TEXT_TOKENS.contains(tokenType)) {
+                Tag openTag = openTags.peek();
+                if (openTag != null) {
+                    openTag.appendText(decodeToken(text, tokenStart, tokenEnd, tokenType));
+                }
+            }
+
+            lexer.advance();
+        }
+
+        // tags left open by a truncated document are closed at its end, as the XML PSI does
+        while (!openTags.isEmpty()) {
+            handler.endTag(openTags.pop());
+        }
+    }
+
+    /**
+     * Token text with entity references decoded.
+     */
+    private static CharSequence decodeToken(CharSequence text, int start, int end, IElementType tokenType) {
+        CharSequence token = text.subSequence(start, end);
+        return ENTITY_REF_TOKENS.contains(tokenType) ? decodeEntityRef(token.toString()) : token;
+    }
+
+    /**
+     * Text of a predefined or character entity reference, e.g. "&amp;" or "&#92;".
+     *
+     * Other references, e.g. to entities of a DTD, are returned as written, same as in the XML PSI.
+     */
+    @NotNull
+    static String decodeEntityRef(@NotNull String reference) {
+        if (reference.length() < 3 || reference.charAt(0) != '&' || !reference.endsWith(";")) {
+            return reference;
+        }
+        String name = reference.substring(1, reference.length() - 1);
+        if (name.charAt(0) != '#') {
+            String value = PREDEFINED_ENTITIES.get(name);
+            return value != null ? value : reference;
+        }
+        try {
+            int codePoint = name.length() > 1 && (name.charAt(1) == 'x' || name.charAt(1) == 'X')
+                    ? Integer.parseInt(name.substring(2), 16)
+                    : Integer.parseInt(name.substring(1));
+            if (Character.isValidCodePoint(codePoint)) {
+                return new String(Character.toChars(codePoint));
+            }
+        } catch (NumberFormatException e) {
+            // not a number, kept as written
+        }
+
+        return reference;
+    }
+
+    /**
+     * Closes the tags up to the one with the given name, tolerating unclosed tags in between.
+     */
+    private static void closeTags(Deque<Tag> openTags, @Nullable String name, Handler handler) {
+        if (name == null) {
+            return;
+        }
+        boolean isOpen = false;
+        for (Tag openTag : openTags) {
+            if (name.equals(openTag.getName())) {
+                isOpen = true;
+                break;
+            }
+        }
+        if (!isOpen) {
+            return;
+        }
+        while (!openTags.isEmpty()) {
+            Tag tag = openTags.pop();
+            handler.endTag(tag);
+            if (name.equals(tag.getName())) {
+                return;
+            }
+        }
+    }
+
+    public static class Tag {
+        private final Tag parent;
+        private final int offset;
+        private String name = "";
+        private final Map<String, Attribute> attributes = new LinkedHashMap<>();
+        private StringBuilder text;
+
+        Tag(@Nullable Tag parent, int offset) {
+            this.parent = parent;
+            this.offset = offset;
+        }
+
+        @NotNull
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Offset of the tag start in the file.
+         */
+        public int getOffset() {
+            return offset;
+        }
+
+        @Nullable
+        public Tag getParent() {
+            return parent;
+        }
+
+        public boolean isRoot() {
+            return parent == null;
+        }
+
+        /**
+         * Checks the tag name and the names of its parents, e.g. isPath("config", "type", "plugin").
+         */
+        public boolean isPath(@NotNull String... names) {
+            Tag tag = this;
+            for (int i = names.length - 1; i >= 0; i--) {
+                if (tag == null || !names[i].equals(tag.getName())) {
+                    return false;
+                }
+                tag = tag.getParent();
+            }
+
+            return tag == null;
+        }
+
+        @NotNull
+        public Map<String, Attribute> getAttributes() {
+            return attributes;
+        }
+
+        @Nullable
+        public Attribute getAttribute(@NotNull String name) {
+            return attributes.get(name);
+        }
+
+        @Nullable
+        public String getAttributeValue(@NotNull String name) {
+            Attribute attribute = attributes.get(name);
+            return attribute != null ? attribute.getValue() : null;
+        }
+
+        /**
+         * Trimmed text of the tag, without the text of the child tags.
+         */
+        @NotNull
+        public String getTrimmedText() {
+            return text != null ? text.toString().trim() : "";
+        }
+
+        void appendText(CharSequence value) {
+            if (text == null) {
+                text = new StringBuilder();
+            }
+            text.append(value);
+        }
+    }
+
+    public static class Attribute {
+        private final String name;
+        private final String value;
+        private final int valueOffset;
+
+        Attribute(@NotNull String name, @NotNull String value, int valueOffset) {
+            this.name = name;
+            this.value = value;
+            this.valueOffset = valueOffset;
+        }
+
+        @NotNull
+        public String getName() {
+            return name;
+        }
+
+        @NotNull
+        public String getValue() {
+            return value;
+        }
+
+        /**
+         * Offset of the attribute value including the opening quote, same as the XmlAttributeValue start.
+         */
+        public int getValueOffset() {
+            return valueOffset;
+        }
+    }
+}
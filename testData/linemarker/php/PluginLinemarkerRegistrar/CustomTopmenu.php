@@ -0,0 +1,22 @@
+<?php
+/**
+ * Copyright © Magento, Inc. All rights reserved.
+ * See COPYING.txt for license details.
+ */
+
+namespace Magento\Theme\Block\Html;
+
+class CustomTopmenu extends Topmenu
+{
+    public function someMethod()
+    {
+    }
+
+    public function getHtml()
+    {
+    }
+
+    public function getIdentities()
+    {
+    }
+}
@@ -0,0 +1,14 @@
+<?php
+/**
+ * Copyright © Magento, Inc. All rights reserved.
+ * See COPYING.txt for license details.
+ */
+
+namespace Magento\Catalog\Model;
+
+class TestNotPlugin extends \Magento\Theme\Block\Html\Topmenu
+{
+    public function someMethod()
+    {
+    }
+}
@@ -0,0 +1,14 @@
+<?php
+/**
+ * Copyright © Magento, Inc. All rights reserved.
+ * See COPYING.txt for license details.
+ */
+
+namespace Magento\Catalog\Plugin\Block;
+
+class Topmenu
+{
+    public function beforeSomeMethod(\Magento\Theme\Block\Html\Topmenu $subject)
+    {
+    }
+}
@@ -0,0 +1,13 @@
+<?php
+/**
+ * Copyright © Magento, Inc. All rights reserved.
+ * See COPYING.txt for license details.
+ */
+
+namespace Foo\Bar\Plugin;
+
+use Foo\Bar\Api\TopmenuPluginInterface;
+
+class TopmenuPlugin implements TopmenuPluginInterface
+{
+}
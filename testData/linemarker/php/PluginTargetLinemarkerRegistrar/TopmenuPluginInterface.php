@@ -0,0 +1,11 @@
+<?php
+/**
+ * Copyright © Magento, Inc. All rights reserved.
+ * See COPYING.txt for license details.
+ */
+
+namespace Foo\Bar\Api;
+
+interface TopmenuPluginInterface
+{
+}
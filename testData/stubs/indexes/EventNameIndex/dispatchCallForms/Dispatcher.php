@@ -0,0 +1,28 @@
+<?php
+/**
+ * Copyright © Magento, Inc. All rights reserved.
+ * See COPYING.txt for license details.
+ */
+namespace Foo\Bar\Model;
+
+class Dispatcher
+{
+    private $eventManager;
+
+    public function execute($event)
+    {
+        $this->eventManager->dispatch('foo_bar_plain');
+        $this->eventManager->dispatch ('foo_bar_space');
+        $this->eventManager->dispatch
+        (
+            'foo_bar_newline',
+            ['event' => $event]
+        );
+        $this->eventManager->dispatch(/* name */ 'foo_bar_comment');
+        $this->eventManager->dispatch($event->getName(), 'foo_bar_second_argument');
+        $this->eventManager->dispatch('foo_bar_outer', ['inner' => $this->eventManager->dispatch('foo_bar_nested')]);
+        $this->eventManager->dispatchEvent('foo_bar_other_method');
+        dispatch('foo_bar_function');
+        $this->eventManager->dispatch('foo_bar_' . $event);
+    }
+}
@@ -0,0 +1,9 @@
+/**
+ * Copyright © Magento, Inc. All rights reserved.
+ * See COPYING.txt for license details.
+ */
+define([], function () {
+    'use strict';
+
+    return {};
+});
@@ -0,0 +1,20 @@
+/**
+ * Copyright © Magento, Inc. All rights reserved.
+ * See COPYING.txt for license details.
+ */
+
+var config = {
+    map: {
+        '*': {
+            themeAlias: 'Magento_Theme/js/theme'
+        }
+    },
+    config: {
+        mixins: {
+            'Magento_A/js/widget': {
+                'Magento_A/js/widget-mixin': false,
+                'Magento_Theme/js/widget-mixin': true
+            }
+        }
+    }
+};
@@ -6,6 +6,7 @@ package com.magento.idea.magento2plugin;
 
 import com.intellij.openapi.util.text.StringUtil;
 import com.intellij.testFramework.fixtures.BasePlatformTestCase;
+import com.intellij.util.indexing.ID;
 import com.magento.idea.magento2plugin.indexes.IndexManager;
 import com.magento.idea.magento2plugin.project.Settings;
 import com.magento.idea.magento2plugin.project.util.GetProjectBasePath;
@@ -58,6 +59,23 @@ abstract public class BaseProjectTestCase extends BasePlatformTestCase {
         IndexManager.manualReindex();
     }
 
+    /**
+     * Asserts that the operation does not query the index and build syntax trees of the extension more than given.
+     */
+    protected QueryCounter assertQueryBudget(
+            ID<?, ?> indexId,
+            int maxIndexQueries,
+            String extension,
+            int maxLoadedTrees,
+            Runnable operation
+    ) {
+        QueryCounter counter = QueryCounter.count(myFixture.getProject(), operation);
+        assertTrue("Index query budget exceeded, " + counter, counter.getIndexQueries(indexId) <= maxIndexQueries);
+        assertTrue("Syntax tree budget exceeded, " + counter, counter.getLoadedTrees(extension) <= maxLoadedTrees);
+
+        return counter;
+    }
+
     protected String prepareFixturePath(String fileName, String fixturesFolderPath) {
         return fixturesFolderPath + getClass().getSimpleName().replace("Test", "") + File.separator + name() + File.separator + fileName;
     }
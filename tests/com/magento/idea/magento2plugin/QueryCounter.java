@@ -0,0 +1,119 @@
+/*
+ * Copyright © Magento, Inc. All rights reserved.
+ * See COPYING.txt for license details.
+ */
+package com.magento.idea.magento2plugin;
+
+import com.intellij.openapi.Disposable;
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.Disposer;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.impl.PsiManagerEx;
+import com.intellij.psi.impl.file.impl.FileManagerImpl;
+import com.intellij.util.indexing.ID;
+import com.magento.idea.magento2plugin.indexes.IndexQueryListener;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Counts the index and PSI work done by one operation, so tests can assert budgets instead of results only.
+ *
+ * Index queries are the ones published by IndexQueries, syntax trees are counted through the file loading filter
+ * of the PsiManager and PSI files through the FileManager cache.
+ */
+public class QueryCounter {
+    private final Map<ID<?, ?>, AtomicInteger> indexQueries = new ConcurrentHashMap<>();
+    private final List<VirtualFile> loadedTrees = Collections.synchronizedList(new ArrayList<>());
+    private final Set<PsiFile> createdPsiFiles = new HashSet<>();
+
+    private QueryCounter() {
+    }
+
+    /**
+     * Runs the operation and returns the counters collected during it.
+     */
+    @NotNull
+    public static QueryCounter count(@NotNull Project project, @NotNull Runnable operation) {
+        QueryCounter counter = new QueryCounter();
+        FileManagerImpl fileManager = (FileManagerImpl) PsiManagerEx.getInstanceEx(project).getFileManager();
+        Set<PsiFile> cachedPsiFiles = new HashSet<>(fileManager.getAllCachedFiles());
+
+        Disposable disposable = Disposer.newDisposable();
+        try {
+            ApplicationManager.getApplication().getMessageBus().connect(disposable).subscribe(
+                    IndexQueryListener.TOPIC,
+                    indexId -> counter.indexQueries.computeIfAbsent(indexId, id -> new AtomicInteger()).incrementAndGet()
+            );
+            PsiManagerEx.getInstanceEx(project).setAssertOnFileLoadingFilter(file -> {
+                counter.loadedTrees.add(file);
+                return false;
+            }, disposable);
+
+            operation.run();
+        } finally {
+            Disposer.dispose(disposable);
+        }
+
+        counter.createdPsiFiles.addAll(fileManager.getAllCachedFiles());
+        counter.createdPsiFiles.removeAll(cachedPsiFiles);
+
+        return counter;
+    }
+
+    public int getIndexQueries() {
+        int queries = 0;
+        for (AtomicInteger count : indexQueries.values()) {
+            queries += count.get();
+        }
+
+        return queries;
+    }
+
+    public int getIndexQueries(@NotNull ID<?, ?> indexId) {
+        AtomicInteger count = indexQueries.get(indexId);
+
+        return count != null ? count.get() : 0;
+    }
+
+    /**
+     * Number of PSI files which were not cached by the PsiManager before the operation, i.e. created by findFile.
+     */
+    public int getCreatedPsiFiles() {
+        return createdPsiFiles.size();
+    }
+
+    /**
+     * Number of syntax trees built from physical files.
+     */
+    public int getLoadedTrees() {
+        return loadedTrees.size();
+    }
+
+    /**
+     * Number of syntax trees built from files with the given extension, e.g. "xml".
+     */
+    public int getLoadedTrees(@NotNull String extension) {
+        int trees = 0;
+        synchronized (loadedTrees) {
+            for (VirtualFile file : loadedTrees) {
+                if (extension.equals(file.getExtension())) {
+                    trees++;
+                }
+            }
+        }
+
+        return trees;
+    }
+
+    @Override
+    public String toString() {
+        return "index queries: " + indexQueries
+                + ", created PSI files: " + createdPsiFiles.size()
+                + ", loaded trees: " + loadedTrees;
+    }
+}
@@ -0,0 +1,36 @@
+/*
+ * Copyright © Magento, Inc. All rights reserved.
+ * See COPYING.txt for license details.
+ */
+package com.magento.idea.magento2plugin.completion.xml;
+
+import com.magento.idea.magento2plugin.QueryCounter;
+
+public class FilePathCompletionRegistrarTest extends CompletionXmlFixtureTestCase {
+    private static final String LAYOUT_FILE_NAME = "catalog_product_view.xml";
+
+    public void testLayoutTemplateMustHaveCompletion() {
+        String filePath = this.getFixturePath(LAYOUT_FILE_NAME);
+        myFixture.copyFileToProject(filePath);
+
+        assertFileContainsCompletions(filePath, "Magento_Catalog::product/view.phtml");
+    }
+
+    public void testLayoutKnockoutTemplateMustHaveCompletion() {
+        String filePath = this.getFixturePath(LAYOUT_FILE_NAME);
+        myFixture.copyFileToProject(filePath);
+
+        assertFileContainsCompletions(filePath, "Magento_Catalog/product/list");
+    }
+
+    public void testLayoutTemplateCompletionDoesNotParseTemplates() {
+        String filePath = this.getFixturePath(LAYOUT_FILE_NAME);
+        myFixture.configureByFile(filePath);
+
+        QueryCounter counter = QueryCounter.count(getProject(), () -> myFixture.completeBasic());
+
+        assertEquals(counter.toString(), 0, counter.getLoadedTrees("phtml"));
+        assertEquals(counter.toString(), 0, counter.getLoadedTrees("html"));
+        checkContainsCompletion(new String[] {"Magento_Catalog::product/view.phtml"});
+    }
+}
@@ -5,6 +5,7 @@
 package com.magento.idea.magento2plugin.completion.xml;
 
 import com.magento.idea.magento2plugin.magento.files.ModuleEventsXml;
+import com.magento.idea.magento2plugin.stubs.indexes.EventNameIndex;
 
 public class ObserverCompletionRegistrarTest extends CompletionXmlFixtureTestCase {
 
@@ -35,4 +36,13 @@ public class ObserverCompletionRegistrarTest extends CompletionXmlFixtureTestCas
 
         assertFileContainsCompletions(filePath, lookupStringsEvents);
     }
+
+    public void testEventsXmlEventNameCompletionStaysWithinQueryBudget() {
+        String filePath = this.getFixturePath(ModuleEventsXml.FILE_NAME);
+        myFixture.configureByFile(filePath);
+
+        assertQueryBudget(EventNameIndex.KEY, 1, "php", 0, () -> myFixture.completeBasic());
+
+        checkContainsCompletion(lookupStringsEvents);
+    }
 }
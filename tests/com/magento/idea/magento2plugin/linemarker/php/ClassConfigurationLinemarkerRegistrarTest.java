@@ -0,0 +1,51 @@
+/*
+ * Copyright © Magento, Inc. All rights reserved.
+ * See COPYING.txt for license details.
+ */
+package com.magento.idea.magento2plugin.linemarker.php;
+
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.xml.XmlTag;
+import com.magento.idea.magento2plugin.linemarker.xml.XmlTagNavigationItem;
+import com.magento.idea.magento2plugin.reference.xml.IndexedNavigationTarget;
+import java.util.List;
+
+public class ClassConfigurationLinemarkerRegistrarTest extends LinemarkerPhpFixtureTestCase {
+
+    public void testClassShouldHaveConfigurationLinemarker() {
+        myFixture.configureByFile(getClassFixturePath("Topmenu.php"));
+
+        assertHasLinemarkerWithTooltipAndIcon("Navigate to configuration", "/fileTypes/xml.svg");
+
+        List<PsiElement> targets = getLinemarkerTargets("Navigate to configuration");
+        assertEquals(1, targets.size());
+        XmlTagNavigationItem target = (XmlTagNavigationItem) targets.get(0);
+        assertEquals("plugin", target.getName());
+        assertEquals("Magento_Catalog [global]", target.getLocationString());
+        assertInstanceOf(target.getElement(), XmlTag.class);
+        assertEquals("plugin", ((XmlTag) target.getElement()).getName());
+    }
+
+    public void testClassWithPrefixNameShouldNotHaveLinemarker() {
+        myFixture.configureByFile(getClassFixturePath("Top.php"));
+
+        assertHasNoLinemarkerWithTooltipAndIcon("Navigate to configuration", "/fileTypes/xml.svg");
+    }
+
+    public void testConfigurationTargetsIncludeEscapedClassNames() {
+        myFixture.configureByFiles(getClassFixturePath("ConfiguredClass.php"), getClassFixturePath("di.xml"));
+
+        assertHasLinemarkerWithTooltipAndIcon("Navigate to configuration", "/fileTypes/xml.svg");
+
+        List<PsiElement> targets = getLinemarkerTargets("Navigate to configuration");
+        // the argument tag names the class in an attribute and in its CDATA text, it is listed once
+        assertEquals(2, targets.size());
+        assertEquals("argument", ((IndexedNavigationTarget<?>) targets.get(0)).getName());
+        assertEquals("preference", ((IndexedNavigationTarget<?>) targets.get(1)).getName());
+        for (PsiElement target : targets) {
+            PsiElement element = ((IndexedNavigationTarget<?>) target).getElement();
+            assertInstanceOf(element, XmlTag.class);
+            assertEquals(((IndexedNavigationTarget<?>) target).getName(), ((XmlTag) element).getName());
+        }
+    }
+}
@@ -6,6 +6,9 @@ package com.magento.idea.magento2plugin.linemarker.php;
 
 import com.intellij.codeInsight.daemon.LineMarkerInfo;
 import com.intellij.codeInsight.daemon.impl.DaemonCodeAnalyzerImpl;
+import com.intellij.codeInsight.navigation.NavigationGutterIconRenderer;
+import com.intellij.psi.PsiElement;
+import com.jetbrains.php.lang.psi.elements.PhpClass;
 import com.magento.idea.magento2plugin.BaseProjectTestCase;
 import org.jetbrains.annotations.NotNull;
 import javax.swing.*;
@@ -27,6 +30,13 @@ abstract public class LinemarkerPhpFixtureTestCase extends BaseProjectTestCase {
         return prepareFixturePath(fileName, fixturesFolderPath);
     }
 
+    /**
+     * Fixture shared by all tests of the class, e.g. php/PluginTargetLinemarkerRegistrar/Topmenu.php
+     */
+    protected String getClassFixturePath(String fileName) {
+        return fixturesFolderPath + getClass().getSimpleName().replace("Test", "") + File.separator + fileName;
+    }
+
     protected void assertHasLinemarkerWithTooltipAndIcon(String tooltip, String icon) {
         myFixture.doHighlighting();
         String lineMarkerNotFound = "Failed that documents contains linemarker with the tooltip `%s`";
@@ -67,6 +77,31 @@ abstract public class LinemarkerPhpFixtureTestCase extends BaseProjectTestCase {
         }
     }
 
+    /**
+     * Navigation targets of the linemarker with the tooltip, highlighting must be done before.
+     */
+    @NotNull
+    protected List<PsiElement> getLinemarkerTargets(String tooltip) {
+        for (LineMarkerInfo<?> lineMarkerInfo : getDocumentLineMarkers()) {
+            if (tooltip.equals(lineMarkerInfo.getLineMarkerTooltip())) {
+                return ((NavigationGutterIconRenderer) lineMarkerInfo.createGutterRenderer()).getTargetElements();
+            }
+        }
+
+        fail(String.format("Failed that documents contains linemarker with the tooltip `%s`", tooltip));
+        return null;
+    }
+
+    protected static void assertContainsClass(String fqn, List<PsiElement> targets) {
+        for (PsiElement target : targets) {
+            if (target instanceof PhpClass && fqn.equals(((PhpClass) target).getFQN())) {
+                return;
+            }
+        }
+
+        fail(String.format("Failed that linemarker targets contain the class `%s`", fqn));
+    }
+
     @NotNull
     private List<LineMarkerInfo<?>> getDocumentLineMarkers() {
         return DaemonCodeAnalyzerImpl.getLineMarkers(myFixture.getEditor().getDocument(), getProject());
@@ -0,0 +1,26 @@
+/*
+ * Copyright © Magento, Inc. All rights reserved.
+ * See COPYING.txt for license details.
+ */
+package com.magento.idea.magento2plugin.linemarker.php;
+
+import com.magento.idea.magento2plugin.stubs.indexes.PluginIndex;
+
+public class PluginLinemarkerRegistrarTest extends LinemarkerPhpFixtureTestCase {
+
+    public void testClassWithPluginsShouldHaveLinemarker() {
+        myFixture.configureByFile(getClassFixturePath("CustomTopmenu.php"));
+
+        assertHasLinemarkerWithTooltipAndIcon("Navigate to plugins", "/nodes/plugin.svg");
+        assertContainsClass("\\Magento\\Catalog\\Plugin\\Block\\Topmenu", getLinemarkerTargets("Navigate to plugins"));
+    }
+
+    public void testClassWithPluginsStaysWithinQueryBudget() {
+        myFixture.configureByFile(getClassFixturePath("CustomTopmenu.php"));
+
+        // the plugin types once and the plugins of the only type of the hierarchy which has any
+        assertQueryBudget(PluginIndex.KEY, 2, "xml", 0, () -> myFixture.doHighlighting());
+
+        assertHasLinemarkerWithTooltipAndIcon("Navigate to plugins", "/nodes/plugin.svg");
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright © Magento, Inc. All rights reserved.
+ * See COPYING.txt for license details.
+ */
+package com.magento.idea.magento2plugin.linemarker.php;
+
+import com.magento.idea.magento2plugin.stubs.indexes.PluginTargetIndex;
+
+public class PluginTargetLinemarkerRegistrarTest extends LinemarkerPhpFixtureTestCase {
+
+    public void testPluginClassShouldHaveLinemarker() {
+        myFixture.configureByFile(getClassFixturePath("Topmenu.php"));
+
+        assertHasLinemarkerWithTooltipAndIcon("Navigate to target class", "/nodes/class.svg");
+        assertHasLinemarkerWithTooltipAndIcon("Navigate to target method", "/nodes/method.svg");
+        assertContainsClass("\\Magento\\Theme\\Block\\Html\\Topmenu", getLinemarkerTargets("Navigate to target class"));
+    }
+
+    public void testPluginImplementingDeclaredInterfaceShouldHaveLinemarker() {
+        myFixture.copyFileToProject(getClassFixturePath("di.xml"), "app/code/Foo/Bar/etc/di.xml");
+        myFixture.copyFileToProject(
+                getClassFixturePath("TopmenuPluginInterface.php"),
+                "app/code/Foo/Bar/Api/TopmenuPluginInterface.php"
+        );
+        myFixture.configureByFile(getClassFixturePath("TopmenuPlugin.php"));
+
+        assertHasLinemarkerWithTooltipAndIcon("Navigate to target class", "/nodes/class.svg");
+        assertContainsClass("\\Magento\\Theme\\Block\\Html\\Topmenu", getLinemarkerTargets("Navigate to target class"));
+    }
+
+    public void testPluginClassStaysWithinQueryBudget() {
+        myFixture.configureByFile(getClassFixturePath("Topmenu.php"));
+
+        // the plugin classes once and the target types of the plugin class
+        assertQueryBudget(PluginTargetIndex.KEY, 2, "xml", 0, () -> myFixture.doHighlighting());
+
+        assertHasLinemarkerWithTooltipAndIcon("Navigate to target class", "/nodes/class.svg");
+    }
+
+    public void testRegularPhpClassShouldNotHaveLinemarker() {
+        myFixture.configureByFile(getClassFixturePath("TestNotPlugin.php"));
+
+        assertHasNoLinemarkerWithTooltipAndIcon("Navigate to target class", "/nodes/class.svg");
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright © Magento, Inc. All rights reserved.
+ * See COPYING.txt for license details.
+ */
+package com.magento.idea.magento2plugin.magento.packages;
+
+import com.intellij.openapi.application.WriteAction;
+import com.intellij.openapi.vfs.VfsUtil;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.magento.idea.magento2plugin.BaseProjectTestCase;
+
+import java.io.IOException;
+
+public class MagentoComponentManagerTest extends BaseProjectTestCase {
+    private static final String MODULE_DIRECTORY = "app/code/Foo/Bar";
+    private static final String CATALOG_DIRECTORY = "vendor/magento/module-catalog";
+
+    public void testComponentLookup() {
+        VirtualFile moduleDirectory = findProjectFile(MODULE_DIRECTORY);
+        MagentoComponent component = getManager().getComponentForDirectory(moduleDirectory);
+
+        assertInstanceOf(component, MagentoModule.class);
+        assertEquals("foo/bar", component.getComposerModel().getName());
+        assertEquals("Foo_Bar", ((MagentoModule) component).getMagentoName());
+        assertEquals(moduleDirectory, component.getVirtualDirectory());
+        assertSame(
+                component,
+                getManager().getComponentOfTypeForFile(
+                        findProjectFile(MODULE_DIRECTORY + "/registration.php"),
+                        MagentoModule.class
+                )
+        );
+        assertNull(getManager().getComponentForDirectory(findProjectFile("app/code/Foo")));
+    }
+
+    public void testComposerJsonChangeReloadsOnlyItsComponent() throws IOException {
+        MagentoComponent catalog = getManager().getComponentForDirectory(findProjectFile(CATALOG_DIRECTORY));
+        VirtualFile composerFile = findProjectFile(MODULE_DIRECTORY + "/composer.json");
+
+        WriteAction.runAndWait(() -> VfsUtil.saveText(
+                composerFile,
+                "{\"name\": \"foo/baz\", \"type\": \"magento2-module\"}"
+        ));
+
+        MagentoComponent component = getManager().getComponentForDirectory(findProjectFile(MODULE_DIRECTORY));
+        assertNotNull(component);
+        assertEquals("foo/baz", component.getComposerModel().getName());
+        assertSame(catalog, getManager().getComponentForDirectory(findProjectFile(CATALOG_DIRECTORY)));
+    }
+
+    public void testDeletedComposerJsonRemovesOnlyItsComponent() throws IOException {
+        MagentoComponent catalog = getManager().getComponentForDirectory(findProjectFile(CATALOG_DIRECTORY));
+        VirtualFile composerFile = findProjectFile(MODULE_DIRECTORY + "/composer.json");
+
+        WriteAction.runAndWait(() -> composerFile.delete(this));
+
+        assertNull(getManager().getComponentForDirectory(findProjectFile(MODULE_DIRECTORY)));
+        assertSame(catalog, getManager().getComponentForDirectory(findProjectFile(CATALOG_DIRECTORY)));
+    }
+
+    public void testRenamedDirectoryMovesOnlyItsComponents() throws IOException {
+        MagentoComponent catalog = getManager().getComponentForDirectory(findProjectFile(CATALOG_DIRECTORY));
+        VirtualFile moduleDirectory = findProjectFile(MODULE_DIRECTORY);
+
+        WriteAction.runAndWait(() -> moduleDirectory.rename(this, "Baz"));
+
+        MagentoComponent component = getManager().getComponentForDirectory(moduleDirectory);
+        assertNotNull(component);
+        assertEquals("foo/bar", component.getComposerModel().getName());
+        int moduleCount = 0;
+        for (MagentoComponent anyComponent : getManager().getAllComponents()) {
+            if ("foo/bar".equals(anyComponent.getComposerModel().getName())) {
+                moduleCount++;
+            }
+        }
+        assertEquals(1, moduleCount);
+        assertSame(catalog, getManager().getComponentForDirectory(findProjectFile(CATALOG_DIRECTORY)));
+    }
+
+    private MagentoComponentManager getManager() {
+        return MagentoComponentManager.getInstance(myFixture.getProject());
+    }
+
+    private VirtualFile findProjectFile(String path) {
+        VirtualFile file = myFixture.findFileInTempDir(path);
+        assertNotNull(path, file);
+
+        return file;
+    }
+}
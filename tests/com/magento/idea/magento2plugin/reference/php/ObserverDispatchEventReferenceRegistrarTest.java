@@ -4,6 +4,17 @@
  */
 package com.magento.idea.magento2plugin.reference.php;
 
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiReference;
+import com.intellij.psi.ResolveResult;
+import com.intellij.psi.xml.XmlAttributeValue;
+import com.magento.idea.magento2plugin.QueryCounter;
+import com.magento.idea.magento2plugin.reference.xml.PolyVariantReferenceBase;
+import com.magento.idea.magento2plugin.stubs.indexes.EventNameIndex;
+
+import java.util.ArrayList;
+import java.util.List;
+
 public class ObserverDispatchEventReferenceRegistrarTest extends ReferencePhpFixtureTestCase {
 
     public void testDispatchCallParamMustHaveReference() {
@@ -12,4 +23,45 @@ public class ObserverDispatchEventReferenceRegistrarTest extends ReferencePhpFix
 
         assertHasReferenceToXmlAttributeValue("test_event_in_test_class");
     }
+
+    public void testDispatchCallParamResolvesToDeclaration() {
+        String filePath = this.getFixturePath("TestBlock.php");
+        myFixture.configureByFile(filePath);
+        PsiElement element = myFixture.getFile().findElementAt(myFixture.getCaretOffset()).getParent();
+
+        for (PsiReference reference : element.getReferences()) {
+            if (!(reference instanceof PolyVariantReferenceBase)) {
+                continue;
+            }
+            ResolveResult[] results = ((PolyVariantReferenceBase) reference).multiResolve(false);
+            assertEquals(1, results.length);
+            PsiElement declaration = results[0].getElement();
+            assertInstanceOf(declaration, XmlAttributeValue.class);
+            assertEquals("events.xml", declaration.getContainingFile().getName());
+            assertTrue(reference.isReferenceTo(declaration));
+            return;
+        }
+
+        fail("Failed that document contains reference to the event declaration");
+    }
+
+    public void testDispatchCallParamStaysWithinQueryBudget() {
+        String filePath = this.getFixturePath("TestBlock.php");
+        myFixture.configureByFile(filePath);
+        PsiElement element = myFixture.getFile().findElementAt(myFixture.getCaretOffset()).getParent();
+        List<PsiElement> declarations = new ArrayList<>();
+
+        QueryCounter counter = assertQueryBudget(EventNameIndex.KEY, 1, "xml", 1, () -> {
+            for (PsiReference reference : element.getReferences()) {
+                if (reference instanceof PolyVariantReferenceBase) {
+                    for (ResolveResult result : ((PolyVariantReferenceBase) reference).multiResolve(false)) {
+                        declarations.add(result.getElement());
+                    }
+                }
+            }
+        });
+
+        assertFalse("Failed that the event resolves to its declaration", declarations.isEmpty());
+        assertTrue(counter.toString(), counter.getLoadedTrees("xml") <= declarations.size());
+    }
 }
@@ -0,0 +1,24 @@
+/*
+ * Copyright © Magento, Inc. All rights reserved.
+ * See COPYING.txt for license details.
+ */
+package com.magento.idea.magento2plugin.reference.xml;
+
+import com.intellij.openapi.util.text.StringUtil;
+import com.jetbrains.php.lang.psi.elements.StringLiteralExpression;
+import com.magento.idea.magento2plugin.magento.files.ModuleEventsXml;
+
+import java.util.List;
+
+public class EventNameReferenceRegistrarTest extends ReferenceXmlFixtureTestCase {
+
+    public void testEventNameMustHaveReference() {
+        String filePath = this.getFixturePath(ModuleEventsXml.FILE_NAME);
+        myFixture.configureByFile(filePath);
+
+        List<StringLiteralExpression> dispatches = assertHasReferenceToElementsOfType(StringLiteralExpression.class);
+        assertEquals(1, dispatches.size());
+        assertEquals("test_event_in_block", StringUtil.unquoteString(dispatches.get(0).getText()));
+        assertEquals("Navigation.php", dispatches.get(0).getContainingFile().getName());
+    }
+}
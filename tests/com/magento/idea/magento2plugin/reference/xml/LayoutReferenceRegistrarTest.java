@@ -0,0 +1,32 @@
+/*
+ * Copyright © Magento, Inc. All rights reserved.
+ * See COPYING.txt for license details.
+ */
+package com.magento.idea.magento2plugin.reference.xml;
+
+import com.intellij.psi.xml.XmlTag;
+
+import java.util.List;
+
+public class LayoutReferenceRegistrarTest extends ReferenceXmlFixtureTestCase {
+
+    public void testReferenceBlockMustHaveReference() {
+        String filePath = this.getFixturePath("layout/default.xml");
+        myFixture.configureByFile(filePath);
+
+        List<XmlTag> declarations = assertHasReferenceToElementsOfType(XmlTag.class);
+        assertEquals(1, declarations.size());
+        assertEquals("block", declarations.get(0).getName());
+        assertEquals("test.block", declarations.get(0).getAttributeValue("name"));
+    }
+
+    public void testReferenceContainerMustHaveReference() {
+        String filePath = this.getFixturePath("layout/default.xml");
+        myFixture.configureByFile(filePath);
+
+        List<XmlTag> declarations = assertHasReferenceToElementsOfType(XmlTag.class);
+        assertEquals(1, declarations.size());
+        assertEquals("container", declarations.get(0).getName());
+        assertEquals("test.container", declarations.get(0).getAttributeValue("name"));
+    }
+}
@@ -6,11 +6,15 @@ package com.magento.idea.magento2plugin.reference.xml;
 
 import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiReference;
+import com.intellij.psi.ResolveResult;
 import com.intellij.psi.xml.XmlAttributeValue;
 import com.jetbrains.php.lang.psi.elements.PhpClass;
 import com.magento.idea.magento2plugin.BaseProjectTestCase;
 import com.magento.idea.magento2plugin.magento.packages.File;
 
+import java.util.ArrayList;
+import java.util.List;
+
 abstract public class ReferenceXmlFixtureTestCase extends BaseProjectTestCase {
 
     private static final String testDataFolderPath = "testData" + File.separator + "reference" + File.separator;
@@ -41,6 +45,30 @@ abstract public class ReferenceXmlFixtureTestCase extends BaseProjectTestCase {
         );
     }
 
+    /**
+     * Targets of the index backed reference at the caret, all of them declarations of the given type.
+     */
+    protected <T extends PsiElement> List<T> assertHasReferenceToElementsOfType(Class<T> targetClass) {
+        PsiElement element = getElementFromCaret();
+        for (PsiReference reference : element.getReferences()) {
+            if (!(reference instanceof PolyVariantReferenceBase)) {
+                continue;
+            }
+            List<T> targets = new ArrayList<>();
+            for (ResolveResult result : ((PolyVariantReferenceBase) reference).multiResolve(false)) {
+                PsiElement target = result.getElement();
+                assertInstanceOf(target, targetClass);
+                assertTrue(reference.isReferenceTo(target));
+                targets.add(targetClass.cast(target));
+            }
+            assertNotEmpty(targets);
+            return targets;
+        }
+
+        fail("Failed that document contains reference to " + targetClass.getSimpleName());
+        return null;
+    }
+
     protected void assertEmptyReference() {
         PsiElement element = getElementFromCaret();
         assertEmpty(element.getReferences());
@@ -0,0 +1,21 @@
+/*
+ * Copyright © Magento, Inc. All rights reserved.
+ * See COPYING.txt for license details.
+ */
+package com.magento.idea.magento2plugin.reference.xml;
+
+import com.intellij.psi.xml.XmlAttributeValue;
+
+import java.util.List;
+
+public class VirtualTypeReferenceRegistrarTest extends ReferenceXmlFixtureTestCase {
+
+    public void testVirtualTypeMustHaveReference() {
+        String filePath = this.getFixturePath("di.xml");
+        myFixture.configureByFile(filePath);
+
+        List<XmlAttributeValue> declarations = assertHasReferenceToElementsOfType(XmlAttributeValue.class);
+        assertEquals(1, declarations.size());
+        assertEquals("testVirtualTypeParent", declarations.get(0).getValue());
+    }
+}
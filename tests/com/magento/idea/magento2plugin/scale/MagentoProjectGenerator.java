@@ -0,0 +1,384 @@
+/*
+ * Copyright © Magento, Inc. All rights reserved.
+ * See COPYING.txt for license details.
+ */
+package com.magento.idea.magento2plugin.scale;
+
+import com.intellij.openapi.application.WriteAction;
+import com.intellij.openapi.vfs.VfsUtil;
+import com.intellij.openapi.vfs.VirtualFile;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Writes a synthetic Magento tree with the given number of modules into the test project.
+ *
+ * The output depends on the parameters only: module `i` declares plugins, preferences and observers for module `i + 1`,
+ * so every module is both a source and a target of the cross module configuration.
+ */
+public class MagentoProjectGenerator {
+    public static final String VENDOR = "Scale";
+    private static final String MODULE_DIRECTORY = "app/code/" + VENDOR + "/";
+    private static final String COPYRIGHT = "/**\n"
+            + " * Copyright © Magento, Inc. All rights reserved.\n"
+            + " * See COPYING.txt for license details.\n"
+            + " */\n";
+
+    private final int modules;
+    private int diXmlFiles;
+    private int pluginsPerDiXml = 1;
+    private int virtualTypesPerDiXml = 1;
+    private boolean events = true;
+    private boolean layouts = true;
+    private boolean webApi = true;
+    private boolean requireJs = true;
+    private boolean mftf = true;
+    private boolean graphQl = true;
+
+    private final Map<String, VirtualFile> directories = new HashMap<>();
+    private int generatedFiles;
+
+    public MagentoProjectGenerator(int modules) {
+        this.modules = modules;
+        this.diXmlFiles = modules;
+    }
+
+    /**
+     * Number of modules with a di.xml file, the first modules get one.
+     */
+    public MagentoProjectGenerator withDiXmlFiles(int diXmlFiles) {
+        this.diXmlFiles = Math.min(diXmlFiles, modules);
+        return this;
+    }
+
+    public MagentoProjectGenerator withPluginsPerDiXml(int pluginsPerDiXml) {
+        this.pluginsPerDiXml = pluginsPerDiXml;
+        return this;
+    }
+
+    public MagentoProjectGenerator withVirtualTypesPerDiXml(int virtualTypesPerDiXml) {
+        this.virtualTypesPerDiXml = virtualTypesPerDiXml;
+        return this;
+    }
+
+    public MagentoProjectGenerator withEvents(boolean events) {
+        this.events = events;
+        return this;
+    }
+
+    public MagentoProjectGenerator withLayouts(boolean layouts) {
+        this.layouts = layouts;
+        return this;
+    }
+
+    public MagentoProjectGenerator withWebApi(boolean webApi) {
+        this.webApi = webApi;
+        return this;
+    }
+
+    public MagentoProjectGenerator withRequireJs(boolean requireJs) {
+        this.requireJs = requireJs;
+        return this;
+    }
+
+    public MagentoProjectGenerator withMftf(boolean mftf) {
+        this.mftf = mftf;
+        return this;
+    }
+
+    public MagentoProjectGenerator withGraphQl(boolean graphQl) {
+        this.graphQl = graphQl;
+        return this;
+    }
+
+    /**
+     * Writes the modules under app/code of the given project root.
+     *
+     * @return number of generated files
+     */
+    public int generate(@NotNull VirtualFile root) throws IOException {
+        directories.clear();
+        generatedFiles = 0;
+        WriteAction.run(() -> {
+            for (int index = 0; index < modules; index++) {
+                generateModule(root, index);
+            }
+        });
+
+        return generatedFiles;
+    }
+
+    public int getModules() {
+        return modules;
+    }
+
+    @NotNull
+    public static String getModuleName(int index) {
+        return VENDOR + "_" + getModuleCode(index);
+    }
+
+    @NotNull
+    public static String getModulePath(int index) {
+        return MODULE_DIRECTORY + getModuleCode(index);
+    }
+
+    @NotNull
+    public static String getNamespace(int index) {
+        return VENDOR + "\\" + getModuleCode(index);
+    }
+
+    @NotNull
+    public static String getServiceClass(int index) {
+        return getNamespace(index) + "\\Model\\Service";
+    }
+
+    @NotNull
+    public static String getServiceInterface(int index) {
+        return getNamespace(index) + "\\Api\\ServiceInterface";
+    }
+
+    @NotNull
+    public static String getEventName(int index) {
+        return "scale_" + getModuleCode(index).toLowerCase() + "_saved";
+    }
+
+    /**
+     * Module which declares plugins, the preference and the observer for the module with the given index.
+     */
+    public int getConfiguringModule(int index) {
+        return (index + modules - 1) % modules;
+    }
+
+    private int getTargetModule(int index) {
+        return (index + 1) % modules;
+    }
+
+    private static String getModuleCode(int index) {
+        return String.format("Module%05d", index);
+    }
+
+    private void generateModule(VirtualFile root, int index) throws IOException {
+        String path = getModulePath(index);
+        String namespace = getNamespace(index);
+        String moduleName = getModuleName(index);
+        int target = getTargetModule(index);
+
+        write(root, path, "registration.php", "<?php\n" + COPYRIGHT + "\n"
+                + "use \\Magento\\Framework\\Component\\ComponentRegistrar;\n\n"
+                + "ComponentRegistrar::register(ComponentRegistrar::MODULE, '" + moduleName + "', __DIR__);\n");
+        write(root, path, "composer.json", "{\n"
+                + "    \"name\": \"scale/" + getModuleCode(index).toLowerCase() + "\",\n"
+                + "    \"type\": \"magento2-module\",\n"
+                + "    \"autoload\": {\n"
+                + "        \"files\": [\"registration.php\"],\n"
+                + "        \"psr-4\": {\"" + namespace.replace("\\", "\\\\") + "\\\\\": \"\"}\n"
+                + "    }\n"
+                + "}\n");
+        write(root, path + "/etc", "module.xml", xml(
+                "<config>\n    <module name=\"" + moduleName + "\"/>\n</config>\n"
+        ));
+
+        write(root, path + "/Api", "ServiceInterface.php", php(namespace + "\\Api",
+                "interface ServiceInterface\n{\n"
+                        + "    public function execute($id);\n\n"
+                        + "    public function getList();\n"
+                        + "}\n"));
+        write(root, path + "/Model", "Service.php", php(namespace + "\\Model",
+                "class Service implements \\" + getServiceInterface(index) + "\n{\n"
+                        + "    private $eventManager;\n\n"
+                        + "    public function execute($id)\n    {\n"
+                        + (events
+                                ? "        $this->eventManager->dispatch('" + getEventName(target) + "', "
+                                        + "['id' => $id]);\n"
+                                : "")
+                        + "        return $id;\n    }\n\n"
+                        + "    public function getList()\n    {\n        return [];\n    }\n"
+                        + "}\n"));
+        write(root, path + "/Plugin", "ServicePlugin.php", php(namespace + "\\Plugin",
+                "class ServicePlugin\n{\n"
+                        + "    public function beforeExecute(\\" + getServiceClass(target) + " $subject, $id)\n"
+                        + "    {\n        return [$id];\n    }\n"
+                        + "}\n"));
+
+        if (index < diXmlFiles) {
+            generateDiXml(root, index, target);
+        }
+        if (events) {
+            generateEvents(root, index, target);
+        }
+        if (layouts) {
+            generateLayout(root, index);
+        }
+        if (webApi) {
+            write(root, path + "/etc", "webapi.xml", xml("<routes>\n"
+                    + "    <route url=\"/V1/scale/" + getModuleCode(index).toLowerCase() + "/:id\" method=\"GET\">\n"
+                    + "        <service class=\"" + getServiceInterface(index) + "\" method=\"execute\"/>\n"
+                    + "        <resources>\n            <resource ref=\"anonymous\"/>\n        </resources>\n"
+                    + "    </route>\n"
+                    + "    <route url=\"/V1/scale/" + getModuleCode(index).toLowerCase() + "\" method=\"GET\">\n"
+                    + "        <service class=\"" + getServiceInterface(index) + "\" method=\"getList\"/>\n"
+                    + "        <resources>\n"
+                    + "            <resource ref=\"" + moduleName + "::read\"/>\n"
+                    + "        </resources>\n"
+                    + "    </route>\n"
+                    + "</routes>\n"));
+        }
+        if (requireJs) {
+            generateRequireJs(root, index, target);
+        }
+        if (mftf) {
+            generateMftf(root, index);
+        }
+        if (graphQl) {
+            write(root, path + "/Model/Resolver", "Item.php", php(namespace + "\\Model\\Resolver",
+                    "class Item implements \\Magento\\Framework\\GraphQl\\Query\\ResolverInterface\n{\n"
+                            + "    public function resolve($field, $context, $info, array $value = null, "
+                            + "array $args = null)\n    {\n        return [];\n    }\n"
+                            + "}\n"));
+            String type = VENDOR + getModuleCode(index);
+            write(root, path + "/etc", "schema.graphqls", "type Query {\n"
+                    + "    " + type.substring(0, 1).toLowerCase() + type.substring(1) + "(id: Int!): " + type
+                    + " @resolver(class: \"" + namespace.replace("\\", "\\\\") + "\\\\Model\\\\Resolver\\\\Item\")\n"
+                    + "}\n\n"
+                    + "type " + type + " {\n    id: Int\n}\n");
+        }
+    }
+
+    private void generateDiXml(VirtualFile root, int index, int target) throws IOException {
+        StringBuilder config = new StringBuilder("<config>\n");
+        config.append("    <preference for=\"").append(getServiceInterface(target))
+                .append("\" type=\"").append(getServiceClass(index)).append("\"/>\n");
+        config.append("    <type name=\"").append(getServiceClass(target)).append("\">\n");
+        for (int plugin = 0; plugin < pluginsPerDiXml; plugin++) {
+            config.append("        <plugin name=\"scale_plugin_").append(index).append('_').append(plugin)
+                    .append("\" type=\"").append(getNamespace(index)).append("\\Plugin\\ServicePlugin\"")
+                    .append(" sortOrder=\"").append(plugin * 10).append("\"/>\n");
+        }
+        config.append("    </type>\n");
+        String parentType = getServiceClass(index);
+        for (int virtualType = 0; virtualType < virtualTypesPerDiXml; virtualType++) {
+            String name = getNamespace(index) + "\\Model\\VirtualService" + virtualType;
+            config.append("    <virtualType name=\"").append(name).append("\" type=\"").append(parentType)
+                    .append("\"/>\n");
+            parentType = name;
+        }
+        config.append("</config>\n");
+
+        write(root, getModulePath(index) + "/etc", "di.xml", xml(config.toString()));
+    }
+
+    private void generateEvents(VirtualFile root, int index, int target) throws IOException {
+        String namespace = getNamespace(index);
+        write(root, getModulePath(index) + "/Observer", "ServiceObserver.php", php(namespace + "\\Observer",
+                "class ServiceObserver implements \\Magento\\Framework\\Event\\ObserverInterface\n{\n"
+                        + "    public function execute(\\Magento\\Framework\\Event\\Observer $observer)\n    {\n    }\n"
+                        + "}\n"));
+        write(root, getModulePath(index) + "/etc", "events.xml", xml("<config>\n"
+                + "    <event name=\"" + getEventName(index) + "\">\n"
+                + "        <observer name=\"scale_observer_" + index + "\" instance=\"" + namespace
+                + "\\Observer\\ServiceObserver\"/>\n"
+                + "    </event>\n"
+                + "    <event name=\"" + getEventName(target) + "\">\n"
+                + "        <observer name=\"scale_observer_" + index + "_" + target + "\" instance=\"" + namespace
+                + "\\Observer\\ServiceObserver\"/>\n"
+                + "    </event>\n"
+                + "</config>\n"));
+    }
+
+    private void generateLayout(VirtualFile root, int index) throws IOException {
+        String path = getModulePath(index) + "/view/frontend";
+        String moduleName = getModuleName(index);
+        String handle = "scale_" + getModuleCode(index).toLowerCase() + "_index";
+        write(root, path + "/templates", "index.phtml", "<?php /** @var $block \\Magento\\Framework\\View\\Element"
+                + "\\Template */ ?>\n<div class=\"" + handle + "\"></div>\n");
+        write(root, path + "/templates/product", "list.phtml", "<ul class=\"" + handle + "\"></ul>\n");
+        write(root, path + "/web/template", "item.html", "<span data-bind=\"text: name\"></span>\n");
+        write(root, path + "/layout", handle + ".xml", xml("<page>\n    <body>\n"
+                + "        <referenceContainer name=\"content\">\n"
+                + "            <container name=\"" + handle + ".container\" htmlTag=\"div\">\n"
+                + "                <block class=\"Magento\\Framework\\View\\Element\\Template\" name=\"" + handle
+                + ".index\" template=\"" + moduleName + "::index.phtml\"/>\n"
+                + "                <block class=\"Magento\\Framework\\View\\Element\\Template\" name=\"" + handle
+                + ".list\" template=\"" + moduleName + "::product/list.phtml\"/>\n"
+                + "            </container>\n"
+                + "        </referenceContainer>\n"
+                + "    </body>\n</page>\n"));
+    }
+
+    private void generateRequireJs(VirtualFile root, int index, int target) throws IOException {
+        String path = getModulePath(index) + "/view/frontend";
+        String moduleName = getModuleName(index);
+        String targetModuleName = getModuleName(target);
+        write(root, path + "/web/js", "component.js", "define(['jquery'], function ($) {\n"
+                + "    'use strict';\n\n    return function () {};\n});\n");
+        write(root, path + "/web/js", "component-mixin.js", "define([], function () {\n"
+                + "    'use strict';\n\n    return function (target) {\n        return target;\n    };\n});\n");
+        write(root, path, "requirejs-config.js", COPYRIGHT + "\n"
+                + "var config = {\n"
+                + "    map: {\n"
+                + "        '*': {\n"
+                + "            " + getModuleCode(index).toLowerCase() + "Component: '" + moduleName + "/js/component'\n"
+                + "        }\n"
+                + "    },\n"
+                + "    config: {\n"
+                + "        mixins: {\n"
+                + "            '" + targetModuleName + "/js/component': {\n"
+                + "                '" + moduleName + "/js/component-mixin': true\n"
+                + "            }\n"
+                + "        }\n"
+                + "    }\n"
+                + "};\n");
+    }
+
+    private void generateMftf(VirtualFile root, int index) throws IOException {
+        String path = getModulePath(index) + "/Test/Mftf";
+        String code = VENDOR + getModuleCode(index);
+        write(root, path + "/Section", code + "Section.xml", xml("<sections>\n"
+                + "    <section name=\"" + code + "Section\">\n"
+                + "        <element name=\"saveButton\" type=\"button\" selector=\"#" + code + "-save\"/>\n"
+                + "    </section>\n</sections>\n"));
+        write(root, path + "/Page", code + "Page.xml", xml("<pages>\n"
+                + "    <page name=\"" + code + "Page\" url=\"/scale/" + index + "/\" area=\"storefront\" module=\""
+                + getModuleName(index) + "\">\n"
+                + "        <section name=\"" + code + "Section\"/>\n"
+                + "    </page>\n</pages>\n"));
+        write(root, path + "/Data", code + "Data.xml", xml("<entities>\n"
+                + "    <entity name=\"" + code + "Entity\">\n"
+                + "        <data key=\"name\">" + code + "</data>\n"
+                + "    </entity>\n</entities>\n"));
+        write(root, path + "/ActionGroup", code + "ActionGroup.xml", xml("<actionGroups>\n"
+                + "    <actionGroup name=\"" + code + "ActionGroup\">\n"
+                + "        <amOnPage url=\"{{" + code + "Page.url}}\" stepKey=\"openPage\"/>\n"
+                + "        <click selector=\"{{" + code + "Section.saveButton}}\" stepKey=\"save\"/>\n"
+                + "    </actionGroup>\n</actionGroups>\n"));
+        write(root, path + "/Test", code + "Test.xml", xml("<tests>\n"
+                + "    <test name=\"" + code + "Test\">\n"
+                + "        <actionGroup ref=\"" + code + "ActionGroup\" stepKey=\"run\"/>\n"
+                + "    </test>\n</tests>\n"));
+    }
+
+    private void write(VirtualFile root, String directory, String name, String text) throws IOException {
+        VirtualFile parent = directories.get(directory);
+        if (parent == null) {
+            parent = VfsUtil.createDirectoryIfMissing(root, directory);
+            directories.put(directory, parent);
+        }
+        VirtualFile file = parent.findChild(name);
+        if (file == null) {
+            file = parent.createChildData(this, name);
+        }
+        VfsUtil.saveText(file, text);
+        generatedFiles++;
+    }
+
+    private static String xml(String body) {
+        return "<?xml version=\"1.0\"?>\n<!--\n" + COPYRIGHT + "-->\n" + body;
+    }
+
+    private static String php(String namespace, String body) {
+        return "<?php\n" + COPYRIGHT + "\nnamespace " + namespace + ";\n\n" + body;
+    }
+}
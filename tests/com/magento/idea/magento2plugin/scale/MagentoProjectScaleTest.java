@@ -0,0 +1,167 @@
+/*
+ * Copyright © Magento, Inc. All rights reserved.
+ * See COPYING.txt for license details.
+ */
+package com.magento.idea.magento2plugin.scale;
+
+import com.intellij.codeInsight.daemon.LineMarkerInfo;
+import com.intellij.codeInsight.daemon.impl.DaemonCodeAnalyzerImpl;
+import com.intellij.codeInsight.lookup.LookupElement;
+import com.intellij.openapi.diagnostic.Logger;
+import com.intellij.openapi.util.Computable;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiPolyVariantReference;
+import com.intellij.psi.PsiReference;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.util.indexing.FileBasedIndex;
+import com.intellij.util.indexing.ID;
+import com.magento.idea.magento2plugin.BaseProjectTestCase;
+import com.magento.idea.magento2plugin.stubs.indexes.*;
+import com.magento.idea.magento2plugin.stubs.indexes.graphql.GraphQlResolverIndex;
+import com.magento.idea.magento2plugin.stubs.indexes.js.RequireJsIndex;
+import com.magento.idea.magento2plugin.stubs.indexes.mftf.PageIndex;
+import com.magento.idea.magento2plugin.stubs.indexes.xml.PhpClassNameIndex;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Runs the main features against a generated tree, the size is set with -Dmagento.scale.modules.
+ *
+ * Run by the scaleTest gradle task. Timings are logged, assertions only check that the features still work at the
+ * given size.
+ */
+public class MagentoProjectScaleTest extends BaseProjectTestCase {
+    private static final Logger LOG = Logger.getInstance(MagentoProjectScaleTest.class);
+    private static final int DEFAULT_MODULES = 50;
+
+    private MagentoProjectGenerator generator;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        generator = new MagentoProjectGenerator(Integer.getInteger("magento.scale.modules", DEFAULT_MODULES));
+        int files = measure("generate", () -> {
+            try {
+                return generator.generate(myFixture.getTempDirFixture().getFile(""));
+            } catch (IOException exception) {
+                throw new IllegalStateException(exception);
+            }
+        });
+        report("generated files", files);
+    }
+
+    public void testIndexing() {
+        ID<?, ?>[] indexIds = new ID<?, ?>[] {
+                ModuleNameIndex.KEY,
+                PluginIndex.KEY,
+                DiConfigurationIndex.KEY,
+                EventNameIndex.KEY,
+                EventObserverIndex.KEY,
+                BlockNameIndex.KEY,
+                ViewAssetIndex.KEY,
+                WebApiRouteIndex.KEY,
+                PhpClassNameIndex.KEY,
+                RequireJsIndex.KEY,
+                PageIndex.KEY,
+                GraphQlResolverIndex.KEY
+        };
+        for (ID<?, ?> indexId : indexIds) {
+            int keys = measure("index " + indexId.getName(), () -> getKeyCount(indexId));
+            assertTrue("Index " + indexId.getName() + " is empty", keys > 0);
+        }
+
+        assertFalse(FileBasedIndex.getInstance().getValues(
+                ModuleNameIndex.KEY,
+                MagentoProjectGenerator.getModuleName(generator.getModules() - 1),
+                GlobalSearchScope.allScope(getProject())
+        ).isEmpty());
+    }
+
+    public void testPluginLineMarkers() {
+        int target = 1 % generator.getModules();
+        myFixture.configureFromTempProjectFile(MagentoProjectGenerator.getModulePath(target) + "/Model/Service.php");
+
+        measure("highlighting with line markers", () -> myFixture.doHighlighting().size());
+
+        List<LineMarkerInfo<?>> lineMarkers = DaemonCodeAnalyzerImpl.getLineMarkers(
+                myFixture.getEditor().getDocument(),
+                getProject()
+        );
+        for (LineMarkerInfo<?> lineMarker : lineMarkers) {
+            if ("Navigate to plugins".equals(lineMarker.getLineMarkerTooltip())) {
+                return;
+            }
+        }
+        fail("Plugin line marker is not found for " + MagentoProjectGenerator.getServiceClass(target));
+    }
+
+    public void testTemplateCompletion() {
+        String moduleName = MagentoProjectGenerator.getModuleName(generator.getModules() / 2);
+        myFixture.configureByText(
+                "scale_completion.xml",
+                "<page><body><block name=\"scale\" template=\"" + moduleName + "::<caret>\"/></body></page>"
+        );
+
+        measure("template completion", () -> {
+            LookupElement[] lookupElements = myFixture.completeBasic();
+            return lookupElements != null ? lookupElements.length : 1;
+        });
+
+        List<String> lookupStrings = myFixture.getLookupElementStrings();
+        assertNotNull(lookupStrings);
+        assertContainsElements(lookupStrings, moduleName + "::index.phtml", moduleName + "::product/list.phtml");
+    }
+
+    public void testEventNameReference() {
+        int source = generator.getModules() / 2;
+        String eventName = MagentoProjectGenerator.getEventName((source + 1) % generator.getModules());
+        myFixture.configureFromTempProjectFile(MagentoProjectGenerator.getModulePath(source) + "/Model/Service.php");
+        int offset = myFixture.getEditor().getDocument().getText().indexOf(eventName);
+        assertTrue(offset > 0);
+
+        PsiElement element = myFixture.getFile().findElementAt(offset).getParent();
+        int resolved = measure("event name reference", () -> {
+            int count = 0;
+            for (PsiReference reference : element.getReferences()) {
+                if (reference instanceof PsiPolyVariantReference) {
+                    count += ((PsiPolyVariantReference) reference).multiResolve(false).length;
+                }
+            }
+            return count;
+        });
+
+        // the event is declared by its own module and by the observing module
+        assertEquals(2, resolved);
+    }
+
+    private int getKeyCount(ID<?, ?> indexId) {
+        @SuppressWarnings("unchecked")
+        ID<Object, ?> id = (ID<Object, ?>) indexId;
+        int[] count = {0};
+        FileBasedIndex.getInstance().processAllKeys(id, key -> {
+            count[0]++;
+            return true;
+        }, getProject());
+
+        return count[0];
+    }
+
+    private <T> T measure(String operation, Computable<T> computable) {
+        long start = System.nanoTime();
+        T result = computable.compute();
+        report(operation + ", ms", (System.nanoTime() - start) / 1_000_000);
+
+        return result;
+    }
+
+    private void report(String name, long value) {
+        LOG.info(String.format(
+                "[scale %d modules] %s %s: %d",
+                generator.getModules(),
+                getTestName(true),
+                name,
+                value
+        ));
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright © Magento, Inc. All rights reserved.
+ * See COPYING.txt for license details.
+ */
+package com.magento.idea.magento2plugin.stubs.indexes;
+
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.util.indexing.FileBasedIndex;
+import com.magento.idea.magento2plugin.BaseProjectTestCase;
+
+import java.util.List;
+
+public class EventNameIndexTest extends BaseProjectTestCase {
+    private static final String fixturesFolderPath = "stubs/indexes/";
+
+    public void testDispatchCallForms() {
+        VirtualFile file = myFixture.copyFileToProject(
+                prepareFixturePath("Dispatcher.php", fixturesFolderPath),
+                "app/code/Foo/Bar/Model/Dispatcher.php"
+        );
+
+        assertIndexed(file, "foo_bar_plain");
+        assertIndexed(file, "foo_bar_space");
+        assertIndexed(file, "foo_bar_newline");
+        assertIndexed(file, "foo_bar_comment");
+        assertIndexed(file, "foo_bar_second_argument");
+        assertIndexed(file, "foo_bar_outer");
+        assertIndexed(file, "foo_bar_nested");
+
+        assertNotIndexed(file, "foo_bar_other_method");
+        assertNotIndexed(file, "foo_bar_function");
+        assertNotIndexed(file, "foo_bar_");
+        assertNotIndexed(file, "event");
+    }
+
+    private void assertIndexed(VirtualFile file, String eventName) {
+        List<List<Integer>> values = getValues(file, eventName);
+        assertEquals(eventName, 1, values.size());
+
+        int offset = values.get(0).get(0);
+        String text = myFixture.getPsiManager().findFile(file).getText();
+        assertEquals(eventName, text.substring(offset + 1, offset + 1 + eventName.length()));
+    }
+
+    private void assertNotIndexed(VirtualFile file, String eventName) {
+        assertEmpty(getValues(file, eventName));
+    }
+
+    private List<List<Integer>> getValues(VirtualFile file, String eventName) {
+        return FileBasedIndex.getInstance().getValues(
+                EventNameIndex.KEY,
+                eventName,
+                GlobalSearchScope.fileScope(myFixture.getProject(), file)
+        );
+    }
+}
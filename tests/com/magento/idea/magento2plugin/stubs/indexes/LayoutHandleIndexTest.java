@@ -0,0 +1,55 @@
+/*
+ * Copyright © Magento, Inc. All rights reserved.
+ * See COPYING.txt for license details.
+ */
+package com.magento.idea.magento2plugin.stubs.indexes;
+
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.util.indexing.FileBasedIndex;
+import com.magento.idea.magento2plugin.BaseProjectTestCase;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+
+public class LayoutHandleIndexTest extends BaseProjectTestCase {
+    private static final String fixturesFolderPath = "stubs/indexes/";
+
+    public void testLayoutFileKeyedByHandle() {
+        VirtualFile file = myFixture.copyFileToProject(
+                prepareFixturePath("foo_bar_index.xml", fixturesFolderPath),
+                "app/code/Foo/Bar/view/frontend/layout/foo_bar_index.xml"
+        );
+
+        assertEquals(Collections.singleton(file), getFiles("foo_bar_index"));
+        // handles referenced by the file are not declared by it
+        assertEmpty(getFiles("foo_bar_default"));
+    }
+
+    public void testPageLayoutFileKeyedByHandle() {
+        VirtualFile file = myFixture.copyFileToProject(
+                prepareFixturePath("foo-columns.xml", fixturesFolderPath),
+                "app/code/Foo/Bar/view/base/page_layout/foo-columns.xml"
+        );
+
+        assertEquals(Collections.singleton(file), getFiles("foo-columns"));
+    }
+
+    public void testFileOutsideLayoutDirectoryIsNotIndexed() {
+        myFixture.copyFileToProject(
+                prepareFixturePath("foo_bar_index.xml", fixturesFolderPath),
+                "app/code/Foo/Bar/etc/foo_bar_index.xml"
+        );
+
+        assertEmpty(getFiles("foo_bar_index"));
+    }
+
+    private Collection<VirtualFile> getFiles(String handle) {
+        return new HashSet<>(FileBasedIndex.getInstance().getContainingFiles(
+                LayoutHandleIndex.KEY,
+                handle,
+                GlobalSearchScope.allScope(myFixture.getProject())
+        ));
+    }
+}
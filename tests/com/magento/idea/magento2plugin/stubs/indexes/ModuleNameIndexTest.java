@@ -0,0 +1,43 @@
+/*
+ * Copyright © Magento, Inc. All rights reserved.
+ * See COPYING.txt for license details.
+ */
+package com.magento.idea.magento2plugin.stubs.indexes;
+
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.util.indexing.FileBasedIndex;
+import com.magento.idea.magento2plugin.BaseProjectTestCase;
+
+import java.util.Collections;
+import java.util.List;
+
+public class ModuleNameIndexTest extends BaseProjectTestCase {
+    private static final String fixturesFolderPath = "stubs/indexes/";
+
+    public void testFullyQualifiedConstant() {
+        VirtualFile file = myFixture.copyFileToProject(
+                prepareFixturePath("registration.php", fixturesFolderPath),
+                "app/code/Foo/Qualified/registration.php"
+        );
+
+        assertEquals(Collections.singletonList(""), getValues(file, "Foo_Qualified"));
+    }
+
+    public void testImportedConstant() {
+        VirtualFile file = myFixture.copyFileToProject(
+                prepareFixturePath("registration.php", fixturesFolderPath),
+                "app/code/Foo/Imported/registration.php"
+        );
+
+        assertEquals(Collections.singletonList("/src"), getValues(file, "Foo_Imported"));
+    }
+
+    private List<String> getValues(VirtualFile file, String moduleName) {
+        return FileBasedIndex.getInstance().getValues(
+                ModuleNameIndex.KEY,
+                moduleName,
+                GlobalSearchScope.fileScope(myFixture.getProject(), file)
+        );
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright © Magento, Inc. All rights reserved.
+ * See COPYING.txt for license details.
+ */
+package com.magento.idea.magento2plugin.stubs.indexes;
+
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.util.indexing.FileBasedIndex;
+import com.magento.idea.magento2plugin.BaseProjectTestCase;
+import com.magento.idea.magento2plugin.stubs.indexes.data.PluginTargetData;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+public class PluginTargetIndexTest extends BaseProjectTestCase {
+    private static final String fixturesFolderPath = "stubs/indexes/";
+
+    public void testPluginClassKeysTargetTypes() {
+        VirtualFile file = myFixture.copyFileToProject(
+                prepareFixturePath("di.xml", fixturesFolderPath),
+                "app/code/Foo/Bar/etc/di.xml"
+        );
+
+        assertEquals(
+                Collections.singletonList(new HashSet<>(Arrays.asList(
+                        new PluginTargetData("Magento\\Catalog\\Model\\Product", "base", "fooProductPlugin"),
+                        new PluginTargetData(
+                                "Magento\\Catalog\\Api\\ProductRepositoryInterface",
+                                "base",
+                                "fooRepositoryPlugin"
+                        )
+                ))),
+                getValues(file, "Foo\\Bar\\Plugin\\ProductPlugin")
+        );
+        // the plugin without a type is not indexed
+        assertFalse(
+                FileBasedIndex.getInstance().getAllKeys(PluginTargetIndex.KEY, myFixture.getProject()).contains("")
+        );
+    }
+
+    public void testAreaOfPluginDeclaration() {
+        VirtualFile file = myFixture.copyFileToProject(
+                prepareFixturePath("di.xml", fixturesFolderPath),
+                "app/code/Foo/Bar/etc/adminhtml/di.xml"
+        );
+
+        assertEquals(
+                Collections.singletonList(Collections.singleton(
+                        new PluginTargetData("Magento\\Catalog\\Model\\Product", "adminhtml", "fooAdminProductPlugin")
+                )),
+                getValues(file, "Foo\\Bar\\Plugin\\AdminProductPlugin")
+        );
+    }
+
+    private List<Set<PluginTargetData>> getValues(VirtualFile file, String pluginClass) {
+        return FileBasedIndex.getInstance().getValues(
+                PluginTargetIndex.KEY,
+                pluginClass,
+                GlobalSearchScope.fileScope(myFixture.getProject(), file)
+        );
+    }
+
+}
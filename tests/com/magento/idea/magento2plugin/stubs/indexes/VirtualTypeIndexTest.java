@@ -0,0 +1,67 @@
+/*
+ * Copyright © Magento, Inc. All rights reserved.
+ * See COPYING.txt for license details.
+ */
+package com.magento.idea.magento2plugin.stubs.indexes;
+
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.xml.XmlAttributeValue;
+import com.intellij.util.indexing.FileBasedIndex;
+import com.magento.idea.magento2plugin.BaseProjectTestCase;
+import com.magento.idea.magento2plugin.indexes.DiIndex;
+import com.magento.idea.magento2plugin.stubs.indexes.data.VirtualTypeData;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+public class VirtualTypeIndexTest extends BaseProjectTestCase {
+    private static final String fixturesFolderPath = "stubs/indexes/";
+
+    public void testSeveralVirtualTypesInOneFile() {
+        myFixture.copyFileToProject(
+                prepareFixturePath("di.xml", fixturesFolderPath),
+                "app/code/Foo/Bar/etc/di.xml"
+        );
+
+        assertEquals(
+                "Foo\\Bar\\Model\\Base, Foo\\Bar\\Model\\Other",
+                getTypes("Foo\\Bar\\Model\\FirstVirtualType")
+        );
+        assertEquals("Foo\\Bar\\Model\\FirstVirtualType", getTypes("Foo\\Bar\\Model\\SecondVirtualType"));
+        assertEquals("\\Foo\\Bar\\Model\\Base", getTypes("fooThirdVirtualType"));
+    }
+
+    public void testFileNameIsCaseInsensitive() {
+        myFixture.copyFileToProject(
+                prepareFixturePath("Di.xml", fixturesFolderPath),
+                "app/code/Foo/Bar/etc/Di.xml"
+        );
+
+        assertEquals("Foo\\Bar\\Model\\Base", getTypes("fooUpperCaseVirtualType"));
+
+        Collection<PsiElement> elements = DiIndex.getInstance(myFixture.getProject())
+                .getVirtualTypeElements("fooUpperCaseVirtualType", GlobalSearchScope.allScope(myFixture.getProject()));
+        assertEquals(1, elements.size());
+        PsiElement element = elements.iterator().next();
+        assertInstanceOf(element, XmlAttributeValue.class);
+        assertEquals("fooUpperCaseVirtualType", ((XmlAttributeValue) element).getValue());
+        assertEquals("Di.xml", element.getContainingFile().getName());
+    }
+
+    private String getTypes(String name) {
+        List<String> types = new ArrayList<>();
+        for (List<VirtualTypeData> virtualTypes : FileBasedIndex.getInstance().getValues(
+                VirtualTypeIndex.KEY,
+                name,
+                GlobalSearchScope.allScope(myFixture.getProject())
+        )) {
+            for (VirtualTypeData virtualType : virtualTypes) {
+                types.add(virtualType.getType());
+            }
+        }
+
+        return String.join(", ", types);
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright © Magento, Inc. All rights reserved.
+ * See COPYING.txt for license details.
+ */
+package com.magento.idea.magento2plugin.stubs.indexes;
+
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.util.indexing.FileBasedIndex;
+import com.magento.idea.magento2plugin.BaseProjectTestCase;
+import com.magento.idea.magento2plugin.stubs.indexes.data.WebApiRouteData;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+public class WebApiRouteIndexTest extends BaseProjectTestCase {
+    private static final String fixturesFolderPath = "stubs/indexes/";
+
+    public void testServiceMethodKeysRoutes() throws IOException {
+        VirtualFile file = myFixture.copyFileToProject(
+                prepareFixturePath("webapi.xml", fixturesFolderPath),
+                "app/code/Foo/Bar/etc/webapi.xml"
+        );
+        String text = new String(file.contentsToByteArray(), file.getCharset());
+
+        assertEquals(
+                Collections.singletonList(Collections.singletonList(new WebApiRouteData(
+                        "GET",
+                        "/V1/foo/:id",
+                        Arrays.asList("Foo_Bar::read", "Foo_Bar::manage"),
+                        text.indexOf("<route url=\"/V1/foo/:id\" method=\"GET\">")
+                ))),
+                getValues(file, "Foo\\Bar\\Api\\FooRepositoryInterface::get")
+        );
+        assertEquals(
+                Collections.singletonList(Arrays.asList(
+                        new WebApiRouteData(
+                                "PUT",
+                                "/V1/foo/:id",
+                                Collections.singletonList("Foo_Bar::manage"),
+                                text.indexOf("<route url=\"/V1/foo/:id\" method=\"PUT\">")
+                        ),
+                        new WebApiRouteData(
+                                "POST",
+                                "/V1/foo",
+                                Collections.singletonList("anonymous"),
+                                text.indexOf("<route url=\"/V1/foo\" method=\"POST\">")
+                        )
+                )),
+                getValues(file, WebApiRouteIndex.getKey("Foo\\Bar\\Api\\FooRepositoryInterface", "save"))
+        );
+    }
+
+    private List<List<WebApiRouteData>> getValues(VirtualFile file, String serviceMethod) {
+        return FileBasedIndex.getInstance().getValues(
+                WebApiRouteIndex.KEY,
+                serviceMethod,
+                GlobalSearchScope.fileScope(myFixture.getProject(), file)
+        );
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright © Magento, Inc. All rights reserved.
+ * See COPYING.txt for license details.
+ */
+package com.magento.idea.magento2plugin.stubs.indexes.graphql;
+
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.util.indexing.FileBasedIndex;
+import com.magento.idea.magento2plugin.BaseProjectTestCase;
+import com.magento.idea.magento2plugin.stubs.indexes.data.GraphQlResolverData;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+public class GraphQlResolverIndexTest extends BaseProjectTestCase {
+    private static final String fixturesFolderPath = "stubs/indexes/";
+
+    public void testResolverClassKeysFieldCoordinates() throws IOException {
+        VirtualFile file = myFixture.copyFileToProject(
+                prepareFixturePath("schema.graphqls", fixturesFolderPath),
+                "app/code/Foo/Bar/etc/schema.graphqls"
+        );
+        String text = new String(file.contentsToByteArray(), file.getCharset());
+
+        assertEquals(
+                Collections.singletonList(Collections.singletonList(new GraphQlResolverData(
+                        "Query",
+                        "fooProducts",
+                        text.indexOf("\"Foo\\\\Bar\\\\Model\\\\Resolver\\\\Products\"")
+                ))),
+                getValues(file, "\\Foo\\Bar\\Model\\Resolver\\Products")
+        );
+        assertEquals(
+                Collections.singletonList(Arrays.asList(
+                        new GraphQlResolverData(
+                                "FooProducts",
+                                "items",
+                                text.indexOf("\"\\\\Foo\\\\Bar\\\\Model\\\\Resolver\\\\Items\"")
+                        ),
+                        new GraphQlResolverData(
+                                "FooProducts",
+                                "total_count",
+                                text.lastIndexOf("\"\\\\Foo\\\\Bar\\\\Model\\\\Resolver\\\\Items\"")
+                        )
+                )),
+                getValues(file, "\\Foo\\Bar\\Model\\Resolver\\Items")
+        );
+        assertEquals(
+                Collections.singletonList(Collections.singletonList(new GraphQlResolverData(
+                        "FooProductInterface",
+                        "sku",
+                        text.indexOf("\"Foo\\\\Bar\\\\Model\\\\Resolver\\\\Sku\"")
+                ))),
+                getValues(file, "\\Foo\\Bar\\Model\\Resolver\\Sku")
+        );
+        // only field resolvers are indexed
+        assertEmpty(getValues(file, "\\Foo\\Bar\\Model\\Resolver\\ProductTypeResolver"));
+    }
+
+    private List<List<GraphQlResolverData>> getValues(VirtualFile file, String resolverClass) {
+        return FileBasedIndex.getInstance().getValues(
+                GraphQlResolverIndex.KEY,
+                resolverClass,
+                GlobalSearchScope.fileScope(myFixture.getProject(), file)
+        );
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright © Magento, Inc. All rights reserved.
+ * See COPYING.txt for license details.
+ */
+package com.magento.idea.magento2plugin.stubs.indexes.js;
+
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.magento.idea.magento2plugin.BaseProjectTestCase;
+import com.magento.idea.magento2plugin.magento.packages.File;
+
+public class RequireJsModuleIndexTest extends BaseProjectTestCase {
+    private static final String fixturesFolderPath = "testData" + File.separator + "stubs" + File.separator
+            + "indexes" + File.separator + "js";
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        myFixture.setTestDataPath(fixturesFolderPath);
+        myFixture.copyDirectoryToProject("RequireJsModuleIndex", "");
+    }
+
+    public void testLibFilesAreFoundByFullId() {
+        assertSameElements(
+                RequireJsModuleIndex.findLibFiles(getProject(), "mage/apply/main", allScope()),
+                findProjectFile("lib/web/mage/apply/main.js")
+        );
+        assertEmpty(RequireJsModuleIndex.findLibFiles(getProject(), "js/view/minicart", allScope()));
+    }
+
+    public void testModuleFilesAreFoundInAllAreasOfTheViewDirectory() {
+        assertSameElements(
+                RequireJsModuleIndex.findModuleFiles(
+                        getProject(),
+                        findProjectFile("vendor/magento/module-a/view"),
+                        "js/view/minicart",
+                        allScope()
+                ),
+                findProjectFile("vendor/magento/module-a/view/base/web/js/view/minicart.js"),
+                findProjectFile("vendor/magento/module-a/view/frontend/web/js/view/minicart.js")
+        );
+        assertSameElements(
+                RequireJsModuleIndex.findModuleFiles(
+                        getProject(),
+                        findProjectFile("vendor/magento/module-a/view"),
+                        "mage/apply/main",
+                        allScope()
+                ),
+                findProjectFile("vendor/magento/module-a/view/frontend/web/mage/apply/main.js")
+        );
+    }
+
+    public void testLookupsAreRestrictedToTheScope() {
+        VirtualFile frontendFile = findProjectFile("vendor/magento/module-a/view/frontend/web/js/view/minicart.js");
+        GlobalSearchScope scope = GlobalSearchScope.fileScope(getProject(), frontendFile);
+
+        assertSameElements(
+                RequireJsModuleIndex.findModuleFiles(
+                        getProject(),
+                        findProjectFile("vendor/magento/module-a/view"),
+                        "js/view/minicart",
+                        scope
+                ),
+                findProjectFile("vendor/magento/module-a/view/frontend/web/js/view/minicart.js")
+        );
+        assertEmpty(RequireJsModuleIndex.findLibFiles(getProject(), "mage/apply/main", scope));
+    }
+
+    private GlobalSearchScope allScope() {
+        return GlobalSearchScope.allScope(getProject());
+    }
+
+    private VirtualFile findProjectFile(String path) {
+        VirtualFile file = myFixture.findFileInTempDir(path);
+        assertNotNull(path, file);
+
+        return file;
+    }
+}
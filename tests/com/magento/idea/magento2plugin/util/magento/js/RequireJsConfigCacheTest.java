@@ -0,0 +1,145 @@
+/*
+ * Copyright © Magento, Inc. All rights reserved.
+ * See COPYING.txt for license details.
+ */
+package com.magento.idea.magento2plugin.util.magento.js;
+
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.util.indexing.FileBasedIndex;
+import com.magento.idea.magento2plugin.BaseProjectTestCase;
+import com.magento.idea.magento2plugin.magento.packages.File;
+import com.magento.idea.magento2plugin.stubs.indexes.data.RequireJsConfigData;
+import com.magento.idea.magento2plugin.stubs.indexes.js.RequireJsIndex;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+public class RequireJsConfigCacheTest extends BaseProjectTestCase {
+    private static final String fixturesFolderPath = "testData" + File.separator + "util" + File.separator
+            + "magento" + File.separator + "js";
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        myFixture.setTestDataPath(fixturesFolderPath);
+        myFixture.copyDirectoryToProject("RequireJsConfigCache", "");
+    }
+
+    public void testIndexParsesMapAndPaths() {
+        assertContainsElements(
+                getIndexedEntries("scopedAlias"),
+                new RequireJsConfigData(
+                        RequireJsConfigData.Kind.MAP,
+                        "Magento_A/js/widget",
+                        "scopedAlias",
+                        "Magento_A/js/scoped",
+                        "base"
+                )
+        );
+        // the first location of a fallback list is used
+        assertSameElements(
+                getIndexedEntries("pathAlias"),
+                new RequireJsConfigData(RequireJsConfigData.Kind.PATHS, "", "pathAlias", "Magento_A/js/path", "base")
+        );
+    }
+
+    public void testIndexParsesShimDepsAndMixins() {
+        assertSameElements(
+                getIndexedEntries("Magento_A/js/legacy"),
+                new RequireJsConfigData(RequireJsConfigData.Kind.SHIM, "", "Magento_A/js/legacy", "jquery", "base"),
+                new RequireJsConfigData(RequireJsConfigData.Kind.SHIM, "", "Magento_A/js/legacy", "underscore", "base")
+        );
+        assertSameElements(
+                getIndexedEntries("Magento_A/js/bootstrap"),
+                new RequireJsConfigData(
+                        RequireJsConfigData.Kind.DEPS,
+                        "",
+                        "Magento_A/js/bootstrap",
+                        "Magento_A/js/bootstrap",
+                        "base"
+                )
+        );
+        assertContainsElements(
+                getIndexedEntries("Magento_A/js/widget"),
+                new RequireJsConfigData(
+                        RequireJsConfigData.Kind.MIXIN,
+                        "",
+                        "Magento_A/js/widget",
+                        "Magento_A/js/widget-mixin",
+                        "base"
+                ),
+                new RequireJsConfigData(
+                        RequireJsConfigData.Kind.MIXIN_DISABLED,
+                        "",
+                        "Magento_A/js/widget",
+                        "Magento_A/js/widget-mixin",
+                        "frontend"
+                )
+        );
+    }
+
+    public void testScopedMapAliasesResolve() {
+        RequireJsConfigCache.AreaConfig config = getConfig("frontend");
+
+        assertEquals(Collections.singletonList("Magento_A/js/scoped"), config.resolve("scopedAlias"));
+        assertContainsElements(config.getAliases(), "scopedAlias", "baseAlias", "pathAlias");
+        assertEmpty(config.resolve("unknownAlias"));
+    }
+
+    public void testMappedModuleResolvesThroughPaths() {
+        RequireJsConfigCache.AreaConfig config = getConfig("frontend");
+
+        assertEquals(Collections.singletonList("Magento_A/js/base-path"), config.resolve("baseAlias"));
+        assertEquals(Collections.singletonList("Magento_A/js/path"), config.resolve("pathAlias"));
+    }
+
+    public void testAreaConfigOverridesBaseConfig() {
+        assertEquals(Collections.singletonList("Magento_A/js/frontend"), getConfig("frontend").resolve("areaAlias"));
+        assertEquals(Collections.singletonList("Magento_A/js/adminhtml"), getConfig("adminhtml").resolve("areaAlias"));
+    }
+
+    public void testLaterModuleOverridesEarlierModule() {
+        assertEquals(Collections.singletonList("Magento_B/js/module"), getConfig("frontend").resolve("moduleAlias"));
+    }
+
+    public void testThemeConfigOverridesModuleConfigs() {
+        RequireJsConfigCache.AreaConfig frontend = getConfig("frontend");
+        RequireJsConfigCache.AreaConfig adminhtml = getConfig("adminhtml");
+
+        assertEquals(Collections.singletonList("Magento_Theme/js/theme"), frontend.resolve("themeAlias"));
+        assertEquals(
+                Collections.singletonList("Magento_Theme/js/widget-mixin"),
+                frontend.getMixins("Magento_A/js/widget")
+        );
+        assertEquals(
+                Collections.singletonList("Magento_A/js/widget-mixin"),
+                adminhtml.getMixins("Magento_A/js/widget")
+        );
+    }
+
+    public void testShimAndDepsAreMerged() {
+        RequireJsConfigCache.AreaConfig config = getConfig("frontend");
+
+        assertEquals(Arrays.asList("jquery", "underscore"), config.getShimDependencies("Magento_A/js/legacy"));
+        assertContainsElements(config.getDeps(), "Magento_A/js/bootstrap");
+    }
+
+    private RequireJsConfigCache.AreaConfig getConfig(String area) {
+        return RequireJsConfigCache.getInstance(getProject()).getConfig(area);
+    }
+
+    private List<RequireJsConfigData> getIndexedEntries(String alias) {
+        List<RequireJsConfigData> entries = new ArrayList<>();
+        for (List<RequireJsConfigData> fileEntries : FileBasedIndex.getInstance().getValues(
+                RequireJsIndex.KEY,
+                alias,
+                GlobalSearchScope.allScope(getProject())
+        )) {
+            entries.addAll(fileEntries);
+        }
+
+        return entries;
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright © Magento, Inc. All rights reserved.
+ * See COPYING.txt for license details.
+ */
+package com.magento.idea.magento2plugin.util.xml;
+
+import com.intellij.ide.highlighter.XmlFileType;
+import com.intellij.psi.PsiFileFactory;
+import com.intellij.psi.util.PsiTreeUtil;
+import com.intellij.psi.xml.XmlFile;
+import com.intellij.psi.xml.XmlTag;
+import com.intellij.testFramework.fixtures.BasePlatformTestCase;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class XmlStreamScannerTest extends BasePlatformTestCase {
+
+    public void testAttributeEntityReferencesAreDecoded() {
+        Map<String, XmlStreamScanner.Tag> tags = scan(
+                "<config><type name=\"Foo&#92;Bar\" label=\"a &amp; b &lt;&gt; &quot;&apos;\" hex=\"&#x5C;\"/></config>"
+        );
+
+        XmlStreamScanner.Tag type = tags.get("type");
+        assertEquals("Foo\\Bar", type.getAttributeValue("name"));
+        assertEquals("a & b <> \"'", type.getAttributeValue("label"));
+        assertEquals("\\", type.getAttributeValue("hex"));
+    }
+
+    public void testTextEntityReferencesAreDecoded() {
+        String text = "<config><argument>Foo&#92;Bar&amp;Baz</argument></config>";
+        Map<String, XmlStreamScanner.Tag> tags = scan(text);
+
+        assertEquals("Foo\\Bar&Baz", tags.get("argument").getTrimmedText());
+        assertEquals(getPsiTrimmedText(text, "argument"), tags.get("argument").getTrimmedText());
+    }
+
+    public void testCdataIsPartOfText() {
+        String text = "<config><argument> <![CDATA[Foo\\Bar <b>&amp;</b>]]> </argument></config>";
+        Map<String, XmlStreamScanner.Tag> tags = scan(text);
+
+        assertEquals("Foo\\Bar <b>&amp;</b>", tags.get("argument").getTrimmedText());
+        assertEquals(getPsiTrimmedText(text, "argument"), tags.get("argument").getTrimmedText());
+        assertFalse(tags.containsKey("b"));
+    }
+
+    public void testTextOfChildTagsIsNotIncluded() {
+        Map<String, XmlStreamScanner.Tag> tags = scan(
+                "<config><type>Foo\\Bar<!-- comment --><argument>Baz</argument></type></config>"
+        );
+
+        assertEquals("Foo\\Bar", tags.get("type").getTrimmedText());
+        assertEquals("Baz", tags.get("argument").getTrimmedText());
+        assertTrue(tags.get("argument").isPath("config", "type", "argument"));
+    }
+
+    public void testUnknownAndMalformedEntityReferencesAreKept() {
+        Map<String, XmlStreamScanner.Tag> tags = scan(
+                "<config><type name=\"&custom;\" number=\"&#xZZ;\" code=\"&#1114112;\">a &amp b</type></config>"
+        );
+
+        XmlStreamScanner.Tag type = tags.get("type");
+        assertEquals("&custom;", type.getAttributeValue("name"));
+        assertEquals("&#xZZ;", type.getAttributeValue("number"));
+        assertEquals("&#1114112;", type.getAttributeValue("code"));
+        assertEquals("&amp", XmlStreamScanner.decodeEntityRef("&amp"));
+    }
+
+    public void testTruncatedDocumentReportsOpenTags() {
+        Map<String, XmlStreamScanner.Tag> tags = scan("<config><type name=\"Foo\\Bar\"><argument>Baz");
+
+        assertEquals("Foo\\Bar", tags.get("type").getAttributeValue("name"));
+        assertEquals("Baz", tags.get("argument").getTrimmedText());
+    }
+
+    public void testUnclosedTagsAreClosedByParentEndTag() {
+        List<String> closed = new ArrayList<>();
+        XmlStreamScanner.scan(
+                "<config><type><argument>Baz</type><plugin name=\"unterminated></config>",
+                new XmlStreamScanner.Handler() {
+                    @Override
+                    public void startTag(@NotNull XmlStreamScanner.Tag tag) {
+                    }
+
+                    @Override
+                    public void endTag(@NotNull XmlStreamScanner.Tag tag) {
+                        closed.add(tag.getName());
+                    }
+                }
+        );
+
+        assertEquals("argument", closed.get(0));
+        assertEquals("type", closed.get(1));
+        assertEquals("config", closed.get(closed.size() - 1));
+    }
+
+    /**
+     * Tags of the document by name, the text is complete once the tag is closed.
+     */
+    private static Map<String, XmlStreamScanner.Tag> scan(String text) {
+        Map<String, XmlStreamScanner.Tag> tags = new LinkedHashMap<>();
+        XmlStreamScanner.scan(text, tag -> tags.put(tag.getName(), tag));
+
+        return tags;
+    }
+
+    private String getPsiTrimmedText(String text, String tagName) {
+        XmlFile file = (XmlFile) PsiFileFactory.getInstance(getProject())
+                .createFileFromText("test.xml", XmlFileType.INSTANCE, text);
+        for (XmlTag tag : PsiTreeUtil.findChildrenOfType(file, XmlTag.class)) {
+            if (tag.getName().equals(tagName)) {
+                return tag.getValue().getTrimmedText();
+            }
+        }
+
+        return null;
+    }
+}